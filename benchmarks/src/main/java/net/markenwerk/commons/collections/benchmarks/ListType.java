@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * {@link ListType} enumerates the {@link List} implementations that are used to
+ * back list based collections in benchmarks.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public enum ListType {
+
+	/**
+	 * Creates an {@link ArrayList}.
+	 */
+	ARRAY_LIST {
+
+		@Override
+		public <Payload> List<Payload> create(Collection<? extends Payload> payloads) {
+			return new ArrayList<Payload>(payloads);
+		}
+
+	},
+
+	/**
+	 * Creates a {@link LinkedList}.
+	 */
+	LINKED_LIST {
+
+		@Override
+		public <Payload> List<Payload> create(Collection<? extends Payload> payloads) {
+			return new LinkedList<Payload>(payloads);
+		}
+
+	};
+
+	/**
+	 * Creates a new {@link List} that contains the given payload values.
+	 * 
+	 * @param payloads
+	 *            The payload values.
+	 * @param <Payload>
+	 *            The payload type.
+	 * @return The new {@link List}.
+	 */
+	public abstract <Payload> List<Payload> create(Collection<? extends Payload> payloads);
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.interfaces.Provider;
+
+/**
+ * Utility methods that create payload values for benchmarks.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class Payloads {
+
+	/**
+	 * A {@link Predicate} that is satisfied by every even payload value.
+	 */
+	public static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+
+		@Override
+		public boolean test(Integer payload) {
+			return 0 == (payload.intValue() & 1);
+		}
+
+	};
+
+	/**
+	 * A {@link Provider} that always provides the same even payload value, so
+	 * that replaced payload values still satisfy {@link Payloads#EVEN}.
+	 */
+	public static final Provider<Integer> ZERO = new Provider<Integer>() {
+
+		private final Integer zero = Integer.valueOf(0);
+
+		@Override
+		public Integer provide() {
+			return zero;
+		}
+
+	};
+
+	private Payloads() {
+	}
+
+	/**
+	 * Creates a {@link List} of distinct payload values.
+	 * 
+	 * @param size
+	 *            The number of payload values.
+	 * @return The payload values.
+	 */
+	public static List<Integer> create(int size) {
+		List<Integer> payloads = new ArrayList<Integer>(size);
+		for (int i = 0; i < size; i++) {
+			payloads.add(Integer.valueOf(i));
+		}
+		return payloads;
+	}
+
+	/**
+	 * Creates an array of up to ten payload values that are evenly spread
+	 * across payload values created with {@link Payloads#create(int)} and
+	 * include the last one.
+	 * 
+	 * @param size
+	 *            The number of payload values created with
+	 *            {@link Payloads#create(int)}.
+	 * @return The payload values.
+	 */
+	public static Object[] references(int size) {
+		int number = Math.min(10, size);
+		Object[] references = new Object[number];
+		for (int i = 0; i < number; i++) {
+			references[i] = Integer.valueOf(size - 1 - i * (size / number));
+		}
+		return references;
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sequences.ListSequence;
+import net.markenwerk.commons.collections.sequences.Sequence;
+import net.markenwerk.commons.collections.sources.Source;
+
+/**
+ * Benchmarks for {@link ListSequence ListSequences}.
+ * 
+ * <p>
+ * Benchmarks that change the size of the {@link Sequence} under test create a
+ * fresh copy of the {@link Sequence} themselves, instead of relying on a setup
+ * for every invocation, whose timing overhead would dominate the results for
+ * small sizes. The {@link SequenceBenchmarks#copy() copy} benchmark measures
+ * the cost of creating that copy, which has to be subtracted from the results
+ * of these benchmarks.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceBenchmarks {
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	private int size;
+
+	@Param
+	private ListType listType;
+
+	@Param
+	private Nullity nullity;
+
+	private List<Integer> payloads;
+
+	private List<Integer> batch;
+
+	private Object[] references;
+
+	private Sequence<Integer> sequence;
+
+	/**
+	 * Creates the payload values and the {@link Sequence} for non-modifying
+	 * benchmarks.
+	 */
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		payloads = Payloads.create(size);
+		batch = Payloads.create(Math.max(1, size / 10));
+		references = Payloads.references(size);
+		sequence = new ListSequence<Integer>(nullity, listType.create(payloads));
+	}
+
+	/**
+	 * Retrieves the payload value in the middle of the {@link Sequence}.
+	 * 
+	 * @return The payload value.
+	 */
+	@Benchmark
+	public Integer get() {
+		return sequence.get(size / 2);
+	}
+
+	/**
+	 * Checks for payload values that are spread across the {@link Sequence}.
+	 * 
+	 * @return Whether all payload values are contained.
+	 */
+	@Benchmark
+	public boolean containsAll() {
+		return sequence.containsAll(references);
+	}
+
+	/**
+	 * Retrieves every second payload value.
+	 * 
+	 * @return The retrieved payload values.
+	 */
+	@Benchmark
+	public Source<Integer> getAllMatches() {
+		return sequence.getAllMatches(Payloads.EVEN);
+	}
+
+	/**
+	 * Replaces every second payload value with a payload value that also
+	 * satisfies the predicate, so that the {@link Sequence} stays reusable.
+	 * 
+	 * @return The replaced payload values.
+	 */
+	@Benchmark
+	public Source<Integer> replaceAllMatches() {
+		return sequence.replaceAllMatches(Payloads.EVEN, Payloads.ZERO);
+	}
+
+	/**
+	 * Creates a fresh copy of the {@link Sequence}, as the modifying
+	 * benchmarks do.
+	 * 
+	 * @return The copy.
+	 */
+	@Benchmark
+	public Sequence<Integer> copy() {
+		return new ListSequence<Integer>(nullity, listType.create(payloads));
+	}
+
+	/**
+	 * Inserts a batch of payload values, whose size is a tenth of the size of
+	 * the {@link Sequence}, in the middle of a fresh copy of the
+	 * {@link Sequence}.
+	 * 
+	 * @return The copy.
+	 */
+	@Benchmark
+	public Sequence<Integer> insertAll() {
+		return copy().insertAll(size / 2, batch);
+	}
+
+	/**
+	 * Removes every second payload value from a fresh copy of the
+	 * {@link Sequence}.
+	 * 
+	 * @return The removed payload values.
+	 */
+	@Benchmark
+	public Source<Integer> removeAllMatches() {
+		return copy().removeAllMatches(Payloads.EVEN);
+	}
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sinks.AsyncHandlerSink;
+import net.markenwerk.commons.collections.sinks.CollectionSink;
+import net.markenwerk.commons.collections.sinks.FullPolicy;
+import net.markenwerk.commons.collections.sinks.HandlerSink;
+import net.markenwerk.commons.collections.sinks.Sink;
+import net.markenwerk.commons.collections.sinks.WaitStrategy;
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * Benchmarks for {@link Sink Sinks}.
+ * 
+ * <p>
+ * The {@link SinkType#COLLECTION_SINK collection sink} clears its backing
+ * {@link List} in the benchmark itself, instead of relying on a setup for every
+ * invocation, whose timing overhead would dominate the results for small
+ * sizes. Its results therefore include the cost of clearing the {@link List}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SinkBenchmarks {
+
+	/**
+	 * The implementations under test.
+	 */
+	public enum SinkType {
+
+		/**
+		 * A {@link CollectionSink} that is backed by an {@link ArrayList},
+		 * which is cleared in every invocation.
+		 */
+		COLLECTION_SINK,
+
+		/**
+		 * A {@link HandlerSink} that hands every payload value to a
+		 * {@link Blackhole}.
+		 */
+		HANDLER_SINK,
+
+		/**
+		 * An {@link AsyncHandlerSink} with a single consumer thread, that
+		 * hands every payload value to a {@link Handler} that does nothing.
+		 */
+		ASYNC_HANDLER_SINK;
+
+	}
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	private int size;
+
+	@Param
+	private SinkType sinkType;
+
+	@Param
+	private Nullity nullity;
+
+	private List<Integer> payloads;
+
+	private List<Integer> collection;
+
+	private Sink<Integer> sink;
+
+	/**
+	 * Creates the {@link Sink} under test.
+	 * 
+	 * @param blackhole
+	 *            The {@link Blackhole} to be used.
+	 */
+	@Setup(Level.Trial)
+	public void setupTrial(final Blackhole blackhole) {
+		payloads = Payloads.create(size);
+		switch (sinkType) {
+		case COLLECTION_SINK:
+			collection = new ArrayList<Integer>(size);
+			sink = new CollectionSink<Integer>(nullity, collection);
+			break;
+		case ASYNC_HANDLER_SINK:
+			sink = new AsyncHandlerSink<Integer>(nullity, new Handler<Integer>() {
+
+				@Override
+				public void handle(Integer payload) {
+				}
+
+			}, AsyncHandlerSink.DEFAULT_CAPACITY, 1, WaitStrategy.YIELD, FullPolicy.BLOCK);
+			break;
+		default:
+			sink = new HandlerSink<Integer>(nullity, new Handler<Integer>() {
+
+				@Override
+				public void handle(Integer payload) {
+					blackhole.consume(payload);
+				}
+
+			});
+			break;
+		}
+	}
+
+	/**
+	 * Closes an {@link AsyncHandlerSink}.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		if (sink instanceof AsyncHandlerSink) {
+			((AsyncHandlerSink<Integer>) sink).close();
+		}
+	}
+
+	/**
+	 * Adds all payload values, after clearing the backing {@link List} of a
+	 * {@link CollectionSink}.
+	 * 
+	 * @return The {@link Sink}.
+	 */
+	@Benchmark
+	public Sink<Integer> addAll() {
+		if (null != collection) {
+			collection.clear();
+		}
+		return sink.addAll(payloads);
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.IndexedSource;
+import net.markenwerk.commons.collections.sources.ListSource;
+import net.markenwerk.commons.collections.sources.Source;
+
+/**
+ * Benchmarks for read only operations of {@link IndexedSource IndexedSources}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceBenchmarks {
+
+	/**
+	 * The implementations under test.
+	 */
+	public enum SourceType {
+
+		/**
+		 * An {@link ArraySource}.
+		 */
+		ARRAY_SOURCE,
+
+		/**
+		 * A {@link ListSource} that is backed by an
+		 * {@link java.util.ArrayList}.
+		 */
+		ARRAY_LIST_SOURCE,
+
+		/**
+		 * A {@link ListSource} that is backed by a
+		 * {@link java.util.LinkedList}.
+		 */
+		LINKED_LIST_SOURCE;
+
+	}
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	private int size;
+
+	@Param
+	private SourceType sourceType;
+
+	private IndexedSource<Integer> source;
+
+	private Object[] references;
+
+	private Integer reference;
+
+	/**
+	 * Creates the {@link IndexedSource} under test.
+	 */
+	@Setup
+	public void setup() {
+		List<Integer> payloads = Payloads.create(size);
+		switch (sourceType) {
+		case ARRAY_SOURCE:
+			source = new ArraySource<Integer>(payloads.toArray(new Integer[size]));
+			break;
+		case ARRAY_LIST_SOURCE:
+			source = new ListSource<Integer>(ListType.ARRAY_LIST.create(payloads));
+			break;
+		default:
+			source = new ListSource<Integer>(ListType.LINKED_LIST.create(payloads));
+			break;
+		}
+		references = Payloads.references(size);
+		reference = Integer.valueOf(size / 2);
+	}
+
+	/**
+	 * Retrieves the payload value in the middle of the {@link IndexedSource}.
+	 * 
+	 * @return The payload value.
+	 */
+	@Benchmark
+	public Integer get() {
+		return source.get(size / 2);
+	}
+
+	/**
+	 * Checks for the payload value in the middle of the {@link IndexedSource}.
+	 * 
+	 * @return Whether the payload value is contained.
+	 */
+	@Benchmark
+	public boolean contains() {
+		return source.contains(reference);
+	}
+
+	/**
+	 * Checks for payload values that are spread across the
+	 * {@link IndexedSource}.
+	 * 
+	 * @return Whether all payload values are contained.
+	 */
+	@Benchmark
+	public boolean containsAll() {
+		return source.containsAll(references);
+	}
+
+	/**
+	 * Retrieves every second payload value.
+	 * 
+	 * @return The retrieved payload values.
+	 */
+	@Benchmark
+	public Source<Integer> getAllMatches() {
+		return source.getAllMatches(Payloads.EVEN);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.collections.stacks.ArrayStack;
+import net.markenwerk.commons.collections.stacks.LinkedStack;
+import net.markenwerk.commons.collections.stacks.Stack;
+
+/**
+ * Benchmarks for {@link Stack Stacks}.
+ * 
+ * <p>
+ * Every benchmark restores the {@link Stack} under test to its initial state,
+ * so that it can be reused for all invocations.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmarks {
+
+	/**
+	 * The implementations under test.
+	 */
+	public enum StackType {
+
+		/**
+		 * A {@link LinkedStack}.
+		 */
+		LINKED_STACK,
+
+		/**
+		 * An {@link ArrayStack}.
+		 */
+		ARRAY_STACK;
+
+	}
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	private int size;
+
+	@Param
+	private StackType stackType;
+
+	@Param
+	private Nullity nullity;
+
+	private Integer payload;
+
+	private int number;
+
+	private Stack<Integer> stack;
+
+	private Integer[] buffer;
+
+	/**
+	 * Creates the {@link Stack} under test.
+	 */
+	@Setup
+	public void setup() {
+		switch (stackType) {
+		case LINKED_STACK:
+			stack = new LinkedStack<Integer>(nullity);
+			break;
+		default:
+			stack = new ArrayStack<Integer>(nullity);
+			break;
+		}
+		stack.pushAll(Payloads.create(size));
+		payload = Integer.valueOf(size);
+		number = Math.max(1, size / 10);
+		buffer = new Integer[number];
+	}
+
+	/**
+	 * Pushes a payload value and pops it again.
+	 * 
+	 * @return The popped payload value.
+	 */
+	@Benchmark
+	public Integer pushPop() {
+		return stack.push(payload).pop();
+	}
+
+	/**
+	 * Pops a tenth of the payload values and pushes them back again.
+	 * 
+	 * @return The {@link Stack}.
+	 */
+	@Benchmark
+	public Stack<Integer> popAllPushAll() {
+		Source<Integer> payloads = stack.popAll(number);
+		int index = number;
+		for (Integer payload : payloads) {
+			buffer[--index] = payload;
+		}
+		return stack.pushAll(buffer);
+	}
+
+	/**
+	 * Retrieves the payload value in the middle of the {@link Stack}.
+	 * 
+	 * @return The payload value.
+	 */
+	@Benchmark
+	public Integer get() {
+		return stack.get(size / 2);
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.codecs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link ByteArrayCodec} is a {@link Codec} for {@literal byte} arrays, that
+ * uses the content of a {@literal byte} array as its binary representation.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class ByteArrayCodec implements Codec<byte[]> {
+
+	@Override
+	public int getLength(byte[] payload) {
+		return payload.length;
+	}
+
+	@Override
+	public void encode(byte[] payload, ByteBuffer buffer, int offset) {
+		for (int i = 0, n = payload.length; i < n; i++) {
+			buffer.put(offset + i, payload[i]);
+		}
+	}
+
+	@Override
+	public byte[] decode(ByteBuffer buffer, int offset, int length) {
+		byte[] payload = new byte[length];
+		for (int i = 0; i < length; i++) {
+			payload[i] = buffer.get(offset + i);
+		}
+		return payload;
+	}
+
+}
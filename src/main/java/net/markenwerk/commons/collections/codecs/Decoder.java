@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.codecs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Decoder} reads a payload value from its binary representation in a
+ * {@link ByteBuffer}.
+ * 
+ * <p>
+ * A {@link Decoder} must only use the absolute {@code get} methods of the
+ * given {@link ByteBuffer} and must not change its position, limit or mark.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface Decoder<Payload> {
+
+	/**
+	 * Reads a payload value from the given {@link ByteBuffer}.
+	 * 
+	 * @param buffer
+	 *            The {@link ByteBuffer} to read from.
+	 * @param offset
+	 *            The offset of the first byte of the binary representation.
+	 * @param length
+	 *            The number of bytes of the binary representation.
+	 * @return The decoded payload value.
+	 */
+	public Payload decode(ByteBuffer buffer, int offset, int length);
+
+}
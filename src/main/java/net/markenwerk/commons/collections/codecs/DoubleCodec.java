@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.codecs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link DoubleCodec} is a {@link Codec} for {@link Double} values, that
+ * uses a fixed width of 8 bytes per value.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class DoubleCodec implements Codec<Double> {
+
+	/**
+	 * The number of bytes that are used to encode a {@link Double} value.
+	 */
+	public static final int LENGTH = 8;
+
+	@Override
+	public int getLength(Double payload) {
+		return LENGTH;
+	}
+
+	@Override
+	public void encode(Double payload, ByteBuffer buffer, int offset) {
+		buffer.putDouble(offset, payload);
+	}
+
+	@Override
+	public Double decode(ByteBuffer buffer, int offset, int length) {
+		return buffer.getDouble(offset);
+	}
+
+}
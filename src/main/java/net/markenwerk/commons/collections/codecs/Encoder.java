@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.codecs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link Encoder} writes the binary representation of a payload value into a
+ * {@link ByteBuffer}.
+ * 
+ * <p>
+ * An {@link Encoder} must only use the absolute {@code put} methods of the
+ * given {@link ByteBuffer} and must not change its position, limit or mark.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface Encoder<Payload> {
+
+	/**
+	 * Returns the number of bytes that are needed to encode the given payload
+	 * value.
+	 * 
+	 * @param payload
+	 *            The payload value to be encoded. Never {@literal null}.
+	 * @return The number of bytes that are needed to encode the given payload
+	 *         value. Must not be negative.
+	 */
+	public int getLength(Payload payload);
+
+	/**
+	 * Writes the binary representation of the given payload value into the
+	 * given {@link ByteBuffer}, starting at the given offset. Exactly as many
+	 * bytes as {@link Encoder#getLength(Object)} reported for the given payload
+	 * value must be written.
+	 * 
+	 * @param payload
+	 *            The payload value to be encoded. Never {@literal null}.
+	 * @param buffer
+	 *            The {@link ByteBuffer} to write into.
+	 * @param offset
+	 *            The offset of the first byte to write.
+	 */
+	public void encode(Payload payload, ByteBuffer buffer, int offset);
+
+}
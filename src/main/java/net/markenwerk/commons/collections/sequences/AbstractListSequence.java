@@ -23,16 +23,17 @@ package net.markenwerk.commons.collections.sequences;
 
 import java.security.CodeSource;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 import net.markenwerk.commons.collections.Nullity;
-import net.markenwerk.commons.collections.sources.CollectionSource;
 import net.markenwerk.commons.collections.sources.ListSource;
 import net.markenwerk.commons.collections.sources.Source;
 import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.interfaces.Provider;
 import net.markenwerk.commons.iterators.AbstractProtectedBidirectionalIterator;
 import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
 
@@ -89,6 +90,16 @@ public abstract class AbstractListSequence<Payload> extends AbstractSequence<Pay
 		list.add(index, payload);
 	}
 
+	@Override
+	protected final void doInsertAll(int index, List<Payload> payloads) {
+		list.addAll(index, payloads);
+	}
+
+	@Override
+	public final boolean hasRandomAccess() {
+		return list instanceof RandomAccess;
+	}
+
 	@Override
 	protected final Payload doGet(int index) {
 		return list.get(index);
@@ -101,16 +112,67 @@ public abstract class AbstractListSequence<Payload> extends AbstractSequence<Pay
 
 	@Override
 	protected final Source<Payload> doRemoveAll(Predicate<? super Payload> predicate, final boolean satisfying) {
-		ListIterator<Payload> iterator = list.listIterator();
-		List<Payload> removedPayloads = new LinkedList<Payload>();
-		while (iterator.hasNext()) {
-			Payload payload = iterator.next();
-			if (predicate.test(payload) == satisfying) {
-				removedPayloads.add(payload);
-				iterator.remove();
+		return doRemoveRange(0, list.size(), predicate, satisfying);
+	}
+
+	@Override
+	protected final Source<Payload> doRemoveRange(int from, int to) {
+		List<Payload> range = list.subList(from, to);
+		List<Payload> removedPayloads = new ArrayList<Payload>(range);
+		range.clear();
+		return new ListSource<Payload>(removedPayloads);
+	}
+
+	@Override
+	protected final Source<Payload> doRemoveRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		Object[] removedPayloads = PayloadArrays.empty();
+		int removed = 0;
+		if (list instanceof RandomAccess) {
+			BitSet removals = null;
+			for (int i = from; i < to; i++) {
+				Payload payload = list.get(i);
+				if (predicate.test(payload) == satisfying) {
+					removedPayloads = PayloadArrays.add(removedPayloads, removed++, payload);
+					if (null == removals) {
+						removals = new BitSet(to);
+					}
+					removals.set(i);
+				}
+			}
+			if (0 != removed) {
+				int retained = removals.nextSetBit(from);
+				for (int i = retained + 1; i < to; i++) {
+					if (!removals.get(i)) {
+						list.set(retained++, list.get(i));
+					}
+				}
+				list.subList(retained, to).clear();
+			}
+		} else {
+			BitSet removals = null;
+			ListIterator<Payload> iterator = list.listIterator(from);
+			for (int i = from; i < to; i++) {
+				Payload payload = iterator.next();
+				if (predicate.test(payload) == satisfying) {
+					removedPayloads = PayloadArrays.add(removedPayloads, removed++, payload);
+					if (null == removals) {
+						removals = new BitSet(to);
+					}
+					removals.set(i);
+				}
+			}
+			if (0 != removed) {
+				iterator = list.listIterator(from);
+				for (int i = from; i < to; i++) {
+					iterator.next();
+					if (removals.get(i)) {
+						iterator.remove();
+					}
+				}
 			}
 		}
-		return new CollectionSource<Payload>(removedPayloads);
+		return PayloadArrays.toSource(removedPayloads, removed);
 	}
 
 	@Override
@@ -125,6 +187,25 @@ public abstract class AbstractListSequence<Payload> extends AbstractSequence<Pay
 		return list.set(index, payload);
 	}
 
+	@Override
+	protected final Source<Payload> doReplaceAll(Predicate<? super Payload> predicate,
+			Provider<? extends Payload> provider) {
+		Object[] replacedPayloads = PayloadArrays.empty();
+		int replaced = 0;
+		ListIterator<Payload> iterator = list.listIterator();
+		while (iterator.hasNext()) {
+			Payload replacedPayload = iterator.next();
+			if (predicate.test(replacedPayload)) {
+				Payload payload = provideReplacement(provider);
+				iterator.set(payload);
+				replacedPayloads = PayloadArrays.add(replacedPayloads, replaced++, replacedPayload);
+				onRemoved(replacedPayload);
+				onInserted(payload);
+			}
+		}
+		return PayloadArrays.toSource(replacedPayloads, replaced);
+	}
+
 	@Override
 	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
 		if (reverse) {
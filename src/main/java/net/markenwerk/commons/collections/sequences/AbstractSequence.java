@@ -21,14 +21,16 @@
  */
 package net.markenwerk.commons.collections.sequences;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 import net.markenwerk.commons.collections.Nullity;
 import net.markenwerk.commons.collections.sources.AbstractIndexedSource;
-import net.markenwerk.commons.collections.sources.ListSource;
 import net.markenwerk.commons.collections.sources.Source;
 import net.markenwerk.commons.datastructures.Optional;
 import net.markenwerk.commons.exceptions.ConversionException;
@@ -79,6 +81,7 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 
 	@Override
 	public final Sequence<Payload> insert(int index, Payload payload) throws IllegalArgumentException {
+		checkInsertIndex(index);
 		doInsert(index, payload, Nullity.NO_POSITION);
 		return this;
 	}
@@ -99,14 +102,33 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 		if (null == payloads) {
 			throw new IllegalArgumentException("The given iterable of payload values is null");
 		}
+		checkInsertIndex(index);
+		List<Payload> insertedPayloads = payloads instanceof Collection ? new ArrayList<Payload>(
+				((Collection<?>) payloads).size()) : new ArrayList<Payload>();
 		int position = 0;
 		for (Payload payload : payloads) {
-			doInsert(index + position, payload, position);
+			if (null != payload || nullity.proceedAdd("given payload value", position)) {
+				insertedPayloads.add(payload);
+			}
 			position++;
 		}
+		if (!insertedPayloads.isEmpty()) {
+			doInsertAll(index, insertedPayloads);
+			for (Payload payload : insertedPayloads) {
+				onInserted(payload);
+			}
+		}
 		return this;
 	}
 
+	private void checkInsertIndex(int index) throws IndexOutOfBoundsException {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("The given index is negative: " + index);
+		} else if (index > size()) {
+			throw new IndexOutOfBoundsException("The given index is loo large for size " + size() + ": " + index);
+		}
+	}
+
 	private final void doInsert(int index, Payload payload, int position) throws IllegalArgumentException {
 		if (null != payload || nullity.proceedAdd("given payload value", position)) {
 			doInsert(index, payload);
@@ -126,6 +148,33 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 	 */
 	protected abstract void doInsert(int index, Payload payload);
 
+	/**
+	 * Inserts the given payload values, starting at the given index.
+	 * 
+	 * <p>
+	 * The default implementation {@link AbstractSequence#doInsert(int, Object)
+	 * inserts} the payload values one by one. Concrete implementations should
+	 * override this method, if they are able to insert all payload values at
+	 * once.
+	 * 
+	 * @param index
+	 *            The index to be used, which is guaranteed to be not negative
+	 *            and not larger then the {@link AbstractSequence#size() size}
+	 *            of this {@link AbstractSequence}.
+	 * @param payloads
+	 *            The non-empty {@link RandomAccess random access}
+	 *            {@link List} of payload values to be inserted, which are
+	 *            guaranteed to be not {@literal null}, unless the
+	 *            {@link Nullity} of this {@link Sequence} is
+	 *            {@link Nullity#ALLOW}. The {@link List} must not be retained
+	 *            after this method returns.
+	 */
+	protected void doInsertAll(int index, List<Payload> payloads) {
+		for (int i = 0, n = payloads.size(); i < n; i++) {
+			doInsert(index + i, payloads.get(i));
+		}
+	}
+
 	/**
 	 * Called after the given payload value has been inserted.
 	 * 
@@ -223,7 +272,14 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 
 	@Override
 	public final Optional<Payload> removeFirst(Payload reference) throws IllegalArgumentException {
-		return removeFirstMatch(createPredicate(reference));
+		return firstIndexOf(reference).convert(new Converter<Integer, Payload>() {
+
+			@Override
+			public Payload convert(Integer index) throws ConversionException {
+				return remove(index);
+			}
+
+		});
 	}
 
 	@Override
@@ -233,7 +289,7 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 
 			@Override
 			public Payload convert(Integer index) throws ConversionException {
-				return doRemove(index);
+				return remove(index);
 			}
 
 		});
@@ -249,7 +305,14 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 
 	@Override
 	public final Optional<Payload> removeLast(Payload reference) throws IllegalArgumentException {
-		return removeLastMatch(createPredicate(reference));
+		return lastIndexOf(reference).convert(new Converter<Integer, Payload>() {
+
+			@Override
+			public Payload convert(Integer index) throws ConversionException {
+				return remove(index);
+			}
+
+		});
 	}
 
 	@Override
@@ -259,7 +322,7 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 
 			@Override
 			public Payload convert(Integer index) throws ConversionException {
-				return doRemove(index);
+				return remove(index);
 			}
 
 		});
@@ -302,7 +365,9 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 		if (null == predicate) {
 			throw new IllegalArgumentException("The given predicate is null");
 		}
-		return doRemoveAll(predicate, false);
+		Source<Payload> removedPayloads = doRemoveAll(predicate, false);
+		onRemoved(removedPayloads);
+		return removedPayloads;
 	}
 
 	@Override
@@ -319,6 +384,142 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 	 */
 	protected abstract Source<Payload> doClear();
 
+	/**
+	 * Removes all payload values in the given range of indices.
+	 * 
+	 * @param from
+	 *            The first index of the range, inclusive, which must be not
+	 *            negative.
+	 * @param to
+	 *            The last index of the range, exclusive, which must be not
+	 *            smaller than the first index and not larger than the
+	 *            {@link AbstractSequence#size() size} of this
+	 *            {@link AbstractSequence}.
+	 * @return A {@link Source} yielding the removed payload values.
+	 * @since 1.1.0
+	 */
+	protected final Source<Payload> removeRange(int from, int to) {
+		Source<Payload> removedPayloads = from == to ? PayloadArrays.<Payload> toSource(PayloadArrays.empty(), 0)
+				: doRemoveRange(from, to);
+		onRemoved(removedPayloads);
+		return removedPayloads;
+	}
+
+	/**
+	 * Removes all payload values in the given range of indices.
+	 * 
+	 * <p>
+	 * The default implementation {@link AbstractSequence#doRemove(int)
+	 * removes} the payload values one by one, starting with the last one.
+	 * Concrete implementations should override this method, if they are able
+	 * to remove all payload values at once.
+	 * 
+	 * @param from
+	 *            The first index of the range, inclusive, which is guaranteed
+	 *            to be not negative.
+	 * @param to
+	 *            The last index of the range, exclusive, which is guaranteed
+	 *            to be larger than the first index and not larger than the
+	 *            {@link AbstractSequence#size() size} of this
+	 *            {@link AbstractSequence}.
+	 * @return A {@link Source} yielding the removed payload values.
+	 * @since 1.1.0
+	 */
+	protected Source<Payload> doRemoveRange(int from, int to) {
+		int count = to - from;
+		Object[] removedPayloads = new Object[count];
+		for (int i = count - 1; i >= 0; i--) {
+			removedPayloads[i] = doRemove(from + i);
+		}
+		return PayloadArrays.toSource(removedPayloads, count);
+	}
+
+	/**
+	 * Removes the payload values in the given range of indices that satisfy
+	 * the given {@link Predicate}.
+	 * 
+	 * @param from
+	 *            The first index of the range, inclusive, which must be not
+	 *            negative.
+	 * @param to
+	 *            The last index of the range, exclusive, which must be not
+	 *            smaller than the first index and not larger than the
+	 *            {@link AbstractSequence#size() size} of this
+	 *            {@link AbstractSequence}.
+	 * @param predicate
+	 *            The {@link Predicate} to be used, which must be not
+	 *            {@literal null}.
+	 * @param satisfying
+	 *            Whether the {@link Predicate} must be satisfied or not.
+	 * @return A {@link Source} yielding the removed payload values.
+	 * @since 1.1.0
+	 */
+	protected final Source<Payload> removeRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		Source<Payload> removedPayloads = from == to ? PayloadArrays.<Payload> toSource(PayloadArrays.empty(), 0)
+				: doRemoveRange(from, to, predicate, satisfying);
+		onRemoved(removedPayloads);
+		return removedPayloads;
+	}
+
+	/**
+	 * Removes the payload values in the given range of indices that satisfy
+	 * the given {@link Predicate}. The {@link Predicate} is tested for all
+	 * payload values in the range before any payload value is removed.
+	 * 
+	 * <p>
+	 * The default implementation {@link AbstractSequence#doRemoveRange(int, int)
+	 * removes} the whole range and {@link AbstractSequence#doInsertAll(int, List)
+	 * inserts} the retained payload values again. Concrete implementations
+	 * should override this method, if they are able to compact the range in
+	 * place.
+	 * 
+	 * @param from
+	 *            The first index of the range, inclusive, which is guaranteed
+	 *            to be not negative.
+	 * @param to
+	 *            The last index of the range, exclusive, which is guaranteed
+	 *            to be larger than the first index and not larger than the
+	 *            {@link AbstractSequence#size() size} of this
+	 *            {@link AbstractSequence}.
+	 * @param predicate
+	 *            The {@link Predicate} to be used, which is guaranteed to be
+	 *            not {@literal null}.
+	 * @param satisfying
+	 *            Whether the {@link Predicate} must be satisfied or not.
+	 * @return A {@link Source} yielding the removed payload values.
+	 * @since 1.1.0
+	 */
+	protected Source<Payload> doRemoveRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		Object[] removedPayloads = PayloadArrays.empty();
+		int removed = 0;
+		BitSet removals = null;
+		for (int i = from; i < to; i++) {
+			Payload payload = doGet(i);
+			if (predicate.test(payload) == satisfying) {
+				removedPayloads = PayloadArrays.add(removedPayloads, removed++, payload);
+				if (null == removals) {
+					removals = new BitSet(to - from);
+				}
+				removals.set(i - from);
+			}
+		}
+		if (0 != removed) {
+			List<Payload> retainedPayloads = new ArrayList<Payload>(to - from - removed);
+			for (int i = from; i < to; i++) {
+				if (!removals.get(i - from)) {
+					retainedPayloads.add(doGet(i));
+				}
+			}
+			doRemoveRange(from, to);
+			if (!retainedPayloads.isEmpty()) {
+				doInsertAll(from, retainedPayloads);
+			}
+		}
+		return PayloadArrays.toSource(removedPayloads, removed);
+	}
+
 	@Override
 	public final Payload replace(int index, Payload replacement) throws IllegalArgumentException,
 			IndexOutOfBoundsException {
@@ -361,8 +562,16 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 	}
 
 	@Override
-	public final Optional<Payload> replaceFirst(Payload reference, Payload replacement) throws IllegalArgumentException {
-		return replaceFirstMatch(createPredicate(reference), replacement);
+	public final Optional<Payload> replaceFirst(Payload reference, final Payload replacement)
+			throws IllegalArgumentException {
+		return firstIndexOf(reference).convert(new Converter<Integer, Payload>() {
+
+			@Override
+			public Payload convert(Integer index) throws ConversionException {
+				return replace(index, replacement);
+			}
+
+		});
 	}
 
 	@Override
@@ -372,7 +581,7 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 
 			@Override
 			public Payload convert(Integer index) throws ConversionException {
-				return doReplace(index, replacement);
+				return replace(index, replacement);
 			}
 
 		});
@@ -387,8 +596,16 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 	}
 
 	@Override
-	public final Optional<Payload> replaceLast(Payload reference, Payload replacement) throws IllegalArgumentException {
-		return replaceLastMatch(createPredicate(reference), replacement);
+	public final Optional<Payload> replaceLast(Payload reference, final Payload replacement)
+			throws IllegalArgumentException {
+		return lastIndexOf(reference).convert(new Converter<Integer, Payload>() {
+
+			@Override
+			public Payload convert(Integer index) throws ConversionException {
+				return replace(index, replacement);
+			}
+
+		});
 	}
 
 	@Override
@@ -398,7 +615,7 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 
 			@Override
 			public Payload convert(Integer index) throws ConversionException {
-				return doReplace(index, replacement);
+				return replace(index, replacement);
 			}
 
 		});
@@ -421,22 +638,76 @@ public abstract class AbstractSequence<Payload> extends AbstractIndexedSource<Pa
 		return doReplaceAll(predicate, provider);
 	}
 
-	private Source<Payload> doReplaceAll(Predicate<? super Payload> predicate, Provider<? extends Payload> provider) {
-		final List<Payload> removedPayloads = new LinkedList<Payload>();
+	/**
+	 * Replaces all payload values that satisfy the given {@link Predicate} with
+	 * replacement payload values that are obtained from the given
+	 * {@link Provider}.
+	 * 
+	 * <p>
+	 * Implementations must obtain every replacement payload value through
+	 * {@link AbstractSequence#provideReplacement(Provider)} and must call
+	 * {@link AbstractSequence#onRemoved(Object)} and
+	 * {@link AbstractSequence#onInserted(Object)} for every replaced payload
+	 * value.
+	 * 
+	 * <p>
+	 * The default implementation visits every payload value by its index.
+	 * Concrete implementations should override this method, if they don't
+	 * provide constant time random access.
+	 * 
+	 * @param predicate
+	 *            The {@link Predicate} to be used, which is guaranteed to be
+	 *            not {@literal null}.
+	 * @param provider
+	 *            The {@link Provider} to be used, which is guaranteed to be
+	 *            not {@literal null}.
+	 * @return A {@link Source} yielding the replaced payload values.
+	 */
+	protected Source<Payload> doReplaceAll(Predicate<? super Payload> predicate, Provider<? extends Payload> provider) {
+		Object[] replacedPayloads = PayloadArrays.empty();
+		int replaced = 0;
 		for (int i = 0, n = size(); i < n; i++) {
-			if (predicate.test(get(i))) {
-				Payload payload = provider.provide();
-				if (null != payload || nullity.proceedReplace("provided replacement value", Nullity.NO_POSITION)) {
-					Payload removedPayload = doReplace(i, payload);
-					removedPayloads.add(removedPayload);
-					onRemoved(removedPayload);
-					onInserted(payload);
-				} else {
-					throw new AssertionError("Nullity returned false for null value replacement");
-				}
+			if (predicate.test(doGet(i))) {
+				Payload payload = provideReplacement(provider);
+				Payload replacedPayload = doReplace(i, payload);
+				replacedPayloads = PayloadArrays.add(replacedPayloads, replaced++, replacedPayload);
+				onRemoved(replacedPayload);
+				onInserted(payload);
 			}
 		}
-		return new ListSource<Payload>(removedPayloads);
+		return PayloadArrays.toSource(replacedPayloads, replaced);
+	}
+
+	/**
+	 * Obtains a replacement payload value from the given {@link Provider} and
+	 * checks it against the {@link Nullity} of this {@link AbstractSequence}.
+	 * 
+	 * @param provider
+	 *            The {@link Provider} to be used.
+	 * @return The replacement payload value, which is guaranteed to be not
+	 *         {@literal null}, unless the {@link Nullity} of this
+	 *         {@link Sequence} is {@link Nullity#ALLOW}.
+	 * @throws IllegalArgumentException
+	 *             If the provided replacement value is {@literal null} and
+	 *             this {@link AbstractSequence} doesn't allow a
+	 *             {@literal null} to be used as a replacement.
+	 * @throws ProvisioningException
+	 *             If the given {@link Provider} failed to provide a
+	 *             replacement payload value.
+	 */
+	protected final Payload provideReplacement(Provider<? extends Payload> provider) throws IllegalArgumentException,
+			ProvisioningException {
+		Payload payload = provider.provide();
+		if (null != payload || nullity.proceedReplace("provided replacement value", Nullity.NO_POSITION)) {
+			return payload;
+		} else {
+			throw new AssertionError("Nullity returned false for null value replacement");
+		}
+	}
+
+	@Override
+	public final Sequence<Payload> subSequence(int from, int to) throws IndexOutOfBoundsException {
+		return new SubSequence<Payload>(this, from, to);
 	}
 
 	public final int hashCode() {
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.interfaces.Provider;
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * An {@link ArraySequence} is an {@link AbstractSequence} that is backed by a
+ * growable array.
+ * 
+ * <p>
+ * An {@link ArraySequence} provides constant time {@link Sequence#get(int)
+ * random access} and amortized constant time {@link Sequence#append(Object)
+ * appends}. Whenever the backing array is too small to hold an additional
+ * payload value, it is replaced by an array that is 50% larger.
+ * 
+ * <p>
+ * An {@link ArraySequence} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class ArraySequence<Payload> extends AbstractSequence<Payload> {
+
+	/**
+	 * The initial capacity of an {@link ArraySequence}, if no capacity is
+	 * explicitly given.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private Object[] array;
+
+	private int size;
+
+	private int incarnation;
+
+	/**
+	 * Creates a new {@link ArraySequence} with the
+	 * {@link ArraySequence#DEFAULT_CAPACITY default} capacity and the
+	 * {@link Nullity#ALLOW default} {@link Nullity}.
+	 */
+	public ArraySequence() {
+		this(Nullity.ALLOW, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link ArraySequence} with the {@link Nullity#ALLOW
+	 * default} {@link Nullity}.
+	 * 
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public ArraySequence(int capacity) throws IllegalArgumentException {
+		this(Nullity.ALLOW, capacity);
+	}
+
+	/**
+	 * Creates a new {@link ArraySequence} with the
+	 * {@link ArraySequence#DEFAULT_CAPACITY default} capacity.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}.
+	 */
+	public ArraySequence(Nullity nullity) throws IllegalArgumentException {
+		this(nullity, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link ArraySequence}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null} or if the
+	 *             given capacity is negative.
+	 */
+	public ArraySequence(Nullity nullity, int capacity) throws IllegalArgumentException {
+		super(nullity);
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		this.array = new Object[capacity];
+	}
+
+	/**
+	 * Returns the number of payload values this {@link ArraySequence} can hold
+	 * without growing its backing array.
+	 * 
+	 * @return The capacity of this {@link ArraySequence}.
+	 */
+	public int getCapacity() {
+		return array.length;
+	}
+
+	/**
+	 * Grows the backing array of this {@link ArraySequence}, if necessary, to
+	 * ensure that it can hold at least the given number of payload values.
+	 * 
+	 * @param capacity
+	 *            The desired minimum capacity.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public void ensureCapacity(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		if (capacity > array.length) {
+			array = Arrays.copyOf(array, capacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array of this {@link ArraySequence} to the current
+	 * {@link ArraySequence#size() size}.
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = Arrays.copyOf(array, size);
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError("The required capacity is too large: " + capacity);
+		}
+		int newCapacity = array.length + (array.length >> 1);
+		if (newCapacity < capacity || newCapacity > MAXIMUM_CAPACITY) {
+			newCapacity = capacity < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : capacity;
+		}
+		array = Arrays.copyOf(array, newCapacity);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected void doInsert(int index, Payload payload) {
+		if (size == array.length) {
+			grow(size + 1);
+		}
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = payload;
+		size += 1;
+		incarnation += 1;
+	}
+
+	@Override
+	protected void doInsertAll(int index, List<Payload> payloads) {
+		int count = payloads.size();
+		if (size + count > array.length) {
+			grow(size + count);
+		}
+		System.arraycopy(array, index, array, index + count, size - index);
+		for (int i = 0; i < count; i++) {
+			array[index + i] = payloads.get(i);
+		}
+		size += count;
+		incarnation += 1;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doGet(int index) {
+		return (Payload) array[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doRemove(int index) {
+		Payload removedPayload = (Payload) array[index];
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		size -= 1;
+		array[size] = null;
+		incarnation += 1;
+		return removedPayload;
+	}
+
+	@Override
+	protected Source<Payload> doRemoveAll(Predicate<? super Payload> predicate, boolean satisfying) {
+		return doRemoveRange(0, size, predicate, satisfying);
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to) {
+		Object[] removedPayloads = Arrays.copyOfRange(array, from, to);
+		closeGap(from, to);
+		return PayloadArrays.toSource(removedPayloads, removedPayloads.length);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Source<Payload> doRemoveRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		Object[] removedPayloads = PayloadArrays.empty();
+		int removed = 0;
+		BitSet removals = null;
+		for (int i = from; i < to; i++) {
+			Payload payload = (Payload) array[i];
+			if (predicate.test(payload) == satisfying) {
+				removedPayloads = PayloadArrays.add(removedPayloads, removed++, payload);
+				if (null == removals) {
+					removals = new BitSet(to);
+				}
+				removals.set(i);
+			}
+		}
+		if (0 != removed) {
+			int retained = removals.nextSetBit(from);
+			for (int i = retained + 1; i < to; i++) {
+				if (!removals.get(i)) {
+					array[retained++] = array[i];
+				}
+			}
+			closeGap(retained, to);
+		}
+		return PayloadArrays.toSource(removedPayloads, removed);
+	}
+
+	private void closeGap(int from, int to) {
+		System.arraycopy(array, to, array, from, size - to);
+		int newSize = size - (to - from);
+		Arrays.fill(array, newSize, size, null);
+		size = newSize;
+		incarnation += 1;
+	}
+
+	@Override
+	protected Source<Payload> doClear() {
+		Object[] removedPayloads = Arrays.copyOf(array, size);
+		Arrays.fill(array, 0, size, null);
+		size = 0;
+		incarnation += 1;
+		return PayloadArrays.toSource(removedPayloads, removedPayloads.length);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doReplace(int index, Payload replacement) {
+		Payload replacedPayload = (Payload) array[index];
+		array[index] = replacement;
+		return replacedPayload;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Source<Payload> doReplaceAll(Predicate<? super Payload> predicate, Provider<? extends Payload> provider) {
+		Object[] replacedPayloads = PayloadArrays.empty();
+		int replaced = 0;
+		for (int i = 0; i < size; i++) {
+			Payload replacedPayload = (Payload) array[i];
+			if (predicate.test(replacedPayload)) {
+				Payload payload = provideReplacement(provider);
+				array[i] = payload;
+				replacedPayloads = PayloadArrays.add(replacedPayloads, replaced++, replacedPayload);
+				onRemoved(replacedPayload);
+				onInserted(payload);
+			}
+		}
+		return PayloadArrays.toSource(replacedPayloads, replaced);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(final boolean reverse) {
+		final int size = this.size;
+		return new AbstractIndexedIterator<Payload>(0, size) {
+
+			private final int expectedIncarnation = incarnation;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected Payload get(int index) {
+				if (expectedIncarnation != incarnation) {
+					throw new ConcurrentModificationException("Sequence has been modified since the last iteration");
+				}
+				return (Payload) array[reverse ? size - index - 1 : index];
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.codecs.Codec;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.interfaces.Provider;
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link ByteBufferSequence} is an {@link AbstractSequence} that stores the
+ * binary representation of its payload values off-heap, in chunks of direct
+ * {@link ByteBuffer ByteBuffers}.
+ * 
+ * <p>
+ * Payload values are encoded with the given {@link Codec} when they are
+ * inserted and decoded again whenever they are {@link Sequence#get(int)
+ * retrieved} or iterated over. Only the location of every encoded payload value
+ * is kept on the heap, which makes a {@link ByteBufferSequence} well suited to
+ * hold a large number of small payload values without putting pressure on the
+ * garbage collector.
+ * 
+ * <p>
+ * Encoded payload values never span multiple chunks. A payload value whose
+ * binary representation is larger than the chunk size is stored in a dedicated
+ * chunk. The space of removed or replaced payload values is reclaimed by
+ * {@link ByteBufferSequence#compact() compacting} the chunks, which happens
+ * automatically, as soon as more space is unused than used.
+ * {@link ByteBufferSequence#clear() Clearing} a {@link ByteBufferSequence}
+ * discards all chunks.
+ * 
+ * <p>
+ * A {@link ByteBufferSequence} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class ByteBufferSequence<Payload> extends AbstractSequence<Payload> {
+
+	/**
+	 * The size of the chunks of a {@link ByteBufferSequence} in bytes, if no
+	 * chunk size is explicitly given.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private static final int NULL_LENGTH = -1;
+
+	private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+	private static final ByteBuffer[] NO_CHUNKS = new ByteBuffer[0];
+
+	private final Codec<Payload> codec;
+
+	private final int chunkSize;
+
+	private ByteBuffer[] chunks = NO_CHUNKS;
+
+	private int chunkCount;
+
+	private int writeOffset;
+
+	private long[] addresses = new long[DEFAULT_CAPACITY];
+
+	private int[] lengths = new int[DEFAULT_CAPACITY];
+
+	private int size;
+
+	private long usedBytes;
+
+	private long unusedBytes;
+
+	private int incarnation;
+
+	/**
+	 * Creates a new {@link ByteBufferSequence} with the {@link Nullity#ALLOW
+	 * default} {@link Nullity} and the
+	 * {@link ByteBufferSequence#DEFAULT_CHUNK_SIZE default} chunk size.
+	 * 
+	 * @param codec
+	 *            The {@link Codec} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Codec} is {@literal null}.
+	 */
+	public ByteBufferSequence(Codec<Payload> codec) throws IllegalArgumentException {
+		this(Nullity.ALLOW, codec, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link ByteBufferSequence} with the
+	 * {@link ByteBufferSequence#DEFAULT_CHUNK_SIZE default} chunk size.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param codec
+	 *            The {@link Codec} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null} or if the
+	 *             given {@link Codec} is {@literal null}.
+	 */
+	public ByteBufferSequence(Nullity nullity, Codec<Payload> codec) throws IllegalArgumentException {
+		this(nullity, codec, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link ByteBufferSequence}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param codec
+	 *            The {@link Codec} to be used.
+	 * @param chunkSize
+	 *            The size of the chunks in bytes.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             {@link Codec} is {@literal null} or if the given chunk size
+	 *             is not positive.
+	 */
+	public ByteBufferSequence(Nullity nullity, Codec<Payload> codec, int chunkSize) throws IllegalArgumentException {
+		super(nullity);
+		if (null == codec) {
+			throw new IllegalArgumentException("The given codec is null");
+		}
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("The given chunk size is not positive: " + chunkSize);
+		}
+		this.codec = codec;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns the {@link Codec} this {@link ByteBufferSequence} has been
+	 * created with.
+	 * 
+	 * @return The {@link Codec}.
+	 */
+	public Codec<Payload> getCodec() {
+		return codec;
+	}
+
+	/**
+	 * Returns the chunk size this {@link ByteBufferSequence} has been created
+	 * with.
+	 * 
+	 * @return The chunk size in bytes.
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Returns the number of chunks this {@link ByteBufferSequence} currently
+	 * holds.
+	 * 
+	 * @return The number of chunks.
+	 */
+	public int getChunkCount() {
+		return chunkCount;
+	}
+
+	/**
+	 * Returns the number of bytes that are occupied by the binary
+	 * representation of the payload values of this {@link ByteBufferSequence}.
+	 * 
+	 * @return The number of used bytes.
+	 */
+	public long getUsedBytes() {
+		return usedBytes;
+	}
+
+	/**
+	 * Moves the binary representations of all payload values into new chunks,
+	 * without leaving space between them, and discards all old chunks.
+	 */
+	public void compact() {
+		ByteBuffer[] oldChunks = chunks;
+		int oldChunkCount = chunkCount;
+		ByteBuffer[] views = new ByteBuffer[oldChunkCount];
+		for (int i = 0; i < oldChunkCount; i++) {
+			views[i] = oldChunks[i].duplicate();
+		}
+		chunks = NO_CHUNKS;
+		chunkCount = 0;
+		writeOffset = 0;
+		for (int i = 0; i < size; i++) {
+			int length = lengths[i];
+			if (length > 0) {
+				long oldAddress = addresses[i];
+				ByteBuffer view = views[chunkIndex(oldAddress)];
+				int offset = chunkOffset(oldAddress);
+				view.clear();
+				view.position(offset);
+				view.limit(offset + length);
+				long address = allocate(length);
+				ByteBuffer chunk = chunks[chunkIndex(address)];
+				chunk.position(chunkOffset(address));
+				chunk.put(view);
+				addresses[i] = address;
+			}
+		}
+		unusedBytes = 0;
+	}
+
+	private void compactIfWasteful() {
+		if (unusedBytes > usedBytes && unusedBytes >= chunkSize) {
+			compact();
+		}
+	}
+
+	private static int chunkIndex(long address) {
+		return (int) (address >>> 32);
+	}
+
+	private static int chunkOffset(long address) {
+		return (int) address;
+	}
+
+	private long allocate(int length) {
+		if (0 == chunkCount || chunks[chunkCount - 1].capacity() - writeOffset < length) {
+			if (chunkCount == chunks.length) {
+				chunks = Arrays.copyOf(chunks, Math.max(4, chunkCount * 2));
+			}
+			chunks[chunkCount++] = ByteBuffer.allocateDirect(Math.max(chunkSize, length));
+			writeOffset = 0;
+		}
+		long address = ((long) (chunkCount - 1) << 32) | writeOffset;
+		writeOffset += length;
+		return address;
+	}
+
+	private int store(Payload payload, long[] addresses, int[] lengths, int index) {
+		if (null == payload) {
+			addresses[index] = 0;
+			lengths[index] = NULL_LENGTH;
+			return 0;
+		}
+		int length = codec.getLength(payload);
+		if (length < 0) {
+			throw new IllegalStateException("The codec returned a negative length: " + length);
+		}
+		long address = allocate(length);
+		codec.encode(payload, 0 == length ? EMPTY_BUFFER : chunks[chunkIndex(address)], chunkOffset(address));
+		addresses[index] = address;
+		lengths[index] = length;
+		return length;
+	}
+
+	private Payload load(int index) {
+		int length = lengths[index];
+		if (NULL_LENGTH == length) {
+			return null;
+		} else if (0 == length) {
+			return codec.decode(EMPTY_BUFFER, 0, 0);
+		} else {
+			long address = addresses[index];
+			return codec.decode(chunks[chunkIndex(address)], chunkOffset(address), length);
+		}
+	}
+
+	private void discard(int index) {
+		int length = lengths[index];
+		if (length > 0) {
+			usedBytes -= length;
+			unusedBytes += length;
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError("The required capacity is too large: " + capacity);
+		}
+		int newCapacity = addresses.length + (addresses.length >> 1);
+		if (newCapacity < capacity || newCapacity > MAXIMUM_CAPACITY) {
+			newCapacity = capacity < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : capacity;
+		}
+		addresses = Arrays.copyOf(addresses, newCapacity);
+		lengths = Arrays.copyOf(lengths, newCapacity);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected void doInsert(int index, Payload payload) {
+		if (size == addresses.length) {
+			grow(size + 1);
+		}
+		usedBytes += store(payload, addresses, lengths, size);
+		long address = addresses[size];
+		int length = lengths[size];
+		System.arraycopy(addresses, index, addresses, index + 1, size - index);
+		System.arraycopy(lengths, index, lengths, index + 1, size - index);
+		addresses[index] = address;
+		lengths[index] = length;
+		size += 1;
+		incarnation += 1;
+	}
+
+	@Override
+	protected void doInsertAll(int index, List<Payload> payloads) {
+		int count = payloads.size();
+		if (size + count > addresses.length) {
+			grow(size + count);
+		}
+		long[] newAddresses = new long[count];
+		int[] newLengths = new int[count];
+		for (int i = 0; i < count; i++) {
+			usedBytes += store(payloads.get(i), newAddresses, newLengths, i);
+		}
+		System.arraycopy(addresses, index, addresses, index + count, size - index);
+		System.arraycopy(lengths, index, lengths, index + count, size - index);
+		System.arraycopy(newAddresses, 0, addresses, index, count);
+		System.arraycopy(newLengths, 0, lengths, index, count);
+		size += count;
+		incarnation += 1;
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		return load(index);
+	}
+
+	@Override
+	protected Payload doRemove(int index) {
+		Payload removedPayload = load(index);
+		discard(index);
+		System.arraycopy(addresses, index + 1, addresses, index, size - index - 1);
+		System.arraycopy(lengths, index + 1, lengths, index, size - index - 1);
+		size -= 1;
+		incarnation += 1;
+		compactIfWasteful();
+		return removedPayload;
+	}
+
+	@Override
+	protected Source<Payload> doRemoveAll(Predicate<? super Payload> predicate, boolean satisfying) {
+		BitSet removals = null;
+		Object[] removedPayloads = PayloadArrays.empty();
+		int removed = 0;
+		for (int i = 0; i < size; i++) {
+			Payload payload = load(i);
+			if (predicate.test(payload) == satisfying) {
+				if (null == removals) {
+					removals = new BitSet(size);
+				}
+				removals.set(i);
+				removedPayloads = PayloadArrays.add(removedPayloads, removed++, payload);
+			}
+		}
+		if (0 != removed) {
+			int retained = removals.nextSetBit(0);
+			for (int i = retained; i < size; i++) {
+				if (removals.get(i)) {
+					discard(i);
+				} else {
+					addresses[retained] = addresses[i];
+					lengths[retained] = lengths[i];
+					retained++;
+				}
+			}
+			size = retained;
+			incarnation += 1;
+			compactIfWasteful();
+		}
+		return PayloadArrays.toSource(removedPayloads, removed);
+	}
+
+	@Override
+	protected Source<Payload> doClear() {
+		Object[] removedPayloads = new Object[size];
+		for (int i = 0; i < size; i++) {
+			removedPayloads[i] = load(i);
+		}
+		int removed = size;
+		chunks = NO_CHUNKS;
+		chunkCount = 0;
+		writeOffset = 0;
+		size = 0;
+		usedBytes = 0;
+		unusedBytes = 0;
+		incarnation += 1;
+		return PayloadArrays.toSource(removedPayloads, removed);
+	}
+
+	@Override
+	protected Payload doReplace(int index, Payload replacement) {
+		Payload replacedPayload = load(index);
+		discard(index);
+		usedBytes += store(replacement, addresses, lengths, index);
+		compactIfWasteful();
+		return replacedPayload;
+	}
+
+	@Override
+	protected Source<Payload> doReplaceAll(Predicate<? super Payload> predicate, Provider<? extends Payload> provider) {
+		Object[] replacedPayloads = PayloadArrays.empty();
+		int replaced = 0;
+		for (int i = 0; i < size; i++) {
+			Payload replacedPayload = load(i);
+			if (predicate.test(replacedPayload)) {
+				Payload payload = provideReplacement(provider);
+				discard(i);
+				usedBytes += store(payload, addresses, lengths, i);
+				replacedPayloads = PayloadArrays.add(replacedPayloads, replaced++, replacedPayload);
+				onRemoved(replacedPayload);
+				onInserted(payload);
+			}
+		}
+		if (0 != replaced) {
+			compactIfWasteful();
+		}
+		return PayloadArrays.toSource(replacedPayloads, replaced);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(final boolean reverse) {
+		final int size = this.size;
+		return new AbstractIndexedIterator<Payload>(0, size) {
+
+			private final int expectedIncarnation = incarnation;
+
+			@Override
+			protected Payload get(int index) {
+				if (expectedIncarnation != incarnation) {
+					throw new ConcurrentModificationException("Sequence has been modified since the last iteration");
+				}
+				return load(reverse ? size - index - 1 : index);
+			}
+
+		};
+	}
+
+}
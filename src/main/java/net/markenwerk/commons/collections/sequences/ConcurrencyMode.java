@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+/**
+ * {@link ConcurrencyMode} describes how a {@link ConcurrentSequence}
+ * coordinates concurrent access to the {@link Sequence} it wraps.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public enum ConcurrencyMode {
+
+	/**
+	 * Every structural modification is performed while holding an exclusive
+	 * lock and publishes a new immutable snapshot of all payload values
+	 * afterwards. All read operations and iterators operate on the most
+	 * recently published snapshot and never block.
+	 * 
+	 * <p>
+	 * This mode is best suited for read-mostly use cases, because every
+	 * structural modification copies all payload values.
+	 */
+	COPY_ON_WRITE,
+
+	/**
+	 * Every structural modification is performed while holding an exclusive
+	 * lock and every read operation is performed while holding a shared lock.
+	 * Iterators operate on a snapshot of all payload values that is taken
+	 * while holding a shared lock, when the iterator is created.
+	 * 
+	 * <p>
+	 * This mode is best suited for mixed use cases, because structural
+	 * modifications don't need to copy all payload values.
+	 */
+	READ_WRITE_LOCK;
+
+}
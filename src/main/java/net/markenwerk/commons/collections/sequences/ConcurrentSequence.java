@@ -0,0 +1,863 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.IndexedSource;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.collections.sources.SubSource;
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.exceptions.ProvisioningException;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.interfaces.Provider;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link ConcurrentSequence} is a thread safe {@link Sequence} that wraps
+ * another {@link Sequence} and coordinates all access to it according to a
+ * {@link ConcurrencyMode}.
+ * 
+ * <p>
+ * All operations are delegated to the wrapped {@link Sequence}, which
+ * therefore keeps performing its own {@link net.markenwerk.commons.collections.Nullity}
+ * handling and calls its own hooks, e.g.
+ * {@link AbstractSequence#onInserted(Object)}. Structural modifications are
+ * always performed while holding an exclusive lock, so that these hooks are
+ * never called concurrently.
+ * 
+ * <p>
+ * {@link ConcurrentSequence#iterator() Iterators} operate on a snapshot of
+ * this {@link ConcurrentSequence} and never throw a
+ * {@link java.util.ConcurrentModificationException}.
+ * 
+ * <p>
+ * {@link ConcurrentSequence#subSource(int, int) Sub sources} and
+ * {@link ConcurrentSequence#subSequence(int, int) sub sequences} delegate
+ * every access to this {@link ConcurrentSequence}, so that every single access
+ * is thread safe. They throw a
+ * {@link java.util.ConcurrentModificationException}, if the size of this
+ * {@link ConcurrentSequence} has been changed by another thread.
+ * 
+ * <p>
+ * The wrapped {@link Sequence} must not be accessed directly, after it has
+ * been handed to a {@link ConcurrentSequence}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class ConcurrentSequence<Payload> implements Sequence<Payload> {
+
+	private final ConcurrencyMode mode;
+
+	private final Sequence<Payload> sequence;
+
+	private final Lock readLock;
+
+	private final Lock writeLock;
+
+	private volatile ArraySource<Payload> snapshot;
+
+	/**
+	 * Creates a new {@link ConcurrentSequence} with the
+	 * {@link ConcurrencyMode#READ_WRITE_LOCK default} {@link ConcurrencyMode}
+	 * that wraps a new {@link ArraySequence}.
+	 */
+	public ConcurrentSequence() {
+		this(ConcurrencyMode.READ_WRITE_LOCK);
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentSequence} that wraps a new
+	 * {@link ArraySequence}.
+	 * 
+	 * @param mode
+	 *            The {@link ConcurrencyMode} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ConcurrencyMode} is {@literal null}.
+	 */
+	public ConcurrentSequence(ConcurrencyMode mode) throws IllegalArgumentException {
+		this(mode, new ArraySequence<Payload>());
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentSequence} with the
+	 * {@link ConcurrencyMode#READ_WRITE_LOCK default} {@link ConcurrencyMode}.
+	 * 
+	 * @param sequence
+	 *            The {@link Sequence} to be wrapped.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Sequence} is {@literal null}.
+	 */
+	public ConcurrentSequence(Sequence<Payload> sequence) throws IllegalArgumentException {
+		this(ConcurrencyMode.READ_WRITE_LOCK, sequence);
+	}
+
+	/**
+	 * Creates a new {@link ConcurrentSequence}.
+	 * 
+	 * @param mode
+	 *            The {@link ConcurrencyMode} to be used.
+	 * @param sequence
+	 *            The {@link Sequence} to be wrapped.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link ConcurrencyMode} is {@literal null} or if
+	 *             the given {@link Sequence} is {@literal null}.
+	 */
+	public ConcurrentSequence(ConcurrencyMode mode, Sequence<Payload> sequence) throws IllegalArgumentException {
+		if (null == mode) {
+			throw new IllegalArgumentException("The given concurrency mode is null");
+		} else if (null == sequence) {
+			throw new IllegalArgumentException("The given sequence is null");
+		}
+		ReadWriteLock lock = new ReentrantReadWriteLock();
+		this.mode = mode;
+		this.sequence = sequence;
+		this.readLock = lock.readLock();
+		this.writeLock = lock.writeLock();
+		if (ConcurrencyMode.COPY_ON_WRITE == mode) {
+			snapshot = createSnapshot();
+		}
+	}
+
+	/**
+	 * Returns the {@link ConcurrencyMode} this {@link ConcurrentSequence} has
+	 * been created with.
+	 * 
+	 * @return The {@link ConcurrencyMode}.
+	 */
+	public ConcurrencyMode getMode() {
+		return mode;
+	}
+
+	private IndexedSource<Payload> beginRead() {
+		if (ConcurrencyMode.COPY_ON_WRITE == mode) {
+			return snapshot;
+		} else {
+			readLock.lock();
+			return sequence;
+		}
+	}
+
+	private void endRead() {
+		if (ConcurrencyMode.READ_WRITE_LOCK == mode) {
+			readLock.unlock();
+		}
+	}
+
+	private void beginWrite() {
+		writeLock.lock();
+	}
+
+	private void endWrite() {
+		try {
+			if (ConcurrencyMode.COPY_ON_WRITE == mode) {
+				snapshot = createSnapshot();
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private ArraySource<Payload> createSnapshot() {
+		Object[] payloads = new Object[sequence.size()];
+		int index = 0;
+		for (Payload payload : sequence) {
+			payloads[index++] = payload;
+		}
+		return new ArraySource<Payload>((Payload[]) payloads);
+	}
+
+	private ArraySource<Payload> getSnapshot() {
+		if (ConcurrencyMode.COPY_ON_WRITE == mode) {
+			return snapshot;
+		} else {
+			readLock.lock();
+			try {
+				return createSnapshot();
+			} finally {
+				readLock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.isEmpty();
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public int size() {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.size();
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Payload get(int index) throws IndexOutOfBoundsException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.get(index);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public boolean isFirst(Payload payload) throws NoSuchElementException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.isFirst(payload);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Payload getFirst() throws NoSuchElementException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getFirst();
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Payload> getFirst(Payload reference) {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getFirst(reference);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Payload> getFirstMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getFirstMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public boolean isLast(Payload payload) throws NoSuchElementException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.isLast(payload);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Payload getLast() throws NoSuchElementException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getLast();
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Payload> getLast(Payload reference) {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getLast(reference);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Payload> getLastMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getLastMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Source<Payload> getAll(Payload reference) {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getAll(reference);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Source<Payload> getAllMatches(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.getAllMatches(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public boolean contains(Object reference) {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.contains(reference);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public boolean containsMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.containsMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public boolean containsAll(Object... references) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.containsAll(references);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public boolean containsAll(Iterable<?> references) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.containsAll(references);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Integer> firstIndexOf(Payload reference) {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.firstIndexOf(reference);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Integer> firstIndexOfMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.firstIndexOfMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Integer> lastIndexOf(Payload reference) {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.lastIndexOf(reference);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Integer> lastIndexOfMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.lastIndexOfMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Payload> parallelGetFirstMatch(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.parallelGetFirstMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Source<Payload> parallelGetAllMatches(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.parallelGetAllMatches(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public boolean parallelContainsMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.parallelContainsMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public Optional<Integer> parallelFirstIndexOfMatch(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException {
+		IndexedSource<Payload> source = beginRead();
+		try {
+			return source.parallelFirstIndexOfMatch(predicate);
+		} finally {
+			endRead();
+		}
+	}
+
+	@Override
+	public ProtectedBidirectionalIterator<Payload> iterator() {
+		return getSnapshot().iterator();
+	}
+
+	@Override
+	public ProtectedBidirectionalIterator<Payload> iterator(boolean reverse) {
+		return getSnapshot().iterator(reverse);
+	}
+
+	@Override
+	public Sequence<Payload> insert(int index, Payload payload) throws IllegalArgumentException,
+			IndexOutOfBoundsException {
+		beginWrite();
+		try {
+			sequence.insert(index, payload);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> insertAll(int index, Payload... payloads) throws IllegalArgumentException,
+			IndexOutOfBoundsException {
+		beginWrite();
+		try {
+			sequence.insertAll(index, payloads);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> insertAll(int index, Iterable<? extends Payload> payloads)
+			throws IllegalArgumentException, IndexOutOfBoundsException {
+		beginWrite();
+		try {
+			sequence.insertAll(index, payloads);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> prepend(Payload payload) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			sequence.prepend(payload);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> prependAll(Payload... payloads) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			sequence.prependAll(payloads);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> prependAll(Iterable<? extends Payload> payloads) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			sequence.prependAll(payloads);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> append(Payload payload) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			sequence.append(payload);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> appendAll(Payload... payloads) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			sequence.appendAll(payloads);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Sequence<Payload> appendAll(Iterable<? extends Payload> payloads) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			sequence.appendAll(payloads);
+			return this;
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Payload remove(int index) throws IndexOutOfBoundsException {
+		beginWrite();
+		try {
+			return sequence.remove(index);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Payload removeFirst() throws NoSuchElementException {
+		beginWrite();
+		try {
+			return sequence.removeFirst();
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> removeFirst(Payload reference) {
+		beginWrite();
+		try {
+			return sequence.removeFirst(reference);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> removeFirstMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.removeFirstMatch(predicate);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Payload removeLast() throws NoSuchElementException {
+		beginWrite();
+		try {
+			return sequence.removeLast();
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> removeLast(Payload reference) {
+		beginWrite();
+		try {
+			return sequence.removeLast(reference);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> removeLastMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.removeLastMatch(predicate);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Source<Payload> removeAll(Payload reference) {
+		beginWrite();
+		try {
+			return sequence.removeAll(reference);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Source<Payload> removeAllMatches(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.removeAllMatches(predicate);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Source<Payload> retainAll(Payload reference) {
+		beginWrite();
+		try {
+			return sequence.retainAll(reference);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Source<Payload> retainAllMatches(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.retainAllMatches(predicate);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Source<Payload> clear() {
+		beginWrite();
+		try {
+			return sequence.clear();
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Payload replace(int index, Payload replacement) throws IllegalArgumentException, IndexOutOfBoundsException {
+		beginWrite();
+		try {
+			return sequence.replace(index, replacement);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Payload replaceFirst(Payload replacement) throws IllegalArgumentException, NoSuchElementException {
+		beginWrite();
+		try {
+			return sequence.replaceFirst(replacement);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> replaceFirst(Payload reference, Payload replacement) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.replaceFirst(reference, replacement);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> replaceFirstMatch(Predicate<? super Payload> predicate, Payload replacement)
+			throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.replaceFirstMatch(predicate, replacement);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Payload replaceLast(Payload replacement) throws IllegalArgumentException, NoSuchElementException {
+		beginWrite();
+		try {
+			return sequence.replaceLast(replacement);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> replaceLast(Payload reference, Payload replacement) throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.replaceLast(reference, replacement);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Optional<Payload> replaceLastMatch(Predicate<? super Payload> predicate, Payload replacement)
+			throws IllegalArgumentException {
+		beginWrite();
+		try {
+			return sequence.replaceLastMatch(predicate, replacement);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Source<Payload> replaceAll(Payload reference, Provider<? extends Payload> provider)
+			throws IllegalArgumentException, ProvisioningException {
+		beginWrite();
+		try {
+			return sequence.replaceAll(reference, provider);
+		} finally {
+			endWrite();
+		}
+	}
+
+	@Override
+	public Source<Payload> replaceAllMatches(Predicate<? super Payload> predicate, Provider<? extends Payload> provider)
+			throws IllegalArgumentException, ProvisioningException {
+		beginWrite();
+		try {
+			return sequence.replaceAllMatches(predicate, provider);
+		} finally {
+			endWrite();
+		}
+	}
+
+	Source<Payload> removeRange(int from, int to) throws ConcurrentModificationException {
+		beginWrite();
+		try {
+			checkRange(to);
+			return SubSequence.removeRange(sequence, from, to);
+		} finally {
+			endWrite();
+		}
+	}
+
+	Source<Payload> removeRange(int from, int to, Predicate<? super Payload> predicate, boolean satisfying)
+			throws ConcurrentModificationException {
+		beginWrite();
+		try {
+			checkRange(to);
+			return SubSequence.removeRange(sequence, from, to, predicate, satisfying);
+		} finally {
+			endWrite();
+		}
+	}
+
+	private void checkRange(int to) throws ConcurrentModificationException {
+		if (to > sequence.size()) {
+			throw new ConcurrentModificationException("Sequence has been modified since the creation of the view");
+		}
+	}
+
+	@Override
+	public IndexedSource<Payload> subSource(int from, int to) throws IndexOutOfBoundsException {
+		return new SubSource<Payload>(this, from, to);
+	}
+
+	@Override
+	public Sequence<Payload> subSequence(int from, int to) throws IndexOutOfBoundsException {
+		return new SubSequence<Payload>(this, from, to);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (null == object) {
+			return false;
+		} else if (this == object) {
+			return true;
+		} else if (!(object instanceof Sequence)) {
+			return false;
+		}
+		final Sequence<?> other = (Sequence<?>) object;
+		final Iterator<Payload> iterator = iterator();
+		final Iterator<?> otherIterator = other.iterator();
+		while (iterator.hasNext() && otherIterator.hasNext()) {
+			Payload payload = iterator.next();
+			Object otherPayload = otherIterator.next();
+			if (null == payload ? null != otherPayload : !payload.equals(otherPayload)) {
+				return false;
+			}
+		}
+		return !(iterator.hasNext() || otherIterator.hasNext());
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (Payload payload : getSnapshot()) {
+			hashCode = 31 * hashCode + (null == payload ? 0 : payload.hashCode());
+		}
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return getSnapshot().toString();
+	}
+
+}
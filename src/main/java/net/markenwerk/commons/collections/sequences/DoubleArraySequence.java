@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.sources.AbstractDoubleIndexedSource;
+import net.markenwerk.commons.collections.sources.DoubleArraySource;
+import net.markenwerk.commons.collections.sources.DoubleIterator;
+import net.markenwerk.commons.collections.sources.DoublePredicate;
+import net.markenwerk.commons.collections.sources.DoubleSource;
+
+/**
+ * A {@link DoubleArraySequence} is a {@link DoubleSequence} that is backed by
+ * a growable {@literal double} array. It is the {@literal double} specialization of
+ * {@link ArraySequence}.
+ * 
+ * <p>
+ * A {@link DoubleArraySequence} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class DoubleArraySequence extends AbstractDoubleIndexedSource implements DoubleSequence {
+
+	/**
+	 * The initial capacity of a {@link DoubleArraySequence}, if no capacity is
+	 * explicitly given.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private static final DoubleSource EMPTY_SOURCE = new DoubleArraySource();
+
+	private double[] array;
+
+	private int size;
+
+	private int incarnation;
+
+	/**
+	 * Creates a new {@link DoubleArraySequence} with the
+	 * {@link DoubleArraySequence#DEFAULT_CAPACITY default} capacity.
+	 */
+	public DoubleArraySequence() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link DoubleArraySequence}.
+	 * 
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public DoubleArraySequence(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		this.array = new double[capacity];
+	}
+
+	/**
+	 * Returns the number of values this {@link DoubleArraySequence} can hold
+	 * without growing its backing array.
+	 * 
+	 * @return The capacity of this {@link DoubleArraySequence}.
+	 */
+	public int getCapacity() {
+		return array.length;
+	}
+
+	/**
+	 * Grows the backing array of this {@link DoubleArraySequence}, if necessary,
+	 * to ensure that it can hold at least the given number of values.
+	 * 
+	 * @param capacity
+	 *            The desired minimum capacity.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public void ensureCapacity(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		if (capacity > array.length) {
+			array = copy(array, size, capacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array of this {@link DoubleArraySequence} to the
+	 * current {@link DoubleArraySequence#size() size}.
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = copy(array, size, size);
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError("The required capacity is too large: " + capacity);
+		}
+		int newCapacity = array.length + (array.length >> 1);
+		if (newCapacity < capacity || newCapacity > MAXIMUM_CAPACITY) {
+			newCapacity = capacity < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : capacity;
+		}
+		array = copy(array, size, newCapacity);
+	}
+
+	private static double[] copy(double[] array, int length, int capacity) {
+		double[] copy = new double[capacity];
+		System.arraycopy(array, 0, copy, 0, length);
+		return copy;
+	}
+
+	private static double[] add(double[] array, int index, double value) {
+		if (null == array) {
+			array = new double[DEFAULT_CAPACITY];
+		} else if (index == array.length) {
+			array = copy(array, index, index + (index >> 1));
+		}
+		array[index] = value;
+		return array;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected double doGet(int index) {
+		return array[index];
+	}
+
+	@Override
+	public double[] toArray() {
+		return copy(array, size, size);
+	}
+
+	private void checkIndex(int index) throws IndexOutOfBoundsException {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("The given index is negative: " + index);
+		} else if (index >= size) {
+			throw new IndexOutOfBoundsException("The given index is loo large for size " + size + ": " + index);
+		}
+	}
+
+	private void checkInsertIndex(int index) throws IndexOutOfBoundsException {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("The given index is negative: " + index);
+		} else if (index > size) {
+			throw new IndexOutOfBoundsException("The given index is loo large for size " + size + ": " + index);
+		}
+	}
+
+	@Override
+	public DoubleSequence insert(int index, double value) throws IndexOutOfBoundsException {
+		checkInsertIndex(index);
+		doInsert(index, value);
+		return this;
+	}
+
+	private void doInsert(int index, double value) {
+		if (size == array.length) {
+			grow(size + 1);
+		}
+		System.arraycopy(array, index, array, index + 1, size - index);
+		array[index] = value;
+		size += 1;
+		incarnation += 1;
+	}
+
+	@Override
+	public DoubleSequence insertAll(int index, double... values) throws IllegalArgumentException,
+			IndexOutOfBoundsException {
+		if (null == values) {
+			throw new IllegalArgumentException("The given array of values is null");
+		}
+		checkInsertIndex(index);
+		doInsertAll(index, values);
+		return this;
+	}
+
+	@Override
+	public DoubleSequence insertAll(int index, DoubleSource values) throws IllegalArgumentException,
+			IndexOutOfBoundsException {
+		if (null == values) {
+			throw new IllegalArgumentException("The given source of values is null");
+		}
+		checkInsertIndex(index);
+		doInsertAll(index, values.toArray());
+		return this;
+	}
+
+	private void doInsertAll(int index, double[] values) {
+		int number = values.length;
+		if (0 != number) {
+			if (size > array.length - number) {
+				grow(size + number);
+			}
+			System.arraycopy(array, index, array, index + number, size - index);
+			System.arraycopy(values, 0, array, index, number);
+			size += number;
+			incarnation += 1;
+		}
+	}
+
+	@Override
+	public DoubleSequence prepend(double value) {
+		return insert(0, value);
+	}
+
+	@Override
+	public DoubleSequence prependAll(double... values) throws IllegalArgumentException {
+		return insertAll(0, values);
+	}
+
+	@Override
+	public DoubleSequence prependAll(DoubleSource values) throws IllegalArgumentException {
+		return insertAll(0, values);
+	}
+
+	@Override
+	public DoubleSequence append(double value) {
+		return insert(size, value);
+	}
+
+	@Override
+	public DoubleSequence appendAll(double... values) throws IllegalArgumentException {
+		return insertAll(size, values);
+	}
+
+	@Override
+	public DoubleSequence appendAll(DoubleSource values) throws IllegalArgumentException {
+		return insertAll(size, values);
+	}
+
+	@Override
+	public double remove(int index) throws IndexOutOfBoundsException {
+		checkIndex(index);
+		return doRemove(index);
+	}
+
+	private double doRemove(int index) {
+		double removedValue = array[index];
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		size -= 1;
+		incarnation += 1;
+		return removedValue;
+	}
+
+	@Override
+	public double removeFirst() throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This sequence is empty");
+		}
+		return doRemove(0);
+	}
+
+	@Override
+	public int removeFirst(double reference) {
+		return removeIfFound(firstIndexOf(reference));
+	}
+
+	@Override
+	public int removeFirstMatch(DoublePredicate predicate) throws IllegalArgumentException {
+		return removeIfFound(firstIndexOfMatch(predicate));
+	}
+
+	@Override
+	public double removeLast() throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This sequence is empty");
+		}
+		return doRemove(size - 1);
+	}
+
+	@Override
+	public int removeLast(double reference) {
+		return removeIfFound(lastIndexOf(reference));
+	}
+
+	@Override
+	public int removeLastMatch(DoublePredicate predicate) throws IllegalArgumentException {
+		return removeIfFound(lastIndexOfMatch(predicate));
+	}
+
+	private int removeIfFound(int index) {
+		if (NO_INDEX != index) {
+			doRemove(index);
+		}
+		return index;
+	}
+
+	@Override
+	public DoubleSource removeAll(double reference) {
+		return doRemoveAll(createPredicate(reference), true);
+	}
+
+	@Override
+	public DoubleSource removeAllMatches(DoublePredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		return doRemoveAll(predicate, true);
+	}
+
+	@Override
+	public DoubleSource retainAll(double reference) {
+		return doRemoveAll(createPredicate(reference), false);
+	}
+
+	@Override
+	public DoubleSource retainAllMatches(DoublePredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		return doRemoveAll(predicate, false);
+	}
+
+	private DoubleSource doRemoveAll(DoublePredicate predicate, boolean satisfying) {
+		BitSet removals = null;
+		double[] removedValues = null;
+		int removed = 0;
+		for (int i = 0; i < size; i++) {
+			double value = array[i];
+			if (predicate.test(value) == satisfying) {
+				if (null == removals) {
+					removals = new BitSet(size);
+				}
+				removals.set(i);
+				removedValues = add(removedValues, removed++, value);
+			}
+		}
+		if (0 == removed) {
+			return EMPTY_SOURCE;
+		}
+		int retained = removals.nextSetBit(0);
+		for (int i = retained + 1; i < size; i++) {
+			if (!removals.get(i)) {
+				array[retained++] = array[i];
+			}
+		}
+		size = retained;
+		incarnation += 1;
+		return new DoubleArraySource(removed == removedValues.length ? removedValues : copy(removedValues, removed,
+				removed));
+	}
+
+	@Override
+	public DoubleSource clear() {
+		double[] removedValues = copy(array, size, size);
+		size = 0;
+		incarnation += 1;
+		return new DoubleArraySource(removedValues);
+	}
+
+	@Override
+	public double replace(int index, double replacement) throws IndexOutOfBoundsException {
+		checkIndex(index);
+		return doReplace(index, replacement);
+	}
+
+	private double doReplace(int index, double replacement) {
+		double replacedValue = array[index];
+		array[index] = replacement;
+		return replacedValue;
+	}
+
+	@Override
+	public double replaceFirst(double replacement) throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This sequence is empty");
+		}
+		return doReplace(0, replacement);
+	}
+
+	@Override
+	public int replaceFirst(double reference, double replacement) {
+		return replaceIfFound(firstIndexOf(reference), replacement);
+	}
+
+	@Override
+	public int replaceFirstMatch(DoublePredicate predicate, double replacement) throws IllegalArgumentException {
+		return replaceIfFound(firstIndexOfMatch(predicate), replacement);
+	}
+
+	@Override
+	public double replaceLast(double replacement) throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This sequence is empty");
+		}
+		return doReplace(size - 1, replacement);
+	}
+
+	@Override
+	public int replaceLast(double reference, double replacement) {
+		return replaceIfFound(lastIndexOf(reference), replacement);
+	}
+
+	@Override
+	public int replaceLastMatch(DoublePredicate predicate, double replacement) throws IllegalArgumentException {
+		return replaceIfFound(lastIndexOfMatch(predicate), replacement);
+	}
+
+	private int replaceIfFound(int index, double replacement) {
+		if (NO_INDEX != index) {
+			array[index] = replacement;
+		}
+		return index;
+	}
+
+	@Override
+	public DoubleSource replaceAll(double reference, DoubleOperator operator) throws IllegalArgumentException {
+		if (null == operator) {
+			throw new IllegalArgumentException("The given operator is null");
+		}
+		return doReplaceAll(createPredicate(reference), operator);
+	}
+
+	@Override
+	public DoubleSource replaceAllMatches(DoublePredicate predicate, DoubleOperator operator)
+			throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (null == operator) {
+			throw new IllegalArgumentException("The given operator is null");
+		}
+		return doReplaceAll(predicate, operator);
+	}
+
+	private DoubleSource doReplaceAll(DoublePredicate predicate, DoubleOperator operator) {
+		double[] replacedValues = null;
+		int replaced = 0;
+		for (int i = 0; i < size; i++) {
+			double value = array[i];
+			if (predicate.test(value)) {
+				replacedValues = add(replacedValues, replaced++, value);
+				array[i] = operator.apply(value);
+			}
+		}
+		if (0 == replaced) {
+			return EMPTY_SOURCE;
+		}
+		return new DoubleArraySource(replaced == replacedValues.length ? replacedValues : copy(replacedValues,
+				replaced, replaced));
+	}
+
+	@Override
+	protected DoubleIterator doIterator(final boolean reverse) {
+		return new DoubleIterator() {
+
+			private final int expectedIncarnation = incarnation;
+
+			private final int size = DoubleArraySequence.this.size;
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public double next() throws NoSuchElementException {
+				if (expectedIncarnation != incarnation) {
+					throw new ConcurrentModificationException("Sequence has been modified since the last iteration");
+				} else if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return array[reverse ? size - ++index : index++];
+			}
+
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int i = 0; i < size; i++) {
+			hashCode = 31 * hashCode + hash(Double.doubleToLongBits(array[i]));
+		}
+		return hashCode;
+	}
+
+	private static int hash(long bits) {
+		return (int) (bits ^ (bits >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (null == object) {
+			return false;
+		} else if (this == object) {
+			return true;
+		} else if (!(object instanceof DoubleSequence)) {
+			return false;
+		}
+		DoubleSequence other = (DoubleSequence) object;
+		if (size != other.size()) {
+			return false;
+		}
+		DoubleIterator otherIterator = other.iterator();
+		for (int i = 0; i < size; i++) {
+			if (!otherIterator.hasNext() || !equal(array[i], otherIterator.next())) {
+				return false;
+			}
+		}
+		return !otherIterator.hasNext();
+	}
+
+}
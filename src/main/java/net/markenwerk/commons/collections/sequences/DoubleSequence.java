@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.sources.DoubleIndexedSource;
+import net.markenwerk.commons.collections.sources.DoublePredicate;
+import net.markenwerk.commons.collections.sources.DoubleSource;
+
+/**
+ * {@link DoubleSequence} is a {@literal double} specialization of {@link Sequence}
+ * that doesn't box its values.
+ * 
+ * <p>
+ * Methods of {@link Sequence} that return an
+ * {@link net.markenwerk.commons.datastructures.Optional} of the removed or
+ * replaced payload value return the index of the removed or replaced value or
+ * {@link DoubleIndexedSource#NO_INDEX} instead. Methods of {@link Sequence} that
+ * replace all matching payload values with values obtained from a
+ * {@link net.markenwerk.commons.interfaces.Provider} use a {@link DoubleOperator}
+ * that calculates every replacement value from the replaced value instead.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface DoubleSequence extends DoubleIndexedSource {
+
+	/**
+	 * Inserts the given value at the given index.
+	 * 
+	 * @param index
+	 *            The index to insert the given value at.
+	 * @param value
+	 *            The value to be inserted.
+	 * @return This {@link DoubleSequence}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than the size of this {@link DoubleSequence}.
+	 */
+	public DoubleSequence insert(int index, double value) throws IndexOutOfBoundsException;
+
+	/**
+	 * Inserts the given values at the given index.
+	 * 
+	 * @param index
+	 *            The index to insert the given values at.
+	 * @param values
+	 *            The values to be inserted.
+	 * @return This {@link DoubleSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than the size of this {@link DoubleSequence}.
+	 */
+	public DoubleSequence insertAll(int index, double... values) throws IllegalArgumentException,
+			IndexOutOfBoundsException;
+
+	/**
+	 * Inserts the values of the given {@link DoubleSource} at the given index.
+	 * 
+	 * @param index
+	 *            The index to insert the given values at.
+	 * @param values
+	 *            The {@link DoubleSource} of values to be inserted.
+	 * @return This {@link DoubleSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleSource} is {@literal null}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than the size of this {@link DoubleSequence}.
+	 */
+	public DoubleSequence insertAll(int index, DoubleSource values) throws IllegalArgumentException,
+			IndexOutOfBoundsException;
+
+	/**
+	 * Inserts the given value as the new first value.
+	 * 
+	 * @param value
+	 *            The value to be prepended.
+	 * @return This {@link DoubleSequence}.
+	 */
+	public DoubleSequence prepend(double value);
+
+	/**
+	 * Inserts the given values at the beginning of this {@link DoubleSequence}.
+	 * 
+	 * @param values
+	 *            The values to be prepended.
+	 * @return This {@link DoubleSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 */
+	public DoubleSequence prependAll(double... values) throws IllegalArgumentException;
+
+	/**
+	 * Inserts the values of the given {@link DoubleSource} at the beginning of
+	 * this {@link DoubleSequence}.
+	 * 
+	 * @param values
+	 *            The {@link DoubleSource} of values to be prepended.
+	 * @return This {@link DoubleSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleSource} is {@literal null}.
+	 */
+	public DoubleSequence prependAll(DoubleSource values) throws IllegalArgumentException;
+
+	/**
+	 * Inserts the given value as the new last value.
+	 * 
+	 * @param value
+	 *            The value to be appended.
+	 * @return This {@link DoubleSequence}.
+	 */
+	public DoubleSequence append(double value);
+
+	/**
+	 * Inserts the given values at the end of this {@link DoubleSequence}.
+	 * 
+	 * @param values
+	 *            The values to be appended.
+	 * @return This {@link DoubleSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 */
+	public DoubleSequence appendAll(double... values) throws IllegalArgumentException;
+
+	/**
+	 * Inserts the values of the given {@link DoubleSource} at the end of this
+	 * {@link DoubleSequence}.
+	 * 
+	 * @param values
+	 *            The {@link DoubleSource} of values to be appended.
+	 * @return This {@link DoubleSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleSource} is {@literal null}.
+	 */
+	public DoubleSequence appendAll(DoubleSource values) throws IllegalArgumentException;
+
+	/**
+	 * Removes the value at the given index.
+	 * 
+	 * @param index
+	 *            The index of the value to be removed.
+	 * @return The removed value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than or equal to the size of this {@link DoubleSequence}.
+	 */
+	public double remove(int index) throws IndexOutOfBoundsException;
+
+	/**
+	 * Removes the first value.
+	 * 
+	 * @return The removed value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleSequence} is empty.
+	 */
+	public double removeFirst() throws NoSuchElementException;
+
+	/**
+	 * Removes the first value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the removed value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 */
+	public int removeFirst(double reference);
+
+	/**
+	 * Removes the first value that satisfies the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return The index of the removed value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public int removeFirstMatch(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes the last value.
+	 * 
+	 * @return The removed value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleSequence} is empty.
+	 */
+	public double removeLast() throws NoSuchElementException;
+
+	/**
+	 * Removes the last value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the removed value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 */
+	public int removeLast(double reference);
+
+	/**
+	 * Removes the last value that satisfies the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return The index of the removed value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public int removeLastMatch(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes all values that are equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return An {@link DoubleSource} that yields all removed values.
+	 */
+	public DoubleSource removeAll(double reference);
+
+	/**
+	 * Removes all values that satisfy the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return An {@link DoubleSource} that yields all removed values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public DoubleSource removeAllMatches(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes all values that are not equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return An {@link DoubleSource} that yields all removed values.
+	 */
+	public DoubleSource retainAll(double reference);
+
+	/**
+	 * Removes all values that don't satisfy the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return An {@link DoubleSource} that yields all removed values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public DoubleSource retainAllMatches(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes all values.
+	 * 
+	 * @return An {@link DoubleSource} that yields all removed values.
+	 */
+	public DoubleSource clear();
+
+	/**
+	 * Replaces the value at the given index.
+	 * 
+	 * @param index
+	 *            The index of the value to be replaced.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than or equal to the size of this {@link DoubleSequence}.
+	 */
+	public double replace(int index, double replacement) throws IndexOutOfBoundsException;
+
+	/**
+	 * Replaces the first value.
+	 * 
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleSequence} is empty.
+	 */
+	public double replaceFirst(double replacement) throws NoSuchElementException;
+
+	/**
+	 * Replaces the first value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 */
+	public int replaceFirst(double reference, double replacement);
+
+	/**
+	 * Replaces the first value that satisfies the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public int replaceFirstMatch(DoublePredicate predicate, double replacement) throws IllegalArgumentException;
+
+	/**
+	 * Replaces the last value.
+	 * 
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleSequence} is empty.
+	 */
+	public double replaceLast(double replacement) throws NoSuchElementException;
+
+	/**
+	 * Replaces the last value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 */
+	public int replaceLast(double reference, double replacement);
+
+	/**
+	 * Replaces the last value that satisfies the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link DoubleIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public int replaceLastMatch(DoublePredicate predicate, double replacement) throws IllegalArgumentException;
+
+	/**
+	 * Replaces all values that are equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @param operator
+	 *            The {@link DoubleOperator} that calculates the replacement
+	 *            values.
+	 * @return An {@link DoubleSource} that yields all replaced values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleOperator} is {@literal null}.
+	 */
+	public DoubleSource replaceAll(double reference, DoubleOperator operator) throws IllegalArgumentException;
+
+	/**
+	 * Replaces all values that satisfy the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param operator
+	 *            The {@link DoubleOperator} that calculates the replacement
+	 *            values.
+	 * @return An {@link DoubleSource} that yields all replaced values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null} or if the
+	 *             given {@link DoubleOperator} is {@literal null}.
+	 */
+	public DoubleSource replaceAllMatches(DoublePredicate predicate, DoubleOperator operator)
+			throws IllegalArgumentException;
+
+	/**
+	 * Returns a hash code for this {@link DoubleSequence}, which is calculated
+	 * like {@link java.util.Arrays#hashCode(double[])}.
+	 * 
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode();
+
+	/**
+	 * Returns whether the given object is an {@link DoubleSequence} that contains
+	 * equal values in the same order.
+	 * 
+	 * @param object
+	 *            The object to compare against.
+	 * @return Whether the given object is equal to this {@link DoubleSequence}.
+	 */
+	@Override
+	public boolean equals(Object object);
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.List;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.AbstractIndexedSource;
+import net.markenwerk.commons.collections.sources.HashIndex;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link HashIndexedSequence} is an {@link AbstractSequence} that wraps
+ * another {@link Sequence} and answers {@link Sequence#contains(Object)},
+ * {@link Sequence#firstIndexOf(Object)}, {@link Sequence#lastIndexOf(Object)}
+ * and {@link Sequence#getFirst(Object)} in constant time, using a
+ * {@link HashIndex}.
+ * 
+ * <p>
+ * The {@link HashIndex} is built on the first lookup and cached afterwards.
+ * Payload values that are appended are added to the cached {@link HashIndex}.
+ * Every other modification discards the cached {@link HashIndex}, which is
+ * then rebuilt on the next lookup.
+ * 
+ * <p>
+ * The wrapped {@link Sequence} must not be accessed directly, after it has
+ * been handed to a {@link HashIndexedSequence}.
+ * 
+ * <p>
+ * A {@link HashIndexedSequence} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class HashIndexedSequence<Payload> extends AbstractSequence<Payload> {
+
+	private final Sequence<Payload> sequence;
+
+	private HashIndex<Payload> index;
+
+	/**
+	 * Creates a new {@link HashIndexedSequence} with the
+	 * {@link Nullity#ALLOW default} {@link Nullity} that wraps a new
+	 * {@link ArraySequence}.
+	 */
+	public HashIndexedSequence() {
+		this(Nullity.ALLOW);
+	}
+
+	/**
+	 * Creates a new {@link HashIndexedSequence} that wraps a new
+	 * {@link ArraySequence}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}.
+	 */
+	public HashIndexedSequence(Nullity nullity) throws IllegalArgumentException {
+		this(nullity, new ArraySequence<Payload>(Nullity.ALLOW));
+	}
+
+	/**
+	 * Creates a new {@link HashIndexedSequence}. The {@link Nullity} of the
+	 * given {@link Sequence} is used, if it is an {@link AbstractSequence}.
+	 * Otherwise, {@link Nullity#ALLOW} is used and the given {@link Sequence}
+	 * handles {@literal null} values itself.
+	 * 
+	 * @param sequence
+	 *            The {@link Sequence} to be wrapped.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Sequence} is {@literal null}.
+	 */
+	public HashIndexedSequence(Sequence<Payload> sequence) throws IllegalArgumentException {
+		this(sequence instanceof AbstractSequence ? ((AbstractSequence<Payload>) sequence).getNullity()
+				: Nullity.ALLOW, sequence);
+	}
+
+	private HashIndexedSequence(Nullity nullity, Sequence<Payload> sequence) throws IllegalArgumentException {
+		super(nullity);
+		if (null == sequence) {
+			throw new IllegalArgumentException("The given sequence is null");
+		}
+		this.sequence = sequence;
+	}
+
+	private HashIndex<Payload> getIndex() {
+		if (null == index) {
+			index = new HashIndex<Payload>(sequence);
+		}
+		return index;
+	}
+
+	@Override
+	public int size() {
+		return sequence.size();
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		return sequence.get(index);
+	}
+
+	@Override
+	protected boolean hasLookupIndex() {
+		return true;
+	}
+
+	@Override
+	protected boolean doContains(Object reference) {
+		return getIndex().contains(reference);
+	}
+
+	@Override
+	protected Optional<Payload> doGetFirstOf(Payload reference) {
+		int index = getIndex().firstIndexOf(reference);
+		return HashIndex.NO_INDEX == index ? new Optional<Payload>() : new Optional<Payload>(sequence.get(index));
+	}
+
+	@Override
+	protected int doFirstIndexOf(Payload reference) {
+		return getIndex().firstIndexOf(reference);
+	}
+
+	@Override
+	protected int doLastIndexOf(Payload reference) {
+		return getIndex().lastIndexOf(reference);
+	}
+
+	@Override
+	protected void doInsert(int index, Payload payload) {
+		int size = sequence.size();
+		sequence.insert(index, payload);
+		if (null != this.index) {
+			if (index == size && size + 1 == sequence.size()) {
+				this.index.append(payload);
+			} else {
+				this.index = null;
+			}
+		}
+	}
+
+	@Override
+	protected void doInsertAll(int index, List<Payload> payloads) {
+		int size = sequence.size();
+		sequence.insertAll(index, payloads);
+		if (null != this.index) {
+			if (index == size && size + payloads.size() == sequence.size()) {
+				for (int i = 0, n = payloads.size(); i < n; i++) {
+					this.index.append(payloads.get(i));
+				}
+			} else {
+				this.index = null;
+			}
+		}
+	}
+
+	@Override
+	protected void onRemoved(Payload payload) {
+		index = null;
+	}
+
+	@Override
+	protected void onRemoved(Source<Payload> payloads) {
+		if (!payloads.isEmpty()) {
+			index = null;
+		}
+	}
+
+	@Override
+	protected Payload doRemove(int index) {
+		return sequence.remove(index);
+	}
+
+	@Override
+	protected Source<Payload> doRemoveAll(Predicate<? super Payload> predicate, boolean satisfying) {
+		return satisfying ? sequence.removeAllMatches(predicate) : sequence.retainAllMatches(predicate);
+	}
+
+	@Override
+	protected Source<Payload> doClear() {
+		return sequence.clear();
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to) {
+		return SubSequence.removeRange(sequence, from, to);
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		return SubSequence.removeRange(sequence, from, to, predicate, satisfying);
+	}
+
+	@Override
+	protected Payload doReplace(int index, Payload replacement) {
+		return sequence.replace(index, replacement);
+	}
+
+	@Override
+	public boolean hasRandomAccess() {
+		return AbstractIndexedSource.hasRandomAccess(sequence);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
+		return sequence.iterator(reverse);
+	}
+
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.sources.LongIndexedSource;
+import net.markenwerk.commons.collections.sources.LongPredicate;
+import net.markenwerk.commons.collections.sources.LongSource;
+
+/**
+ * {@link LongSequence} is a {@literal long} specialization of {@link Sequence}
+ * that doesn't box its values.
+ * 
+ * <p>
+ * Methods of {@link Sequence} that return an
+ * {@link net.markenwerk.commons.datastructures.Optional} of the removed or
+ * replaced payload value return the index of the removed or replaced value or
+ * {@link LongIndexedSource#NO_INDEX} instead. Methods of {@link Sequence} that
+ * replace all matching payload values with values obtained from a
+ * {@link net.markenwerk.commons.interfaces.Provider} use a {@link LongOperator}
+ * that calculates every replacement value from the replaced value instead.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface LongSequence extends LongIndexedSource {
+
+	/**
+	 * Inserts the given value at the given index.
+	 * 
+	 * @param index
+	 *            The index to insert the given value at.
+	 * @param value
+	 *            The value to be inserted.
+	 * @return This {@link LongSequence}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than the size of this {@link LongSequence}.
+	 */
+	public LongSequence insert(int index, long value) throws IndexOutOfBoundsException;
+
+	/**
+	 * Inserts the given values at the given index.
+	 * 
+	 * @param index
+	 *            The index to insert the given values at.
+	 * @param values
+	 *            The values to be inserted.
+	 * @return This {@link LongSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than the size of this {@link LongSequence}.
+	 */
+	public LongSequence insertAll(int index, long... values) throws IllegalArgumentException,
+			IndexOutOfBoundsException;
+
+	/**
+	 * Inserts the values of the given {@link LongSource} at the given index.
+	 * 
+	 * @param index
+	 *            The index to insert the given values at.
+	 * @param values
+	 *            The {@link LongSource} of values to be inserted.
+	 * @return This {@link LongSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongSource} is {@literal null}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than the size of this {@link LongSequence}.
+	 */
+	public LongSequence insertAll(int index, LongSource values) throws IllegalArgumentException,
+			IndexOutOfBoundsException;
+
+	/**
+	 * Inserts the given value as the new first value.
+	 * 
+	 * @param value
+	 *            The value to be prepended.
+	 * @return This {@link LongSequence}.
+	 */
+	public LongSequence prepend(long value);
+
+	/**
+	 * Inserts the given values at the beginning of this {@link LongSequence}.
+	 * 
+	 * @param values
+	 *            The values to be prepended.
+	 * @return This {@link LongSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 */
+	public LongSequence prependAll(long... values) throws IllegalArgumentException;
+
+	/**
+	 * Inserts the values of the given {@link LongSource} at the beginning of
+	 * this {@link LongSequence}.
+	 * 
+	 * @param values
+	 *            The {@link LongSource} of values to be prepended.
+	 * @return This {@link LongSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongSource} is {@literal null}.
+	 */
+	public LongSequence prependAll(LongSource values) throws IllegalArgumentException;
+
+	/**
+	 * Inserts the given value as the new last value.
+	 * 
+	 * @param value
+	 *            The value to be appended.
+	 * @return This {@link LongSequence}.
+	 */
+	public LongSequence append(long value);
+
+	/**
+	 * Inserts the given values at the end of this {@link LongSequence}.
+	 * 
+	 * @param values
+	 *            The values to be appended.
+	 * @return This {@link LongSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 */
+	public LongSequence appendAll(long... values) throws IllegalArgumentException;
+
+	/**
+	 * Inserts the values of the given {@link LongSource} at the end of this
+	 * {@link LongSequence}.
+	 * 
+	 * @param values
+	 *            The {@link LongSource} of values to be appended.
+	 * @return This {@link LongSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongSource} is {@literal null}.
+	 */
+	public LongSequence appendAll(LongSource values) throws IllegalArgumentException;
+
+	/**
+	 * Removes the value at the given index.
+	 * 
+	 * @param index
+	 *            The index of the value to be removed.
+	 * @return The removed value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than or equal to the size of this {@link LongSequence}.
+	 */
+	public long remove(int index) throws IndexOutOfBoundsException;
+
+	/**
+	 * Removes the first value.
+	 * 
+	 * @return The removed value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongSequence} is empty.
+	 */
+	public long removeFirst() throws NoSuchElementException;
+
+	/**
+	 * Removes the first value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the removed value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 */
+	public int removeFirst(long reference);
+
+	/**
+	 * Removes the first value that satisfies the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return The index of the removed value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public int removeFirstMatch(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes the last value.
+	 * 
+	 * @return The removed value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongSequence} is empty.
+	 */
+	public long removeLast() throws NoSuchElementException;
+
+	/**
+	 * Removes the last value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the removed value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 */
+	public int removeLast(long reference);
+
+	/**
+	 * Removes the last value that satisfies the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return The index of the removed value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public int removeLastMatch(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes all values that are equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return An {@link LongSource} that yields all removed values.
+	 */
+	public LongSource removeAll(long reference);
+
+	/**
+	 * Removes all values that satisfy the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return An {@link LongSource} that yields all removed values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public LongSource removeAllMatches(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes all values that are not equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return An {@link LongSource} that yields all removed values.
+	 */
+	public LongSource retainAll(long reference);
+
+	/**
+	 * Removes all values that don't satisfy the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return An {@link LongSource} that yields all removed values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public LongSource retainAllMatches(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Removes all values.
+	 * 
+	 * @return An {@link LongSource} that yields all removed values.
+	 */
+	public LongSource clear();
+
+	/**
+	 * Replaces the value at the given index.
+	 * 
+	 * @param index
+	 *            The index of the value to be replaced.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than or equal to the size of this {@link LongSequence}.
+	 */
+	public long replace(int index, long replacement) throws IndexOutOfBoundsException;
+
+	/**
+	 * Replaces the first value.
+	 * 
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongSequence} is empty.
+	 */
+	public long replaceFirst(long replacement) throws NoSuchElementException;
+
+	/**
+	 * Replaces the first value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 */
+	public int replaceFirst(long reference, long replacement);
+
+	/**
+	 * Replaces the first value that satisfies the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public int replaceFirstMatch(LongPredicate predicate, long replacement) throws IllegalArgumentException;
+
+	/**
+	 * Replaces the last value.
+	 * 
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongSequence} is empty.
+	 */
+	public long replaceLast(long replacement) throws NoSuchElementException;
+
+	/**
+	 * Replaces the last value that is equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 */
+	public int replaceLast(long reference, long replacement);
+
+	/**
+	 * Replaces the last value that satisfies the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The index of the replaced value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public int replaceLastMatch(LongPredicate predicate, long replacement) throws IllegalArgumentException;
+
+	/**
+	 * Replaces all values that are equal to the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @param operator
+	 *            The {@link LongOperator} that calculates the replacement
+	 *            values.
+	 * @return An {@link LongSource} that yields all replaced values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongOperator} is {@literal null}.
+	 */
+	public LongSource replaceAll(long reference, LongOperator operator) throws IllegalArgumentException;
+
+	/**
+	 * Replaces all values that satisfy the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @param operator
+	 *            The {@link LongOperator} that calculates the replacement
+	 *            values.
+	 * @return An {@link LongSource} that yields all replaced values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null} or if the
+	 *             given {@link LongOperator} is {@literal null}.
+	 */
+	public LongSource replaceAllMatches(LongPredicate predicate, LongOperator operator)
+			throws IllegalArgumentException;
+
+	/**
+	 * Returns a hash code for this {@link LongSequence}, which is calculated
+	 * like {@link java.util.Arrays#hashCode(long[])}.
+	 * 
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode();
+
+	/**
+	 * Returns whether the given object is an {@link LongSequence} that contains
+	 * equal values in the same order.
+	 * 
+	 * @param object
+	 *            The object to compare against.
+	 * @return Whether the given object is equal to this {@link LongSequence}.
+	 */
+	@Override
+	public boolean equals(Object object);
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.Arrays;
+
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.EmptySource;
+import net.markenwerk.commons.collections.sources.Source;
+
+/**
+ * {@link PayloadArrays} provides helper methods to collect payload values into
+ * a growable array without allocating anything until the first payload value
+ * is collected.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+final class PayloadArrays {
+
+	private static final Object[] EMPTY_ARRAY = new Object[0];
+
+	private static final Source<?> EMPTY_SOURCE = new EmptySource<Object>();
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private PayloadArrays() {
+	}
+
+	/**
+	 * Returns an empty array to start collecting payload values with.
+	 * 
+	 * @return An empty array.
+	 */
+	public static Object[] empty() {
+		return EMPTY_ARRAY;
+	}
+
+	/**
+	 * Stores the given payload value at the given index of the given array,
+	 * which is grown by 50% if necessary.
+	 * 
+	 * @param array
+	 *            The array to be used.
+	 * @param index
+	 *            The index to be used, which is not larger than the length of
+	 *            the given array.
+	 * @param payload
+	 *            The payload value to be stored.
+	 * @return The given array, or a larger copy of it, if the given index is
+	 *         equal to its length.
+	 */
+	public static Object[] add(Object[] array, int index, Object payload) {
+		if (index == array.length) {
+			array = Arrays.copyOf(array, 0 == index ? INITIAL_CAPACITY : index + (index >> 1));
+		}
+		array[index] = payload;
+		return array;
+	}
+
+	/**
+	 * Returns a {@link Source} that yields the first payload values of the
+	 * given array.
+	 * 
+	 * @param array
+	 *            The array to be used.
+	 * @param size
+	 *            The number of payload values to be yielded.
+	 * @return A {@link Source} that yields the payload values, which is backed
+	 *         by an array of exactly the given size.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Payload> Source<Payload> toSource(Object[] array, int size) {
+		if (0 == size) {
+			return (Source<Payload>) EMPTY_SOURCE;
+		} else {
+			return new ArraySource<Payload>((Payload[]) (size == array.length ? array : Arrays.copyOf(array, size)));
+		}
+	}
+
+}
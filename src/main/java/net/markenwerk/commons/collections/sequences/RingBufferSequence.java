@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.interfaces.Provider;
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link RingBufferSequence} is an {@link AbstractSequence} that is backed by
+ * a growable circular array.
+ * 
+ * <p>
+ * A {@link RingBufferSequence} provides constant time
+ * {@link Sequence#get(int) random access} and amortized constant time
+ * {@link Sequence#prepend(Object) prepends}, {@link Sequence#append(Object)
+ * appends}, {@link Sequence#removeFirst() removals of the first} and
+ * {@link Sequence#removeLast() removals of the last} payload value. Insertions
+ * and removals at any other position only move the payload values between that
+ * position and the nearer end of this {@link RingBufferSequence}.
+ * 
+ * <p>
+ * Whenever the backing array is too small to hold an additional payload value,
+ * it is replaced by an array that is 50% larger.
+ * 
+ * <p>
+ * A {@link RingBufferSequence} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class RingBufferSequence<Payload> extends AbstractSequence<Payload> {
+
+	/**
+	 * The initial capacity of a {@link RingBufferSequence}, if no capacity is
+	 * explicitly given.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private Object[] array;
+
+	private int head;
+
+	private int size;
+
+	private int incarnation;
+
+	/**
+	 * Creates a new {@link RingBufferSequence} with the
+	 * {@link RingBufferSequence#DEFAULT_CAPACITY default} capacity and the
+	 * {@link Nullity#ALLOW default} {@link Nullity}.
+	 */
+	public RingBufferSequence() {
+		this(Nullity.ALLOW, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link RingBufferSequence} with the {@link Nullity#ALLOW
+	 * default} {@link Nullity}.
+	 * 
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public RingBufferSequence(int capacity) throws IllegalArgumentException {
+		this(Nullity.ALLOW, capacity);
+	}
+
+	/**
+	 * Creates a new {@link RingBufferSequence} with the
+	 * {@link RingBufferSequence#DEFAULT_CAPACITY default} capacity.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}.
+	 */
+	public RingBufferSequence(Nullity nullity) throws IllegalArgumentException {
+		this(nullity, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link RingBufferSequence}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null} or if the
+	 *             given capacity is negative.
+	 */
+	public RingBufferSequence(Nullity nullity, int capacity) throws IllegalArgumentException {
+		super(nullity);
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		this.array = new Object[capacity];
+	}
+
+	/**
+	 * Returns the number of payload values this {@link RingBufferSequence} can
+	 * hold without growing its backing array.
+	 * 
+	 * @return The capacity of this {@link RingBufferSequence}.
+	 */
+	public int getCapacity() {
+		return array.length;
+	}
+
+	/**
+	 * Grows the backing array of this {@link RingBufferSequence}, if
+	 * necessary, to ensure that it can hold at least the given number of
+	 * payload values.
+	 * 
+	 * @param capacity
+	 *            The desired minimum capacity.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public void ensureCapacity(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		if (capacity > array.length) {
+			reallocate(capacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array of this {@link RingBufferSequence} to the
+	 * current {@link RingBufferSequence#size() size}.
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			reallocate(size);
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError("The required capacity is too large: " + capacity);
+		}
+		int newCapacity = array.length + (array.length >> 1);
+		if (newCapacity < capacity || newCapacity > MAXIMUM_CAPACITY) {
+			newCapacity = capacity < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : capacity;
+		}
+		reallocate(newCapacity);
+	}
+
+	private void reallocate(int capacity) {
+		array = copy(capacity);
+		head = 0;
+	}
+
+	private Object[] copy(int capacity) {
+		Object[] copy = new Object[capacity];
+		int wrapped = head + size - array.length;
+		if (wrapped <= 0) {
+			System.arraycopy(array, head, copy, 0, size);
+		} else {
+			System.arraycopy(array, head, copy, 0, size - wrapped);
+			System.arraycopy(array, 0, copy, size - wrapped, wrapped);
+		}
+		return copy;
+	}
+
+	private int position(int index) {
+		int position = head + index;
+		return position >= array.length ? position - array.length : position;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected void doInsert(int index, Payload payload) {
+		openGap(index, 1);
+		array[position(index)] = payload;
+	}
+
+	@Override
+	protected void doInsertAll(int index, List<Payload> payloads) {
+		int count = payloads.size();
+		openGap(index, count);
+		for (int i = 0; i < count; i++) {
+			array[position(index + i)] = payloads.get(i);
+		}
+	}
+
+	private void openGap(int index, int count) {
+		if (size + count > array.length) {
+			grow(size + count);
+		}
+		if (index < size - index) {
+			head = position(array.length - count);
+			for (int i = 0; i < index; i++) {
+				array[position(i)] = array[position(i + count)];
+			}
+		} else {
+			for (int i = size - 1; i >= index; i--) {
+				array[position(i + count)] = array[position(i)];
+			}
+		}
+		size += count;
+		incarnation += 1;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doGet(int index) {
+		return (Payload) array[position(index)];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doRemove(int index) {
+		Payload removedPayload = (Payload) array[position(index)];
+		closeGap(index, 1);
+		return removedPayload;
+	}
+
+	private void closeGap(int index, int count) {
+		if (index < size - index - count) {
+			for (int i = index - 1; i >= 0; i--) {
+				array[position(i + count)] = array[position(i)];
+			}
+			for (int i = 0; i < count; i++) {
+				array[position(i)] = null;
+			}
+			head = position(count);
+		} else {
+			for (int i = index + count; i < size; i++) {
+				array[position(i - count)] = array[position(i)];
+			}
+			for (int i = size - count; i < size; i++) {
+				array[position(i)] = null;
+			}
+		}
+		size -= count;
+		incarnation += 1;
+	}
+
+	@Override
+	protected Source<Payload> doRemoveAll(Predicate<? super Payload> predicate, boolean satisfying) {
+		return doRemoveRange(0, size, predicate, satisfying);
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to) {
+		int count = to - from;
+		Object[] removedPayloads = new Object[count];
+		for (int i = 0; i < count; i++) {
+			removedPayloads[i] = array[position(from + i)];
+		}
+		closeGap(from, count);
+		return PayloadArrays.toSource(removedPayloads, count);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Source<Payload> doRemoveRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		Object[] removedPayloads = PayloadArrays.empty();
+		int removed = 0;
+		BitSet removals = null;
+		for (int i = from; i < to; i++) {
+			Payload payload = (Payload) array[position(i)];
+			if (predicate.test(payload) == satisfying) {
+				removedPayloads = PayloadArrays.add(removedPayloads, removed++, payload);
+				if (null == removals) {
+					removals = new BitSet(to);
+				}
+				removals.set(i);
+			}
+		}
+		if (0 != removed) {
+			int retained = removals.nextSetBit(from);
+			for (int i = retained + 1; i < to; i++) {
+				if (!removals.get(i)) {
+					array[position(retained++)] = array[position(i)];
+				}
+			}
+			closeGap(retained, removed);
+		}
+		return PayloadArrays.toSource(removedPayloads, removed);
+	}
+
+	@Override
+	protected Source<Payload> doClear() {
+		Object[] removedPayloads = copy(size);
+		for (int i = 0; i < size; i++) {
+			array[position(i)] = null;
+		}
+		head = 0;
+		size = 0;
+		incarnation += 1;
+		return PayloadArrays.toSource(removedPayloads, removedPayloads.length);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doReplace(int index, Payload replacement) {
+		int position = position(index);
+		Payload replacedPayload = (Payload) array[position];
+		array[position] = replacement;
+		return replacedPayload;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Source<Payload> doReplaceAll(Predicate<? super Payload> predicate, Provider<? extends Payload> provider) {
+		Object[] replacedPayloads = PayloadArrays.empty();
+		int replaced = 0;
+		for (int i = 0; i < size; i++) {
+			int position = position(i);
+			Payload replacedPayload = (Payload) array[position];
+			if (predicate.test(replacedPayload)) {
+				Payload payload = provideReplacement(provider);
+				array[position] = payload;
+				replacedPayloads = PayloadArrays.add(replacedPayloads, replaced++, replacedPayload);
+				onRemoved(replacedPayload);
+				onInserted(payload);
+			}
+		}
+		return PayloadArrays.toSource(replacedPayloads, replaced);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(final boolean reverse) {
+		final int size = this.size;
+		return new AbstractIndexedIterator<Payload>(0, size) {
+
+			private final int expectedIncarnation = incarnation;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			protected Payload get(int index) {
+				if (expectedIncarnation != incarnation) {
+					throw new ConcurrentModificationException("Sequence has been modified since the last iteration");
+				}
+				return (Payload) array[position(reverse ? size - index - 1 : index)];
+			}
+
+		};
+	}
+
+}
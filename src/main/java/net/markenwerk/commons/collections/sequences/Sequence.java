@@ -467,6 +467,31 @@ public interface Sequence<Payload> extends IndexedSource<Payload> {
 	public Source<Payload> replaceAllMatches(Predicate<? super Payload> predicate, Provider<? extends Payload> provider)
 			throws IllegalArgumentException, ProvisioningException;
 
+	/**
+	 * Returns a modifiable view of the payload values in the given range of
+	 * indices. The view shares the payload values with this {@link Sequence}
+	 * and doesn't copy them. Indices of the view are relative to the given
+	 * first index. Modifications of the view are performed on this
+	 * {@link Sequence}.
+	 * 
+	 * <p>
+	 * The view must not be used after the {@link IndexedSource#size() size}
+	 * of this {@link Sequence} has been changed, other than through the view.
+	 * 
+	 * @param from
+	 *            The first index of the range, inclusive.
+	 * @param to
+	 *            The last index of the range, exclusive.
+	 * @return A {@link Sequence} yielding the payload values.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given first index is negative, if the given last
+	 *             index is larger than the {@link IndexedSource#size() size}
+	 *             of this {@link Sequence} or if the given first index is
+	 *             larger than the given last index.
+	 * @since 1.1.0
+	 */
+	public Sequence<Payload> subSequence(int from, int to) throws IndexOutOfBoundsException;
+
 	/**
 	 * Returns the hash code of this {@link Sequence}.
 	 * 
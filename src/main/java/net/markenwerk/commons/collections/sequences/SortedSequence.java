@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.IndexedSource;
+import net.markenwerk.commons.collections.sources.SortedSource;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.collections.sources.SubSource;
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterables.ArrayIterable;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link SortedSequence} is an {@link AbstractSequence} that keeps its
+ * payload values sorted according to a {@link Comparator}.
+ * 
+ * <p>
+ * Payload values should be added with {@link SortedSequence#add(Object)} or
+ * {@link SortedSequence#addAll(Iterable)}, which insert them at the position
+ * that keeps the order. Equal payload values are kept in the order they have
+ * been added. Payload values may also be inserted or replaced at a given
+ * index, but an {@link IllegalArgumentException} is thrown, if this would
+ * violate the order.
+ * 
+ * <p>
+ * Lookups of a reference payload value use a binary search and take
+ * logarithmic time, instead of linear time.
+ * 
+ * <p>
+ * A {@link SortedSequence} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class SortedSequence<Payload> extends AbstractSequence<Payload> implements SortedSource<Payload> {
+
+	private final Comparator<? super Payload> comparator;
+
+	private final ArraySequence<Payload> sequence = new ArraySequence<Payload>(Nullity.ALLOW);
+
+	/**
+	 * Creates a new {@link SortedSequence} with the {@link Nullity#REJECT}
+	 * {@link Nullity}.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null}.
+	 */
+	public SortedSequence(Comparator<? super Payload> comparator) throws IllegalArgumentException {
+		this(Nullity.REJECT, comparator);
+	}
+
+	/**
+	 * Creates a new {@link SortedSequence}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used. If {@link Nullity#ALLOW} is
+	 *            used, the given {@link Comparator} must be able to compare
+	 *            {@literal null} values.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null} or if the
+	 *             given {@link Comparator} is {@literal null}.
+	 */
+	public SortedSequence(Nullity nullity, Comparator<? super Payload> comparator) throws IllegalArgumentException {
+		super(nullity);
+		if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		}
+		this.comparator = comparator;
+	}
+
+	@Override
+	public Comparator<? super Payload> getComparator() {
+		return comparator;
+	}
+
+	/**
+	 * Adds the given payload value at the position that keeps the order, after
+	 * all equal payload values.
+	 * 
+	 * @param payload
+	 *            The payload value to be added.
+	 * @return This {@link SortedSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given payload value is {@literal null} and this
+	 *             {@link SortedSequence} doesn't allow {@literal null} to be
+	 *             added.
+	 */
+	public SortedSequence<Payload> add(Payload payload) throws IllegalArgumentException {
+		if (null != payload || getNullity().proceedAdd("given payload value", Nullity.NO_POSITION)) {
+			insert(upperBound(payload, comparator), payload);
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the given payload values at the positions that keep the order,
+	 * after all equal payload values.
+	 * 
+	 * @param payloads
+	 *            The payload values to be added.
+	 * @return This {@link SortedSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of payload values is {@literal null} or
+	 *             if one of the given payload values is {@literal null} and
+	 *             this {@link SortedSequence} doesn't allow {@literal null} to
+	 *             be added.
+	 */
+	public SortedSequence<Payload> addAll(Payload... payloads) throws IllegalArgumentException {
+		if (null == payloads) {
+			throw new IllegalArgumentException("The given array of payload values is null");
+		}
+		return addAll(new ArrayIterable<Payload>(payloads));
+	}
+
+	/**
+	 * Adds the given payload values at the positions that keep the order,
+	 * after all equal payload values.
+	 * 
+	 * <p>
+	 * The given payload values are sorted first and then merged with the
+	 * payload values of this {@link SortedSequence} in a single pass, instead
+	 * of being added one by one.
+	 * 
+	 * @param payloads
+	 *            The payload values to be added.
+	 * @return This {@link SortedSequence}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} of payload values is
+	 *             {@literal null} or if one of the given payload values is
+	 *             {@literal null} and this {@link SortedSequence} doesn't
+	 *             allow {@literal null} to be added.
+	 */
+	public SortedSequence<Payload> addAll(Iterable<? extends Payload> payloads) throws IllegalArgumentException {
+		if (null == payloads) {
+			throw new IllegalArgumentException("The given iterable of payload values is null");
+		}
+		List<Payload> addedPayloads = payloads instanceof Collection ? new ArrayList<Payload>(
+				((Collection<?>) payloads).size()) : new ArrayList<Payload>();
+		int position = 0;
+		for (Payload payload : payloads) {
+			if (null != payload || getNullity().proceedAdd("given payload value", position)) {
+				addedPayloads.add(payload);
+			}
+			position++;
+		}
+		if (!addedPayloads.isEmpty()) {
+			Collections.sort(addedPayloads, comparator);
+			int size = sequence.size();
+			if (0 == size || comparator.compare(sequence.get(size - 1), addedPayloads.get(0)) <= 0) {
+				sequence.appendAll(addedPayloads);
+			} else {
+				merge(addedPayloads);
+			}
+			for (Payload payload : addedPayloads) {
+				onInserted(payload);
+			}
+		}
+		return this;
+	}
+
+	private void merge(List<Payload> addedPayloads) {
+		int size = sequence.size();
+		int added = addedPayloads.size();
+		List<Payload> mergedPayloads = new ArrayList<Payload>(size + added);
+		int i = 0;
+		int j = 0;
+		while (i < size && j < added) {
+			Payload payload = sequence.get(i);
+			Payload addedPayload = addedPayloads.get(j);
+			if (comparator.compare(payload, addedPayload) <= 0) {
+				mergedPayloads.add(payload);
+				i++;
+			} else {
+				mergedPayloads.add(addedPayload);
+				j++;
+			}
+		}
+		while (i < size) {
+			mergedPayloads.add(sequence.get(i++));
+		}
+		while (j < added) {
+			mergedPayloads.add(addedPayloads.get(j++));
+		}
+		sequence.clear();
+		sequence.appendAll(mergedPayloads);
+	}
+
+	@Override
+	public IndexedSource<Payload> getAllBetween(Payload from, Payload to) throws IllegalArgumentException {
+		if (comparator.compare(from, to) > 0) {
+			throw new IllegalArgumentException("The given lower bound is greater than the given upper bound");
+		}
+		return new SubSource<Payload>(this, lowerBound(from, comparator), lowerBound(to, comparator));
+	}
+
+	@Override
+	public int size() {
+		return sequence.size();
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		return sequence.get(index);
+	}
+
+	@Override
+	protected boolean hasLookupIndex() {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean doContains(Object reference) {
+		try {
+			return -1 != doFirstIndexOf((Payload) reference);
+		} catch (ClassCastException e) {
+			return false;
+		}
+	}
+
+	@Override
+	protected Optional<Payload> doGetFirstOf(Payload reference) {
+		int index = doFirstIndexOf(reference);
+		return -1 == index ? new Optional<Payload>() : new Optional<Payload>(sequence.get(index));
+	}
+
+	@Override
+	protected int doFirstIndexOf(Payload reference) {
+		if (null == reference) {
+			return Nullity.ALLOW == getNullity() ? super.doFirstIndexOf(reference) : -1;
+		}
+		return searchFirstIndexOf(reference, comparator);
+	}
+
+	@Override
+	protected int doLastIndexOf(Payload reference) {
+		if (null == reference) {
+			return Nullity.ALLOW == getNullity() ? super.doLastIndexOf(reference) : -1;
+		}
+		return searchLastIndexOf(reference, comparator);
+	}
+
+	@Override
+	protected void doInsert(int index, Payload payload) {
+		checkOrder(index - 1, payload, index);
+		sequence.insert(index, payload);
+	}
+
+	@Override
+	protected void doInsertAll(int index, List<Payload> payloads) {
+		for (int i = 1, n = payloads.size(); i < n; i++) {
+			if (comparator.compare(payloads.get(i - 1), payloads.get(i)) > 0) {
+				throw new IllegalArgumentException("The given payload values would violate the order at index "
+						+ (index + i));
+			}
+		}
+		checkOrder(index - 1, payloads.get(0), index);
+		checkOrder(index - 1, payloads.get(payloads.size() - 1), index);
+		sequence.insertAll(index, payloads);
+	}
+
+	@Override
+	protected Payload doReplace(int index, Payload replacement) {
+		checkOrder(index - 1, replacement, index + 1);
+		return sequence.replace(index, replacement);
+	}
+
+	private void checkOrder(int before, Payload payload, int after) throws IllegalArgumentException {
+		if (before >= 0 && comparator.compare(sequence.get(before), payload) > 0) {
+			throw new IllegalArgumentException("The given payload value would violate the order at index "
+					+ (before + 1));
+		} else if (after < sequence.size() && comparator.compare(payload, sequence.get(after)) > 0) {
+			throw new IllegalArgumentException("The given payload value would violate the order at index "
+					+ (before + 1));
+		}
+	}
+
+	@Override
+	protected Payload doRemove(int index) {
+		return sequence.remove(index);
+	}
+
+	@Override
+	protected Source<Payload> doRemoveAll(Predicate<? super Payload> predicate, boolean satisfying) {
+		return satisfying ? sequence.removeAllMatches(predicate) : sequence.retainAllMatches(predicate);
+	}
+
+	@Override
+	protected Source<Payload> doClear() {
+		return sequence.clear();
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to) {
+		return sequence.removeRange(from, to);
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		return sequence.removeRange(from, to, predicate, satisfying);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
+		return sequence.iterator(reverse);
+	}
+
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.AbstractIndexedSource;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link SubSequence} is an {@link AbstractSequence} that is a modifiable
+ * view of a range of indices of another {@link Sequence}.
+ * 
+ * <p>
+ * All modifications are performed on the viewed {@link Sequence}, which
+ * therefore keeps performing its own {@link Nullity} handling and calls its
+ * own hooks. The range grows or shrinks with the payload values that are
+ * inserted or removed through a {@link SubSequence}.
+ * 
+ * <p>
+ * A {@link SubSequence} must not be used after the
+ * {@link Sequence#size() size} of the viewed {@link Sequence} has been
+ * changed, other than through the {@link SubSequence}. Accessing a
+ * {@link SubSequence} after such a change throws a
+ * {@link ConcurrentModificationException}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class SubSequence<Payload> extends AbstractSequence<Payload> {
+
+	private final Sequence<Payload> sequence;
+
+	private final int from;
+
+	private int to;
+
+	private int expectedSize;
+
+	/**
+	 * Creates a new {@link SubSequence}. The {@link Nullity} of the given
+	 * {@link Sequence} is used, if it is an {@link AbstractSequence}.
+	 * Otherwise, {@link Nullity#ALLOW} is used and the given {@link Sequence}
+	 * handles {@literal null} values itself.
+	 * 
+	 * @param sequence
+	 *            The {@link Sequence} to be viewed.
+	 * @param from
+	 *            The first index of the range, inclusive.
+	 * @param to
+	 *            The last index of the range, exclusive.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Sequence} is {@literal null}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given first index is negative, if the given last
+	 *             index is larger than the {@link Sequence#size() size} of the
+	 *             given {@link Sequence} or if the given first index is larger
+	 *             than the given last index.
+	 */
+	public SubSequence(Sequence<Payload> sequence, int from, int to) throws IllegalArgumentException,
+			IndexOutOfBoundsException {
+		this(sequence instanceof AbstractSequence ? ((AbstractSequence<Payload>) sequence).getNullity()
+				: Nullity.ALLOW, sequence, from, to);
+	}
+
+	private SubSequence(Nullity nullity, Sequence<Payload> sequence, int from, int to)
+			throws IllegalArgumentException, IndexOutOfBoundsException {
+		super(nullity);
+		if (null == sequence) {
+			throw new IllegalArgumentException("The given sequence is null");
+		} else if (from < 0) {
+			throw new IndexOutOfBoundsException("The given first index is negative: " + from);
+		} else if (to > sequence.size()) {
+			throw new IndexOutOfBoundsException("The given last index is loo large for size " + sequence.size()
+					+ ": " + to);
+		} else if (from > to) {
+			throw new IndexOutOfBoundsException("The given first index is larger than the given last index: " + from
+					+ " > " + to);
+		}
+		this.sequence = sequence;
+		this.from = from;
+		this.to = to;
+		this.expectedSize = sequence.size();
+	}
+
+	/**
+	 * Returns the {@link Sequence} this {@link SubSequence} has been created
+	 * with.
+	 * 
+	 * @return The {@link Sequence}.
+	 */
+	public Sequence<Payload> getSequence() {
+		return sequence;
+	}
+
+	@Override
+	public int size() {
+		checkModification();
+		return to - from;
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		checkModification();
+		return sequence.get(from + index);
+	}
+
+	private void checkModification() throws ConcurrentModificationException {
+		if (expectedSize != sequence.size()) {
+			throw new ConcurrentModificationException("Sequence has been modified since the creation of this view");
+		}
+	}
+
+	private void updateRange() {
+		int size = sequence.size();
+		to += size - expectedSize;
+		expectedSize = size;
+	}
+
+	@Override
+	protected void doInsert(int index, Payload payload) {
+		checkModification();
+		try {
+			sequence.insert(from + index, payload);
+		} finally {
+			updateRange();
+		}
+	}
+
+	@Override
+	protected void doInsertAll(int index, List<Payload> payloads) {
+		checkModification();
+		try {
+			sequence.insertAll(from + index, payloads);
+		} finally {
+			updateRange();
+		}
+	}
+
+	@Override
+	protected Payload doRemove(int index) {
+		checkModification();
+		try {
+			return sequence.remove(from + index);
+		} finally {
+			updateRange();
+		}
+	}
+
+	@Override
+	protected Source<Payload> doRemoveAll(Predicate<? super Payload> predicate, boolean satisfying) {
+		checkModification();
+		try {
+			return removeRange(sequence, from, to, predicate, satisfying);
+		} finally {
+			updateRange();
+		}
+	}
+
+	@Override
+	protected Source<Payload> doClear() {
+		checkModification();
+		try {
+			return removeRange(sequence, from, to);
+		} finally {
+			updateRange();
+		}
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to) {
+		checkModification();
+		try {
+			return removeRange(sequence, this.from + from, this.from + to);
+		} finally {
+			updateRange();
+		}
+	}
+
+	@Override
+	protected Source<Payload> doRemoveRange(int from, int to, Predicate<? super Payload> predicate,
+			boolean satisfying) {
+		checkModification();
+		try {
+			return removeRange(sequence, this.from + from, this.from + to, predicate, satisfying);
+		} finally {
+			updateRange();
+		}
+	}
+
+	static <Payload> Source<Payload> removeRange(Sequence<Payload> sequence, int from, int to) {
+		if (sequence instanceof AbstractSequence) {
+			return ((AbstractSequence<Payload>) sequence).removeRange(from, to);
+		} else if (sequence instanceof ConcurrentSequence) {
+			return ((ConcurrentSequence<Payload>) sequence).removeRange(from, to);
+		} else {
+			int count = to - from;
+			Object[] removedPayloads = new Object[count];
+			for (int i = count - 1; i >= 0; i--) {
+				removedPayloads[i] = sequence.remove(from + i);
+			}
+			return PayloadArrays.toSource(removedPayloads, count);
+		}
+	}
+
+	static <Payload> Source<Payload> removeRange(Sequence<Payload> sequence, int from, int to,
+			Predicate<? super Payload> predicate, boolean satisfying) {
+		if (sequence instanceof AbstractSequence) {
+			return ((AbstractSequence<Payload>) sequence).removeRange(from, to, predicate, satisfying);
+		} else if (sequence instanceof ConcurrentSequence) {
+			return ((ConcurrentSequence<Payload>) sequence).removeRange(from, to, predicate, satisfying);
+		} else {
+			Object[] removedPayloads = PayloadArrays.empty();
+			int removed = 0;
+			BitSet removals = null;
+			for (int i = from; i < to; i++) {
+				Payload payload = sequence.get(i);
+				if (predicate.test(payload) == satisfying) {
+					removedPayloads = PayloadArrays.add(removedPayloads, removed++, payload);
+					if (null == removals) {
+						removals = new BitSet(to);
+					}
+					removals.set(i);
+				}
+			}
+			for (int i = to - 1; i >= from; i--) {
+				if (removals.get(i)) {
+					sequence.remove(i);
+				}
+			}
+			return PayloadArrays.toSource(removedPayloads, removed);
+		}
+	}
+
+	@Override
+	protected Payload doReplace(int index, Payload replacement) {
+		checkModification();
+		return sequence.replace(from + index, replacement);
+	}
+
+	@Override
+	public boolean hasRandomAccess() {
+		return AbstractIndexedSource.hasRandomAccess(sequence);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
+		if (reverse) {
+
+			return new AbstractIndexedIterator<Payload>(0, size()) {
+
+				@Override
+				protected Payload get(int index) {
+					return doGet(to - from - index - 1);
+				}
+			};
+
+		} else {
+
+			return new AbstractIndexedIterator<Payload>(0, size()) {
+
+				@Override
+				protected Payload get(int index) {
+					return doGet(index);
+				}
+			};
+
+		}
+	}
+
+}
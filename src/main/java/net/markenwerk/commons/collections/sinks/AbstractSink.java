@@ -21,6 +21,11 @@
  */
 package net.markenwerk.commons.collections.sinks;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
 import net.markenwerk.commons.collections.Nullity;
 import net.markenwerk.commons.iterables.ArrayIterable;
 
@@ -84,12 +89,34 @@ public abstract class AbstractSink<Payload> implements Sink<Payload> {
 		if (null == payloads) {
 			throw new IllegalArgumentException("The given iterable of payload values is null");
 		}
+		if (hasBatchAdd()) {
+			doAddBatch(payloads);
+		} else {
+			int position = 0;
+			for (Payload payload : payloads) {
+				doAdd(payload, position);
+				position++;
+			}
+		}
+		return this;
+	}
+
+	private void doAddBatch(Iterable<? extends Payload> payloads) {
+		List<Payload> addedPayloads = payloads instanceof Collection ? new ArrayList<Payload>(
+				((Collection<?>) payloads).size()) : new ArrayList<Payload>();
 		int position = 0;
 		for (Payload payload : payloads) {
-			doAdd(payload, position);
+			if (null != payload || nullity.proceedAdd("given payload value", position)) {
+				addedPayloads.add(payload);
+			}
 			position++;
 		}
-		return this;
+		if (!addedPayloads.isEmpty()) {
+			doAddAll(addedPayloads);
+			for (Payload payload : addedPayloads) {
+				onAdded(payload);
+			}
+		}
 	}
 
 	private void doAdd(Payload payload, int position) {
@@ -109,6 +136,51 @@ public abstract class AbstractSink<Payload> implements Sink<Payload> {
 	 */
 	protected abstract void doAdd(Payload payload);
 
+	/**
+	 * Returns whether {@link AbstractSink#addAll(Iterable)} hands all payload
+	 * values to {@link AbstractSink#doAddAll(List)} at once.
+	 * 
+	 * <p>
+	 * If this method returns {@literal true}, all payload values of the given
+	 * {@link Iterable} are collected first, then added at once and only then
+	 * reported to {@link AbstractSink#onAdded(Object)}. Otherwise, every
+	 * payload value is {@link AbstractSink#doAdd(Object) added} and reported
+	 * while iterating over the given {@link Iterable}.
+	 * 
+	 * <p>
+	 * The default implementation returns {@literal false}. Concrete
+	 * implementations should override this method, if adding all payload
+	 * values at once is considerably cheaper than adding them one by one.
+	 * 
+	 * @return Whether this {@link AbstractSink} adds batches of payload values.
+	 * @since 1.1.0
+	 */
+	protected boolean hasBatchAdd() {
+		return false;
+	}
+
+	/**
+	 * Adds the given payload values to this {@link Sink}. This method is only
+	 * called, if this {@link AbstractSink} {@link AbstractSink#hasBatchAdd()
+	 * adds batches of payload values}.
+	 * 
+	 * <p>
+	 * The default implementation {@link AbstractSink#doAdd(Object) adds} the
+	 * payload values one by one.
+	 * 
+	 * @param payloads
+	 *            The non-empty {@link RandomAccess random access} {@link List}
+	 *            of payload values to be added, which are guaranteed to be not
+	 *            {@literal null}, unless the {@link Nullity} of this
+	 *            {@link Sink} is {@link Nullity#ALLOW}. The {@link List} must
+	 *            not be retained after this method returns.
+	 */
+	protected void doAddAll(List<Payload> payloads) {
+		for (int i = 0, n = payloads.size(); i < n; i++) {
+			doAdd(payloads.get(i));
+		}
+	}
+
 	/**
 	 * Called after the given payload value has been added to this {@link Sink}.
 	 * 
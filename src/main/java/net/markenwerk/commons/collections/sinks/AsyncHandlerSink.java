@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.interfaces.Handler;
+
+/**
+ * An {@link AsyncHandlerSink} is an {@link AbstractSink} that hands every added
+ * payload value over to a {@link Handler} on one or more consumer threads.
+ * 
+ * <p>
+ * Added payload values are stored in a preallocated, lock-free ring buffer
+ * that allows multiple producers and multiple consumers. Adding a payload
+ * value never allocates and never blocks, unless the buffer is full and the
+ * {@link FullPolicy} is {@link FullPolicy#BLOCK}. The given
+ * {@link WaitStrategy} determines, how consumer threads wait for payload
+ * values to be added and how producer threads wait for space to become
+ * available.
+ * 
+ * <p>
+ * Payload values are handed over to the {@link Handler} in the order they have
+ * been added, if a single consumer thread is used. If multiple consumer
+ * threads are used, the {@link Handler} must be thread safe and payload values
+ * may be handed over out of order.
+ * 
+ * <p>
+ * If the {@link Handler} fails to handle a payload value, the consumer thread
+ * continues with the next payload value and the failure is reported by the
+ * next call to {@link AsyncHandlerSink#flush()} or
+ * {@link AsyncHandlerSink#close()}. An {@link Error} thrown by the
+ * {@link Handler} is rethrown as is.
+ * 
+ * <p>
+ * An {@link AsyncHandlerSink} is thread safe. Payload values that are added
+ * while the {@link AsyncHandlerSink} is being closed may not be handled.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class AsyncHandlerSink<Payload> extends AbstractSink<Payload> implements Flushable, Closeable {
+
+	/**
+	 * The capacity of the buffer of an {@link AsyncHandlerSink}, if no
+	 * capacity is explicitly given.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private static final Object EMPTY = new Object();
+
+	private final Handler<Payload> handler;
+
+	private final WaitStrategy waitStrategy;
+
+	private final FullPolicy fullPolicy;
+
+	private final int mask;
+
+	private final Object[] slots;
+
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong enqueuePosition = new AtomicLong();
+
+	private final AtomicLong dequeuePosition = new AtomicLong();
+
+	private final AtomicLong handled = new AtomicLong();
+
+	private final AtomicLong dropped = new AtomicLong();
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+	private final Thread[] consumers;
+
+	private volatile boolean closed;
+
+	private volatile boolean running = true;
+
+	/**
+	 * Creates a new {@link AsyncHandlerSink} with the {@link Nullity#ALLOW
+	 * default} {@link Nullity}, the {@link AsyncHandlerSink#DEFAULT_CAPACITY
+	 * default} capacity, a single consumer thread, the
+	 * {@link WaitStrategy#PARK default} {@link WaitStrategy} and the
+	 * {@link FullPolicy#BLOCK default} {@link FullPolicy}.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null}.
+	 */
+	public AsyncHandlerSink(Handler<Payload> handler) throws IllegalArgumentException {
+		this(Nullity.ALLOW, handler);
+	}
+
+	/**
+	 * Creates a new {@link AsyncHandlerSink} with the
+	 * {@link AsyncHandlerSink#DEFAULT_CAPACITY default} capacity, a single
+	 * consumer thread, the {@link WaitStrategy#PARK default}
+	 * {@link WaitStrategy} and the {@link FullPolicy#BLOCK default}
+	 * {@link FullPolicy}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param handler
+	 *            The {@link Handler} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null} or if the
+	 *             given {@link Handler} is {@literal null}.
+	 */
+	public AsyncHandlerSink(Nullity nullity, Handler<Payload> handler) throws IllegalArgumentException {
+		this(nullity, handler, DEFAULT_CAPACITY, 1, WaitStrategy.PARK, FullPolicy.BLOCK);
+	}
+
+	/**
+	 * Creates a new {@link AsyncHandlerSink}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param handler
+	 *            The {@link Handler} to be used.
+	 * @param capacity
+	 *            The capacity of the buffer, which is rounded up to the next
+	 *            power of two.
+	 * @param consumers
+	 *            The number of consumer threads to be used.
+	 * @param waitStrategy
+	 *            The {@link WaitStrategy} to be used.
+	 * @param fullPolicy
+	 *            The {@link FullPolicy} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             {@link Handler} is {@literal null}, if the given capacity is
+	 *             not positive or too large, if the given number of consumer
+	 *             threads is not positive, if the given {@link WaitStrategy} is
+	 *             {@literal null} or if the given {@link FullPolicy} is
+	 *             {@literal null}.
+	 */
+	public AsyncHandlerSink(Nullity nullity, Handler<Payload> handler, int capacity, int consumers,
+			WaitStrategy waitStrategy, FullPolicy fullPolicy) throws IllegalArgumentException {
+		super(nullity);
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		if (capacity <= 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new IllegalArgumentException("The given capacity is not positive or too large: " + capacity);
+		}
+		if (consumers <= 0) {
+			throw new IllegalArgumentException("The given number of consumers is not positive: " + consumers);
+		}
+		if (null == waitStrategy) {
+			throw new IllegalArgumentException("The given wait strategy is null");
+		}
+		if (null == fullPolicy) {
+			throw new IllegalArgumentException("The given full policy is null");
+		}
+		this.handler = handler;
+		this.waitStrategy = waitStrategy;
+		this.fullPolicy = fullPolicy;
+		int size = Integer.highestOneBit(capacity);
+		size = size == capacity ? size : size << 1;
+		this.mask = size - 1;
+		this.slots = new Object[size];
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		this.consumers = new Thread[consumers];
+		for (int i = 0; i < consumers; i++) {
+			Thread consumer = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					consume();
+				}
+
+			}, "AsyncHandlerSink-consumer-" + i);
+			consumer.setDaemon(true);
+			this.consumers[i] = consumer;
+		}
+		for (Thread consumer : this.consumers) {
+			consumer.start();
+		}
+	}
+
+	/**
+	 * Returns the capacity of the buffer of this {@link AsyncHandlerSink}.
+	 * 
+	 * @return The capacity.
+	 */
+	public int getCapacity() {
+		return slots.length;
+	}
+
+	/**
+	 * Returns the {@link WaitStrategy} this {@link AsyncHandlerSink} has been
+	 * created with.
+	 * 
+	 * @return The {@link WaitStrategy}.
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	/**
+	 * Returns the {@link FullPolicy} this {@link AsyncHandlerSink} has been
+	 * created with.
+	 * 
+	 * @return The {@link FullPolicy}.
+	 */
+	public FullPolicy getFullPolicy() {
+		return fullPolicy;
+	}
+
+	/**
+	 * Returns the number of payload values that have been
+	 * {@link FullPolicy#DROP dropped}, because the buffer was full.
+	 * 
+	 * @return The number of dropped payload values.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	@Override
+	protected void doAdd(Payload payload) {
+		checkOpen();
+		enqueue(payload);
+	}
+
+	@Override
+	protected boolean hasBatchAdd() {
+		return true;
+	}
+
+	@Override
+	protected void doAddAll(List<Payload> payloads) {
+		checkOpen();
+		for (int i = 0, n = payloads.size(); i < n; i++) {
+			enqueue(payloads.get(i));
+		}
+	}
+
+	private void checkOpen() throws IllegalStateException {
+		if (closed) {
+			throw new IllegalStateException("This sink has been closed");
+		}
+	}
+
+	private void enqueue(Payload payload) throws IllegalStateException {
+		while (!offer(payload)) {
+			switch (fullPolicy) {
+			case DROP:
+				dropped.incrementAndGet();
+				return;
+			case FAIL:
+				throw new IllegalStateException("The buffer of this sink is full");
+			default:
+				checkOpen();
+				waitStrategy.idle();
+			}
+		}
+	}
+
+	private boolean offer(Object payload) {
+		long position = enqueuePosition.get();
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - position;
+			if (0 == difference) {
+				if (enqueuePosition.compareAndSet(position, position + 1)) {
+					slots[index] = payload;
+					sequences.lazySet(index, position + 1);
+					return true;
+				}
+				position = enqueuePosition.get();
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = enqueuePosition.get();
+			}
+		}
+	}
+
+	private Object poll() {
+		long position = dequeuePosition.get();
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - (position + 1);
+			if (0 == difference) {
+				if (dequeuePosition.compareAndSet(position, position + 1)) {
+					Object payload = slots[index];
+					slots[index] = null;
+					sequences.lazySet(index, position + mask + 1);
+					return payload;
+				}
+				position = dequeuePosition.get();
+			} else if (difference < 0) {
+				return EMPTY;
+			} else {
+				position = dequeuePosition.get();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void consume() {
+		while (true) {
+			Object payload = poll();
+			if (EMPTY != payload) {
+				try {
+					handler.handle((Payload) payload);
+				} catch (Throwable throwable) {
+					failure.compareAndSet(null, throwable);
+				} finally {
+					handled.incrementAndGet();
+				}
+			} else if (running) {
+				waitStrategy.idle();
+			} else {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Waits until all payload values that have been added before this method
+	 * has been called are handed over to the {@link Handler}.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link AsyncHandlerSink} has been closed, if the
+	 *             {@link Handler} failed to handle a payload value since the
+	 *             last call to this method or if all consumer threads have
+	 *             stopped before all payload values have been handed over.
+	 */
+	@Override
+	public void flush() throws IllegalStateException {
+		checkOpen();
+		boolean complete = awaitHandled(enqueuePosition.get());
+		reportFailure();
+		checkHandled(complete);
+	}
+
+	private boolean awaitHandled(long target) {
+		while (handled.get() < target) {
+			if (!isConsuming()) {
+				return handled.get() >= target;
+			}
+			waitStrategy.idle();
+		}
+		return true;
+	}
+
+	private boolean isConsuming() {
+		for (Thread consumer : consumers) {
+			if (consumer.isAlive()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void reportFailure() throws IllegalStateException {
+		Throwable throwable = failure.getAndSet(null);
+		if (throwable instanceof Error) {
+			throw (Error) throwable;
+		} else if (null != throwable) {
+			throw new IllegalStateException("The handler failed to handle a payload value", throwable);
+		}
+	}
+
+	private void checkHandled(boolean complete) throws IllegalStateException {
+		if (!complete) {
+			throw new IllegalStateException(
+					"All consumer threads have stopped before all payload values have been handled");
+		}
+	}
+
+	/**
+	 * Waits until all added payload values are handed over to the
+	 * {@link Handler} and stops all consumer threads. Closing an already
+	 * closed {@link AsyncHandlerSink} has no effect.
+	 * 
+	 * @throws IllegalStateException
+	 *             If the {@link Handler} failed to handle a payload value since
+	 *             the last call to {@link AsyncHandlerSink#flush()} or if all
+	 *             consumer threads have stopped before all payload values have
+	 *             been handed over.
+	 */
+	@Override
+	public void close() throws IllegalStateException {
+		if (!closed) {
+			closed = true;
+			boolean complete = awaitHandled(enqueuePosition.get());
+			running = false;
+			for (Thread consumer : consumers) {
+				try {
+					consumer.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			reportFailure();
+			checkHandled(complete);
+		}
+	}
+
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.AbstractIndexedSource;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.interfaces.Handler;
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link BatchingSink} is an {@link AbstractSink} that groups added payload
+ * values into batches and hands every batch as a {@link Source} over to a
+ * {@link Handler}.
+ * 
+ * <p>
+ * A batch is handed over, as soon as it contains the given number of payload
+ * values, when the oldest payload value in the batch exceeds the given maximum
+ * delay or when the {@link BatchingSink} is explicitly
+ * {@link BatchingSink#flush() flushed} or {@link BatchingSink#close() closed}.
+ * If no {@link ScheduledExecutorService} is given, the maximum delay is only
+ * checked when a payload value is added. Otherwise, the given
+ * {@link ScheduledExecutorService} is used to hand over the batch on time.
+ * 
+ * <p>
+ * Payload values are collected in a single, reusable buffer and the
+ * {@link Source} that is handed over to the {@link Handler} is a reusable view
+ * on that buffer. The {@link Handler} must therefore not retain the given
+ * {@link Source}, but copy its payload values, if necessary. If the
+ * {@link Handler} fails to handle a batch, the batch is discarded and the
+ * failure is propagated to the caller or, if the batch has been handed over by
+ * the {@link ScheduledExecutorService}, reported by the next call to
+ * {@link BatchingSink#flush()} or {@link BatchingSink#close()}.
+ * 
+ * <p>
+ * A {@link BatchingSink} is thread safe.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class BatchingSink<Payload> extends AbstractSink<Payload> implements Flushable, Closeable {
+
+	private static final long NO_DELAY = -1;
+
+	private final Handler<? super Source<Payload>> handler;
+
+	private final int batchSize;
+
+	private final long maximumDelay;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Object[] buffer;
+
+	private final Source<Payload> batch = new BufferSource();
+
+	private int count;
+
+	private long batchStart;
+
+	private long batchNumber;
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	private RuntimeException failure;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link BatchingSink} with the {@link Nullity#ALLOW default}
+	 * {@link Nullity}, that only hands over a batch, when it is full or when
+	 * this {@link BatchingSink} is flushed or closed.
+	 * 
+	 * @param handler
+	 *            The {@link Handler} to be used.
+	 * @param batchSize
+	 *            The maximum number of payload values in a batch.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Handler} is {@literal null} or if the
+	 *             given batch size is not positive.
+	 */
+	public BatchingSink(Handler<? super Source<Payload>> handler, int batchSize) throws IllegalArgumentException {
+		this(Nullity.ALLOW, handler, batchSize);
+	}
+
+	/**
+	 * Creates a new {@link BatchingSink}, that only hands over a batch, when it
+	 * is full or when this {@link BatchingSink} is flushed or closed.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param handler
+	 *            The {@link Handler} to be used.
+	 * @param batchSize
+	 *            The maximum number of payload values in a batch.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             {@link Handler} is {@literal null} or if the given batch size
+	 *             is not positive.
+	 */
+	public BatchingSink(Nullity nullity, Handler<? super Source<Payload>> handler, int batchSize)
+			throws IllegalArgumentException {
+		this(nullity, handler, batchSize, NO_DELAY, (ScheduledExecutorService) null);
+	}
+
+	/**
+	 * Creates a new {@link BatchingSink}, that checks the maximum delay
+	 * whenever a payload value is added.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param handler
+	 *            The {@link Handler} to be used.
+	 * @param batchSize
+	 *            The maximum number of payload values in a batch.
+	 * @param maximumDelay
+	 *            The maximum delay of a payload value.
+	 * @param unit
+	 *            The {@link TimeUnit} of the given maximum delay.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             {@link Handler} is {@literal null}, if the given batch size
+	 *             is not positive, if the given maximum delay is negative or if
+	 *             the given {@link TimeUnit} is {@literal null}.
+	 */
+	public BatchingSink(Nullity nullity, Handler<? super Source<Payload>> handler, int batchSize,
+			long maximumDelay, TimeUnit unit) throws IllegalArgumentException {
+		this(nullity, handler, batchSize, toNanos(maximumDelay, unit), (ScheduledExecutorService) null);
+	}
+
+	/**
+	 * Creates a new {@link BatchingSink}, that uses the given
+	 * {@link ScheduledExecutorService} to hand over a batch, when the oldest
+	 * payload value in the batch exceeds the given maximum delay.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param handler
+	 *            The {@link Handler} to be used.
+	 * @param batchSize
+	 *            The maximum number of payload values in a batch.
+	 * @param maximumDelay
+	 *            The maximum delay of a payload value.
+	 * @param unit
+	 *            The {@link TimeUnit} of the given maximum delay.
+	 * @param scheduler
+	 *            The {@link ScheduledExecutorService} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             {@link Handler} is {@literal null}, if the given batch size
+	 *             is not positive, if the given maximum delay is negative, if
+	 *             the given {@link TimeUnit} is {@literal null} or if the given
+	 *             {@link ScheduledExecutorService} is {@literal null}.
+	 */
+	public BatchingSink(Nullity nullity, Handler<? super Source<Payload>> handler, int batchSize,
+			long maximumDelay, TimeUnit unit, ScheduledExecutorService scheduler) throws IllegalArgumentException {
+		this(nullity, handler, batchSize, toNanos(maximumDelay, unit), checkScheduler(scheduler));
+	}
+
+	private BatchingSink(Nullity nullity, Handler<? super Source<Payload>> handler, int batchSize,
+			long maximumDelay, ScheduledExecutorService scheduler) throws IllegalArgumentException {
+		super(nullity);
+		if (null == handler) {
+			throw new IllegalArgumentException("The given handler is null");
+		}
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("The given batch size is not positive: " + batchSize);
+		}
+		this.handler = handler;
+		this.batchSize = batchSize;
+		this.maximumDelay = maximumDelay;
+		this.scheduler = scheduler;
+		this.buffer = new Object[batchSize];
+	}
+
+	private static long toNanos(long maximumDelay, TimeUnit unit) throws IllegalArgumentException {
+		if (maximumDelay < 0) {
+			throw new IllegalArgumentException("The given maximum delay is negative: " + maximumDelay);
+		}
+		if (null == unit) {
+			throw new IllegalArgumentException("The given unit is null");
+		}
+		return unit.toNanos(maximumDelay);
+	}
+
+	private static ScheduledExecutorService checkScheduler(ScheduledExecutorService scheduler)
+			throws IllegalArgumentException {
+		if (null == scheduler) {
+			throw new IllegalArgumentException("The given scheduler is null");
+		}
+		return scheduler;
+	}
+
+	/**
+	 * Returns the batch size this {@link BatchingSink} has been created with.
+	 * 
+	 * @return The batch size.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	@Override
+	protected void doAdd(Payload payload) {
+		synchronized (buffer) {
+			checkOpen();
+			append(payload);
+		}
+	}
+
+	@Override
+	protected boolean hasBatchAdd() {
+		return true;
+	}
+
+	@Override
+	protected void doAddAll(List<Payload> payloads) {
+		synchronized (buffer) {
+			checkOpen();
+			for (int i = 0, n = payloads.size(); i < n; i++) {
+				append(payloads.get(i));
+			}
+		}
+	}
+
+	private void checkOpen() throws IllegalStateException {
+		if (closed) {
+			throw new IllegalStateException("This sink has been closed");
+		}
+	}
+
+	private void append(Payload payload) {
+		if (NO_DELAY != maximumDelay && 0 != count && System.nanoTime() - batchStart >= maximumDelay) {
+			handOver();
+		}
+		if (0 == count && NO_DELAY != maximumDelay) {
+			batchStart = System.nanoTime();
+			if (null != scheduler) {
+				scheduleFlush();
+			}
+		}
+		buffer[count++] = payload;
+		if (batchSize == count) {
+			handOver();
+		}
+	}
+
+	private void scheduleFlush() {
+		final long scheduledBatchNumber = batchNumber;
+		scheduledFlush = scheduler.schedule(new Runnable() {
+
+			@Override
+			public void run() {
+				synchronized (buffer) {
+					if (scheduledBatchNumber == batchNumber && 0 != count) {
+						try {
+							handOver();
+						} catch (RuntimeException e) {
+							if (null == failure) {
+								failure = e;
+							}
+						}
+					}
+				}
+			}
+
+		}, maximumDelay, TimeUnit.NANOSECONDS);
+	}
+
+	private void handOver() {
+		if (null != scheduledFlush) {
+			scheduledFlush.cancel(false);
+			scheduledFlush = null;
+		}
+		try {
+			handler.handle(batch);
+		} finally {
+			Arrays.fill(buffer, 0, count, null);
+			count = 0;
+			batchNumber++;
+		}
+	}
+
+	/**
+	 * Hands the current batch over to the {@link Handler}, if it isn't empty.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link BatchingSink} has been closed or if the
+	 *             {@link Handler} failed to handle a batch, that has been
+	 *             handed over by the {@link ScheduledExecutorService}, since
+	 *             the last call to this method.
+	 */
+	@Override
+	public void flush() throws IllegalStateException {
+		synchronized (buffer) {
+			checkOpen();
+			try {
+				if (0 != count) {
+					handOver();
+				}
+			} finally {
+				reportFailure();
+			}
+		}
+	}
+
+	private void reportFailure() throws IllegalStateException {
+		RuntimeException exception = failure;
+		if (null != exception) {
+			failure = null;
+			throw new IllegalStateException("The handler failed to handle a batch", exception);
+		}
+	}
+
+	/**
+	 * Hands the current batch over to the {@link Handler}, if it isn't empty,
+	 * and closes this {@link BatchingSink}. Closing an already closed
+	 * {@link BatchingSink} has no effect.
+	 * 
+	 * @throws IllegalStateException
+	 *             If the {@link Handler} failed to handle a batch, that has
+	 *             been handed over by the {@link ScheduledExecutorService},
+	 *             since the last call to {@link BatchingSink#flush()}.
+	 */
+	@Override
+	public void close() throws IllegalStateException {
+		synchronized (buffer) {
+			if (!closed) {
+				closed = true;
+				try {
+					if (0 != count) {
+						handOver();
+					}
+				} finally {
+					reportFailure();
+				}
+			}
+		}
+	}
+
+	private final class BufferSource extends AbstractIndexedSource<Payload> {
+
+		@Override
+		public int size() {
+			return count;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected Payload doGet(int index) {
+			return (Payload) buffer[index];
+		}
+
+		@Override
+		protected ProtectedBidirectionalIterator<Payload> doIterator(final boolean reverse) {
+			final int size = count;
+			return new AbstractIndexedIterator<Payload>(0, size) {
+
+				@Override
+				@SuppressWarnings("unchecked")
+				protected Payload get(int index) {
+					return (Payload) buffer[reverse ? size - index - 1 : index];
+				}
+
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+/**
+ * A {@link ForcePolicy} indicates when a {@link MappedFileSink} forces written
+ * payload values to the storage device.
+ * 
+ * <p>
+ * Every {@link ForcePolicy} forces all written payload values, when the
+ * {@link MappedFileSink} is {@link MappedFileSink#flush() flushed} or
+ * {@link MappedFileSink#close() closed}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public enum ForcePolicy {
+
+	/**
+	 * Written payload values should be forced after every call to
+	 * {@link Sink#add(Object)} or {@link Sink#addAll(Iterable)}. This is the
+	 * most durable, but also the slowest policy.
+	 */
+	ALWAYS() {
+
+		@Override
+		boolean forceOnAdd() {
+			return true;
+		}
+
+		@Override
+		boolean forceOnRoll() {
+			return true;
+		}
+
+	},
+
+	/**
+	 * Written payload values should be forced, whenever a segment is full and
+	 * the {@link MappedFileSink} rolls over to a new segment.
+	 */
+	ON_ROLL() {
+
+		@Override
+		boolean forceOnAdd() {
+			return false;
+		}
+
+		@Override
+		boolean forceOnRoll() {
+			return true;
+		}
+
+	},
+
+	/**
+	 * Written payload values should only be forced, when the
+	 * {@link MappedFileSink} is explicitly {@link MappedFileSink#flush()
+	 * flushed} or {@link MappedFileSink#close() closed}. Until then, the
+	 * operating system decides, when written payload values are written to the
+	 * storage device.
+	 */
+	ON_FLUSH() {
+
+		@Override
+		boolean forceOnAdd() {
+			return false;
+		}
+
+		@Override
+		boolean forceOnRoll() {
+			return false;
+		}
+
+	};
+
+	abstract boolean forceOnAdd();
+
+	abstract boolean forceOnRoll();
+
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.List;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.codecs.Encoder;
+
+/**
+ * A {@link MappedFileSink} is an {@link AbstractSink} that appends the binary
+ * representation of every added payload value to memory-mapped segment files.
+ * 
+ * <p>
+ * Every payload value is encoded with the given {@link Encoder} and written as
+ * a record, that consists of a four byte header and the encoded payload value.
+ * The header contains the length of the encoded payload value plus one or
+ * {@literal -1}, if the payload value is {@literal null}. A header of
+ * {@literal 0} marks the end of a segment. The header is written after the
+ * encoded payload value, which ensures that incomplete records are never
+ * visible to readers in the same process or after this process crashed.
+ * 
+ * <p>
+ * The operating system may write the pages of a segment back to the storage
+ * device in any order. After an operating system crash or a power loss, only
+ * records that have been forced to the storage device are therefore guaranteed
+ * to be complete. Records that have been written, but not forced, may appear
+ * with a valid header, but with missing payload bytes.
+ * 
+ * <p>
+ * Segment files are created in the given directory and named
+ * {@literal segment-0000000000.dat}, {@literal segment-0000000001.dat}, and
+ * so on. A {@link MappedFileSink} never overwrites an existing segment file
+ * and starts with the segment after the last existing segment. Whenever a
+ * record doesn't fit into the current segment, a new segment is created. A
+ * record that is larger than the segment size is written to a dedicated, larger
+ * segment.
+ * 
+ * <p>
+ * When written records are forced to the storage device is determined by the
+ * given {@link ForcePolicy}. {@link MappedFileSink#addAll(Iterable) Adding
+ * multiple payload values at once} writes all records before forcing them
+ * once.
+ * 
+ * <p>
+ * A {@link MappedFileSink} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class MappedFileSink<Payload> extends AbstractSink<Payload> implements Flushable, Closeable {
+
+	/**
+	 * The size of a segment in bytes, if no segment size is explicitly given.
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+	/**
+	 * The length of the header of a record in bytes.
+	 */
+	public static final int HEADER_LENGTH = 4;
+
+	/**
+	 * The header of a record for a {@literal null}.
+	 */
+	public static final int NULL_HEADER = -1;
+
+	/**
+	 * The header that marks the end of a segment.
+	 */
+	public static final int END_HEADER = 0;
+
+	private static final String SEGMENT_PREFIX = "segment-";
+
+	private static final String SEGMENT_SUFFIX = ".dat";
+
+	private final File directory;
+
+	private final Encoder<? super Payload> encoder;
+
+	private final int segmentSize;
+
+	private final ForcePolicy forcePolicy;
+
+	private int nextSegmentIndex;
+
+	private File segmentFile;
+
+	private MappedByteBuffer segment;
+
+	private int writeOffset;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link MappedFileSink} with the {@link Nullity#ALLOW
+	 * default} {@link Nullity}, the {@link MappedFileSink#DEFAULT_SEGMENT_SIZE
+	 * default} segment size and the {@link ForcePolicy#ON_ROLL default}
+	 * {@link ForcePolicy}.
+	 * 
+	 * @param directory
+	 *            The directory to create the segment files in.
+	 * @param encoder
+	 *            The {@link Encoder} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given directory is {@literal null} or if the given
+	 *             {@link Encoder} is {@literal null}.
+	 * @throws IOException
+	 *             If the first segment couldn't be created.
+	 */
+	public MappedFileSink(File directory, Encoder<? super Payload> encoder) throws IllegalArgumentException,
+			IOException {
+		this(Nullity.ALLOW, directory, encoder, DEFAULT_SEGMENT_SIZE, ForcePolicy.ON_ROLL);
+	}
+
+	/**
+	 * Creates a new {@link MappedFileSink} with the
+	 * {@link MappedFileSink#DEFAULT_SEGMENT_SIZE default} segment size and the
+	 * {@link ForcePolicy#ON_ROLL default} {@link ForcePolicy}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param directory
+	 *            The directory to create the segment files in.
+	 * @param encoder
+	 *            The {@link Encoder} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             directory is {@literal null} or if the given {@link Encoder}
+	 *             is {@literal null}.
+	 * @throws IOException
+	 *             If the first segment couldn't be created.
+	 */
+	public MappedFileSink(Nullity nullity, File directory, Encoder<? super Payload> encoder)
+			throws IllegalArgumentException, IOException {
+		this(nullity, directory, encoder, DEFAULT_SEGMENT_SIZE, ForcePolicy.ON_ROLL);
+	}
+
+	/**
+	 * Creates a new {@link MappedFileSink}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param directory
+	 *            The directory to create the segment files in.
+	 * @param encoder
+	 *            The {@link Encoder} to be used.
+	 * @param segmentSize
+	 *            The size of a segment in bytes.
+	 * @param forcePolicy
+	 *            The {@link ForcePolicy} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             directory is {@literal null}, if the given {@link Encoder} is
+	 *             {@literal null}, if the given segment size is smaller than
+	 *             the {@link MappedFileSink#HEADER_LENGTH header length} or if
+	 *             the given {@link ForcePolicy} is {@literal null}.
+	 * @throws IOException
+	 *             If the given directory couldn't be created or if the first
+	 *             segment couldn't be created.
+	 */
+	public MappedFileSink(Nullity nullity, File directory, Encoder<? super Payload> encoder, int segmentSize,
+			ForcePolicy forcePolicy) throws IllegalArgumentException, IOException {
+		super(nullity);
+		if (null == directory) {
+			throw new IllegalArgumentException("The given directory is null");
+		}
+		if (null == encoder) {
+			throw new IllegalArgumentException("The given encoder is null");
+		}
+		if (segmentSize < HEADER_LENGTH) {
+			throw new IllegalArgumentException("The given segment size is smaller than the header length: "
+					+ segmentSize);
+		}
+		if (null == forcePolicy) {
+			throw new IllegalArgumentException("The given force policy is null");
+		}
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Failed to create directory " + directory);
+		}
+		this.directory = directory;
+		this.encoder = encoder;
+		this.segmentSize = segmentSize;
+		this.forcePolicy = forcePolicy;
+		this.nextSegmentIndex = findNextSegmentIndex(directory);
+		openSegment(segmentSize);
+	}
+
+	private static int findNextSegmentIndex(File directory) throws IOException {
+		String[] names = directory.list(new FilenameFilter() {
+
+			@Override
+			public boolean accept(File directory, String name) {
+				return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+			}
+
+		});
+		if (null == names) {
+			throw new IOException("Failed to list directory " + directory);
+		}
+		int nextSegmentIndex = 0;
+		for (String name : names) {
+			try {
+				int index = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length()
+						- SEGMENT_SUFFIX.length()));
+				nextSegmentIndex = Math.max(nextSegmentIndex, index + 1);
+			} catch (NumberFormatException e) {
+			}
+		}
+		return nextSegmentIndex;
+	}
+
+	private void openSegment(int size) throws IOException {
+		File file = new File(directory, SEGMENT_PREFIX + String.format("%010d", nextSegmentIndex) + SEGMENT_SUFFIX);
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		try {
+			segment = randomAccessFile.getChannel().map(MapMode.READ_WRITE, 0, size);
+		} finally {
+			randomAccessFile.close();
+		}
+		segmentFile = file;
+		writeOffset = 0;
+		nextSegmentIndex++;
+	}
+
+	/**
+	 * Returns the directory this {@link MappedFileSink} has been created with.
+	 * 
+	 * @return The directory.
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns the segment size this {@link MappedFileSink} has been created
+	 * with.
+	 * 
+	 * @return The segment size in bytes.
+	 */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * Returns the {@link ForcePolicy} this {@link MappedFileSink} has been
+	 * created with.
+	 * 
+	 * @return The {@link ForcePolicy}.
+	 */
+	public ForcePolicy getForcePolicy() {
+		return forcePolicy;
+	}
+
+	/**
+	 * Returns the segment file, records are currently appended to.
+	 * 
+	 * @return The current segment file.
+	 */
+	public File getSegmentFile() {
+		return segmentFile;
+	}
+
+	@Override
+	protected void doAdd(Payload payload) {
+		checkOpen();
+		write(payload);
+		if (forcePolicy.forceOnAdd()) {
+			segment.force();
+		}
+	}
+
+	@Override
+	protected boolean hasBatchAdd() {
+		return true;
+	}
+
+	@Override
+	protected void doAddAll(List<Payload> payloads) {
+		checkOpen();
+		for (int i = 0, n = payloads.size(); i < n; i++) {
+			write(payloads.get(i));
+		}
+		if (forcePolicy.forceOnAdd()) {
+			segment.force();
+		}
+	}
+
+	private void checkOpen() throws IllegalStateException {
+		if (closed) {
+			throw new IllegalStateException("This sink has been closed");
+		}
+	}
+
+	private void write(Payload payload) {
+		if (null == payload) {
+			reserve(HEADER_LENGTH);
+			segment.putInt(writeOffset, NULL_HEADER);
+			writeOffset += HEADER_LENGTH;
+		} else {
+			int length = encoder.getLength(payload);
+			if (length < 0 || length > Integer.MAX_VALUE - HEADER_LENGTH) {
+				throw new IllegalStateException("The encoder returned an invalid length: " + length);
+			}
+			reserve(HEADER_LENGTH + length);
+			encoder.encode(payload, segment, writeOffset + HEADER_LENGTH);
+			segment.putInt(writeOffset, length + 1);
+			writeOffset += HEADER_LENGTH + length;
+		}
+	}
+
+	private void reserve(int length) {
+		if (segment.capacity() - writeOffset < length) {
+			if (forcePolicy.forceOnRoll()) {
+				segment.force();
+			}
+			try {
+				openSegment(Math.max(segmentSize, length));
+			} catch (IOException e) {
+				throw new IllegalStateException("Failed to create a new segment", e);
+			}
+		}
+	}
+
+	/**
+	 * Forces all written records to the storage device.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link MappedFileSink} has been closed.
+	 */
+	@Override
+	public void flush() throws IllegalStateException {
+		checkOpen();
+		segment.force();
+	}
+
+	/**
+	 * Forces all written records to the storage device and closes this
+	 * {@link MappedFileSink}. Closing an already closed {@link MappedFileSink}
+	 * has no effect.
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			segment.force();
+			segment = null;
+			closed = true;
+		}
+	}
+
+}
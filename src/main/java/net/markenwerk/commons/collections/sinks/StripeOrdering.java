@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+/**
+ * A {@link StripeOrdering} indicates which ordering guarantees a
+ * {@link StripedSink} gives, when it merges its stripes into the downstream
+ * {@link Sink}.
+ * 
+ * <p>
+ * No {@link StripeOrdering} guarantees any order between payload values that
+ * have been added by different threads.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public enum StripeOrdering {
+
+	/**
+	 * Every thread should use its own stripe. Payload values that have been
+	 * added by the same thread are handed over to the downstream {@link Sink}
+	 * in the order they have been added.
+	 */
+	PER_THREAD_FIFO,
+
+	/**
+	 * A thread should use any stripe that isn't currently used by another
+	 * thread. This avoids contention entirely, but payload values that have
+	 * been added by the same thread may be handed over to the downstream
+	 * {@link Sink} in any order.
+	 */
+	NONE;
+
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.io.Closeable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.markenwerk.commons.collections.Nullity;
+
+/**
+ * A {@link StripedSink} is an {@link AbstractSink} that allows multiple
+ * threads to add payload values without contending for a shared lock and
+ * merges them into a downstream {@link Sink}, when it is
+ * {@link StripedSink#drain() drained} or {@link StripedSink#close() closed}.
+ * 
+ * <p>
+ * Added payload values are collected in stripes, where every stripe is a local
+ * buffer that is guarded by its own lock. Which stripe a thread uses is
+ * determined by the given {@link StripeOrdering}, which also determines the
+ * ordering guarantees of a {@link StripedSink}.
+ * 
+ * <p>
+ * With {@link StripeOrdering#PER_THREAD_FIFO}, every thread that adds payload
+ * values gets its own stripe. The stripe of a thread that has terminated is
+ * removed, when it is drained for the first time after the thread has
+ * terminated. Until then, it is retained.
+ * 
+ * <p>
+ * The downstream {@link Sink} is only used by one thread at a time and
+ * therefore doesn't need to be thread safe.
+ * 
+ * <p>
+ * A {@link StripedSink} is thread safe.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class StripedSink<Payload> extends AbstractSink<Payload> implements Closeable {
+
+	private static final class Stripe<Payload> {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final WeakReference<Thread> owner;
+
+		private List<Payload> buffer = new ArrayList<Payload>();
+
+		private Stripe(Thread owner) {
+			this.owner = null == owner ? null : new WeakReference<Thread>(owner);
+		}
+
+		private boolean isAbandoned() {
+			if (null == owner) {
+				return false;
+			}
+			Thread thread = owner.get();
+			return null == thread || !thread.isAlive();
+		}
+
+	}
+
+	private final Sink<? super Payload> downstream;
+
+	private final StripeOrdering ordering;
+
+	private final List<Stripe<Payload>> stripes;
+
+	private final ThreadLocal<Stripe<Payload>> threadStripe;
+
+	private final Object drainLock = new Object();
+
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new {@link StripedSink} with the {@link Nullity#ALLOW default}
+	 * {@link Nullity} and the {@link StripeOrdering#PER_THREAD_FIFO default}
+	 * {@link StripeOrdering}.
+	 * 
+	 * @param downstream
+	 *            The downstream {@link Sink} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Sink} is {@literal null}.
+	 */
+	public StripedSink(Sink<? super Payload> downstream) throws IllegalArgumentException {
+		this(Nullity.ALLOW, downstream, StripeOrdering.PER_THREAD_FIFO);
+	}
+
+	/**
+	 * Creates a new {@link StripedSink} with the {@link Nullity#ALLOW default}
+	 * {@link Nullity} and the {@link StripeOrdering#PER_THREAD_FIFO default}
+	 * {@link StripeOrdering}.
+	 * 
+	 * @param downstream
+	 *            The downstream {@link Collection} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Collection} is {@literal null}.
+	 */
+	public StripedSink(Collection<Payload> downstream) throws IllegalArgumentException {
+		this(Nullity.ALLOW, downstream, StripeOrdering.PER_THREAD_FIFO);
+	}
+
+	/**
+	 * Creates a new {@link StripedSink}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param downstream
+	 *            The downstream {@link Collection} to be used.
+	 * @param ordering
+	 *            The {@link StripeOrdering} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             {@link Collection} is {@literal null} or if the given
+	 *             {@link StripeOrdering} is {@literal null}.
+	 */
+	public StripedSink(Nullity nullity, Collection<Payload> downstream, StripeOrdering ordering)
+			throws IllegalArgumentException {
+		this(nullity, null == downstream ? null : new CollectionSink<Payload>(Nullity.ALLOW, downstream), ordering);
+	}
+
+	/**
+	 * Creates a new {@link StripedSink}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param downstream
+	 *            The downstream {@link Sink} to be used.
+	 * @param ordering
+	 *            The {@link StripeOrdering} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             {@link Sink} is {@literal null} or if the given
+	 *             {@link StripeOrdering} is {@literal null}.
+	 */
+	public StripedSink(Nullity nullity, Sink<? super Payload> downstream, StripeOrdering ordering)
+			throws IllegalArgumentException {
+		super(nullity);
+		if (null == downstream) {
+			throw new IllegalArgumentException("The given downstream is null");
+		}
+		if (null == ordering) {
+			throw new IllegalArgumentException("The given ordering is null");
+		}
+		this.downstream = downstream;
+		this.ordering = ordering;
+		if (StripeOrdering.PER_THREAD_FIFO == ordering) {
+			stripes = new CopyOnWriteArrayList<Stripe<Payload>>();
+			threadStripe = new ThreadLocal<Stripe<Payload>>() {
+
+				@Override
+				protected Stripe<Payload> initialValue() {
+					Stripe<Payload> stripe = new Stripe<Payload>(Thread.currentThread());
+					stripes.add(stripe);
+					return stripe;
+				}
+
+			};
+		} else {
+			int count = 2 * Runtime.getRuntime().availableProcessors();
+			stripes = new ArrayList<Stripe<Payload>>(count);
+			for (int i = 0; i < count; i++) {
+				stripes.add(new Stripe<Payload>(null));
+			}
+			threadStripe = null;
+		}
+	}
+
+	/**
+	 * Returns the {@link StripeOrdering} this {@link StripedSink} has been
+	 * created with.
+	 * 
+	 * @return The {@link StripeOrdering}.
+	 */
+	public StripeOrdering getOrdering() {
+		return ordering;
+	}
+
+	int getStripeCount() {
+		return stripes.size();
+	}
+
+	@Override
+	protected void doAdd(Payload payload) {
+		Stripe<Payload> stripe = lockStripe();
+		try {
+			checkOpen();
+			stripe.buffer.add(payload);
+		} finally {
+			stripe.lock.unlock();
+		}
+	}
+
+	@Override
+	protected boolean hasBatchAdd() {
+		return true;
+	}
+
+	@Override
+	protected void doAddAll(List<Payload> payloads) {
+		Stripe<Payload> stripe = lockStripe();
+		try {
+			checkOpen();
+			stripe.buffer.addAll(payloads);
+		} finally {
+			stripe.lock.unlock();
+		}
+	}
+
+	private void checkOpen() throws IllegalStateException {
+		if (closed) {
+			throw new IllegalStateException("This sink has been closed");
+		}
+	}
+
+	private Stripe<Payload> lockStripe() {
+		if (null != threadStripe) {
+			Stripe<Payload> stripe = threadStripe.get();
+			stripe.lock.lock();
+			return stripe;
+		} else {
+			int count = stripes.size();
+			int home = hash(Thread.currentThread().getId()) % count;
+			for (int i = 0; i < count; i++) {
+				Stripe<Payload> stripe = stripes.get((home + i) % count);
+				if (stripe.lock.tryLock()) {
+					return stripe;
+				}
+			}
+			Stripe<Payload> stripe = stripes.get(home);
+			stripe.lock.lock();
+			return stripe;
+		}
+	}
+
+	private static int hash(long value) {
+		int hash = (int) (value ^ (value >>> 32));
+		hash ^= (hash >>> 16);
+		hash *= 0x85ebca6b;
+		hash ^= (hash >>> 13);
+		return hash & Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Hands all payload values that have been added so far over to the
+	 * downstream {@link Sink}.
+	 * 
+	 * @throws IllegalStateException
+	 *             If this {@link StripedSink} has been closed.
+	 */
+	public void drain() throws IllegalStateException {
+		checkOpen();
+		doDrain();
+	}
+
+	private void doDrain() {
+		synchronized (drainLock) {
+			Set<Stripe<Payload>> abandonedStripes = null;
+			for (Stripe<Payload> stripe : stripes) {
+				List<Payload> payloads;
+				stripe.lock.lock();
+				try {
+					if (stripe.isAbandoned()) {
+						if (null == abandonedStripes) {
+							abandonedStripes = new HashSet<Stripe<Payload>>();
+						}
+						abandonedStripes.add(stripe);
+					}
+					payloads = stripe.buffer;
+					if (payloads.isEmpty()) {
+						continue;
+					}
+					stripe.buffer = new ArrayList<Payload>();
+				} finally {
+					stripe.lock.unlock();
+				}
+				downstream.addAll(payloads);
+			}
+			if (null != abandonedStripes) {
+				stripes.removeAll(abandonedStripes);
+			}
+		}
+	}
+
+	/**
+	 * Hands all payload values that have been added so far over to the
+	 * downstream {@link Sink} and closes this {@link StripedSink}. Closing an
+	 * already closed {@link StripedSink} has no effect.
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			doDrain();
+		}
+	}
+
+}
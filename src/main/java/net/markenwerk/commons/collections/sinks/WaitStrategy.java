@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link WaitStrategy} indicates how a thread waits for an
+ * {@link AsyncHandlerSink} to make progress, i.e. how a consumer thread waits
+ * for payload values to be added or how a producer thread waits for space to
+ * become available.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public enum WaitStrategy {
+
+	/**
+	 * A waiting thread should spin. This yields the lowest latency, but
+	 * permanently occupies a processor core for every waiting thread.
+	 */
+	BUSY_SPIN() {
+
+		@Override
+		void idle() {
+		}
+
+	},
+
+	/**
+	 * A waiting thread should {@link Thread#yield() yield}. This yields a low
+	 * latency and lets other threads use the processor core of a waiting
+	 * thread, but still keeps it busy.
+	 */
+	YIELD() {
+
+		@Override
+		void idle() {
+			Thread.yield();
+		}
+
+	},
+
+	/**
+	 * A waiting thread should {@link LockSupport#parkNanos(long) park} for a
+	 * short period of time. This frees the processor core of a waiting thread,
+	 * but increases the latency.
+	 */
+	PARK() {
+
+		@Override
+		void idle() {
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+
+	};
+
+	private static final long PARK_NANOS = 50000;
+
+	abstract void idle();
+
+}
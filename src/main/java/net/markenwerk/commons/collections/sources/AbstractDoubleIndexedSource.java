@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link AbstractDoubleIndexedSource} is an abstract base implementation of
+ * {@link DoubleIndexedSource}.
+ * 
+ * <p>
+ * Two values are considered equal, if their
+ * {@link Double#doubleToLongBits(double) bit patterns} are identical, i.e.
+ * {@link Double#NaN} is equal to itself and {@literal 0.0} is not equal to
+ * {@literal -0.0}, which is consistent with {@link Double#equals(Object)}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public abstract class AbstractDoubleIndexedSource implements DoubleIndexedSource {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * Creates a new {@link AbstractDoubleIndexedSource}.
+	 */
+	public AbstractDoubleIndexedSource() {
+	}
+
+	@Override
+	public final boolean isEmpty() {
+		return 0 == size();
+	}
+
+	@Override
+	public final double get(int index) throws IndexOutOfBoundsException {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("The given index is negative: " + index);
+		} else if (index >= size()) {
+			throw new IndexOutOfBoundsException("The given index is loo large for size " + size() + ": " + index);
+		}
+		return doGet(index);
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 * 
+	 * @param index
+	 *            The index to be used, which is guaranteed to be not negative
+	 *            and not larger then or equal to the
+	 *            {@link AbstractDoubleIndexedSource#size() size} of this
+	 *            {@link AbstractDoubleIndexedSource}.
+	 * @return The value.
+	 */
+	protected abstract double doGet(int index);
+
+	@Override
+	public final double getFirst() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This DoubleIndexedSource is empty");
+		}
+		return doGet(0);
+	}
+
+	@Override
+	public final boolean isFirst(double value) throws NoSuchElementException {
+		return equal(value, getFirst());
+	}
+
+	@Override
+	public final double getLast() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This DoubleIndexedSource is empty");
+		}
+		return doGet(size() - 1);
+	}
+
+	@Override
+	public final boolean isLast(double value) throws NoSuchElementException {
+		return equal(value, getLast());
+	}
+
+	@Override
+	public final DoubleSource getAll(double reference) {
+		return getAllMatches(createPredicate(reference));
+	}
+
+	@Override
+	public final DoubleSource getAllMatches(DoublePredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int size = size();
+		double[] values = null;
+		int matches = 0;
+		for (int i = 0; i < size; i++) {
+			double value = doGet(i);
+			if (predicate.test(value)) {
+				values = add(values, matches++, value);
+			}
+		}
+		if (0 == matches) {
+			return new DoubleArraySource();
+		}
+		return new DoubleArraySource(matches == values.length ? values : copy(values, matches));
+	}
+
+	@Override
+	public final boolean contains(double reference) {
+		return NO_INDEX != firstIndexOf(reference);
+	}
+
+	@Override
+	public final boolean containsMatch(DoublePredicate predicate) throws IllegalArgumentException {
+		return NO_INDEX != firstIndexOfMatch(predicate);
+	}
+
+	@Override
+	public final boolean containsAll(double... references) throws IllegalArgumentException {
+		if (null == references) {
+			throw new IllegalArgumentException("The given array of references is null");
+		}
+		for (double reference : references) {
+			if (!contains(reference)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public final int firstIndexOf(double reference) {
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (equal(reference, doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int firstIndexOfMatch(DoublePredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (predicate.test(doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int lastIndexOf(double reference) {
+		for (int i = size() - 1; i >= 0; i--) {
+			if (equal(reference, doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int lastIndexOfMatch(DoublePredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		for (int i = size() - 1; i >= 0; i--) {
+			if (predicate.test(doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public double[] toArray() {
+		int size = size();
+		double[] values = new double[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = doGet(i);
+		}
+		return values;
+	}
+
+	@Override
+	public final DoubleIterator iterator() {
+		return doIterator(false);
+	}
+
+	@Override
+	public final DoubleIterator iterator(boolean reverse) {
+		return doIterator(reverse);
+	}
+
+	/**
+	 * Returns a {@link DoubleIterator}.
+	 * 
+	 * <p>
+	 * The default implementation returns a {@link DoubleIterator} that
+	 * retrieves the values with {@link AbstractDoubleIndexedSource#doGet(int)}.
+	 * 
+	 * @param reverse
+	 *            Whether to return a {@link DoubleIterator} that iterates this
+	 *            {@link AbstractDoubleIndexedSource} in reverse.
+	 * @return A {@link DoubleIterator}.
+	 */
+	protected DoubleIterator doIterator(final boolean reverse) {
+		return new DoubleIterator() {
+
+			private final int size = size();
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public double next() throws NoSuchElementException {
+				if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return doGet(reverse ? size - ++index : index++);
+			}
+
+		};
+	}
+
+	@Override
+	public final String toString() {
+		int size = size();
+		if (0 == size) {
+			return "[]";
+		} else {
+			StringBuilder builder = new StringBuilder();
+			builder.append('[').append(doGet(0));
+			for (int i = 1; i < size; i++) {
+				builder.append(", ").append(doGet(i));
+			}
+			return builder.append(']').toString();
+		}
+	}
+
+	/**
+	 * Creates and returns a {@link DoublePredicate} that is satisfied, if the
+	 * test subject is equal to the given value.
+	 * 
+	 * @param reference
+	 *            The value to compare against.
+	 * @return The created {@link DoublePredicate}.
+	 */
+	protected static final DoublePredicate createPredicate(final double reference) {
+		return new DoublePredicate() {
+
+			@Override
+			public boolean test(double value) {
+				return equal(reference, value);
+			}
+
+		};
+	}
+
+	/**
+	 * Returns whether the two given values are equal.
+	 * 
+	 * @param value
+	 *            The first value.
+	 * @param other
+	 *            The second value.
+	 * @return Whether the two given values are equal.
+	 */
+	protected static final boolean equal(double value, double other) {
+		return Double.doubleToLongBits(value) == Double.doubleToLongBits(other);
+	}
+
+	/**
+	 * Returns a copy of the first values of the given array.
+	 * 
+	 * @param values
+	 *            The array to be copied.
+	 * @param length
+	 *            The number of values to be copied.
+	 * @return The copy.
+	 */
+	protected static final double[] copy(double[] values, int length) {
+		double[] copy = new double[length];
+		System.arraycopy(values, 0, copy, 0, length);
+		return copy;
+	}
+
+	private static double[] add(double[] values, int index, double value) {
+		if (null == values) {
+			values = new double[INITIAL_CAPACITY];
+		} else if (index == values.length) {
+			double[] grown = new double[index + (index >> 1)];
+			System.arraycopy(values, 0, grown, 0, index);
+			values = grown;
+		}
+		values[index] = value;
+		return values;
+	}
+
+}
@@ -21,8 +21,12 @@
  */
 package net.markenwerk.commons.collections.sources;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.markenwerk.commons.datastructures.Optional;
 import net.markenwerk.commons.exceptions.ConversionException;
@@ -34,6 +38,16 @@ import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
  * An {@link AbstractIndexedSource} is an abstract base implementation of a
  * {@link IndexedSource}.
  * 
+ * <p>
+ * In addition to the lookup hooks of {@link AbstractSource},
+ * {@link AbstractIndexedSource#firstIndexOf(Object)} and
+ * {@link AbstractIndexedSource#lastIndexOf(Object)} delegate to the protected
+ * hooks {@link AbstractIndexedSource#doFirstIndexOf(Object)} and
+ * {@link AbstractIndexedSource#doLastIndexOf(Object)}. By default, all lookup
+ * hooks test every payload value by its index, if this
+ * {@link AbstractIndexedSource} {@link AbstractIndexedSource#hasRandomAccess()
+ * has random access}, and iterate over all payload values otherwise.
+ * 
  * @param <Payload>
  *            The payload type.
  * @author Torsten Krause (tk at markenwerk dot net)
@@ -41,6 +55,74 @@ import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
  */
 public abstract class AbstractIndexedSource<Payload> extends AbstractSource<Payload> implements IndexedSource<Payload> {
 
+	/**
+	 * The minimal {@link AbstractIndexedSource#size() size} of an
+	 * {@link AbstractIndexedSource} that is scanned in parallel by
+	 * {@link AbstractIndexedSource#parallelGetFirstMatch(Predicate)},
+	 * {@link AbstractIndexedSource#parallelGetAllMatches(Predicate)},
+	 * {@link AbstractIndexedSource#parallelContainsMatch(Predicate)} and
+	 * {@link AbstractIndexedSource#parallelFirstIndexOfMatch(Predicate)}.
+	 * Smaller {@link AbstractIndexedSource AbstractIndexedSources} are scanned
+	 * sequentially.
+	 * 
+	 * @since 1.1.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	private static final int NO_MATCH_INDEX = Integer.MAX_VALUE;
+
+	private final class MatchesScan extends ParallelScan {
+
+		private final Predicate<? super Payload> predicate;
+
+		private final Object[][] matches = new Object[getChunkCount()][];
+
+		private final int[] counts = new int[getChunkCount()];
+
+		private MatchesScan(Predicate<? super Payload> predicate) {
+			super(size());
+			this.predicate = predicate;
+		}
+
+		@Override
+		protected void scan(int chunk, int from, int to) {
+			Object[] chunkMatches = null;
+			int count = 0;
+			for (int i = from; i < to; i++) {
+				Payload payload = doGet(i);
+				if (predicate.test(payload)) {
+					if (null == chunkMatches) {
+						chunkMatches = new Object[to - i];
+					}
+					chunkMatches[count++] = payload;
+				}
+			}
+			matches[chunk] = chunkMatches;
+			counts[chunk] = count;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Source<Payload> getMatches() {
+			int total = 0;
+			for (int count : counts) {
+				total += count;
+			}
+			if (0 == total) {
+				return new EmptySource<Payload>();
+			}
+			Object[] array = new Object[total];
+			int offset = 0;
+			for (int i = 0; i < matches.length; i++) {
+				if (0 != counts[i]) {
+					System.arraycopy(matches[i], 0, array, offset, counts[i]);
+					offset += counts[i];
+				}
+			}
+			return new ArraySource<Payload>((Payload[]) array);
+		}
+
+	}
+
 	/**
 	 * Creates a new {@link AbstractIndexedSource}.
 	 */
@@ -57,6 +139,42 @@ public abstract class AbstractIndexedSource<Payload> extends AbstractSource<Payl
 		return doGet(index);
 	}
 
+	@Override
+	public final IndexedSource<Payload> subSource(int from, int to) throws IndexOutOfBoundsException {
+		if (from < 0) {
+			throw new IndexOutOfBoundsException("The given first index is negative: " + from);
+		} else if (to > size()) {
+			throw new IndexOutOfBoundsException("The given last index is loo large for size " + size() + ": " + to);
+		} else if (from > to) {
+			throw new IndexOutOfBoundsException("The given first index is larger than the given last index: " + from
+					+ " > " + to);
+		}
+		return doSubSource(from, to);
+	}
+
+	/**
+	 * Returns a view of the payload values in the given range of indices.
+	 * 
+	 * <p>
+	 * The default implementation returns a {@link SubSource}. Concrete
+	 * implementations should override this method, if their backing storage
+	 * is able to provide such a view more efficiently.
+	 * 
+	 * @param from
+	 *            The first index of the range, inclusive, which is guaranteed
+	 *            to be not negative.
+	 * @param to
+	 *            The last index of the range, exclusive, which is guaranteed
+	 *            to be not smaller than the first index and not larger than
+	 *            the {@link AbstractIndexedSource#size() size} of this
+	 *            {@link AbstractIndexedSource}.
+	 * @return An {@link IndexedSource} yielding the payload values.
+	 * @since 1.1.0
+	 */
+	protected IndexedSource<Payload> doSubSource(int from, int to) {
+		return new SubSource<Payload>(this, from, to);
+	}
+
 	/**
 	 * Returns a payload value at the given index.
 	 * 
@@ -114,9 +232,62 @@ public abstract class AbstractIndexedSource<Payload> extends AbstractSource<Payl
 		return new Optional<Payload>();
 	}
 
+	/**
+	 * Returns whether this {@link AbstractIndexedSource} contains the given
+	 * reference value.
+	 * 
+	 * @param reference
+	 *            The reference value to be used.
+	 * @return Whether this {@link AbstractIndexedSource} contains the given
+	 *         reference value.
+	 */
+	@Override
+	protected boolean doContains(Object reference) {
+		if (hasRandomAccess()) {
+			for (int i = 0, n = size(); i < n; i++) {
+				Payload payload = doGet(i);
+				if (null == reference ? null == payload : reference.equals(payload)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return super.doContains(reference);
+	}
+
 	@Override
 	public final Optional<Integer> firstIndexOf(Payload reference) throws NoSuchElementException {
-		return firstIndexOfMatch(createPredicate(reference));
+		int index = doFirstIndexOf(reference);
+		return -1 == index ? new Optional<Integer>() : new Optional<Integer>(index);
+	}
+
+	/**
+	 * Returns the index of the first payload value that is equal to the given
+	 * reference payload value.
+	 * 
+	 * @param reference
+	 *            The reference payload value to be used.
+	 * @return The index, or {@literal -1}, if no such payload value exists.
+	 * @since 1.1.0
+	 */
+	protected int doFirstIndexOf(Payload reference) {
+		if (hasRandomAccess()) {
+			for (int i = 0, n = size(); i < n; i++) {
+				Payload payload = doGet(i);
+				if (null == reference ? null == payload : reference.equals(payload)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		int index = 0;
+		for (Payload payload : this) {
+			if (null == reference ? null == payload : reference.equals(payload)) {
+				return index;
+			}
+			index++;
+		}
+		return -1;
 	}
 
 	@Override
@@ -130,7 +301,39 @@ public abstract class AbstractIndexedSource<Payload> extends AbstractSource<Payl
 
 	@Override
 	public final Optional<Integer> lastIndexOf(Payload reference) throws NoSuchElementException {
-		return lastIndexOfMatch(createPredicate(reference));
+		int index = doLastIndexOf(reference);
+		return -1 == index ? new Optional<Integer>() : new Optional<Integer>(index);
+	}
+
+	/**
+	 * Returns the index of the last payload value that is equal to the given
+	 * reference payload value.
+	 * 
+	 * @param reference
+	 *            The reference payload value to be used.
+	 * @return The index, or {@literal -1}, if no such payload value exists.
+	 * @since 1.1.0
+	 */
+	protected int doLastIndexOf(Payload reference) {
+		if (hasRandomAccess()) {
+			for (int i = size() - 1; i >= 0; i--) {
+				Payload payload = doGet(i);
+				if (null == reference ? null == payload : reference.equals(payload)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		int index = size() - 1;
+		Iterator<Payload> iterator = iterator(true);
+		while (iterator.hasNext()) {
+			Payload payload = iterator.next();
+			if (null == reference ? null == payload : reference.equals(payload)) {
+				return index;
+			}
+			index--;
+		}
+		return -1;
 	}
 
 	@Override
@@ -149,6 +352,256 @@ public abstract class AbstractIndexedSource<Payload> extends AbstractSource<Payl
 		});
 	}
 
+	@Override
+	public final Optional<Payload> parallelGetFirstMatch(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (!isParallelScanSuitable()) {
+			return getFirstMatch(predicate);
+		}
+		int index = parallelFirstIndexOf(predicate);
+		return NO_MATCH_INDEX == index ? new Optional<Payload>() : new Optional<Payload>(doGet(index));
+	}
+
+	@Override
+	public final Source<Payload> parallelGetAllMatches(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (!isParallelScanSuitable()) {
+			return getAllMatches(predicate);
+		}
+		MatchesScan scan = new MatchesScan(predicate);
+		scan.run();
+		return scan.getMatches();
+	}
+
+	@Override
+	public final boolean parallelContainsMatch(final Predicate<? super Payload> predicate)
+			throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (!isParallelScanSuitable()) {
+			return containsMatch(predicate);
+		}
+		final AtomicBoolean found = new AtomicBoolean();
+		new ParallelScan(size()) {
+
+			@Override
+			protected boolean isDone(int from) {
+				return found.get();
+			}
+
+			@Override
+			protected void scan(int chunk, int from, int to) {
+				for (int i = from; i < to && !found.get(); i++) {
+					if (predicate.test(doGet(i))) {
+						found.set(true);
+					}
+				}
+			}
+
+		}.run();
+		return found.get();
+	}
+
+	@Override
+	public final Optional<Integer> parallelFirstIndexOfMatch(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (!isParallelScanSuitable()) {
+			return firstIndexOfMatch(predicate);
+		}
+		int index = parallelFirstIndexOf(predicate);
+		return NO_MATCH_INDEX == index ? new Optional<Integer>() : new Optional<Integer>(index);
+	}
+
+	private boolean isParallelScanSuitable() {
+		return size() >= PARALLEL_THRESHOLD && hasRandomAccess();
+	}
+
+	private int parallelFirstIndexOf(final Predicate<? super Payload> predicate) {
+		final AtomicInteger firstIndex = new AtomicInteger(NO_MATCH_INDEX);
+		new ParallelScan(size()) {
+
+			@Override
+			protected boolean isDone(int from) {
+				return firstIndex.get() < from;
+			}
+
+			@Override
+			protected void scan(int chunk, int from, int to) {
+				for (int i = from; i < to && i < firstIndex.get(); i++) {
+					if (predicate.test(doGet(i))) {
+						int current = firstIndex.get();
+						while (i < current && !firstIndex.compareAndSet(current, i)) {
+							current = firstIndex.get();
+						}
+						return;
+					}
+				}
+			}
+
+		}.run();
+		return firstIndex.get();
+	}
+
+	/**
+	 * Returns the index of the first payload value that is not less than the
+	 * given reference payload value, according to the given
+	 * {@link Comparator}, using a binary search. This
+	 * {@link AbstractIndexedSource} must be sorted according to the given
+	 * {@link Comparator}.
+	 * 
+	 * @param reference
+	 *            The reference payload value to be used.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @return The index, or the {@link AbstractIndexedSource#size() size} of
+	 *         this {@link AbstractIndexedSource}, if all payload values are
+	 *         less than the given reference payload value.
+	 * @since 1.1.0
+	 */
+	protected final int lowerBound(Payload reference, Comparator<? super Payload> comparator) {
+		int low = 0;
+		int high = size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (comparator.compare(doGet(middle), reference) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first payload value that is greater than the
+	 * given reference payload value, according to the given
+	 * {@link Comparator}, using a binary search. This
+	 * {@link AbstractIndexedSource} must be sorted according to the given
+	 * {@link Comparator}.
+	 * 
+	 * @param reference
+	 *            The reference payload value to be used.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @return The index, or the {@link AbstractIndexedSource#size() size} of
+	 *         this {@link AbstractIndexedSource}, if no payload value is
+	 *         greater than the given reference payload value.
+	 * @since 1.1.0
+	 */
+	protected final int upperBound(Payload reference, Comparator<? super Payload> comparator) {
+		int low = 0;
+		int high = size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (comparator.compare(doGet(middle), reference) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns index, of the first occurrence, by
+	 * {@literal Object#equals(Object) equality}, of the given reference payload
+	 * value, using a binary search. This {@link AbstractIndexedSource} must be
+	 * sorted according to the given {@link Comparator}. Only payload values
+	 * that the given {@link Comparator} considers equal to the given reference
+	 * payload value are tested for equality.
+	 * 
+	 * @param reference
+	 *            The reference payload value to be used, which must not be
+	 *            {@literal null}.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @return The index, or {@literal -1}, if no such payload value exists.
+	 * @since 1.1.0
+	 */
+	protected final int searchFirstIndexOf(Payload reference, Comparator<? super Payload> comparator) {
+		for (int i = lowerBound(reference, comparator), n = size(); i < n; i++) {
+			Payload payload = doGet(i);
+			if (0 != comparator.compare(payload, reference)) {
+				break;
+			} else if (reference.equals(payload)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns index, of the last occurrence, by
+	 * {@literal Object#equals(Object) equality}, of the given reference payload
+	 * value, using a binary search. This {@link AbstractIndexedSource} must be
+	 * sorted according to the given {@link Comparator}. Only payload values
+	 * that the given {@link Comparator} considers equal to the given reference
+	 * payload value are tested for equality.
+	 * 
+	 * @param reference
+	 *            The reference payload value to be used, which must not be
+	 *            {@literal null}.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @return The index, or {@literal -1}, if no such payload value exists.
+	 * @since 1.1.0
+	 */
+	protected final int searchLastIndexOf(Payload reference, Comparator<? super Payload> comparator) {
+		for (int i = upperBound(reference, comparator) - 1; i >= 0; i--) {
+			Payload payload = doGet(i);
+			if (0 != comparator.compare(payload, reference)) {
+				break;
+			} else if (reference.equals(payload)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns whether {@link AbstractIndexedSource#doGet(int)} provides
+	 * constant time {@link RandomAccess random access}. Only
+	 * {@link AbstractIndexedSource AbstractIndexedSources} with random access
+	 * are scanned in parallel or split by index into several parts.
+	 * 
+	 * <p>
+	 * The default implementation returns {@literal true}. Concrete
+	 * implementations should override this method, if they don't provide
+	 * constant time random access.
+	 * 
+	 * @return Whether this {@link AbstractIndexedSource} provides random
+	 *         access.
+	 * @since 1.1.0
+	 */
+	public boolean hasRandomAccess() {
+		return true;
+	}
+
+	/**
+	 * Returns whether the given {@link IndexedSource} provides constant time
+	 * {@link RandomAccess random access}. This is the case, if it is an
+	 * {@link AbstractIndexedSource} that
+	 * {@link AbstractIndexedSource#hasRandomAccess() has random access} or if
+	 * it implements {@link RandomAccess}.
+	 * 
+	 * @param source
+	 *            The {@link IndexedSource} to be used.
+	 * @return Whether the given {@link IndexedSource} provides random access.
+	 * @since 1.1.0
+	 */
+	public static boolean hasRandomAccess(IndexedSource<?> source) {
+		if (source instanceof AbstractIndexedSource) {
+			return ((AbstractIndexedSource<?>) source).hasRandomAccess();
+		}
+		return source instanceof RandomAccess;
+	}
+
 	@Override
 	public final ProtectedBidirectionalIterator<Payload> iterator() {
 		return doIterator(false);
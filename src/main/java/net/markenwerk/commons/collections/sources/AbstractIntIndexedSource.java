@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link AbstractIntIndexedSource} is an abstract base implementation of
+ * {@link IntIndexedSource}.
+ * 
+ * <p>
+ * Two values are considered equal, if they are identical.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public abstract class AbstractIntIndexedSource implements IntIndexedSource {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * Creates a new {@link AbstractIntIndexedSource}.
+	 */
+	public AbstractIntIndexedSource() {
+	}
+
+	@Override
+	public final boolean isEmpty() {
+		return 0 == size();
+	}
+
+	@Override
+	public final int get(int index) throws IndexOutOfBoundsException {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("The given index is negative: " + index);
+		} else if (index >= size()) {
+			throw new IndexOutOfBoundsException("The given index is loo large for size " + size() + ": " + index);
+		}
+		return doGet(index);
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 * 
+	 * @param index
+	 *            The index to be used, which is guaranteed to be not negative
+	 *            and not larger then or equal to the
+	 *            {@link AbstractIntIndexedSource#size() size} of this
+	 *            {@link AbstractIntIndexedSource}.
+	 * @return The value.
+	 */
+	protected abstract int doGet(int index);
+
+	@Override
+	public final int getFirst() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This IntIndexedSource is empty");
+		}
+		return doGet(0);
+	}
+
+	@Override
+	public final boolean isFirst(int value) throws NoSuchElementException {
+		return equal(value, getFirst());
+	}
+
+	@Override
+	public final int getLast() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This IntIndexedSource is empty");
+		}
+		return doGet(size() - 1);
+	}
+
+	@Override
+	public final boolean isLast(int value) throws NoSuchElementException {
+		return equal(value, getLast());
+	}
+
+	@Override
+	public final IntSource getAll(int reference) {
+		return getAllMatches(createPredicate(reference));
+	}
+
+	@Override
+	public final IntSource getAllMatches(IntPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int size = size();
+		int[] values = null;
+		int matches = 0;
+		for (int i = 0; i < size; i++) {
+			int value = doGet(i);
+			if (predicate.test(value)) {
+				values = add(values, matches++, value);
+			}
+		}
+		if (0 == matches) {
+			return new IntArraySource();
+		}
+		return new IntArraySource(matches == values.length ? values : copy(values, matches));
+	}
+
+	@Override
+	public final boolean contains(int reference) {
+		return NO_INDEX != firstIndexOf(reference);
+	}
+
+	@Override
+	public final boolean containsMatch(IntPredicate predicate) throws IllegalArgumentException {
+		return NO_INDEX != firstIndexOfMatch(predicate);
+	}
+
+	@Override
+	public final boolean containsAll(int... references) throws IllegalArgumentException {
+		if (null == references) {
+			throw new IllegalArgumentException("The given array of references is null");
+		}
+		for (int reference : references) {
+			if (!contains(reference)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public final int firstIndexOf(int reference) {
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (equal(reference, doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int firstIndexOfMatch(IntPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (predicate.test(doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int lastIndexOf(int reference) {
+		for (int i = size() - 1; i >= 0; i--) {
+			if (equal(reference, doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int lastIndexOfMatch(IntPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		for (int i = size() - 1; i >= 0; i--) {
+			if (predicate.test(doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public int[] toArray() {
+		int size = size();
+		int[] values = new int[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = doGet(i);
+		}
+		return values;
+	}
+
+	@Override
+	public final IntIterator iterator() {
+		return doIterator(false);
+	}
+
+	@Override
+	public final IntIterator iterator(boolean reverse) {
+		return doIterator(reverse);
+	}
+
+	/**
+	 * Returns an {@link IntIterator}.
+	 * 
+	 * <p>
+	 * The default implementation returns an {@link IntIterator} that
+	 * retrieves the values with {@link AbstractIntIndexedSource#doGet(int)}.
+	 * 
+	 * @param reverse
+	 *            Whether to return an {@link IntIterator} that iterates this
+	 *            {@link AbstractIntIndexedSource} in reverse.
+	 * @return An {@link IntIterator}.
+	 */
+	protected IntIterator doIterator(final boolean reverse) {
+		return new IntIterator() {
+
+			private final int size = size();
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public int next() throws NoSuchElementException {
+				if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return doGet(reverse ? size - ++index : index++);
+			}
+
+		};
+	}
+
+	@Override
+	public final String toString() {
+		int size = size();
+		if (0 == size) {
+			return "[]";
+		} else {
+			StringBuilder builder = new StringBuilder();
+			builder.append('[').append(doGet(0));
+			for (int i = 1; i < size; i++) {
+				builder.append(", ").append(doGet(i));
+			}
+			return builder.append(']').toString();
+		}
+	}
+
+	/**
+	 * Creates and returns an {@link IntPredicate} that is satisfied, if the
+	 * test subject is equal to the given value.
+	 * 
+	 * @param reference
+	 *            The value to compare against.
+	 * @return The created {@link IntPredicate}.
+	 */
+	protected static final IntPredicate createPredicate(final int reference) {
+		return new IntPredicate() {
+
+			@Override
+			public boolean test(int value) {
+				return equal(reference, value);
+			}
+
+		};
+	}
+
+	/**
+	 * Returns whether the two given values are equal.
+	 * 
+	 * @param value
+	 *            The first value.
+	 * @param other
+	 *            The second value.
+	 * @return Whether the two given values are equal.
+	 */
+	protected static final boolean equal(int value, int other) {
+		return value == other;
+	}
+
+	/**
+	 * Returns a copy of the first values of the given array.
+	 * 
+	 * @param values
+	 *            The array to be copied.
+	 * @param length
+	 *            The number of values to be copied.
+	 * @return The copy.
+	 */
+	protected static final int[] copy(int[] values, int length) {
+		int[] copy = new int[length];
+		System.arraycopy(values, 0, copy, 0, length);
+		return copy;
+	}
+
+	private static int[] add(int[] values, int index, int value) {
+		if (null == values) {
+			values = new int[INITIAL_CAPACITY];
+		} else if (index == values.length) {
+			int[] grown = new int[index + (index >> 1)];
+			System.arraycopy(values, 0, grown, 0, index);
+			values = grown;
+		}
+		values[index] = value;
+		return values;
+	}
+
+}
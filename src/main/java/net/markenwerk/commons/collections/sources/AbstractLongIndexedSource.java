@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link AbstractLongIndexedSource} is an abstract base implementation of
+ * {@link LongIndexedSource}.
+ * 
+ * <p>
+ * Two values are considered equal, if they are identical.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public abstract class AbstractLongIndexedSource implements LongIndexedSource {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * Creates a new {@link AbstractLongIndexedSource}.
+	 */
+	public AbstractLongIndexedSource() {
+	}
+
+	@Override
+	public final boolean isEmpty() {
+		return 0 == size();
+	}
+
+	@Override
+	public final long get(int index) throws IndexOutOfBoundsException {
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("The given index is negative: " + index);
+		} else if (index >= size()) {
+			throw new IndexOutOfBoundsException("The given index is loo large for size " + size() + ": " + index);
+		}
+		return doGet(index);
+	}
+
+	/**
+	 * Returns the value at the given index.
+	 * 
+	 * @param index
+	 *            The index to be used, which is guaranteed to be not negative
+	 *            and not larger then or equal to the
+	 *            {@link AbstractLongIndexedSource#size() size} of this
+	 *            {@link AbstractLongIndexedSource}.
+	 * @return The value.
+	 */
+	protected abstract long doGet(int index);
+
+	@Override
+	public final long getFirst() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This LongIndexedSource is empty");
+		}
+		return doGet(0);
+	}
+
+	@Override
+	public final boolean isFirst(long value) throws NoSuchElementException {
+		return equal(value, getFirst());
+	}
+
+	@Override
+	public final long getLast() throws NoSuchElementException {
+		if (isEmpty()) {
+			throw new NoSuchElementException("This LongIndexedSource is empty");
+		}
+		return doGet(size() - 1);
+	}
+
+	@Override
+	public final boolean isLast(long value) throws NoSuchElementException {
+		return equal(value, getLast());
+	}
+
+	@Override
+	public final LongSource getAll(long reference) {
+		return getAllMatches(createPredicate(reference));
+	}
+
+	@Override
+	public final LongSource getAllMatches(LongPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int size = size();
+		long[] values = null;
+		int matches = 0;
+		for (int i = 0; i < size; i++) {
+			long value = doGet(i);
+			if (predicate.test(value)) {
+				values = add(values, matches++, value);
+			}
+		}
+		if (0 == matches) {
+			return new LongArraySource();
+		}
+		return new LongArraySource(matches == values.length ? values : copy(values, matches));
+	}
+
+	@Override
+	public final boolean contains(long reference) {
+		return NO_INDEX != firstIndexOf(reference);
+	}
+
+	@Override
+	public final boolean containsMatch(LongPredicate predicate) throws IllegalArgumentException {
+		return NO_INDEX != firstIndexOfMatch(predicate);
+	}
+
+	@Override
+	public final boolean containsAll(long... references) throws IllegalArgumentException {
+		if (null == references) {
+			throw new IllegalArgumentException("The given array of references is null");
+		}
+		for (long reference : references) {
+			if (!contains(reference)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public final int firstIndexOf(long reference) {
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (equal(reference, doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int firstIndexOfMatch(LongPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int size = size();
+		for (int i = 0; i < size; i++) {
+			if (predicate.test(doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int lastIndexOf(long reference) {
+		for (int i = size() - 1; i >= 0; i--) {
+			if (equal(reference, doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public final int lastIndexOfMatch(LongPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		for (int i = size() - 1; i >= 0; i--) {
+			if (predicate.test(doGet(i))) {
+				return i;
+			}
+		}
+		return NO_INDEX;
+	}
+
+	@Override
+	public long[] toArray() {
+		int size = size();
+		long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = doGet(i);
+		}
+		return values;
+	}
+
+	@Override
+	public final LongIterator iterator() {
+		return doIterator(false);
+	}
+
+	@Override
+	public final LongIterator iterator(boolean reverse) {
+		return doIterator(reverse);
+	}
+
+	/**
+	 * Returns a {@link LongIterator}.
+	 * 
+	 * <p>
+	 * The default implementation returns a {@link LongIterator} that
+	 * retrieves the values with {@link AbstractLongIndexedSource#doGet(int)}.
+	 * 
+	 * @param reverse
+	 *            Whether to return a {@link LongIterator} that iterates this
+	 *            {@link AbstractLongIndexedSource} in reverse.
+	 * @return A {@link LongIterator}.
+	 */
+	protected LongIterator doIterator(final boolean reverse) {
+		return new LongIterator() {
+
+			private final int size = size();
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public long next() throws NoSuchElementException {
+				if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return doGet(reverse ? size - ++index : index++);
+			}
+
+		};
+	}
+
+	@Override
+	public final String toString() {
+		int size = size();
+		if (0 == size) {
+			return "[]";
+		} else {
+			StringBuilder builder = new StringBuilder();
+			builder.append('[').append(doGet(0));
+			for (int i = 1; i < size; i++) {
+				builder.append(", ").append(doGet(i));
+			}
+			return builder.append(']').toString();
+		}
+	}
+
+	/**
+	 * Creates and returns a {@link LongPredicate} that is satisfied, if the
+	 * test subject is equal to the given value.
+	 * 
+	 * @param reference
+	 *            The value to compare against.
+	 * @return The created {@link LongPredicate}.
+	 */
+	protected static final LongPredicate createPredicate(final long reference) {
+		return new LongPredicate() {
+
+			@Override
+			public boolean test(long value) {
+				return equal(reference, value);
+			}
+
+		};
+	}
+
+	/**
+	 * Returns whether the two given values are equal.
+	 * 
+	 * @param value
+	 *            The first value.
+	 * @param other
+	 *            The second value.
+	 * @return Whether the two given values are equal.
+	 */
+	protected static final boolean equal(long value, long other) {
+		return value == other;
+	}
+
+	/**
+	 * Returns a copy of the first values of the given array.
+	 * 
+	 * @param values
+	 *            The array to be copied.
+	 * @param length
+	 *            The number of values to be copied.
+	 * @return The copy.
+	 */
+	protected static final long[] copy(long[] values, int length) {
+		long[] copy = new long[length];
+		System.arraycopy(values, 0, copy, 0, length);
+		return copy;
+	}
+
+	private static long[] add(long[] values, int index, long value) {
+		if (null == values) {
+			values = new long[INITIAL_CAPACITY];
+		} else if (index == values.length) {
+			long[] grown = new long[index + (index >> 1)];
+			System.arraycopy(values, 0, grown, 0, index);
+			values = grown;
+		}
+		values[index] = value;
+		return values;
+	}
+
+}
@@ -30,13 +30,21 @@ import java.util.Set;
 
 import net.markenwerk.commons.datastructures.Optional;
 import net.markenwerk.commons.interfaces.Predicate;
-import net.markenwerk.commons.iterables.ArrayIterable;
-import net.markenwerk.commons.iterables.ObjectIterable;
 
 /**
  * An {@link AbstractSource} is an abstract base implementation of a
  * {@link Source}.
  * 
+ * <p>
+ * {@link AbstractSource#contains(Object)} and
+ * {@link AbstractSource#getFirst(Object)} compare payload values by
+ * {@link Object#equals(Object) equality}. They delegate to the protected hooks
+ * {@link AbstractSource#doContains(Object)} and
+ * {@link AbstractSource#doGetFirstOf(Object)}, which scan all payload values by
+ * default. Concrete implementations that are able to look up payload values
+ * more efficiently, e.g. through a hash index or a binary search, should
+ * override these hooks.
+ * 
  * @param <Payload>
  *            The payload type.
  * @author Torsten Krause (tk at markenwerk dot net)
@@ -44,6 +52,8 @@ import net.markenwerk.commons.iterables.ObjectIterable;
  */
 public abstract class AbstractSource<Payload> implements Source<Payload> {
 
+	private static final int SMALL_REFERENCE_COUNT = 8;
+
 	@Override
 	public final boolean isEmpty() {
 		return 0 == size();
@@ -70,6 +80,19 @@ public abstract class AbstractSource<Payload> implements Source<Payload> {
 
 	@Override
 	public final Optional<Payload> getFirst(Payload reference) {
+		return doGetFirstOf(reference);
+	}
+
+	/**
+	 * Returns the first payload value that is equal to the given reference
+	 * payload value.
+	 * 
+	 * @param reference
+	 *            The reference payload value to be used.
+	 * @return An {@link Optional} yielding the payload value.
+	 * @since 1.1.0
+	 */
+	protected Optional<Payload> doGetFirstOf(Payload reference) {
 		return getFirstMatch(createPredicate(reference));
 	}
 
@@ -109,7 +132,26 @@ public abstract class AbstractSource<Payload> implements Source<Payload> {
 
 	@Override
 	public final boolean contains(Object reference) {
-		return containsAll(new ObjectIterable<Object>(reference));
+		return doContains(reference);
+	}
+
+	/**
+	 * Returns whether this {@link AbstractSource} contains the given reference
+	 * value.
+	 * 
+	 * @param reference
+	 *            The reference value to be used.
+	 * @return Whether this {@link AbstractSource} contains the given reference
+	 *         value.
+	 * @since 1.1.0
+	 */
+	protected boolean doContains(Object reference) {
+		for (Payload payload : this) {
+			if (null == reference ? null == payload : reference.equals(payload)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -122,7 +164,22 @@ public abstract class AbstractSource<Payload> implements Source<Payload> {
 		if (null == references) {
 			throw new IllegalArgumentException("The given array of reference values is null");
 		}
-		return containsAll(new ArrayIterable<Object>(references));
+		if (hasLookupIndex()) {
+			for (Object reference : references) {
+				if (!doContains(reference)) {
+					return false;
+				}
+			}
+			return true;
+		} else if (references.length <= SMALL_REFERENCE_COUNT) {
+			return containsAllScanned(references, references.length);
+		} else {
+			Set<Object> referenceSet = new HashSet<Object>(references.length * 2);
+			for (Object reference : references) {
+				referenceSet.add(reference);
+			}
+			return containsAllHashed(referenceSet);
+		}
 	}
 
 	@Override
@@ -130,14 +187,90 @@ public abstract class AbstractSource<Payload> implements Source<Payload> {
 		if (null == references) {
 			throw new IllegalArgumentException("The given iterable of reference values is null");
 		}
-		Set<Object> set = new HashSet<Object>();
-		for (Object reference : references) {
-			set.add(reference);
+		if (hasLookupIndex()) {
+			for (Object reference : references) {
+				if (!doContains(reference)) {
+					return false;
+				}
+			}
+			return true;
 		}
+		Iterator<?> iterator = references.iterator();
+		Object[] smallReferences = null;
+		int count = 0;
+		while (iterator.hasNext()) {
+			Object reference = iterator.next();
+			if (null == smallReferences) {
+				smallReferences = new Object[SMALL_REFERENCE_COUNT];
+			} else if (SMALL_REFERENCE_COUNT == count) {
+				Set<Object> referenceSet = new HashSet<Object>();
+				for (Object smallReference : smallReferences) {
+					referenceSet.add(smallReference);
+				}
+				referenceSet.add(reference);
+				while (iterator.hasNext()) {
+					referenceSet.add(iterator.next());
+				}
+				return containsAllHashed(referenceSet);
+			}
+			smallReferences[count++] = reference;
+		}
+		return containsAllScanned(smallReferences, count);
+	}
+
+	/**
+	 * Returns whether this {@link AbstractSource} is able to answer
+	 * {@link AbstractSource#doContains(Object)} faster than by testing every
+	 * payload value, e.g. by using a hash index.
+	 * 
+	 * <p>
+	 * If this method returns {@literal true}, {@link Source#containsAll(Iterable)}
+	 * and {@link Source#containsAll(Object...)} look up every reference value
+	 * with {@link AbstractSource#doContains(Object)}. Otherwise, they scan the
+	 * payload values once and stop as soon as every reference value has been
+	 * found.
+	 * 
+	 * <p>
+	 * The default implementation returns {@literal false}.
+	 * 
+	 * @return Whether this {@link AbstractSource} has a lookup index.
+	 * @since 1.1.0
+	 */
+	protected boolean hasLookupIndex() {
+		return false;
+	}
+
+	private boolean containsAllScanned(Object[] references, int count) {
+		if (0 == count) {
+			return true;
+		} else if (1 == count) {
+			return doContains(references[0]);
+		}
+		int missing = (1 << count) - 1;
 		for (Payload payload : this) {
-			set.remove(payload);
+			for (int i = 0; i < count; i++) {
+				int bit = 1 << i;
+				if (0 != (missing & bit)) {
+					Object reference = references[i];
+					if (null == reference ? null == payload : reference.equals(payload)) {
+						missing &= ~bit;
+						if (0 == missing) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean containsAllHashed(Set<Object> references) {
+		for (Payload payload : this) {
+			if (references.remove(payload) && references.isEmpty()) {
+				return true;
+			}
 		}
-		return set.isEmpty();
+		return references.isEmpty();
 	}
 
 	@Override
@@ -22,6 +22,7 @@
 package net.markenwerk.commons.collections.sources;
 
 import java.util.Collection;
+import java.util.HashSet;
 
 import net.markenwerk.commons.iterators.ProtectedIterator;
 import net.markenwerk.commons.iterators.ProtectingIterator;
@@ -64,6 +65,16 @@ public final class CollectionSource<Payload> extends AbstractSource<Payload> {
 		return collection;
 	}
 
+	@Override
+	protected boolean hasLookupIndex() {
+		return collection instanceof HashSet;
+	}
+
+	@Override
+	protected boolean doContains(Object reference) {
+		return hasLookupIndex() ? collection.contains(reference) : super.doContains(reference);
+	}
+
 	@Override
 	public int size() {
 		return collection.size();
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@link DoubleIterator} is a {@literal double} specialization of
+ * {@link java.util.Iterator} that doesn't box the yielded values and doesn't
+ * support removal.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface DoubleIterator {
+
+	/**
+	 * Returns whether this {@link DoubleIterator} has a next value.
+	 * 
+	 * @return Whether this {@link DoubleIterator} has a next value.
+	 */
+	public boolean hasNext();
+
+	/**
+	 * Returns the next value.
+	 * 
+	 * @return The next value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleIterator} has no next value.
+	 */
+	public double next() throws NoSuchElementException;
+
+}
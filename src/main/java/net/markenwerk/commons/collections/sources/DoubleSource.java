@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@link DoubleSource} is a {@literal double} specialization of {@link Source} that
+ * doesn't box its values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface DoubleSource {
+
+	/**
+	 * Returns whether this {@link DoubleSource} is empty.
+	 * 
+	 * @return Whether this {@link DoubleSource} is empty.
+	 */
+	public boolean isEmpty();
+
+	/**
+	 * Returns the number of values of this {@link DoubleSource}.
+	 * 
+	 * @return The number of values of this {@link DoubleSource}.
+	 */
+	public int size();
+
+	/**
+	 * Returns the first value.
+	 * 
+	 * @return The first value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleSource} is empty.
+	 */
+	public double getFirst() throws NoSuchElementException;
+
+	/**
+	 * Returns a {@link DoubleSource} that contains all values that are equal to
+	 * the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return A {@link DoubleSource} that contains all matching values.
+	 */
+	public DoubleSource getAll(double reference);
+
+	/**
+	 * Returns a {@link DoubleSource} that contains all values that satisfy the
+	 * given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return A {@link DoubleSource} that contains all matching values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public DoubleSource getAllMatches(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns whether this {@link DoubleSource} contains a value that is equal to
+	 * the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return Whether this {@link DoubleSource} contains the reference value.
+	 */
+	public boolean contains(double reference);
+
+	/**
+	 * Returns whether this {@link DoubleSource} contains a value that satisfies
+	 * the given {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return Whether this {@link DoubleSource} contains a matching value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public boolean containsMatch(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns whether this {@link DoubleSource} contains all of the given
+	 * reference values.
+	 * 
+	 * @param references
+	 *            The reference values.
+	 * @return Whether this {@link DoubleSource} contains all reference values.
+	 * @throws IllegalArgumentException
+	 *             If the given array of reference values is {@literal null}.
+	 */
+	public boolean containsAll(double... references) throws IllegalArgumentException;
+
+	/**
+	 * Returns a new array that contains all values of this {@link DoubleSource}.
+	 * 
+	 * @return The new array.
+	 */
+	public double[] toArray();
+
+	/**
+	 * Returns a {@link DoubleIterator} that yields all values of this
+	 * {@link DoubleSource}.
+	 * 
+	 * @return A {@link DoubleIterator}.
+	 */
+	public DoubleIterator iterator();
+
+}
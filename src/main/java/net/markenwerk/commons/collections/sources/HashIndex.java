@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link HashIndex} maps payload values to the index of their first and
+ * their last occurrence, by {@link Object#equals(Object) equality}, in a
+ * linear sequence of payload values.
+ * 
+ * <p>
+ * A {@link HashIndex} is built by {@link HashIndex#append(Object) appending}
+ * payload values and answers lookups in constant time.
+ * 
+ * <p>
+ * A {@link HashIndex} is by itself not thread safe and must be synchronized
+ * externally, if it is appended to in a multithreaded use case. Once it is
+ * fully built and safely published, it may be queried concurrently.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class HashIndex<Payload> {
+
+	/**
+	 * Index that is returned, if a payload value is not contained.
+	 */
+	public static final int NO_INDEX = -1;
+
+	private static final class Occurrences {
+
+		private final int first;
+
+		private int last;
+
+		private Occurrences(int index) {
+			this.first = index;
+			this.last = index;
+		}
+
+	}
+
+	private final Map<Object, Occurrences> occurrences = new HashMap<Object, Occurrences>();
+
+	private int size;
+
+	/**
+	 * Creates a new, empty {@link HashIndex}.
+	 */
+	public HashIndex() {
+	}
+
+	/**
+	 * Creates a new {@link HashIndex} and {@link HashIndex#append(Object)
+	 * appends} all given payload values.
+	 * 
+	 * @param payloads
+	 *            The payload values to be appended.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} of payload values is
+	 *             {@literal null}.
+	 */
+	public HashIndex(Iterable<? extends Payload> payloads) throws IllegalArgumentException {
+		if (null == payloads) {
+			throw new IllegalArgumentException("The given iterable of payload values is null");
+		}
+		for (Payload payload : payloads) {
+			append(payload);
+		}
+	}
+
+	/**
+	 * Appends the given payload value, which gets the
+	 * {@link HashIndex#size() size} of this {@link HashIndex} as its index.
+	 * 
+	 * @param payload
+	 *            The payload value to be appended.
+	 */
+	public void append(Payload payload) {
+		Occurrences payloadOccurrences = occurrences.get(payload);
+		if (null == payloadOccurrences) {
+			occurrences.put(payload, new Occurrences(size));
+		} else {
+			payloadOccurrences.last = size;
+		}
+		size++;
+	}
+
+	/**
+	 * Returns the number of payload values that have been appended to this
+	 * {@link HashIndex}.
+	 * 
+	 * @return The number of payload values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns whether the given reference value has been appended to this
+	 * {@link HashIndex}.
+	 * 
+	 * @param reference
+	 *            The reference value to be used.
+	 * @return Whether the given reference value has been appended.
+	 */
+	public boolean contains(Object reference) {
+		return occurrences.containsKey(reference);
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value to be used.
+	 * @return The index, or {@link HashIndex#NO_INDEX}, if the given reference
+	 *         value has not been appended.
+	 */
+	public int firstIndexOf(Object reference) {
+		Occurrences referenceOccurrences = occurrences.get(reference);
+		return null == referenceOccurrences ? NO_INDEX : referenceOccurrences.first;
+	}
+
+	/**
+	 * Returns the index of the last occurrence of the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value to be used.
+	 * @return The index, or {@link HashIndex#NO_INDEX}, if the given reference
+	 *         value has not been appended.
+	 */
+	public int lastIndexOf(Object reference) {
+		Occurrences referenceOccurrences = occurrences.get(reference);
+		return null == referenceOccurrences ? NO_INDEX : referenceOccurrences.last;
+	}
+
+}
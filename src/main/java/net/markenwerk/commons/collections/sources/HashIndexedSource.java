@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link HashIndexedSource} is an {@link AbstractIndexedSource} that wraps
+ * another {@link IndexedSource} and answers {@link Source#contains(Object)},
+ * {@link IndexedSource#firstIndexOf(Object)},
+ * {@link IndexedSource#lastIndexOf(Object)} and
+ * {@link Source#getFirst(Object)} in constant time, using a {@link HashIndex}.
+ * 
+ * <p>
+ * The {@link HashIndex} is built on the first lookup and cached afterwards.
+ * The wrapped {@link IndexedSource} must therefore not be modified, unless
+ * the cached {@link HashIndex} is {@link HashIndexedSource#invalidate()
+ * invalidated} afterwards.
+ * 
+ * <p>
+ * A {@link HashIndexedSource} may be queried concurrently, if the wrapped
+ * {@link IndexedSource} may be queried concurrently.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class HashIndexedSource<Payload> extends AbstractIndexedSource<Payload> {
+
+	private final IndexedSource<Payload> source;
+
+	private volatile HashIndex<Payload> index;
+
+	/**
+	 * Creates a new {@link HashIndexedSource}.
+	 * 
+	 * @param source
+	 *            The {@link IndexedSource} to be wrapped.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IndexedSource} is {@literal null}.
+	 */
+	public HashIndexedSource(IndexedSource<Payload> source) throws IllegalArgumentException {
+		if (null == source) {
+			throw new IllegalArgumentException("The given source is null");
+		}
+		this.source = source;
+	}
+
+	/**
+	 * Returns the {@link IndexedSource} this {@link HashIndexedSource} has been
+	 * created with.
+	 * 
+	 * @return The {@link IndexedSource}.
+	 */
+	public IndexedSource<Payload> getSource() {
+		return source;
+	}
+
+	/**
+	 * Discards the cached {@link HashIndex}, which is rebuilt on the next
+	 * lookup. This must be called after the wrapped {@link IndexedSource} has
+	 * been modified.
+	 */
+	public void invalidate() {
+		index = null;
+	}
+
+	private HashIndex<Payload> getIndex() {
+		HashIndex<Payload> index = this.index;
+		if (null == index) {
+			index = new HashIndex<Payload>(source);
+			this.index = index;
+		}
+		return index;
+	}
+
+	@Override
+	public int size() {
+		return source.size();
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		return source.get(index);
+	}
+
+	@Override
+	protected boolean hasLookupIndex() {
+		return true;
+	}
+
+	@Override
+	protected boolean doContains(Object reference) {
+		return getIndex().contains(reference);
+	}
+
+	@Override
+	protected Optional<Payload> doGetFirstOf(Payload reference) {
+		int index = getIndex().firstIndexOf(reference);
+		return HashIndex.NO_INDEX == index ? new Optional<Payload>() : new Optional<Payload>(source.get(index));
+	}
+
+	@Override
+	protected int doFirstIndexOf(Payload reference) {
+		return getIndex().firstIndexOf(reference);
+	}
+
+	@Override
+	protected int doLastIndexOf(Payload reference) {
+		return getIndex().lastIndexOf(reference);
+	}
+
+	@Override
+	public boolean hasRandomAccess() {
+		return AbstractIndexedSource.hasRandomAccess(source);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
+		return source.iterator(reverse);
+	}
+
+}
@@ -61,6 +61,30 @@ public interface IndexedSource<Payload> extends Source<Payload>, ProtectedBidire
 	 */
 	public Payload get(int index) throws IndexOutOfBoundsException;
 
+	/**
+	 * Returns a view of the payload values in the given range of indices. The
+	 * view shares the payload values with this {@link IndexedSource} and
+	 * doesn't copy them. Indices of the view are relative to the given first
+	 * index.
+	 * 
+	 * <p>
+	 * The view must not be used after the {@link IndexedSource#size() size}
+	 * of this {@link IndexedSource} has been changed.
+	 * 
+	 * @param from
+	 *            The first index of the range, inclusive.
+	 * @param to
+	 *            The last index of the range, exclusive.
+	 * @return An {@link IndexedSource} yielding the payload values.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given first index is negative, if the given last
+	 *             index is larger than the {@link IndexedSource#size() size}
+	 *             of this {@link IndexedSource} or if the given first index is
+	 *             larger than the given last index.
+	 * @since 1.1.0
+	 */
+	public IndexedSource<Payload> subSource(int from, int to) throws IndexOutOfBoundsException;
+
 	/**
 	 * Returns whether the given payload value is the
 	 * {@link IndexedSource#getFirst() first} payload value.
@@ -202,6 +226,84 @@ public interface IndexedSource<Payload> extends Source<Payload>, ProtectedBidire
 	 */
 	public Optional<Integer> lastIndexOfMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException;
 
+	/**
+	 * Returns the first payload value that satisfies the given
+	 * {@link Predicate}, scanning large {@link IndexedSource IndexedSources} in
+	 * parallel.
+	 * 
+	 * <p>
+	 * The given {@link Predicate} may be tested concurrently and must therefore
+	 * be thread safe. The payload values must not be modified while this method
+	 * is executed.
+	 * 
+	 * @param predicate
+	 *            The {@link Predicate} to be used.
+	 * @return An {@link Optional} yielding the payload value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Predicate} is {@literal null}.
+	 * @since 1.1.0
+	 */
+	public Optional<Payload> parallelGetFirstMatch(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException;
+
+	/**
+	 * Returns all payload values that satisfy the given {@link Predicate},
+	 * scanning large {@link IndexedSource IndexedSources} in parallel. The
+	 * payload values are yielded in the same order as by this
+	 * {@link IndexedSource}.
+	 * 
+	 * <p>
+	 * The given {@link Predicate} may be tested concurrently and must therefore
+	 * be thread safe. The payload values must not be modified while this method
+	 * is executed.
+	 * 
+	 * @param predicate
+	 *            The {@link Predicate} to be used.
+	 * @return A {@link Source} yielding the payload values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Predicate} is {@literal null}.
+	 * @since 1.1.0
+	 */
+	public Source<Payload> parallelGetAllMatches(Predicate<? super Payload> predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns whether any payload value satisfies the given {@link Predicate},
+	 * scanning large {@link IndexedSource IndexedSources} in parallel.
+	 * 
+	 * <p>
+	 * The given {@link Predicate} may be tested concurrently and must therefore
+	 * be thread safe. The payload values must not be modified while this method
+	 * is executed.
+	 * 
+	 * @param predicate
+	 *            The {@link Predicate} to be used.
+	 * @return Whether any payload value satisfies the given {@link Predicate}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Predicate} is {@literal null}.
+	 * @since 1.1.0
+	 */
+	public boolean parallelContainsMatch(Predicate<? super Payload> predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns index, of the first occurrence of a payload value that satisfies
+	 * the given {@link Predicate}, scanning large {@link IndexedSource
+	 * IndexedSources} in parallel.
+	 * 
+	 * <p>
+	 * The given {@link Predicate} may be tested concurrently and must therefore
+	 * be thread safe. The payload values must not be modified while this method
+	 * is executed.
+	 * 
+	 * @param predicate
+	 *            The {@link Predicate} value to be used.
+	 * @return An {@link Optional} yielding the index.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Predicate} is {@literal null}.
+	 * @since 1.1.0
+	 */
+	public Optional<Integer> parallelFirstIndexOfMatch(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException;
+
 	/**
 	 * Returns a {@link ProtectedBidirectionalIterator}.
 	 * 
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+/**
+ * An {@link IntArraySource} is an {@link AbstractIntIndexedSource} that is
+ * backed by a {@literal int} array. It is the {@literal int} specialization of
+ * {@link ArraySource}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class IntArraySource extends AbstractIntIndexedSource {
+
+	private final int[] array;
+
+	/**
+	 * Creates a new {@link IntArraySource}.
+	 * 
+	 * @param array
+	 *            The array of values to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 */
+	public IntArraySource(int... array) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		this.array = array;
+	}
+
+	/**
+	 * Returns the array of values this {@link IntArraySource} has been created
+	 * with.
+	 * 
+	 * @return The array of values.
+	 */
+	public int[] getArray() {
+		return array;
+	}
+
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	@Override
+	protected int doGet(int index) {
+		return array[index];
+	}
+
+	@Override
+	public int[] toArray() {
+		return array.clone();
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@link IntSource} is a {@literal int} specialization of {@link Source} that
+ * doesn't box its values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface IntSource {
+
+	/**
+	 * Returns whether this {@link IntSource} is empty.
+	 * 
+	 * @return Whether this {@link IntSource} is empty.
+	 */
+	public boolean isEmpty();
+
+	/**
+	 * Returns the number of values of this {@link IntSource}.
+	 * 
+	 * @return The number of values of this {@link IntSource}.
+	 */
+	public int size();
+
+	/**
+	 * Returns the first value.
+	 * 
+	 * @return The first value.
+	 * @throws NoSuchElementException
+	 *             If this {@link IntSource} is empty.
+	 */
+	public int getFirst() throws NoSuchElementException;
+
+	/**
+	 * Returns an {@link IntSource} that contains all values that are equal to
+	 * the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return An {@link IntSource} that contains all matching values.
+	 */
+	public IntSource getAll(int reference);
+
+	/**
+	 * Returns an {@link IntSource} that contains all values that satisfy the
+	 * given {@link IntPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link IntPredicate} to be used.
+	 * @return An {@link IntSource} that contains all matching values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntPredicate} is {@literal null}.
+	 */
+	public IntSource getAllMatches(IntPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns whether this {@link IntSource} contains a value that is equal to
+	 * the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return Whether this {@link IntSource} contains the reference value.
+	 */
+	public boolean contains(int reference);
+
+	/**
+	 * Returns whether this {@link IntSource} contains a value that satisfies
+	 * the given {@link IntPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link IntPredicate} to be used.
+	 * @return Whether this {@link IntSource} contains a matching value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntPredicate} is {@literal null}.
+	 */
+	public boolean containsMatch(IntPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns whether this {@link IntSource} contains all of the given
+	 * reference values.
+	 * 
+	 * @param references
+	 *            The reference values.
+	 * @return Whether this {@link IntSource} contains all reference values.
+	 * @throws IllegalArgumentException
+	 *             If the given array of reference values is {@literal null}.
+	 */
+	public boolean containsAll(int... references) throws IllegalArgumentException;
+
+	/**
+	 * Returns a new array that contains all values of this {@link IntSource}.
+	 * 
+	 * @return The new array.
+	 */
+	public int[] toArray();
+
+	/**
+	 * Returns an {@link IntIterator} that yields all values of this
+	 * {@link IntSource}.
+	 * 
+	 * @return An {@link IntIterator}.
+	 */
+	public IntIterator iterator();
+
+}
@@ -25,6 +25,7 @@ import java.security.CodeSource;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 import net.markenwerk.commons.iterators.AbstractProtectedBidirectionalIterator;
 import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
@@ -74,11 +75,21 @@ public final class ListSource<Payload> extends AbstractIndexedSource<Payload> {
 		return list.size();
 	}
 
+	@Override
+	public boolean hasRandomAccess() {
+		return list instanceof RandomAccess;
+	}
+
 	@Override
 	protected Payload doGet(int index) {
 		return list.get(index);
 	}
 
+	@Override
+	protected IndexedSource<Payload> doSubSource(int from, int to) {
+		return new ListSource<Payload>(list.subList(from, to));
+	}
+
 	@Override
 	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
 		if (reverse) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@link LongIndexedSource} is a {@literal long} specialization of
+ * {@link IndexedSource} that doesn't box its values.
+ * 
+ * <p>
+ * Index queries return {@link LongIndexedSource#NO_INDEX} instead of an empty
+ * {@link net.markenwerk.commons.datastructures.Optional}, if no matching
+ * value exists.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface LongIndexedSource extends LongSource {
+
+	/**
+	 * The index that is returned by index queries, if no matching value
+	 * exists.
+	 */
+	public static final int NO_INDEX = -1;
+
+	/**
+	 * Returns the value at the given index.
+	 * 
+	 * @param index
+	 *            The index of the value to be returned.
+	 * @return The value at the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than or equal to the size of this
+	 *             {@link LongIndexedSource}.
+	 */
+	public long get(int index) throws IndexOutOfBoundsException;
+
+	/**
+	 * Returns whether the first value is equal to the given value.
+	 * 
+	 * @param value
+	 *            The value to be compared.
+	 * @return Whether the first value is equal to the given value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongIndexedSource} is empty.
+	 */
+	public boolean isFirst(long value) throws NoSuchElementException;
+
+	/**
+	 * Returns whether the last value is equal to the given value.
+	 * 
+	 * @param value
+	 *            The value to be compared.
+	 * @return Whether the last value is equal to the given value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongIndexedSource} is empty.
+	 */
+	public boolean isLast(long value) throws NoSuchElementException;
+
+	/**
+	 * Returns the last value.
+	 * 
+	 * @return The last value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongIndexedSource} is empty.
+	 */
+	public long getLast() throws NoSuchElementException;
+
+	/**
+	 * Returns the index of the first value that is equal to the given
+	 * reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the first matching value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 */
+	public int firstIndexOf(long reference);
+
+	/**
+	 * Returns the index of the first value that satisfies the given
+	 * {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return The index of the first matching value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public int firstIndexOfMatch(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns the index of the last value that is equal to the given reference
+	 * value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the last matching value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 */
+	public int lastIndexOf(long reference);
+
+	/**
+	 * Returns the index of the last value that satisfies the given
+	 * {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return The index of the last matching value or
+	 *         {@link LongIndexedSource#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public int lastIndexOfMatch(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns a {@link LongIterator} that yields all values of this
+	 * {@link LongIndexedSource}.
+	 * 
+	 * @param reverse
+	 *            Whether to yield the values in reverse order.
+	 * @return A {@link LongIterator}.
+	 */
+	public LongIterator iterator(boolean reverse);
+
+}
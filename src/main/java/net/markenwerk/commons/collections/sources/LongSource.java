@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+/**
+ * {@link LongSource} is a {@literal long} specialization of {@link Source} that
+ * doesn't box its values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface LongSource {
+
+	/**
+	 * Returns whether this {@link LongSource} is empty.
+	 * 
+	 * @return Whether this {@link LongSource} is empty.
+	 */
+	public boolean isEmpty();
+
+	/**
+	 * Returns the number of values of this {@link LongSource}.
+	 * 
+	 * @return The number of values of this {@link LongSource}.
+	 */
+	public int size();
+
+	/**
+	 * Returns the first value.
+	 * 
+	 * @return The first value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongSource} is empty.
+	 */
+	public long getFirst() throws NoSuchElementException;
+
+	/**
+	 * Returns a {@link LongSource} that contains all values that are equal to
+	 * the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return A {@link LongSource} that contains all matching values.
+	 */
+	public LongSource getAll(long reference);
+
+	/**
+	 * Returns a {@link LongSource} that contains all values that satisfy the
+	 * given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return A {@link LongSource} that contains all matching values.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public LongSource getAllMatches(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns whether this {@link LongSource} contains a value that is equal to
+	 * the given reference value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return Whether this {@link LongSource} contains the reference value.
+	 */
+	public boolean contains(long reference);
+
+	/**
+	 * Returns whether this {@link LongSource} contains a value that satisfies
+	 * the given {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return Whether this {@link LongSource} contains a matching value.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public boolean containsMatch(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns whether this {@link LongSource} contains all of the given
+	 * reference values.
+	 * 
+	 * @param references
+	 *            The reference values.
+	 * @return Whether this {@link LongSource} contains all reference values.
+	 * @throws IllegalArgumentException
+	 *             If the given array of reference values is {@literal null}.
+	 */
+	public boolean containsAll(long... references) throws IllegalArgumentException;
+
+	/**
+	 * Returns a new array that contains all values of this {@link LongSource}.
+	 * 
+	 * @return The new array.
+	 */
+	public long[] toArray();
+
+	/**
+	 * Returns a {@link LongIterator} that yields all values of this
+	 * {@link LongSource}.
+	 * 
+	 * @return A {@link LongIterator}.
+	 */
+	public LongIterator iterator();
+
+}
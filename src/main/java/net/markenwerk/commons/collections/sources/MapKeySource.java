@@ -21,6 +21,7 @@
  */
 package net.markenwerk.commons.collections.sources;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import net.markenwerk.commons.iterators.ProtectedIterator;
@@ -64,6 +65,16 @@ public final class MapKeySource<Key> extends AbstractSource<Key> {
 		return map;
 	}
 
+	@Override
+	protected boolean hasLookupIndex() {
+		return map instanceof HashMap;
+	}
+
+	@Override
+	protected boolean doContains(Object reference) {
+		return hasLookupIndex() ? map.containsKey(reference) : super.doContains(reference);
+	}
+
 	@Override
 	public int size() {
 		return map.size();
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import net.markenwerk.commons.collections.codecs.Decoder;
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link MappedFileSource} is an {@link AbstractIndexedSource} that is backed
+ * by a memory-mapped file of fixed-width records.
+ * 
+ * <p>
+ * Every record is decoded with the given {@link Decoder} whenever it is
+ * {@link IndexedSource#get(int) retrieved} or iterated over, directly from the
+ * mapped pages. This avoids reading the whole file up front and allows
+ * multiple JVMs to share the same pages in the page cache of the operating
+ * system.
+ * 
+ * <p>
+ * Because a single mapping is limited to 2 GB, the file is mapped in multiple
+ * regions of at most the given mapping size. Records never span multiple
+ * regions. Trailing bytes of the file that don't form a complete record are
+ * ignored.
+ * 
+ * <p>
+ * A {@link MappedFileSource} is thread safe, as long as the given
+ * {@link Decoder} is thread safe and the underlying file isn't modified.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class MappedFileSource<Payload> extends AbstractIndexedSource<Payload> {
+
+	/**
+	 * The maximum size of a single mapping in bytes, if no mapping size is
+	 * explicitly given.
+	 */
+	public static final int DEFAULT_MAPPING_SIZE = Integer.MAX_VALUE;
+
+	private final File file;
+
+	private final int recordLength;
+
+	private final Decoder<? extends Payload> decoder;
+
+	private final int recordsPerMapping;
+
+	private final MappedByteBuffer[] mappings;
+
+	private final int size;
+
+	/**
+	 * Creates a new {@link MappedFileSource} with the
+	 * {@link MappedFileSource#DEFAULT_MAPPING_SIZE default} mapping size.
+	 * 
+	 * @param file
+	 *            The {@link File} to be used.
+	 * @param recordLength
+	 *            The length of a single record in bytes.
+	 * @param decoder
+	 *            The {@link Decoder} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link File} is {@literal null}, if the given
+	 *             record length is not positive, if the given {@link Decoder}
+	 *             is {@literal null} or if the given file contains more than
+	 *             {@link Integer#MAX_VALUE} records.
+	 * @throws IOException
+	 *             If the given {@link File} couldn't be mapped.
+	 */
+	public MappedFileSource(File file, int recordLength, Decoder<? extends Payload> decoder)
+			throws IllegalArgumentException, IOException {
+		this(file, recordLength, decoder, DEFAULT_MAPPING_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link MappedFileSource}.
+	 * 
+	 * @param file
+	 *            The {@link File} to be used.
+	 * @param recordLength
+	 *            The length of a single record in bytes.
+	 * @param decoder
+	 *            The {@link Decoder} to be used.
+	 * @param mappingSize
+	 *            The maximum size of a single mapping in bytes.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link File} is {@literal null}, if the given
+	 *             record length is not positive, if the given {@link Decoder}
+	 *             is {@literal null}, if the given mapping size is smaller than
+	 *             the given record length or if the given file contains more
+	 *             than {@link Integer#MAX_VALUE} records.
+	 * @throws IOException
+	 *             If the given {@link File} couldn't be mapped.
+	 */
+	public MappedFileSource(File file, int recordLength, Decoder<? extends Payload> decoder, int mappingSize)
+			throws IllegalArgumentException, IOException {
+		if (null == file) {
+			throw new IllegalArgumentException("The given file is null");
+		}
+		if (recordLength <= 0) {
+			throw new IllegalArgumentException("The given record length is not positive: " + recordLength);
+		}
+		if (null == decoder) {
+			throw new IllegalArgumentException("The given decoder is null");
+		}
+		if (mappingSize < recordLength) {
+			throw new IllegalArgumentException("The given mapping size is smaller than the given record length: "
+					+ mappingSize);
+		}
+		this.file = file;
+		this.recordLength = recordLength;
+		this.decoder = decoder;
+		this.recordsPerMapping = mappingSize / recordLength;
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			long records = channel.size() / recordLength;
+			if (records > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("The given file contains too many records: " + records);
+			}
+			size = (int) records;
+			mappings = new MappedByteBuffer[mappingCount(size, recordsPerMapping)];
+			for (int i = 0; i < mappings.length; i++) {
+				long firstRecord = (long) i * recordsPerMapping;
+				long mappedRecords = Math.min(recordsPerMapping, size - firstRecord);
+				mappings[i] = channel.map(MapMode.READ_ONLY, firstRecord * recordLength, mappedRecords * recordLength);
+			}
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	static int mappingCount(int size, int recordsPerMapping) {
+		return (int) (((long) size + recordsPerMapping - 1) / recordsPerMapping);
+	}
+
+	/**
+	 * Returns the {@link File} this {@link MappedFileSource} has been created
+	 * with.
+	 * 
+	 * @return The {@link File}.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Returns the record length this {@link MappedFileSource} has been created
+	 * with.
+	 * 
+	 * @return The record length in bytes.
+	 */
+	public int getRecordLength() {
+		return recordLength;
+	}
+
+	/**
+	 * Returns the number of regions the file has been mapped in.
+	 * 
+	 * @return The number of mappings.
+	 */
+	public int getMappingCount() {
+		return mappings.length;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		return decoder.decode(mappings[index / recordsPerMapping], (index % recordsPerMapping) * recordLength,
+				recordLength);
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
+		if (reverse) {
+
+			return new AbstractIndexedIterator<Payload>(0, size) {
+
+				@Override
+				protected Payload get(int index) {
+					return doGet(size - index - 1);
+				}
+			};
+
+		} else {
+
+			return new AbstractIndexedIterator<Payload>(0, size) {
+
+				@Override
+				protected Payload get(int index) {
+					return doGet(index);
+				}
+			};
+
+		}
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link ParallelScan} splits an index range into chunks that are scanned by
+ * the calling thread and by the threads of a shared pool of daemon threads.
+ * 
+ * <p>
+ * Chunks are claimed in ascending order. The calling thread claims chunks
+ * itself and only waits for chunks that have already been claimed by another
+ * thread. A scan therefore never waits for a pool thread that hasn't started
+ * yet, which allows nested scans.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+abstract class ParallelScan {
+
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private static final int MINIMUM_CHUNK_SIZE = 1 << 10;
+
+	private static final class ExecutorHolder {
+
+		private static final Executor EXECUTOR = createExecutor();
+
+		private static Executor createExecutor() {
+			int threads = Math.max(1, PARALLELISM - 1);
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+						private final AtomicInteger count = new AtomicInteger();
+
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "ParallelScan-worker-" + count.getAndIncrement());
+							thread.setDaemon(true);
+							return thread;
+						}
+
+					});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+	}
+
+	private final AtomicInteger nextChunk = new AtomicInteger();
+
+	private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+	private final int size;
+
+	private final int chunkSize;
+
+	private final int chunkCount;
+
+	private final CountDownLatch latch;
+
+	/**
+	 * Creates a new {@link ParallelScan}.
+	 * 
+	 * @param size
+	 *            The size of the index range to be scanned.
+	 */
+	protected ParallelScan(int size) {
+		this.size = size;
+		int targetChunkCount = PARALLELISM * CHUNKS_PER_THREAD;
+		this.chunkSize = Math.max(MINIMUM_CHUNK_SIZE, (size + targetChunkCount - 1) / targetChunkCount);
+		this.chunkCount = (size + chunkSize - 1) / chunkSize;
+		this.latch = new CountDownLatch(chunkCount);
+	}
+
+	/**
+	 * Returns the number of chunks the index range is split into.
+	 * 
+	 * @return The number of chunks.
+	 */
+	protected final int getChunkCount() {
+		return chunkCount;
+	}
+
+	/**
+	 * Scans all chunks and returns, after every chunk has either been scanned
+	 * or skipped.
+	 * 
+	 * @throws RuntimeException
+	 *             If scanning a chunk failed with a {@link RuntimeException}.
+	 * @throws Error
+	 *             If scanning a chunk failed with an {@link Error}.
+	 */
+	public final void run() throws RuntimeException, Error {
+		int helpers = Math.min(PARALLELISM, chunkCount) - 1;
+		if (0 < helpers) {
+			Runnable helper = new Runnable() {
+
+				@Override
+				public void run() {
+					scanChunks();
+				}
+
+			};
+			for (int i = 0; i < helpers; i++) {
+				ExecutorHolder.EXECUTOR.execute(helper);
+			}
+		}
+		scanChunks();
+		boolean interrupted = false;
+		while (true) {
+			try {
+				latch.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		Throwable throwable = failure.get();
+		if (throwable instanceof RuntimeException) {
+			throw (RuntimeException) throwable;
+		} else if (throwable instanceof Error) {
+			throw (Error) throwable;
+		}
+	}
+
+	private void scanChunks() {
+		int chunk;
+		while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+			int from = chunk * chunkSize;
+			int to = Math.min(size, from + chunkSize);
+			try {
+				if (null == failure.get() && !isDone(from)) {
+					scan(chunk, from, to);
+				}
+			} catch (Throwable throwable) {
+				failure.compareAndSet(null, throwable);
+			} finally {
+				latch.countDown();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the scan has already yielded its result and chunks
+	 * starting at the given index can be skipped.
+	 * 
+	 * <p>
+	 * The default implementation always returns {@literal false}.
+	 * 
+	 * @param from
+	 *            The first index of a chunk.
+	 * @return Whether the chunk can be skipped.
+	 */
+	protected boolean isDone(int from) {
+		return false;
+	}
+
+	/**
+	 * Scans a chunk.
+	 * 
+	 * @param chunk
+	 *            The number of the chunk.
+	 * @param from
+	 *            The first index of the chunk, inclusive.
+	 * @param to
+	 *            The last index of the chunk, exclusive.
+	 */
+	protected abstract void scan(int chunk, int from, int to);
+
+}
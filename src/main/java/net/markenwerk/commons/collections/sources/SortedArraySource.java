@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.Comparator;
+
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link SortedArraySource} is an {@link AbstractIndexedSource} that is
+ * backed by an array that is sorted according to a {@link Comparator}.
+ * 
+ * <p>
+ * Lookups of a reference payload value use a binary search and take
+ * logarithmic time, instead of linear time.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class SortedArraySource<Payload> extends AbstractIndexedSource<Payload> implements
+		SortedSource<Payload> {
+
+	private final Comparator<? super Payload> comparator;
+
+	private final Payload[] array;
+
+	/**
+	 * Creates a new {@link SortedArraySource}.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @param array
+	 *            The array of payload values to be used, which must be
+	 *            sorted according to the given {@link Comparator}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null}, if the
+	 *             given array of payload values is {@literal null} or if the
+	 *             given array of payload values is not sorted according to the
+	 *             given {@link Comparator}.
+	 */
+	public SortedArraySource(Comparator<? super Payload> comparator, Payload... array)
+			throws IllegalArgumentException {
+		if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		} else if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		}
+		for (int i = 1; i < array.length; i++) {
+			if (comparator.compare(array[i - 1], array[i]) > 0) {
+				throw new IllegalArgumentException("The given array is not sorted at index " + i);
+			}
+		}
+		this.comparator = comparator;
+		this.array = array;
+	}
+
+	/**
+	 * Returns the array of payload values this {@link SortedArraySource} has
+	 * been created with.
+	 * 
+	 * @return The array of payload values.
+	 */
+	public Payload[] getArray() {
+		return array;
+	}
+
+	@Override
+	public Comparator<? super Payload> getComparator() {
+		return comparator;
+	}
+
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		return array[index];
+	}
+
+	@Override
+	protected boolean hasLookupIndex() {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected boolean doContains(Object reference) {
+		try {
+			return -1 != doFirstIndexOf((Payload) reference);
+		} catch (ClassCastException e) {
+			return false;
+		}
+	}
+
+	@Override
+	protected Optional<Payload> doGetFirstOf(Payload reference) {
+		int index = doFirstIndexOf(reference);
+		return -1 == index ? new Optional<Payload>() : new Optional<Payload>(array[index]);
+	}
+
+	@Override
+	protected int doFirstIndexOf(Payload reference) {
+		return null == reference ? super.doFirstIndexOf(reference) : searchFirstIndexOf(reference, comparator);
+	}
+
+	@Override
+	protected int doLastIndexOf(Payload reference) {
+		return null == reference ? super.doLastIndexOf(reference) : searchLastIndexOf(reference, comparator);
+	}
+
+	@Override
+	public IndexedSource<Payload> getAllBetween(Payload from, Payload to) throws IllegalArgumentException {
+		if (comparator.compare(from, to) > 0) {
+			throw new IllegalArgumentException("The given lower bound is greater than the given upper bound");
+		}
+		return new SubSource<Payload>(this, lowerBound(from, comparator), lowerBound(to, comparator));
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
+		if (reverse) {
+
+			return new AbstractIndexedIterator<Payload>(0, size()) {
+
+				@Override
+				protected Payload get(int index) {
+					return array[size() - index - 1];
+				}
+			};
+
+		} else {
+
+			return new AbstractIndexedIterator<Payload>(0, size()) {
+
+				@Override
+				protected Payload get(int index) {
+					return array[index];
+				}
+			};
+
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.Comparator;
+
+/**
+ * A {@link SortedSource} is an {@link IndexedSource} that yields its payload
+ * values ordered according to a {@link Comparator}.
+ * 
+ * <p>
+ * Lookups of a reference payload value, i.e.
+ * {@link SortedSource#contains(Object)},
+ * {@link SortedSource#getFirst(Object)},
+ * {@link SortedSource#firstIndexOf(Object)} and
+ * {@link SortedSource#lastIndexOf(Object)}, use a binary search and only test
+ * payload values that the {@link Comparator} considers equal to the reference
+ * payload value for {@link Object#equals(Object) equality}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface SortedSource<Payload> extends IndexedSource<Payload> {
+
+	/**
+	 * Returns the {@link Comparator} that orders the payload values of this
+	 * {@link SortedSource}.
+	 * 
+	 * @return The {@link Comparator}.
+	 */
+	public Comparator<? super Payload> getComparator();
+
+	/**
+	 * Returns a view of all payload values that are not less than the given
+	 * lower bound and less than the given upper bound, according to the
+	 * {@link SortedSource#getComparator() comparator} of this
+	 * {@link SortedSource}. The range is found with a binary search.
+	 * 
+	 * @param from
+	 *            The lower bound, inclusive.
+	 * @param to
+	 *            The upper bound, exclusive.
+	 * @return An {@link IndexedSource} yielding the payload values.
+	 * @throws IllegalArgumentException
+	 *             If the given lower bound is greater than the given upper
+	 *             bound.
+	 */
+	public IndexedSource<Payload> getAllBetween(Payload from, Payload to) throws IllegalArgumentException;
+
+}
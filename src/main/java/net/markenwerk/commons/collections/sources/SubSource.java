@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.ConcurrentModificationException;
+
+import net.markenwerk.commons.iterators.AbstractIndexedIterator;
+import net.markenwerk.commons.iterators.ProtectedBidirectionalIterator;
+
+/**
+ * A {@link SubSource} is an {@link AbstractIndexedSource} that is a view of a
+ * range of indices of another {@link IndexedSource}.
+ * 
+ * <p>
+ * A {@link SubSource} reflects changes of the payload values in its range, but
+ * it must not be used after the {@link IndexedSource#size() size} of the
+ * viewed {@link IndexedSource} has changed. Accessing a {@link SubSource}
+ * after such a change throws a {@link ConcurrentModificationException}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class SubSource<Payload> extends AbstractIndexedSource<Payload> {
+
+	private final IndexedSource<Payload> source;
+
+	private final int from;
+
+	private final int to;
+
+	private final int expectedSize;
+
+	/**
+	 * Creates a new {@link SubSource}.
+	 * 
+	 * @param source
+	 *            The {@link IndexedSource} to be viewed.
+	 * @param from
+	 *            The first index of the range, inclusive.
+	 * @param to
+	 *            The last index of the range, exclusive.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IndexedSource} is {@literal null}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given first index is negative, if the given last
+	 *             index is larger than the {@link IndexedSource#size() size}
+	 *             of the given {@link IndexedSource} or if the given first
+	 *             index is larger than the given last index.
+	 */
+	public SubSource(IndexedSource<Payload> source, int from, int to) throws IllegalArgumentException,
+			IndexOutOfBoundsException {
+		if (null == source) {
+			throw new IllegalArgumentException("The given source is null");
+		} else if (from < 0) {
+			throw new IndexOutOfBoundsException("The given first index is negative: " + from);
+		} else if (to > source.size()) {
+			throw new IndexOutOfBoundsException("The given last index is loo large for size " + source.size() + ": "
+					+ to);
+		} else if (from > to) {
+			throw new IndexOutOfBoundsException("The given first index is larger than the given last index: " + from
+					+ " > " + to);
+		}
+		this.source = source;
+		this.from = from;
+		this.to = to;
+		this.expectedSize = source.size();
+	}
+
+	/**
+	 * Returns the {@link IndexedSource} this {@link SubSource} has been
+	 * created with.
+	 * 
+	 * @return The {@link IndexedSource}.
+	 */
+	public IndexedSource<Payload> getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns the first index of the range this {@link SubSource} has been
+	 * created with.
+	 * 
+	 * @return The first index, inclusive.
+	 */
+	public int getFrom() {
+		return from;
+	}
+
+	/**
+	 * Returns the last index of the range this {@link SubSource} has been
+	 * created with.
+	 * 
+	 * @return The last index, exclusive.
+	 */
+	public int getTo() {
+		return to;
+	}
+
+	@Override
+	public int size() {
+		checkModification();
+		return to - from;
+	}
+
+	@Override
+	protected Payload doGet(int index) {
+		checkModification();
+		return source.get(from + index);
+	}
+
+	@Override
+	public boolean hasRandomAccess() {
+		return AbstractIndexedSource.hasRandomAccess(source);
+	}
+
+	@Override
+	protected IndexedSource<Payload> doSubSource(int from, int to) {
+		checkModification();
+		return new SubSource<Payload>(source, this.from + from, this.from + to);
+	}
+
+	private void checkModification() throws ConcurrentModificationException {
+		if (expectedSize != source.size()) {
+			throw new ConcurrentModificationException("Source has been modified since the creation of this view");
+		}
+	}
+
+	@Override
+	protected ProtectedBidirectionalIterator<Payload> doIterator(boolean reverse) {
+		if (reverse) {
+
+			return new AbstractIndexedIterator<Payload>(0, size()) {
+
+				@Override
+				protected Payload get(int index) {
+					return doGet(to - from - index - 1);
+				}
+			};
+
+		} else {
+
+			return new AbstractIndexedIterator<Payload>(0, size()) {
+
+				@Override
+				protected Payload get(int index) {
+					return doGet(index);
+				}
+			};
+
+		}
+	}
+
+}
@@ -0,0 +1,531 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.AbstractSource;
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.EmptySource;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.datastructures.Optional;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterables.ArrayIterable;
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+import net.markenwerk.commons.iterators.ProtectedIterator;
+
+/**
+ * An {@link AbstractConcurrentLinkedStack} is an abstract base implementation
+ * of a thread safe and lock-free {@link Stack} that is backed by linked
+ * elements.
+ * 
+ * <p>
+ * All structural modifications are performed by atomically swapping the first
+ * element with a single {@literal compare-and-set} operation. Elements are
+ * never modified after they have become visible to other threads. Every element
+ * carries the size of the {@link Stack} it is the first element of, which
+ * allows {@link AbstractConcurrentLinkedStack#size()} to be answered in
+ * constant time without a shared counter.
+ * 
+ * <p>
+ * {@link AbstractConcurrentLinkedStack#iterator() Iterators} operate on a
+ * snapshot of this {@link AbstractConcurrentLinkedStack} that is taken, when
+ * the iterator is created. They never throw a
+ * {@link java.util.ConcurrentModificationException} and don't reflect
+ * structural modifications that have been made after their creation.
+ * 
+ * <p>
+ * An {@link AbstractConcurrentLinkedStack} has two sets of protected methods.
+ * </p>
+ * 
+ * <ul>
+ * <li>A first set of methods, prefixed with {@literal on} and ending with
+ * {@literal Contention}, may be implemented by concrete implementations to
+ * perform additional actions, if a {@literal compare-and-set} operation
+ * failed, because another thread modified this
+ * {@link AbstractConcurrentLinkedStack} concurrently.</li>
+ * <li>A second set of methods, prefixed with {@literal on}, may be implemented
+ * by concrete implementations to perform additional actions after a structural
+ * modification has occurred. These methods are called by the thread that
+ * performed the structural modification and may therefore be called
+ * concurrently.</li>
+ * </ul>
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public abstract class AbstractConcurrentLinkedStack<Payload> extends AbstractSource<Payload> implements
+		Stack<Payload> {
+
+	/**
+	 * A {@link Link} is a single element of an
+	 * {@link AbstractConcurrentLinkedStack}.
+	 * 
+	 * <p>
+	 * A {@link Link} can only be created by an
+	 * {@link AbstractConcurrentLinkedStack} and is handed to the
+	 * {@literal Contention} methods of an
+	 * {@link AbstractConcurrentLinkedStack} to allow concrete implementations
+	 * to pass a payload value from one thread to another.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @author Torsten Krause (tk at markenwerk dot net)
+	 * @since 1.1.0
+	 */
+	protected static final class Link<Payload> {
+
+		private final Payload payload;
+
+		private Link<Payload> next;
+
+		private int size;
+
+		private Link(Payload payload) {
+			this.payload = payload;
+		}
+
+		private Link(Payload payload, Link<Payload> next) {
+			this.payload = payload;
+			this.next = next;
+			this.size = null == next ? 1 : next.size + 1;
+		}
+
+		/**
+		 * Returns the payload value of this {@link Link}.
+		 * 
+		 * @return The payload value.
+		 */
+		public Payload getPayload() {
+			return payload;
+		}
+
+	}
+
+	private final AtomicReference<Link<Payload>> first = new AtomicReference<Link<Payload>>();
+
+	private final Nullity nullity;
+
+	/**
+	 * Creates a new {@link AbstractConcurrentLinkedStack}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null};
+	 */
+	public AbstractConcurrentLinkedStack(Nullity nullity) throws IllegalArgumentException {
+		if (null == nullity) {
+			throw new IllegalArgumentException("The given nullity is null");
+		}
+		this.nullity = nullity;
+	}
+
+	/**
+	 * Returns the {@link Nullity} this {@link AbstractConcurrentLinkedStack}
+	 * has been created with.
+	 * 
+	 * @return The {@link Nullity}.
+	 */
+	public final Nullity getNullity() {
+		return nullity;
+	}
+
+	@Override
+	public final int size() {
+		Link<Payload> link = first.get();
+		return null == link ? 0 : link.size;
+	}
+
+	@Override
+	public final Stack<Payload> push(Payload payload) throws IllegalArgumentException {
+		if (null != payload || nullity.proceedAdd("given payload value", Nullity.NO_POSITION)) {
+			Link<Payload> link = new Link<Payload>(payload);
+			while (!tryPush(link, link, 1)) {
+				if (onPushContention(link)) {
+					break;
+				}
+			}
+			onPushed(payload);
+		}
+		return this;
+	}
+
+	@Override
+	public final Stack<Payload> pushAll(Payload... payloads) throws IllegalArgumentException {
+		if (null == payloads) {
+			throw new IllegalArgumentException("The given array of payload values is null");
+		}
+		return pushAll(new ArrayIterable<Payload>(payloads));
+	}
+
+	@Override
+	public final Stack<Payload> pushAll(Iterable<? extends Payload> payloads) throws IllegalArgumentException {
+		if (null == payloads) {
+			throw new IllegalArgumentException("The given iterable of payload values is null");
+		}
+		Link<Payload> topLink = null;
+		Link<Payload> bottomLink = null;
+		int number = 0;
+		int position = 0;
+		for (Payload payload : payloads) {
+			if (null != payload || nullity.proceedAdd("given payload value", position)) {
+				Link<Payload> link = new Link<Payload>(payload);
+				link.next = topLink;
+				topLink = link;
+				if (null == bottomLink) {
+					bottomLink = link;
+				}
+				number++;
+			}
+			position++;
+		}
+		if (0 != number) {
+			while (!tryPush(topLink, bottomLink, number)) {
+			}
+			Payload[] pushedPayloads = toArray(topLink, number);
+			for (int i = number - 1; i >= 0; i--) {
+				onPushed(pushedPayloads[i]);
+			}
+		}
+		return this;
+	}
+
+	private boolean tryPush(Link<Payload> topLink, Link<Payload> bottomLink, int number) {
+		Link<Payload> currentLink = first.get();
+		int size = null == currentLink ? 0 : currentLink.size;
+		if (size > Integer.MAX_VALUE - number) {
+			throw new IllegalStateException("This stack is full");
+		}
+		bottomLink.next = currentLink;
+		Link<Payload> link = topLink;
+		for (int i = 0; i < number; i++) {
+			link.size = size + number - i;
+			link = link.next;
+		}
+		return first.compareAndSet(currentLink, topLink);
+	}
+
+	/**
+	 * Called, if an attempt to push the payload value of the given
+	 * {@link Link} failed, because another thread modified this
+	 * {@link AbstractConcurrentLinkedStack} concurrently.
+	 * 
+	 * <p>
+	 * The default implementation does nothing and returns {@literal false}.
+	 * 
+	 * @param link
+	 *            The {@link Link} to be pushed.
+	 * @return Whether the given {@link Link} has been handed to a concurrent
+	 *         call of {@link Stack#pop()} and no further attempt to push it
+	 *         must be made.
+	 */
+	protected boolean onPushContention(Link<Payload> link) {
+		return false;
+	}
+
+	/**
+	 * Called after the given payload value has been pushed as the new first
+	 * value.
+	 * 
+	 * @param payload
+	 *            The pushed payload value, which is guaranteed to be not
+	 *            {@literal null}, unless the {@link Nullity} of this
+	 *            {@link Stack} is {@link Nullity#ALLOW}.
+	 */
+	protected void onPushed(Payload payload) {
+	};
+
+	@Override
+	public final Payload pop() throws NoSuchElementException {
+		while (true) {
+			Link<Payload> currentLink = first.get();
+			if (null == currentLink) {
+				throw new NoSuchElementException("This stack is empty");
+			} else if (first.compareAndSet(currentLink, currentLink.next)) {
+				onPopped(currentLink.payload);
+				return currentLink.payload;
+			}
+			Link<Payload> link = onPopContention();
+			if (null != link) {
+				onPopped(link.payload);
+				return link.payload;
+			}
+		}
+	}
+
+	/**
+	 * Called, if an attempt to pop a payload value failed, because another
+	 * thread modified this {@link AbstractConcurrentLinkedStack} concurrently.
+	 * 
+	 * <p>
+	 * The default implementation does nothing and returns {@literal null}.
+	 * 
+	 * @return A {@link Link} that has been handed over by a concurrent call of
+	 *         {@link Stack#push(Object)} and that is used as the result of the
+	 *         failed pop attempt, or {@literal null}.
+	 */
+	protected Link<Payload> onPopContention() {
+		return null;
+	}
+
+	@Override
+	public final Source<Payload> popAll(int number) throws IllegalArgumentException {
+		if (number < 0) {
+			throw new IllegalArgumentException("The given number is negative: " + number);
+		} else if (0 == number) {
+			return new EmptySource<Payload>();
+		}
+		while (true) {
+			Link<Payload> currentLink = first.get();
+			int size = null == currentLink ? 0 : currentLink.size;
+			if (number > size) {
+				throw new IllegalArgumentException("The given number is loo large for size " + size + ": " + number);
+			}
+			if (first.compareAndSet(currentLink, skip(currentLink, number))) {
+				return onPoppedAll(currentLink, number);
+			}
+		}
+	}
+
+	@Override
+	public final Source<Payload> popAllMatches(Predicate<? super Payload> predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		while (true) {
+			Link<Payload> currentLink = first.get();
+			Link<Payload> link = currentLink;
+			int number = 0;
+			while (null != link && predicate.test(link.payload)) {
+				link = link.next;
+				number++;
+			}
+			if (0 == number) {
+				return new EmptySource<Payload>();
+			} else if (first.compareAndSet(currentLink, link)) {
+				return onPoppedAll(currentLink, number);
+			}
+		}
+	}
+
+	private Source<Payload> onPoppedAll(Link<Payload> link, int number) {
+		Payload[] payloads = toArray(link, number);
+		for (Payload payload : payloads) {
+			onPopped(payload);
+		}
+		return new ArraySource<Payload>(payloads);
+	}
+
+	/**
+	 * Called after the first (i.e. most recently {@link Stack#push(Object)
+	 * pushed}) payload value has been removed.
+	 * 
+	 * @param payload
+	 *            The popped payload value, which is guaranteed to be not
+	 *            {@literal null}, unless the {@link Nullity} of this
+	 *            {@link Stack} is {@link Nullity#ALLOW}.
+	 */
+	protected void onPopped(Payload payload) {
+	};
+
+	@Override
+	public final Payload replace(Payload replacement) throws IllegalArgumentException, NoSuchElementException {
+		if (null == replacement && !nullity.proceedReplace("given replacement value", Nullity.NO_POSITION)) {
+			throw new IllegalArgumentException("The given replacement payload value is null");
+		}
+		while (true) {
+			Link<Payload> currentLink = first.get();
+			if (null == currentLink) {
+				throw new NoSuchElementException("This stack is empty");
+			}
+			if (first.compareAndSet(currentLink, new Link<Payload>(replacement, currentLink.next))) {
+				onPopped(currentLink.payload);
+				onPushed(replacement);
+				return currentLink.payload;
+			}
+		}
+	}
+
+	@Override
+	public final Payload get(int index) throws IndexOutOfBoundsException {
+		Link<Payload> link = first.get();
+		int size = null == link ? 0 : link.size;
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("The given index is negative: " + index);
+		} else if (index >= size) {
+			throw new IndexOutOfBoundsException("The given index is loo large for size " + size + ": " + index);
+		}
+		return skip(link, index).payload;
+	}
+
+	@Override
+	protected final Payload doGetFirst() {
+		Link<Payload> link = first.get();
+		if (null == link) {
+			throw new NoSuchElementException("This stack is empty");
+		}
+		return link.payload;
+	}
+
+	@Override
+	public final Source<Payload> clear() {
+		Link<Payload> link = first.getAndSet(null);
+		Source<Payload> source = null == link ? new EmptySource<Payload>() : new LinkSource<Payload>(link);
+		onCleared(source);
+		return source;
+	}
+
+	/**
+	 * Called after all payload values have been removed.
+	 * 
+	 * @param iterable
+	 *            An {@link Iterable} that yields all removed payload values.
+	 */
+	protected void onCleared(Source<Payload> iterable) {
+	};
+
+	@Override
+	public final Optional<Integer> firstIndexOf(Payload reference) {
+		return firstIndexOfMatch(createPredicate(reference));
+	}
+
+	@Override
+	public final Optional<Integer> firstIndexOfMatch(Predicate<? super Payload> predicate)
+			throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		return firstIndexOf(iterator(), predicate);
+	}
+
+	/**
+	 * Returns a {@link ProtectedIterator} that operates on a snapshot of this
+	 * {@link AbstractConcurrentLinkedStack} and therefore never throws a
+	 * {@link java.util.ConcurrentModificationException}.
+	 */
+	@Override
+	public final ProtectedIterator<Payload> iterator() {
+		return new LinkIterator<Payload>(first.get());
+	}
+
+	@Override
+	public final boolean equals(Object object) {
+		if (null == object) {
+			return false;
+		} else if (this == object) {
+			return true;
+		} else if (!(object instanceof Stack)) {
+			return false;
+		}
+		final Stack<?> other = (Stack<?>) object;
+		final Iterator<Payload> iterator = iterator();
+		final Iterator<?> otherIterator = other.iterator();
+		while (iterator.hasNext() && otherIterator.hasNext()) {
+			Payload payload = iterator.next();
+			Object otherPayload = otherIterator.next();
+			if (null == payload ? null != otherPayload : !payload.equals(otherPayload)) {
+				return false;
+			}
+		}
+		return !iterator.hasNext() && !otherIterator.hasNext();
+	}
+
+	@Override
+	public final int hashCode() {
+		int hashCode = 1;
+		Iterator<Payload> iterator = iterator();
+		while (iterator.hasNext()) {
+			Payload payload = iterator.next();
+			hashCode = 31 * hashCode + (null == payload ? 0 : payload.hashCode());
+		}
+		return hashCode;
+	}
+
+	private static <Payload> Link<Payload> skip(Link<Payload> link, int number) {
+		for (int i = 0; i < number; i++) {
+			link = link.next;
+		}
+		return link;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <Payload> Payload[] toArray(Link<Payload> link, int number) {
+		Object[] payloads = new Object[number];
+		for (int i = 0; i < number; i++) {
+			payloads[i] = link.payload;
+			link = link.next;
+		}
+		return (Payload[]) payloads;
+	}
+
+	private static final class LinkSource<Payload> extends AbstractSource<Payload> {
+
+		private final Link<Payload> first;
+
+		private LinkSource(Link<Payload> first) {
+			this.first = first;
+		}
+
+		@Override
+		public int size() {
+			return first.size;
+		}
+
+		@Override
+		public ProtectedIterator<Payload> iterator() {
+			return new LinkIterator<Payload>(first);
+		}
+
+	}
+
+	private static final class LinkIterator<Payload> extends AbstractProtectedIterator<Payload> {
+
+		private Link<Payload> current;
+
+		private LinkIterator(Link<Payload> first) {
+			this.current = first;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return null != current;
+		}
+
+		@Override
+		public Payload next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			}
+			Payload payload = current.payload;
+			current = current.next;
+			return payload;
+		}
+
+	}
+
+}
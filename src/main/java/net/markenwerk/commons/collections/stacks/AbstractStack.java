@@ -249,6 +249,27 @@ public abstract class AbstractStack<Payload> extends AbstractSource<Payload> imp
 		} else if (index >= size()) {
 			throw new IndexOutOfBoundsException("The given index is loo large for size " + size() + ": " + index);
 		}
+		return doGet(index);
+	}
+
+	/**
+	 * Returns the payload value at the given index, where {@literal 0} is the
+	 * index of the most recently {@link Stack#push(Object) pushed} payload
+	 * value.
+	 * 
+	 * <p>
+	 * The default implementation walks an {@link AbstractStack#iterator()
+	 * iterator} up to the given index. Concrete implementations should
+	 * override this method, if they provide constant time random access.
+	 * 
+	 * @param index
+	 *            The index to be used, which is guaranteed to be not negative
+	 *            and not larger then or equal to the
+	 *            {@link AbstractStack#size() size} of this
+	 *            {@link AbstractStack}.
+	 * @return The payload value.
+	 */
+	protected Payload doGet(int index) {
 		Iterator<Payload> iterator = iterator();
 		for (int i = 0; i < index; i++) {
 			iterator.next();
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.iterators.AbstractProtectedIterator;
+import net.markenwerk.commons.iterators.ProtectedIterator;
+
+/**
+ * An {@link ArrayStack} is an {@link AbstractStack} that is backed by a
+ * growable array.
+ * 
+ * <p>
+ * An {@link ArrayStack} provides constant time {@link Stack#get(int) random
+ * access}. {@link Stack#push(Object) Pushing}, {@link Stack#pop() popping} and
+ * {@link Stack#replace(Object) replacing} payload values doesn't allocate any
+ * objects, unless the backing array is too small to hold an additional payload
+ * value, in which case it is replaced by an array that is 50% larger.
+ * 
+ * <p>
+ * An {@link ArrayStack} is by itself not thread safe and must be synchronized
+ * externally in a multithreaded use case.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class ArrayStack<Payload> extends AbstractStack<Payload> {
+
+	/**
+	 * The initial capacity of an {@link ArrayStack}, if no capacity is
+	 * explicitly given.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private Object[] array;
+
+	private int size;
+
+	private int incarnation;
+
+	/**
+	 * Creates a new {@link ArrayStack} with the
+	 * {@link ArrayStack#DEFAULT_CAPACITY default} capacity and the
+	 * {@link Nullity#ALLOW default} {@link Nullity}.
+	 */
+	public ArrayStack() {
+		this(Nullity.ALLOW, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link ArrayStack} with the {@link Nullity#ALLOW default}
+	 * {@link Nullity}.
+	 * 
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public ArrayStack(int capacity) throws IllegalArgumentException {
+		this(Nullity.ALLOW, capacity);
+	}
+
+	/**
+	 * Creates a new {@link ArrayStack} with the
+	 * {@link ArrayStack#DEFAULT_CAPACITY default} capacity.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}.
+	 */
+	public ArrayStack(Nullity nullity) throws IllegalArgumentException {
+		this(nullity, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link ArrayStack}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null} or if the
+	 *             given capacity is negative.
+	 */
+	public ArrayStack(Nullity nullity, int capacity) throws IllegalArgumentException {
+		super(nullity);
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		this.array = new Object[capacity];
+	}
+
+	/**
+	 * Returns the number of payload values this {@link ArrayStack} can hold
+	 * without growing its backing array.
+	 * 
+	 * @return The capacity of this {@link ArrayStack}.
+	 */
+	public int getCapacity() {
+		return array.length;
+	}
+
+	/**
+	 * Grows the backing array of this {@link ArrayStack}, if necessary, to
+	 * ensure that it can hold at least the given number of payload values.
+	 * 
+	 * @param capacity
+	 *            The desired minimum capacity.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public void ensureCapacity(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		if (capacity > array.length) {
+			array = Arrays.copyOf(array, capacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array of this {@link ArrayStack} to the current
+	 * {@link ArrayStack#size() size}.
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = Arrays.copyOf(array, size);
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError("The required capacity is too large: " + capacity);
+		}
+		int newCapacity = array.length + (array.length >> 1);
+		if (newCapacity < capacity || newCapacity > MAXIMUM_CAPACITY) {
+			newCapacity = capacity < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : capacity;
+		}
+		array = Arrays.copyOf(array, newCapacity);
+	}
+
+	@Override
+	protected int doSize() {
+		return size;
+	}
+
+	@Override
+	protected void doPush(Payload payload) {
+		if (size == array.length) {
+			grow(size + 1);
+		}
+		array[size] = payload;
+		size += 1;
+		incarnation += 1;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doReplace(Payload replacement) {
+		Payload replacedPayload = (Payload) array[size - 1];
+		array[size - 1] = replacement;
+		incarnation += 1;
+		return replacedPayload;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doPop() {
+		size -= 1;
+		Payload removedPayload = (Payload) array[size];
+		array[size] = null;
+		incarnation += 1;
+		return removedPayload;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doGetFirst() {
+		return (Payload) array[size - 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Payload doGet(int index) {
+		return (Payload) array[size - index - 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Source<Payload> doClear() {
+		Object[] removedPayloads = new Object[size];
+		for (int i = 0; i < size; i++) {
+			removedPayloads[i] = array[size - i - 1];
+		}
+		Arrays.fill(array, 0, size, null);
+		size = 0;
+		incarnation += 1;
+		return new ArraySource<Payload>((Payload[]) removedPayloads);
+	}
+
+	@Override
+	protected ProtectedIterator<Payload> doIterator() {
+		return new AbstractProtectedIterator<Payload>() {
+
+			private final int expectedIncarnation = incarnation;
+
+			private int index = size - 1;
+
+			@Override
+			public boolean hasNext() {
+				return index >= 0;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Payload next() {
+				if (expectedIncarnation != incarnation) {
+					throw new ConcurrentModificationException("Stack has been modified since the last iteration");
+				} else if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return (Payload) array[index--];
+			}
+
+		};
+	}
+
+}
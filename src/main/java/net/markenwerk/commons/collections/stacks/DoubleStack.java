@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.sources.DoublePredicate;
+import net.markenwerk.commons.collections.sources.DoubleSource;
+
+/**
+ * {@link DoubleStack} is a {@literal double} specialization of {@link Stack} that
+ * doesn't box its values.
+ * 
+ * <p>
+ * Index queries return {@link DoubleStack#NO_INDEX} instead of an empty
+ * {@link net.markenwerk.commons.datastructures.Optional}, if no matching
+ * value exists.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface DoubleStack extends DoubleSource {
+
+	/**
+	 * The index that is returned by index queries, if no matching value
+	 * exists.
+	 */
+	public static final int NO_INDEX = -1;
+
+	/**
+	 * Pushes the given value as the new first value.
+	 * 
+	 * @param value
+	 *            The value to be pushed.
+	 * @return This {@link DoubleStack}.
+	 */
+	public DoubleStack push(double value);
+
+	/**
+	 * Pushes the given values in the given order, i.e. the last given value
+	 * becomes the new first value.
+	 * 
+	 * @param values
+	 *            The values to be pushed.
+	 * @return This {@link DoubleStack}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 */
+	public DoubleStack pushAll(double... values) throws IllegalArgumentException;
+
+	/**
+	 * Pushes the values of the given {@link DoubleSource} in the order they are
+	 * yielded, i.e. the last yielded value becomes the new first value.
+	 * 
+	 * @param values
+	 *            The {@link DoubleSource} of values to be pushed.
+	 * @return This {@link DoubleStack}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleSource} is {@literal null}.
+	 */
+	public DoubleStack pushAll(DoubleSource values) throws IllegalArgumentException;
+
+	/**
+	 * Removes and returns the first (i.e. most recently pushed) value.
+	 * 
+	 * @return The removed value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleStack} is empty.
+	 */
+	public double pop() throws NoSuchElementException;
+
+	/**
+	 * Removes the given number of values.
+	 * 
+	 * @param number
+	 *            The number of values to be removed.
+	 * @return An {@link DoubleSource} that yields the removed values in the order
+	 *         they have been removed.
+	 * @throws IllegalArgumentException
+	 *             If the given number is negative or larger than the size of
+	 *             this {@link DoubleStack}.
+	 */
+	public DoubleSource popAll(int number) throws IllegalArgumentException;
+
+	/**
+	 * Removes values, as long as the first value satisfies the given
+	 * {@link DoublePredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return An {@link DoubleSource} that yields the removed values in the order
+	 *         they have been removed.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public DoubleSource popAllMatches(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns the value at the given index, where {@literal 0} is the index of
+	 * the most recently pushed value.
+	 * 
+	 * @param index
+	 *            The index of the value to be returned.
+	 * @return The value at the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than or equal to the size of this {@link DoubleStack}.
+	 */
+	public double get(int index) throws IndexOutOfBoundsException;
+
+	/**
+	 * Replaces the first (i.e. most recently pushed) value.
+	 * 
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleStack} is empty.
+	 */
+	public double replace(double replacement) throws NoSuchElementException;
+
+	/**
+	 * Removes all values.
+	 * 
+	 * @return An {@link DoubleSource} that yields all removed values in the order
+	 *         they would have been popped.
+	 */
+	public DoubleSource clear();
+
+	/**
+	 * Returns the index of the first value that is equal to the given
+	 * reference value, where {@literal 0} is the index of the most recently
+	 * pushed value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the first matching value or
+	 *         {@link DoubleStack#NO_INDEX}.
+	 */
+	public int firstIndexOf(double reference);
+
+	/**
+	 * Returns the index of the first value that satisfies the given
+	 * {@link DoublePredicate}, where {@literal 0} is the index of the most
+	 * recently pushed value.
+	 * 
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @return The index of the first matching value or
+	 *         {@link DoubleStack#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public int firstIndexOfMatch(DoublePredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns a hash code for this {@link DoubleStack}, which is calculated like
+	 * {@link java.util.Arrays#hashCode(double[])} for the values in the order
+	 * they would be popped.
+	 * 
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode();
+
+	/**
+	 * Returns whether the given object is an {@link DoubleStack} that contains
+	 * equal values in the same order.
+	 * 
+	 * @param object
+	 *            The object to compare against.
+	 * @return Whether the given object is equal to this {@link DoubleStack}.
+	 */
+	@Override
+	public boolean equals(Object object);
+
+}
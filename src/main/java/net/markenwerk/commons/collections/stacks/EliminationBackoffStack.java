@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicStampedReference;
+
+import net.markenwerk.commons.collections.Nullity;
+
+/**
+ * An {@link EliminationBackoffStack} is an {@link AbstractConcurrentLinkedStack}
+ * that uses an elimination array to back off from contention on the first
+ * element.
+ * 
+ * <p>
+ * If an attempt to {@link Stack#push(Object) push} or {@link Stack#pop() pop}
+ * a payload value fails, because another thread modified this
+ * {@link EliminationBackoffStack} concurrently, the pushing or popping thread
+ * visits a randomly chosen slot of the elimination array, where it waits up to
+ * the configured timeout for a thread that performs the opposite operation. If
+ * such a thread arrives, the payload value of the pushing thread is handed
+ * directly to the popping thread and both operations complete without touching
+ * the first element of this {@link EliminationBackoffStack}. Otherwise, both
+ * threads retry to modify the first element.
+ * 
+ * <p>
+ * An {@link EliminationBackoffStack} scales well for workloads with balanced
+ * and highly concurrent push and pop operations, e.g. object pools. Other
+ * operations, like {@link Stack#pushAll(Iterable)} or {@link Stack#clear()},
+ * never participate in the elimination.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class EliminationBackoffStack<Payload> extends AbstractConcurrentLinkedStack<Payload> {
+
+	/**
+	 * The default timeout in nanoseconds, a thread waits in the elimination
+	 * array for a thread that performs the opposite operation.
+	 */
+	public static final long DEFAULT_TIMEOUT = 1000;
+
+	private static final int EMPTY = 0;
+
+	private static final int WAITING = 1;
+
+	private static final int BUSY = 2;
+
+	private static final Object POP = new Object();
+
+	private final AtomicStampedReference<Object>[] slots;
+
+	private final long timeout;
+
+	/**
+	 * Creates a new {@link EliminationBackoffStack} with the
+	 * {@link Nullity#ALLOW default } {@link Nullity}, an elimination array
+	 * that has a slot for every available processor and the
+	 * {@link EliminationBackoffStack#DEFAULT_TIMEOUT default} timeout.
+	 */
+	public EliminationBackoffStack() {
+		this(Nullity.ALLOW);
+	}
+
+	/**
+	 * Creates a new {@link EliminationBackoffStack} with an elimination array
+	 * that has a slot for every available processor and the
+	 * {@link EliminationBackoffStack#DEFAULT_TIMEOUT default} timeout.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null};
+	 */
+	public EliminationBackoffStack(Nullity nullity) throws IllegalArgumentException {
+		this(nullity, Runtime.getRuntime().availableProcessors(), DEFAULT_TIMEOUT, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Creates a new {@link EliminationBackoffStack}.
+	 * 
+	 * @param nullity
+	 *            The {@link Nullity} to be used.
+	 * @param arenaSize
+	 *            The number of slots of the elimination array.
+	 * @param timeout
+	 *            The timeout, a thread waits in the elimination array for a
+	 *            thread that performs the opposite operation.
+	 * @param unit
+	 *            The {@link TimeUnit} of the given timeout.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Nullity} is {@literal null}, if the given
+	 *             arena size is not positive, if the given timeout is negative
+	 *             or if the given {@link TimeUnit} is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public EliminationBackoffStack(Nullity nullity, int arenaSize, long timeout, TimeUnit unit)
+			throws IllegalArgumentException {
+		super(nullity);
+		if (arenaSize < 1) {
+			throw new IllegalArgumentException("The given arena size is not positive: " + arenaSize);
+		} else if (timeout < 0) {
+			throw new IllegalArgumentException("The given timeout is negative: " + timeout);
+		} else if (null == unit) {
+			throw new IllegalArgumentException("The given time unit is null");
+		}
+		this.slots = new AtomicStampedReference[arenaSize];
+		for (int i = 0; i < arenaSize; i++) {
+			slots[i] = new AtomicStampedReference<Object>(null, EMPTY);
+		}
+		this.timeout = unit.toNanos(timeout);
+	}
+
+	/**
+	 * Returns the number of slots of the elimination array.
+	 * 
+	 * @return The number of slots.
+	 */
+	public int getArenaSize() {
+		return slots.length;
+	}
+
+	/**
+	 * Returns the timeout, a thread waits in the elimination array for a
+	 * thread that performs the opposite operation.
+	 * 
+	 * @param unit
+	 *            The {@link TimeUnit} to be used.
+	 * @return The timeout in the given {@link TimeUnit}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link TimeUnit} is {@literal null}.
+	 */
+	public long getTimeout(TimeUnit unit) throws IllegalArgumentException {
+		if (null == unit) {
+			throw new IllegalArgumentException("The given time unit is null");
+		}
+		return unit.convert(timeout, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	protected boolean onPushContention(Link<Payload> link) {
+		return POP == exchange(link);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Link<Payload> onPopContention() {
+		Object item = exchange(POP);
+		return item instanceof Link ? (Link<Payload>) item : null;
+	}
+
+	private Object exchange(Object offer) {
+		AtomicStampedReference<Object> slot = slots[randomSlot()];
+		int[] stampHolder = new int[1];
+		long deadline = System.nanoTime() + timeout;
+		while (System.nanoTime() - deadline < 0) {
+			Object item = slot.get(stampHolder);
+			switch (stampHolder[0]) {
+			case EMPTY:
+				if (slot.compareAndSet(item, offer, EMPTY, WAITING)) {
+					while (System.nanoTime() - deadline < 0) {
+						item = slot.get(stampHolder);
+						if (BUSY == stampHolder[0]) {
+							slot.set(null, EMPTY);
+							return item;
+						}
+					}
+					if (slot.compareAndSet(offer, null, WAITING, EMPTY)) {
+						return null;
+					}
+					item = slot.getReference();
+					slot.set(null, EMPTY);
+					return item;
+				}
+				break;
+			case WAITING:
+				if ((POP == item) == (POP == offer)) {
+					return null;
+				} else if (slot.compareAndSet(item, offer, WAITING, BUSY)) {
+					return item;
+				}
+				break;
+			default:
+				break;
+			}
+		}
+		return null;
+	}
+
+	private int randomSlot() {
+		if (1 == slots.length) {
+			return 0;
+		}
+		long seed = System.nanoTime() ^ Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+		seed ^= seed >>> 33;
+		seed *= 0xFF51AFD7ED558CCDL;
+		seed ^= seed >>> 33;
+		return (int) ((seed >>> 1) % slots.length);
+	}
+
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.sources.AbstractIntIndexedSource;
+import net.markenwerk.commons.collections.sources.IntArraySource;
+import net.markenwerk.commons.collections.sources.IntIterator;
+import net.markenwerk.commons.collections.sources.IntPredicate;
+import net.markenwerk.commons.collections.sources.IntSource;
+
+/**
+ * An {@link IntArrayStack} is an {@link IntStack} that is backed by a
+ * growable {@literal int} array. It is the {@literal int} specialization of
+ * {@link ArrayStack}.
+ * 
+ * <p>
+ * {@link IntArrayStack#push(int) Pushing}, {@link IntArrayStack#pop() popping}
+ * and {@link IntArrayStack#replace(int) replacing} values doesn't allocate any
+ * objects, unless the backing array is too small to hold an additional value,
+ * in which case it is replaced by an array that is 50% larger.
+ * 
+ * <p>
+ * An {@link IntArrayStack} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class IntArrayStack extends AbstractIntIndexedSource implements IntStack {
+
+	/**
+	 * The initial capacity of an {@link IntArrayStack}, if no capacity is
+	 * explicitly given.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private int[] array;
+
+	private int size;
+
+	private int incarnation;
+
+	/**
+	 * Creates a new {@link IntArrayStack} with the
+	 * {@link IntArrayStack#DEFAULT_CAPACITY default} capacity.
+	 */
+	public IntArrayStack() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link IntArrayStack}.
+	 * 
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public IntArrayStack(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		this.array = new int[capacity];
+	}
+
+	/**
+	 * Returns the number of values this {@link IntArrayStack} can hold without
+	 * growing its backing array.
+	 * 
+	 * @return The capacity of this {@link IntArrayStack}.
+	 */
+	public int getCapacity() {
+		return array.length;
+	}
+
+	/**
+	 * Grows the backing array of this {@link IntArrayStack}, if necessary, to
+	 * ensure that it can hold at least the given number of values.
+	 * 
+	 * @param capacity
+	 *            The desired minimum capacity.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public void ensureCapacity(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		if (capacity > array.length) {
+			array = copy(array, size, capacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array of this {@link IntArrayStack} to the current
+	 * {@link IntArrayStack#size() size}.
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = copy(array, size, size);
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError("The required capacity is too large: " + capacity);
+		}
+		int newCapacity = array.length + (array.length >> 1);
+		if (newCapacity < capacity || newCapacity > MAXIMUM_CAPACITY) {
+			newCapacity = capacity < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : capacity;
+		}
+		array = copy(array, size, newCapacity);
+	}
+
+	private static int[] copy(int[] array, int length, int capacity) {
+		int[] copy = new int[capacity];
+		System.arraycopy(array, 0, copy, 0, length);
+		return copy;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected int doGet(int index) {
+		return array[size - index - 1];
+	}
+
+	@Override
+	public int[] toArray() {
+		return reverseCopy(size, size);
+	}
+
+	private int[] reverseCopy(int top, int number) {
+		int[] values = new int[number];
+		for (int i = 0; i < number; i++) {
+			values[i] = array[top - i - 1];
+		}
+		return values;
+	}
+
+	@Override
+	public IntStack push(int value) {
+		if (size == array.length) {
+			grow(size + 1);
+		}
+		array[size] = value;
+		size += 1;
+		incarnation += 1;
+		return this;
+	}
+
+	@Override
+	public IntStack pushAll(int... values) throws IllegalArgumentException {
+		if (null == values) {
+			throw new IllegalArgumentException("The given array of values is null");
+		}
+		doPushAll(values);
+		return this;
+	}
+
+	@Override
+	public IntStack pushAll(IntSource values) throws IllegalArgumentException {
+		if (null == values) {
+			throw new IllegalArgumentException("The given source of values is null");
+		}
+		doPushAll(values.toArray());
+		return this;
+	}
+
+	private void doPushAll(int[] values) {
+		int number = values.length;
+		if (0 != number) {
+			if (size > array.length - number) {
+				grow(size + number);
+			}
+			System.arraycopy(values, 0, array, size, number);
+			size += number;
+			incarnation += 1;
+		}
+	}
+
+	@Override
+	public int pop() throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This stack is empty");
+		}
+		size -= 1;
+		incarnation += 1;
+		return array[size];
+	}
+
+	@Override
+	public IntSource popAll(int number) throws IllegalArgumentException {
+		if (number < 0) {
+			throw new IllegalArgumentException("The given number is negative: " + number);
+		} else if (number > size) {
+			throw new IllegalArgumentException("The given number is loo large for size " + size + ": " + number);
+		}
+		return doPopAll(number);
+	}
+
+	@Override
+	public IntSource popAllMatches(IntPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int number = 0;
+		while (number < size && predicate.test(array[size - number - 1])) {
+			number++;
+		}
+		return doPopAll(number);
+	}
+
+	private IntSource doPopAll(int number) {
+		int[] removedValues = reverseCopy(size, number);
+		if (0 != number) {
+			size -= number;
+			incarnation += 1;
+		}
+		return new IntArraySource(removedValues);
+	}
+
+	@Override
+	public int replace(int replacement) throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This stack is empty");
+		}
+		int replacedValue = array[size - 1];
+		array[size - 1] = replacement;
+		incarnation += 1;
+		return replacedValue;
+	}
+
+	@Override
+	public IntSource clear() {
+		int[] removedValues = reverseCopy(size, size);
+		size = 0;
+		incarnation += 1;
+		return new IntArraySource(removedValues);
+	}
+
+	@Override
+	protected IntIterator doIterator(final boolean reverse) {
+		return new IntIterator() {
+
+			private final int expectedIncarnation = incarnation;
+
+			private final int size = IntArrayStack.this.size;
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public int next() throws NoSuchElementException {
+				if (expectedIncarnation != incarnation) {
+					throw new ConcurrentModificationException("Stack has been modified since the last iteration");
+				} else if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return array[reverse ? index++ : size - ++index];
+			}
+
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int i = size - 1; i >= 0; i--) {
+			hashCode = 31 * hashCode + array[i];
+		}
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (null == object) {
+			return false;
+		} else if (this == object) {
+			return true;
+		} else if (!(object instanceof IntStack)) {
+			return false;
+		}
+		IntStack other = (IntStack) object;
+		if (size != other.size()) {
+			return false;
+		}
+		IntIterator otherIterator = other.iterator();
+		for (int i = size - 1; i >= 0; i--) {
+			if (!otherIterator.hasNext() || !equal(array[i], otherIterator.next())) {
+				return false;
+			}
+		}
+		return !otherIterator.hasNext();
+	}
+
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.sources.AbstractLongIndexedSource;
+import net.markenwerk.commons.collections.sources.LongArraySource;
+import net.markenwerk.commons.collections.sources.LongIterator;
+import net.markenwerk.commons.collections.sources.LongPredicate;
+import net.markenwerk.commons.collections.sources.LongSource;
+
+/**
+ * A {@link LongArrayStack} is a {@link LongStack} that is backed by a
+ * growable {@literal long} array. It is the {@literal long} specialization of
+ * {@link ArrayStack}.
+ * 
+ * <p>
+ * {@link LongArrayStack#push(long) Pushing}, {@link LongArrayStack#pop() popping}
+ * and {@link LongArrayStack#replace(long) replacing} values doesn't allocate any
+ * objects, unless the backing array is too small to hold an additional value,
+ * in which case it is replaced by an array that is 50% larger.
+ * 
+ * <p>
+ * A {@link LongArrayStack} is by itself not thread safe and must be
+ * synchronized externally in a multithreaded use case.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class LongArrayStack extends AbstractLongIndexedSource implements LongStack {
+
+	/**
+	 * The initial capacity of a {@link LongArrayStack}, if no capacity is
+	 * explicitly given.
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private long[] array;
+
+	private int size;
+
+	private int incarnation;
+
+	/**
+	 * Creates a new {@link LongArrayStack} with the
+	 * {@link LongArrayStack#DEFAULT_CAPACITY default} capacity.
+	 */
+	public LongArrayStack() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link LongArrayStack}.
+	 * 
+	 * @param capacity
+	 *            The initial capacity to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public LongArrayStack(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		this.array = new long[capacity];
+	}
+
+	/**
+	 * Returns the number of values this {@link LongArrayStack} can hold without
+	 * growing its backing array.
+	 * 
+	 * @return The capacity of this {@link LongArrayStack}.
+	 */
+	public int getCapacity() {
+		return array.length;
+	}
+
+	/**
+	 * Grows the backing array of this {@link LongArrayStack}, if necessary, to
+	 * ensure that it can hold at least the given number of values.
+	 * 
+	 * @param capacity
+	 *            The desired minimum capacity.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given capacity is negative.
+	 */
+	public void ensureCapacity(int capacity) throws IllegalArgumentException {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("The given capacity is negative: " + capacity);
+		}
+		if (capacity > array.length) {
+			array = copy(array, size, capacity);
+		}
+	}
+
+	/**
+	 * Shrinks the backing array of this {@link LongArrayStack} to the current
+	 * {@link LongArrayStack#size() size}.
+	 */
+	public void trimToSize() {
+		if (size < array.length) {
+			array = copy(array, size, size);
+		}
+	}
+
+	private void grow(int capacity) {
+		if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+			throw new OutOfMemoryError("The required capacity is too large: " + capacity);
+		}
+		int newCapacity = array.length + (array.length >> 1);
+		if (newCapacity < capacity || newCapacity > MAXIMUM_CAPACITY) {
+			newCapacity = capacity < DEFAULT_CAPACITY ? DEFAULT_CAPACITY : capacity;
+		}
+		array = copy(array, size, newCapacity);
+	}
+
+	private static long[] copy(long[] array, int length, int capacity) {
+		long[] copy = new long[capacity];
+		System.arraycopy(array, 0, copy, 0, length);
+		return copy;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	protected long doGet(int index) {
+		return array[size - index - 1];
+	}
+
+	@Override
+	public long[] toArray() {
+		return reverseCopy(size, size);
+	}
+
+	private long[] reverseCopy(int top, int number) {
+		long[] values = new long[number];
+		for (int i = 0; i < number; i++) {
+			values[i] = array[top - i - 1];
+		}
+		return values;
+	}
+
+	@Override
+	public LongStack push(long value) {
+		if (size == array.length) {
+			grow(size + 1);
+		}
+		array[size] = value;
+		size += 1;
+		incarnation += 1;
+		return this;
+	}
+
+	@Override
+	public LongStack pushAll(long... values) throws IllegalArgumentException {
+		if (null == values) {
+			throw new IllegalArgumentException("The given array of values is null");
+		}
+		doPushAll(values);
+		return this;
+	}
+
+	@Override
+	public LongStack pushAll(LongSource values) throws IllegalArgumentException {
+		if (null == values) {
+			throw new IllegalArgumentException("The given source of values is null");
+		}
+		doPushAll(values.toArray());
+		return this;
+	}
+
+	private void doPushAll(long[] values) {
+		int number = values.length;
+		if (0 != number) {
+			if (size > array.length - number) {
+				grow(size + number);
+			}
+			System.arraycopy(values, 0, array, size, number);
+			size += number;
+			incarnation += 1;
+		}
+	}
+
+	@Override
+	public long pop() throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This stack is empty");
+		}
+		size -= 1;
+		incarnation += 1;
+		return array[size];
+	}
+
+	@Override
+	public LongSource popAll(int number) throws IllegalArgumentException {
+		if (number < 0) {
+			throw new IllegalArgumentException("The given number is negative: " + number);
+		} else if (number > size) {
+			throw new IllegalArgumentException("The given number is loo large for size " + size + ": " + number);
+		}
+		return doPopAll(number);
+	}
+
+	@Override
+	public LongSource popAllMatches(LongPredicate predicate) throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		int number = 0;
+		while (number < size && predicate.test(array[size - number - 1])) {
+			number++;
+		}
+		return doPopAll(number);
+	}
+
+	private LongSource doPopAll(int number) {
+		long[] removedValues = reverseCopy(size, number);
+		if (0 != number) {
+			size -= number;
+			incarnation += 1;
+		}
+		return new LongArraySource(removedValues);
+	}
+
+	@Override
+	public long replace(long replacement) throws NoSuchElementException {
+		if (0 == size) {
+			throw new NoSuchElementException("This stack is empty");
+		}
+		long replacedValue = array[size - 1];
+		array[size - 1] = replacement;
+		incarnation += 1;
+		return replacedValue;
+	}
+
+	@Override
+	public LongSource clear() {
+		long[] removedValues = reverseCopy(size, size);
+		size = 0;
+		incarnation += 1;
+		return new LongArraySource(removedValues);
+	}
+
+	@Override
+	protected LongIterator doIterator(final boolean reverse) {
+		return new LongIterator() {
+
+			private final int expectedIncarnation = incarnation;
+
+			private final int size = LongArrayStack.this.size;
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public long next() throws NoSuchElementException {
+				if (expectedIncarnation != incarnation) {
+					throw new ConcurrentModificationException("Stack has been modified since the last iteration");
+				} else if (!hasNext()) {
+					throw new NoSuchElementException("This iterator has no next element");
+				}
+				return array[reverse ? index++ : size - ++index];
+			}
+
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int i = size - 1; i >= 0; i--) {
+			hashCode = 31 * hashCode + (int) (array[i] ^ (array[i] >>> 32));
+		}
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (null == object) {
+			return false;
+		} else if (this == object) {
+			return true;
+		} else if (!(object instanceof LongStack)) {
+			return false;
+		}
+		LongStack other = (LongStack) object;
+		if (size != other.size()) {
+			return false;
+		}
+		LongIterator otherIterator = other.iterator();
+		for (int i = size - 1; i >= 0; i--) {
+			if (!otherIterator.hasNext() || !equal(array[i], otherIterator.next())) {
+				return false;
+			}
+		}
+		return !otherIterator.hasNext();
+	}
+
+}
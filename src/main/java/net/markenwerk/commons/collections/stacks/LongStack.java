@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.collections.sources.LongPredicate;
+import net.markenwerk.commons.collections.sources.LongSource;
+
+/**
+ * {@link LongStack} is a {@literal long} specialization of {@link Stack} that
+ * doesn't box its values.
+ * 
+ * <p>
+ * Index queries return {@link LongStack#NO_INDEX} instead of an empty
+ * {@link net.markenwerk.commons.datastructures.Optional}, if no matching
+ * value exists.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public interface LongStack extends LongSource {
+
+	/**
+	 * The index that is returned by index queries, if no matching value
+	 * exists.
+	 */
+	public static final int NO_INDEX = -1;
+
+	/**
+	 * Pushes the given value as the new first value.
+	 * 
+	 * @param value
+	 *            The value to be pushed.
+	 * @return This {@link LongStack}.
+	 */
+	public LongStack push(long value);
+
+	/**
+	 * Pushes the given values in the given order, i.e. the last given value
+	 * becomes the new first value.
+	 * 
+	 * @param values
+	 *            The values to be pushed.
+	 * @return This {@link LongStack}.
+	 * @throws IllegalArgumentException
+	 *             If the given array of values is {@literal null}.
+	 */
+	public LongStack pushAll(long... values) throws IllegalArgumentException;
+
+	/**
+	 * Pushes the values of the given {@link LongSource} in the order they are
+	 * yielded, i.e. the last yielded value becomes the new first value.
+	 * 
+	 * @param values
+	 *            The {@link LongSource} of values to be pushed.
+	 * @return This {@link LongStack}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongSource} is {@literal null}.
+	 */
+	public LongStack pushAll(LongSource values) throws IllegalArgumentException;
+
+	/**
+	 * Removes and returns the first (i.e. most recently pushed) value.
+	 * 
+	 * @return The removed value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongStack} is empty.
+	 */
+	public long pop() throws NoSuchElementException;
+
+	/**
+	 * Removes the given number of values.
+	 * 
+	 * @param number
+	 *            The number of values to be removed.
+	 * @return An {@link LongSource} that yields the removed values in the order
+	 *         they have been removed.
+	 * @throws IllegalArgumentException
+	 *             If the given number is negative or larger than the size of
+	 *             this {@link LongStack}.
+	 */
+	public LongSource popAll(int number) throws IllegalArgumentException;
+
+	/**
+	 * Removes values, as long as the first value satisfies the given
+	 * {@link LongPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return An {@link LongSource} that yields the removed values in the order
+	 *         they have been removed.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public LongSource popAllMatches(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns the value at the given index, where {@literal 0} is the index of
+	 * the most recently pushed value.
+	 * 
+	 * @param index
+	 *            The index of the value to be returned.
+	 * @return The value at the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or if the given index is
+	 *             larger than or equal to the size of this {@link LongStack}.
+	 */
+	public long get(int index) throws IndexOutOfBoundsException;
+
+	/**
+	 * Replaces the first (i.e. most recently pushed) value.
+	 * 
+	 * @param replacement
+	 *            The replacement value.
+	 * @return The replaced value.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongStack} is empty.
+	 */
+	public long replace(long replacement) throws NoSuchElementException;
+
+	/**
+	 * Removes all values.
+	 * 
+	 * @return An {@link LongSource} that yields all removed values in the order
+	 *         they would have been popped.
+	 */
+	public LongSource clear();
+
+	/**
+	 * Returns the index of the first value that is equal to the given
+	 * reference value, where {@literal 0} is the index of the most recently
+	 * pushed value.
+	 * 
+	 * @param reference
+	 *            The reference value.
+	 * @return The index of the first matching value or
+	 *         {@link LongStack#NO_INDEX}.
+	 */
+	public int firstIndexOf(long reference);
+
+	/**
+	 * Returns the index of the first value that satisfies the given
+	 * {@link LongPredicate}, where {@literal 0} is the index of the most
+	 * recently pushed value.
+	 * 
+	 * @param predicate
+	 *            The {@link LongPredicate} to be used.
+	 * @return The index of the first matching value or
+	 *         {@link LongStack#NO_INDEX}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongPredicate} is {@literal null}.
+	 */
+	public int firstIndexOfMatch(LongPredicate predicate) throws IllegalArgumentException;
+
+	/**
+	 * Returns a hash code for this {@link LongStack}, which is calculated like
+	 * {@link java.util.Arrays#hashCode(long[])} for the values in the order
+	 * they would be popped.
+	 * 
+	 * @return The hash code.
+	 */
+	@Override
+	public int hashCode();
+
+	/**
+	 * Returns whether the given object is an {@link LongStack} that contains
+	 * equal values in the same order.
+	 * 
+	 * @param object
+	 *            The object to compare against.
+	 * @return Whether the given object is equal to this {@link LongStack}.
+	 */
+	@Override
+	public boolean equals(Object object);
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.streams;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import net.markenwerk.commons.collections.sources.IndexedSource;
+
+/**
+ * An {@link IndexedSpliterator} is a {@link Spliterator} that traverses a range
+ * of indices of an {@link IndexedSource} and splits this range in halves.
+ * 
+ * <p>
+ * An {@link IndexedSpliterator} is late-binding. The end of the range is fixed
+ * to the {@link IndexedSource#size() size} of the {@link IndexedSource} at the
+ * time of the first traversal, split or size estimation.
+ * 
+ * <p>
+ * The {@link IndexedSource} must not be modified structurally while it is
+ * traversed. A traversal that finds an {@link IndexedSource} that has become
+ * smaller throws a {@link ConcurrentModificationException}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class IndexedSpliterator<Payload> implements Spliterator<Payload> {
+
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+	private final IndexedSource<? extends Payload> source;
+
+	private int index;
+
+	private int fence;
+
+	/**
+	 * Creates a new {@link IndexedSpliterator} that traverses all payload
+	 * values of the given {@link IndexedSource}.
+	 * 
+	 * @param source
+	 *            The {@link IndexedSource} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IndexedSource} is {@literal null}.
+	 */
+	public IndexedSpliterator(IndexedSource<? extends Payload> source) throws IllegalArgumentException {
+		if (null == source) {
+			throw new IllegalArgumentException("The given source is null");
+		}
+		this.source = source;
+		this.index = 0;
+		this.fence = -1;
+	}
+
+	/**
+	 * Creates a new {@link IndexedSpliterator} that traverses the payload
+	 * values of the given {@link IndexedSource} in the given range.
+	 * 
+	 * @param source
+	 *            The {@link IndexedSource} to be used.
+	 * @param from
+	 *            The first index to be traversed, inclusive.
+	 * @param to
+	 *            The last index to be traversed, exclusive.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IndexedSource} is {@literal null}.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given first index is negative, if the given last
+	 *             index is larger than the {@link IndexedSource#size() size}
+	 *             of the given {@link IndexedSource} or if the given first
+	 *             index is larger than the given last index.
+	 */
+	public IndexedSpliterator(IndexedSource<? extends Payload> source, int from, int to)
+			throws IllegalArgumentException, IndexOutOfBoundsException {
+		if (null == source) {
+			throw new IllegalArgumentException("The given source is null");
+		} else if (from < 0) {
+			throw new IndexOutOfBoundsException("The given first index is negative: " + from);
+		} else if (to > source.size()) {
+			throw new IndexOutOfBoundsException("The given last index is loo large for size " + source.size() + ": "
+					+ to);
+		} else if (from > to) {
+			throw new IndexOutOfBoundsException("The given first index is larger than the given last index: " + from
+					+ " > " + to);
+		}
+		this.source = source;
+		this.index = from;
+		this.fence = to;
+	}
+
+	private IndexedSpliterator(int index, int fence, IndexedSource<? extends Payload> source) {
+		this.source = source;
+		this.index = index;
+		this.fence = fence;
+	}
+
+	private int getFence() {
+		if (-1 == fence) {
+			fence = source.size();
+		}
+		return fence;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Payload> action) {
+		if (null == action) {
+			throw new NullPointerException("The given action is null");
+		}
+		if (index < getFence()) {
+			action.accept(get(index++));
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Payload> action) {
+		if (null == action) {
+			throw new NullPointerException("The given action is null");
+		}
+		int fence = getFence();
+		for (int i = index; i < fence; i++) {
+			action.accept(get(i));
+		}
+		index = fence;
+	}
+
+	private Payload get(int index) {
+		try {
+			return source.get(index);
+		} catch (IndexOutOfBoundsException e) {
+			throw new ConcurrentModificationException(
+					"Source has been modified since the creation of this spliterator");
+		}
+	}
+
+	@Override
+	public Spliterator<Payload> trySplit() {
+		int fence = getFence();
+		int middle = (index + fence) >>> 1;
+		if (index >= middle) {
+			return null;
+		}
+		IndexedSpliterator<Payload> prefix = new IndexedSpliterator<Payload>(index, middle, source);
+		index = middle;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return getFence() - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.streams;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.markenwerk.commons.collections.sequences.AbstractListSequence;
+import net.markenwerk.commons.collections.sequences.ConcurrentSequence;
+import net.markenwerk.commons.collections.sources.AbstractIndexedSource;
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.CollectionSource;
+import net.markenwerk.commons.collections.sources.EmptySource;
+import net.markenwerk.commons.collections.sources.IndexedSource;
+import net.markenwerk.commons.collections.sources.ListSource;
+import net.markenwerk.commons.collections.sources.MapKeySource;
+import net.markenwerk.commons.collections.sources.MapValueSource;
+import net.markenwerk.commons.collections.sources.Source;
+
+/**
+ * {@link SourceStreams} provides {@link Spliterator Spliterators} and
+ * {@link Stream Streams} for {@link Source Sources}.
+ * 
+ * <p>
+ * The {@link Spliterator} for a {@link Source} is chosen according to the
+ * concrete type of the {@link Source}:
+ * 
+ * <ul>
+ * <li>{@link ArraySource}, {@link ListSource} and {@link AbstractListSequence},
+ * if backed by a {@link RandomAccess random access} {@link List}, and other
+ * {@link IndexedSource IndexedSources} with
+ * {@link AbstractIndexedSource#hasRandomAccess(IndexedSource) random access}
+ * get an {@link IndexedSpliterator}.</li>
+ * <li>{@link CollectionSource}, {@link MapKeySource} and
+ * {@link MapValueSource}, as well as {@link ListSource} and
+ * {@link AbstractListSequence}, if backed by a sequential access {@link List},
+ * get the {@link Spliterator} of the underlying collection.</li>
+ * <li>{@link ConcurrentSequence} gets a {@link Spliterator} that traverses a
+ * snapshot, as its {@link ConcurrentSequence#iterator() iterator} does.</li>
+ * <li>Any other {@link Source} gets a {@link Spliterator} of the known
+ * {@link Source#size() size} that is based on its {@link Source#iterator()
+ * iterator}.</li>
+ * </ul>
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 1.1.0
+ */
+public final class SourceStreams {
+
+	private SourceStreams() {
+	}
+
+	/**
+	 * Returns a {@link Spliterator} that traverses the payload values of the
+	 * given {@link Source}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param source
+	 *            The {@link Source} to be used.
+	 * @return The {@link Spliterator}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Source} is {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Payload> Spliterator<Payload> spliterator(Source<? extends Payload> source)
+			throws IllegalArgumentException {
+		if (null == source) {
+			throw new IllegalArgumentException("The given source is null");
+		} else if (source instanceof ConcurrentSequence) {
+			return Spliterators.spliteratorUnknownSize(source.iterator(), Spliterator.ORDERED);
+		} else if (source instanceof ListSource) {
+			return spliterator((IndexedSource<Payload>) source, ((ListSource<Payload>) source).getList());
+		} else if (source instanceof AbstractListSequence) {
+			return spliterator((IndexedSource<Payload>) source, ((AbstractListSequence<Payload>) source).getList());
+		} else if (source instanceof IndexedSource) {
+			return spliterator((IndexedSource<Payload>) source);
+		} else if (source instanceof CollectionSource) {
+			return ((CollectionSource<Payload>) source).getCollection().spliterator();
+		} else if (source instanceof MapKeySource) {
+			return (Spliterator<Payload>) ((MapKeySource<Payload>) source).getMap().keySet().spliterator();
+		} else if (source instanceof MapValueSource) {
+			return (Spliterator<Payload>) ((MapValueSource<Payload>) source).getMap().values().spliterator();
+		} else if (source instanceof EmptySource) {
+			return Spliterators.emptySpliterator();
+		} else {
+			return Spliterators.spliterator(source.iterator(), source.size(), Spliterator.ORDERED);
+		}
+	}
+
+	private static <Payload> Spliterator<Payload> spliterator(IndexedSource<Payload> source) {
+		if (AbstractIndexedSource.hasRandomAccess(source)) {
+			return new IndexedSpliterator<Payload>(source);
+		} else {
+			return Spliterators.spliterator(source.iterator(), source.size(), Spliterator.ORDERED);
+		}
+	}
+
+	private static <Payload> Spliterator<Payload> spliterator(IndexedSource<Payload> source, List<Payload> list) {
+		if (list instanceof RandomAccess) {
+			return new IndexedSpliterator<Payload>(source);
+		} else {
+			return list.spliterator();
+		}
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of the payload values of the given
+	 * {@link Source}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param source
+	 *            The {@link Source} to be used.
+	 * @return The {@link Stream}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Source} is {@literal null}.
+	 */
+	public static <Payload> Stream<Payload> stream(Source<? extends Payload> source) throws IllegalArgumentException {
+		return StreamSupport.stream(SourceStreams.<Payload> spliterator(source), false);
+	}
+
+	/**
+	 * Returns a possibly parallel {@link Stream} of the payload values of the
+	 * given {@link Source}.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param source
+	 *            The {@link Source} to be used.
+	 * @return The {@link Stream}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Source} is {@literal null}.
+	 */
+	public static <Payload> Stream<Payload> parallelStream(Source<? extends Payload> source)
+			throws IllegalArgumentException {
+		return StreamSupport.stream(SourceStreams.<Payload> spliterator(source), true);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.codecs;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ByteArrayCodecTests {
+
+	@Test
+	public void getLength() {
+
+		Codec<byte[]> codec = new ByteArrayCodec();
+
+		Assert.assertEquals(3, codec.getLength(new byte[] { 1, 2, 3 }));
+
+	}
+
+	@Test
+	public void encode() {
+
+		Codec<byte[]> codec = new ByteArrayCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(5);
+
+		codec.encode(new byte[] { 1, 2, 3 }, buffer, 1);
+
+		Assert.assertArrayEquals(new byte[] { 0, 1, 2, 3, 0 }, buffer.array());
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void decode() {
+
+		Codec<byte[]> codec = new ByteArrayCodec();
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 0, 1, 2, 3, 0 });
+
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, codec.decode(buffer, 1, 3));
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void decode_empty() {
+
+		Codec<byte[]> codec = new ByteArrayCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(0);
+
+		Assert.assertArrayEquals(new byte[0], codec.decode(buffer, 0, 0));
+
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.codecs;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleCodecTests {
+
+	@Test
+	public void getLength() {
+
+		Codec<Double> codec = new DoubleCodec();
+
+		Assert.assertEquals(DoubleCodec.LENGTH, codec.getLength(42.5));
+
+	}
+
+	@Test
+	public void encode() {
+
+		Codec<Double> codec = new DoubleCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(2 * DoubleCodec.LENGTH);
+
+		codec.encode(42.5, buffer, DoubleCodec.LENGTH);
+
+		Assert.assertEquals(42.5, buffer.getDouble(DoubleCodec.LENGTH), 0);
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void decode() {
+
+		Codec<Double> codec = new DoubleCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(2 * DoubleCodec.LENGTH);
+		buffer.putDouble(DoubleCodec.LENGTH, Double.NaN);
+
+		Assert.assertEquals(Double.valueOf(Double.NaN), codec.decode(buffer, DoubleCodec.LENGTH, DoubleCodec.LENGTH));
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+}
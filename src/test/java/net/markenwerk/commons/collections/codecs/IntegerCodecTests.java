@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.codecs;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntegerCodecTests {
+
+	@Test
+	public void getLength() {
+
+		Codec<Integer> codec = new IntegerCodec();
+
+		Assert.assertEquals(IntegerCodec.LENGTH, codec.getLength(42));
+
+	}
+
+	@Test
+	public void encode() {
+
+		Codec<Integer> codec = new IntegerCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(2 * IntegerCodec.LENGTH);
+
+		codec.encode(42, buffer, IntegerCodec.LENGTH);
+
+		Assert.assertEquals(42, buffer.getInt(IntegerCodec.LENGTH));
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+	@Test
+	public void decode() {
+
+		Codec<Integer> codec = new IntegerCodec();
+		ByteBuffer buffer = ByteBuffer.allocate(2 * IntegerCodec.LENGTH);
+		buffer.putInt(IntegerCodec.LENGTH, -1);
+
+		Assert.assertEquals(Integer.valueOf(-1), codec.decode(buffer, IntegerCodec.LENGTH, IntegerCodec.LENGTH));
+		Assert.assertEquals(0, buffer.position());
+
+	}
+
+}
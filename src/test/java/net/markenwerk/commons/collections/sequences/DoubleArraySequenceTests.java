@@ -0,0 +1,649 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sources.DoubleArraySource;
+import net.markenwerk.commons.collections.sources.DoubleIterator;
+import net.markenwerk.commons.collections.sources.DoublePredicate;
+import net.markenwerk.commons.collections.sources.DoubleSource;
+
+@SuppressWarnings("javadoc")
+public class DoubleArraySequenceTests {
+
+	private static final DoublePredicate ODD = new DoublePredicate() {
+
+		@Override
+		public boolean test(double value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	private static final DoublePredicate NEGATIVE = new DoublePredicate() {
+
+		@Override
+		public boolean test(double value) {
+			return value < 0;
+		}
+
+	};
+
+	private static final DoubleOperator NEGATE = new DoubleOperator() {
+
+		@Override
+		public double apply(double value) {
+			return -value;
+		}
+
+	};
+
+	/* DOUBLE ARRAY SEQUENCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new DoubleArraySequence(-1);
+
+	}
+
+	@Test
+	public void getCapacity() {
+
+		DoubleArraySequence sequence = new DoubleArraySequence(42);
+
+		Assert.assertEquals(42, sequence.getCapacity());
+
+	}
+
+	@Test
+	public void getCapacity_default() {
+
+		DoubleArraySequence sequence = new DoubleArraySequence();
+
+		Assert.assertEquals(DoubleArraySequence.DEFAULT_CAPACITY, sequence.getCapacity());
+
+	}
+
+	@Test
+	public void ensureCapacity() {
+
+		DoubleArraySequence sequence = new DoubleArraySequence(1);
+		sequence.append(1);
+
+		sequence.ensureCapacity(42);
+
+		Assert.assertEquals(42, sequence.getCapacity());
+		Assert.assertArrayEquals(new double[] { 1 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void ensureCapacity_negativeCapacity() {
+
+		new DoubleArraySequence().ensureCapacity(-1);
+
+	}
+
+	@Test
+	public void trimToSize() {
+
+		DoubleArraySequence sequence = new DoubleArraySequence(42);
+		sequence.appendAll(1, 2);
+
+		sequence.trimToSize();
+
+		Assert.assertEquals(2, sequence.getCapacity());
+		Assert.assertArrayEquals(new double[] { 1, 2 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void append_grow() {
+
+		DoubleArraySequence sequence = new DoubleArraySequence(0);
+
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i), 0);
+		}
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void iterator_concurrentModification() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		DoubleIterator iterator = sequence.iterator();
+		iterator.next();
+		sequence.append(3);
+		iterator.next();
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 3);
+
+		DoubleIterator iterator = sequence.iterator(true);
+
+		Assert.assertEquals(3, iterator.next(), 0);
+		Assert.assertEquals(2, iterator.next(), 0);
+		Assert.assertEquals(1, iterator.next(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	/* DOUBLE SEQUENCE */
+
+	@Test
+	public void insert() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 3);
+
+		sequence.insert(1, 2);
+
+		Assert.assertArrayEquals(new double[] { 1, 2, 3 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insert_negativeIndex() {
+
+		new DoubleArraySequence().insert(-1, 1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insert_largeIndex() {
+
+		new DoubleArraySequence().insert(1, 1);
+
+	}
+
+	@Test
+	public void insertAll_array() {
+
+		DoubleSequence sequence = new DoubleArraySequence(2).appendAll(1, 4);
+
+		sequence.insertAll(1, 2, 3);
+
+		Assert.assertArrayEquals(new double[] { 1, 2, 3, 4 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAll_nullArray() {
+
+		new DoubleArraySequence().insertAll(0, (double[]) null);
+
+	}
+
+	@Test
+	public void insertAll_source() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 4);
+
+		sequence.insertAll(1, new DoubleArraySource(2, 3));
+
+		Assert.assertArrayEquals(new double[] { 1, 2, 3, 4 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void insertAll_self() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		sequence.insertAll(1, sequence);
+
+		Assert.assertArrayEquals(new double[] { 1, 1, 2, 2 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAll_nullSource() {
+
+		new DoubleArraySequence().insertAll(0, (DoubleSource) null);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insertAll_largeIndex() {
+
+		new DoubleArraySequence().insertAll(1, 1, 2);
+
+	}
+
+	@Test
+	public void prepend() {
+
+		DoubleSequence sequence = new DoubleArraySequence().append(2);
+
+		sequence.prepend(1);
+		sequence.prependAll(new double[] { -1, 0 });
+
+		Assert.assertArrayEquals(new double[] { -1, 0, 1, 2 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void append() {
+
+		DoubleSequence sequence = new DoubleArraySequence().append(1);
+
+		sequence.appendAll(2, 3);
+		sequence.appendAll(new DoubleArraySource(4));
+
+		Assert.assertArrayEquals(new double[] { 1, 2, 3, 4 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void remove() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 3);
+
+		Assert.assertEquals(2, sequence.remove(1), 0);
+		Assert.assertArrayEquals(new double[] { 1, 3 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void remove_largeIndex() {
+
+		new DoubleArraySequence().append(1).remove(1);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeFirst_empty() {
+
+		new DoubleArraySequence().removeFirst();
+
+	}
+
+	@Test
+	public void removeFirst() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(1, sequence.removeFirst(), 0);
+		Assert.assertArrayEquals(new double[] { 2 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void removeFirst_reference() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(0, sequence.removeFirst(1));
+		Assert.assertEquals(DoubleSequence.NO_INDEX, sequence.removeFirst(3));
+		Assert.assertArrayEquals(new double[] { 2, 1 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void removeFirstMatch() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(2, 1, 3);
+
+		Assert.assertEquals(1, sequence.removeFirstMatch(ODD));
+		Assert.assertEquals(DoubleSequence.NO_INDEX, sequence.removeFirstMatch(NEGATIVE));
+		Assert.assertArrayEquals(new double[] { 2, 3 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeLast_empty() {
+
+		new DoubleArraySequence().removeLast();
+
+	}
+
+	@Test
+	public void removeLast() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(2, sequence.removeLast(), 0);
+		Assert.assertArrayEquals(new double[] { 1 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void removeLast_reference() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(2, sequence.removeLast(1));
+		Assert.assertEquals(DoubleSequence.NO_INDEX, sequence.removeLast(3));
+		Assert.assertArrayEquals(new double[] { 1, 2 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void removeLastMatch() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 3, 2);
+
+		Assert.assertEquals(1, sequence.removeLastMatch(ODD));
+		Assert.assertArrayEquals(new double[] { 1, 2 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void removeAll() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 1, 3);
+
+		DoubleSource removed = sequence.removeAll(1);
+
+		Assert.assertArrayEquals(new double[] { 1, 1 }, removed.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { 2, 3 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void removeAllMatches() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 3, 4, 5);
+
+		DoubleSource removed = sequence.removeAllMatches(ODD);
+
+		Assert.assertArrayEquals(new double[] { 1, 3, 5 }, removed.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { 2, 4 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void removeAllMatches_noMatches() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		DoubleSource removed = sequence.removeAllMatches(NEGATIVE);
+
+		Assert.assertTrue(removed.isEmpty());
+		Assert.assertEquals(2, sequence.size());
+		Assert.assertSame(removed, new DoubleArraySequence().appendAll(3).removeAllMatches(NEGATIVE));
+
+	}
+
+	@Test
+	public void removeAllMatches_many() {
+
+		DoubleSequence sequence = new DoubleArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		DoubleSource removed = sequence.removeAllMatches(ODD);
+
+		double[] removedValues = removed.toArray();
+		Assert.assertEquals(500, removedValues.length);
+		Assert.assertEquals(500, sequence.size());
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, removedValues[i], 0);
+			Assert.assertEquals(2 * i, sequence.get(i), 0);
+		}
+
+	}
+
+	@Test
+	public void removeAllMatches_throwingPredicate() {
+
+		DoubleSequence sequence = new DoubleArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		try {
+			sequence.removeAllMatches(new DoublePredicate() {
+
+				@Override
+				public boolean test(double value) {
+					if (500 == value) {
+						throw new IllegalStateException();
+					}
+					return 1 == value % 2;
+				}
+
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i), 0);
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void removeAllMatches_nullPredicate() {
+
+		new DoubleArraySequence().removeAllMatches(null);
+
+	}
+
+	@Test
+	public void retainAll() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 1, 3);
+
+		DoubleSource removed = sequence.retainAll(1);
+
+		Assert.assertArrayEquals(new double[] { 2, 3 }, removed.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { 1, 1 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void retainAllMatches() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 3, 4, 5);
+
+		DoubleSource removed = sequence.retainAllMatches(ODD);
+
+		Assert.assertArrayEquals(new double[] { 2, 4 }, removed.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { 1, 3, 5 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void retainAllMatches_nullPredicate() {
+
+		new DoubleArraySequence().retainAllMatches(null);
+
+	}
+
+	@Test
+	public void clear() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		DoubleSource removed = sequence.clear();
+		sequence.append(3);
+
+		Assert.assertArrayEquals(new double[] { 1, 2 }, removed.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { 3 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void replace() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(2, sequence.replace(1, 3), 0);
+		Assert.assertArrayEquals(new double[] { 1, 3 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void replace_negativeIndex() {
+
+		new DoubleArraySequence().append(1).replace(-1, 2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replaceFirst_empty() {
+
+		new DoubleArraySequence().replaceFirst(1);
+
+	}
+
+	@Test
+	public void replaceFirst() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(1, sequence.replaceFirst(0), 0);
+		Assert.assertEquals(2, sequence.replaceFirst(1, 3));
+		Assert.assertEquals(DoubleSequence.NO_INDEX, sequence.replaceFirst(4, 3));
+		Assert.assertEquals(2, sequence.replaceFirstMatch(ODD, 5));
+		Assert.assertArrayEquals(new double[] { 0, 2, 5 }, sequence.toArray(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replaceLast_empty() {
+
+		new DoubleArraySequence().replaceLast(1);
+
+	}
+
+	@Test
+	public void replaceLast() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(1, sequence.replaceLast(0), 0);
+		Assert.assertEquals(0, sequence.replaceLast(1, 3));
+		Assert.assertEquals(DoubleSequence.NO_INDEX, sequence.replaceLastMatch(NEGATIVE, 3));
+		Assert.assertArrayEquals(new double[] { 3, 2, 0 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void replaceAll() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 1);
+
+		DoubleSource replaced = sequence.replaceAll(1, NEGATE);
+
+		Assert.assertArrayEquals(new double[] { 1, 1 }, replaced.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { -1, 2, -1 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void replaceAllMatches() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2, 3);
+
+		DoubleSource replaced = sequence.replaceAllMatches(ODD, NEGATE);
+
+		Assert.assertArrayEquals(new double[] { 1, 3 }, replaced.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { -1, 2, -3 }, sequence.toArray(), 0);
+
+	}
+
+	@Test
+	public void replaceAllMatches_many() {
+
+		DoubleSequence sequence = new DoubleArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		DoubleSource replaced = sequence.replaceAllMatches(ODD, NEGATE);
+
+		double[] replacedValues = replaced.toArray();
+		Assert.assertEquals(500, replacedValues.length);
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, replacedValues[i], 0);
+			Assert.assertEquals(-(2 * i + 1), sequence.get(2 * i + 1), 0);
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replaceAllMatches_nullPredicate() {
+
+		new DoubleArraySequence().replaceAllMatches(null, NEGATE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replaceAllMatches_nullOperator() {
+
+		new DoubleArraySequence().replaceAllMatches(ODD, null);
+
+	}
+
+	@Test
+	public void equals() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(sequence, new DoubleArraySequence(0).appendAll(1, 2));
+		Assert.assertNotEquals(sequence, new DoubleArraySequence().appendAll(1));
+		Assert.assertNotEquals(sequence, new DoubleArraySequence().appendAll(2, 1));
+		Assert.assertNotEquals(sequence, new DoubleArraySource(1, 2));
+
+	}
+
+	@Test
+	public void hash() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(Arrays.hashCode(new double[] { 1, 2 }), sequence.hashCode());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		DoubleSequence sequence = new DoubleArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals("[1.0, 2.0]", sequence.toString());
+
+	}
+
+}
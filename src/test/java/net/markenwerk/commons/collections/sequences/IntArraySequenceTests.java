@@ -0,0 +1,649 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sources.IntArraySource;
+import net.markenwerk.commons.collections.sources.IntIterator;
+import net.markenwerk.commons.collections.sources.IntPredicate;
+import net.markenwerk.commons.collections.sources.IntSource;
+
+@SuppressWarnings("javadoc")
+public class IntArraySequenceTests {
+
+	private static final IntPredicate ODD = new IntPredicate() {
+
+		@Override
+		public boolean test(int value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	private static final IntPredicate NEGATIVE = new IntPredicate() {
+
+		@Override
+		public boolean test(int value) {
+			return value < 0;
+		}
+
+	};
+
+	private static final IntOperator NEGATE = new IntOperator() {
+
+		@Override
+		public int apply(int value) {
+			return -value;
+		}
+
+	};
+
+	/* INT ARRAY SEQUENCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new IntArraySequence(-1);
+
+	}
+
+	@Test
+	public void getCapacity() {
+
+		IntArraySequence sequence = new IntArraySequence(42);
+
+		Assert.assertEquals(42, sequence.getCapacity());
+
+	}
+
+	@Test
+	public void getCapacity_default() {
+
+		IntArraySequence sequence = new IntArraySequence();
+
+		Assert.assertEquals(IntArraySequence.DEFAULT_CAPACITY, sequence.getCapacity());
+
+	}
+
+	@Test
+	public void ensureCapacity() {
+
+		IntArraySequence sequence = new IntArraySequence(1);
+		sequence.append(1);
+
+		sequence.ensureCapacity(42);
+
+		Assert.assertEquals(42, sequence.getCapacity());
+		Assert.assertArrayEquals(new int[] { 1 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void ensureCapacity_negativeCapacity() {
+
+		new IntArraySequence().ensureCapacity(-1);
+
+	}
+
+	@Test
+	public void trimToSize() {
+
+		IntArraySequence sequence = new IntArraySequence(42);
+		sequence.appendAll(1, 2);
+
+		sequence.trimToSize();
+
+		Assert.assertEquals(2, sequence.getCapacity());
+		Assert.assertArrayEquals(new int[] { 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void append_grow() {
+
+		IntArraySequence sequence = new IntArraySequence(0);
+
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i));
+		}
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void iterator_concurrentModification() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		IntIterator iterator = sequence.iterator();
+		iterator.next();
+		sequence.append(3);
+		iterator.next();
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 3);
+
+		IntIterator iterator = sequence.iterator(true);
+
+		Assert.assertEquals(3, iterator.next());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	/* INT SEQUENCE */
+
+	@Test
+	public void insert() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 3);
+
+		sequence.insert(1, 2);
+
+		Assert.assertArrayEquals(new int[] { 1, 2, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insert_negativeIndex() {
+
+		new IntArraySequence().insert(-1, 1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insert_largeIndex() {
+
+		new IntArraySequence().insert(1, 1);
+
+	}
+
+	@Test
+	public void insertAll_array() {
+
+		IntSequence sequence = new IntArraySequence(2).appendAll(1, 4);
+
+		sequence.insertAll(1, 2, 3);
+
+		Assert.assertArrayEquals(new int[] { 1, 2, 3, 4 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAll_nullArray() {
+
+		new IntArraySequence().insertAll(0, (int[]) null);
+
+	}
+
+	@Test
+	public void insertAll_source() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 4);
+
+		sequence.insertAll(1, new IntArraySource(2, 3));
+
+		Assert.assertArrayEquals(new int[] { 1, 2, 3, 4 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void insertAll_self() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		sequence.insertAll(1, sequence);
+
+		Assert.assertArrayEquals(new int[] { 1, 1, 2, 2 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAll_nullSource() {
+
+		new IntArraySequence().insertAll(0, (IntSource) null);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insertAll_largeIndex() {
+
+		new IntArraySequence().insertAll(1, 1, 2);
+
+	}
+
+	@Test
+	public void prepend() {
+
+		IntSequence sequence = new IntArraySequence().append(2);
+
+		sequence.prepend(1);
+		sequence.prependAll(new int[] { -1, 0 });
+
+		Assert.assertArrayEquals(new int[] { -1, 0, 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void append() {
+
+		IntSequence sequence = new IntArraySequence().append(1);
+
+		sequence.appendAll(2, 3);
+		sequence.appendAll(new IntArraySource(4));
+
+		Assert.assertArrayEquals(new int[] { 1, 2, 3, 4 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void remove() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 3);
+
+		Assert.assertEquals(2, sequence.remove(1));
+		Assert.assertArrayEquals(new int[] { 1, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void remove_largeIndex() {
+
+		new IntArraySequence().append(1).remove(1);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeFirst_empty() {
+
+		new IntArraySequence().removeFirst();
+
+	}
+
+	@Test
+	public void removeFirst() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(1, sequence.removeFirst());
+		Assert.assertArrayEquals(new int[] { 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeFirst_reference() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(0, sequence.removeFirst(1));
+		Assert.assertEquals(IntSequence.NO_INDEX, sequence.removeFirst(3));
+		Assert.assertArrayEquals(new int[] { 2, 1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeFirstMatch() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(2, 1, 3);
+
+		Assert.assertEquals(1, sequence.removeFirstMatch(ODD));
+		Assert.assertEquals(IntSequence.NO_INDEX, sequence.removeFirstMatch(NEGATIVE));
+		Assert.assertArrayEquals(new int[] { 2, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeLast_empty() {
+
+		new IntArraySequence().removeLast();
+
+	}
+
+	@Test
+	public void removeLast() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(2, sequence.removeLast());
+		Assert.assertArrayEquals(new int[] { 1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeLast_reference() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(2, sequence.removeLast(1));
+		Assert.assertEquals(IntSequence.NO_INDEX, sequence.removeLast(3));
+		Assert.assertArrayEquals(new int[] { 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeLastMatch() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 3, 2);
+
+		Assert.assertEquals(1, sequence.removeLastMatch(ODD));
+		Assert.assertArrayEquals(new int[] { 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeAll() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 1, 3);
+
+		IntSource removed = sequence.removeAll(1);
+
+		Assert.assertArrayEquals(new int[] { 1, 1 }, removed.toArray());
+		Assert.assertArrayEquals(new int[] { 2, 3 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeAllMatches() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 3, 4, 5);
+
+		IntSource removed = sequence.removeAllMatches(ODD);
+
+		Assert.assertArrayEquals(new int[] { 1, 3, 5 }, removed.toArray());
+		Assert.assertArrayEquals(new int[] { 2, 4 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeAllMatches_noMatches() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		IntSource removed = sequence.removeAllMatches(NEGATIVE);
+
+		Assert.assertTrue(removed.isEmpty());
+		Assert.assertEquals(2, sequence.size());
+		Assert.assertSame(removed, new IntArraySequence().appendAll(3).removeAllMatches(NEGATIVE));
+
+	}
+
+	@Test
+	public void removeAllMatches_many() {
+
+		IntSequence sequence = new IntArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		IntSource removed = sequence.removeAllMatches(ODD);
+
+		int[] removedValues = removed.toArray();
+		Assert.assertEquals(500, removedValues.length);
+		Assert.assertEquals(500, sequence.size());
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, removedValues[i]);
+			Assert.assertEquals(2 * i, sequence.get(i));
+		}
+
+	}
+
+	@Test
+	public void removeAllMatches_throwingPredicate() {
+
+		IntSequence sequence = new IntArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		try {
+			sequence.removeAllMatches(new IntPredicate() {
+
+				@Override
+				public boolean test(int value) {
+					if (500 == value) {
+						throw new IllegalStateException();
+					}
+					return 1 == value % 2;
+				}
+
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i));
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void removeAllMatches_nullPredicate() {
+
+		new IntArraySequence().removeAllMatches(null);
+
+	}
+
+	@Test
+	public void retainAll() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 1, 3);
+
+		IntSource removed = sequence.retainAll(1);
+
+		Assert.assertArrayEquals(new int[] { 2, 3 }, removed.toArray());
+		Assert.assertArrayEquals(new int[] { 1, 1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void retainAllMatches() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 3, 4, 5);
+
+		IntSource removed = sequence.retainAllMatches(ODD);
+
+		Assert.assertArrayEquals(new int[] { 2, 4 }, removed.toArray());
+		Assert.assertArrayEquals(new int[] { 1, 3, 5 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void retainAllMatches_nullPredicate() {
+
+		new IntArraySequence().retainAllMatches(null);
+
+	}
+
+	@Test
+	public void clear() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		IntSource removed = sequence.clear();
+		sequence.append(3);
+
+		Assert.assertArrayEquals(new int[] { 1, 2 }, removed.toArray());
+		Assert.assertArrayEquals(new int[] { 3 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replace() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(2, sequence.replace(1, 3));
+		Assert.assertArrayEquals(new int[] { 1, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void replace_negativeIndex() {
+
+		new IntArraySequence().append(1).replace(-1, 2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replaceFirst_empty() {
+
+		new IntArraySequence().replaceFirst(1);
+
+	}
+
+	@Test
+	public void replaceFirst() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(1, sequence.replaceFirst(0));
+		Assert.assertEquals(2, sequence.replaceFirst(1, 3));
+		Assert.assertEquals(IntSequence.NO_INDEX, sequence.replaceFirst(4, 3));
+		Assert.assertEquals(2, sequence.replaceFirstMatch(ODD, 5));
+		Assert.assertArrayEquals(new int[] { 0, 2, 5 }, sequence.toArray());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replaceLast_empty() {
+
+		new IntArraySequence().replaceLast(1);
+
+	}
+
+	@Test
+	public void replaceLast() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(1, sequence.replaceLast(0));
+		Assert.assertEquals(0, sequence.replaceLast(1, 3));
+		Assert.assertEquals(IntSequence.NO_INDEX, sequence.replaceLastMatch(NEGATIVE, 3));
+		Assert.assertArrayEquals(new int[] { 3, 2, 0 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replaceAll() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 1);
+
+		IntSource replaced = sequence.replaceAll(1, NEGATE);
+
+		Assert.assertArrayEquals(new int[] { 1, 1 }, replaced.toArray());
+		Assert.assertArrayEquals(new int[] { -1, 2, -1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replaceAllMatches() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2, 3);
+
+		IntSource replaced = sequence.replaceAllMatches(ODD, NEGATE);
+
+		Assert.assertArrayEquals(new int[] { 1, 3 }, replaced.toArray());
+		Assert.assertArrayEquals(new int[] { -1, 2, -3 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replaceAllMatches_many() {
+
+		IntSequence sequence = new IntArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		IntSource replaced = sequence.replaceAllMatches(ODD, NEGATE);
+
+		int[] replacedValues = replaced.toArray();
+		Assert.assertEquals(500, replacedValues.length);
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, replacedValues[i]);
+			Assert.assertEquals(-(2 * i + 1), sequence.get(2 * i + 1));
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replaceAllMatches_nullPredicate() {
+
+		new IntArraySequence().replaceAllMatches(null, NEGATE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replaceAllMatches_nullOperator() {
+
+		new IntArraySequence().replaceAllMatches(ODD, null);
+
+	}
+
+	@Test
+	public void equals() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(sequence, new IntArraySequence(0).appendAll(1, 2));
+		Assert.assertNotEquals(sequence, new IntArraySequence().appendAll(1));
+		Assert.assertNotEquals(sequence, new IntArraySequence().appendAll(2, 1));
+		Assert.assertNotEquals(sequence, new IntArraySource(1, 2));
+
+	}
+
+	@Test
+	public void hash() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(Arrays.hashCode(new int[] { 1, 2 }), sequence.hashCode());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		IntSequence sequence = new IntArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals("[1, 2]", sequence.toString());
+
+	}
+
+}
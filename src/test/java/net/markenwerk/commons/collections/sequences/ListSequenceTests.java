@@ -21,6 +21,7 @@
  */
 package net.markenwerk.commons.collections.sequences;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -1030,6 +1031,43 @@ public class ListSequenceTests {
 
 	}
 
+	@Test
+	public void insertAll_iterable_rejectNull_unmodified() {
+
+		Sequence<Object> sequence = new ListSequence<Object>(Nullity.REJECT, new LinkedList<Object>(LIST));
+
+		try {
+			sequence.insertAll(1, new ArrayIterable<Object>(new Object(), null));
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals(2, sequence.size());
+			Assert.assertSame(ARRAY[0], sequence.get(0));
+			Assert.assertSame(ARRAY[1], sequence.get(1));
+		}
+
+	}
+
+	@Test
+	public void insertAll_iterable_largeMiddle() {
+
+		List<Object> payloads = new ArrayList<Object>();
+		for (int i = 0; i < 1000; i++) {
+			payloads.add(i);
+		}
+		Sequence<Object> sequence = new ListSequence<Object>(new ArrayList<Object>());
+		sequence.appendAll(LIST);
+
+		sequence.insertAll(1, payloads);
+
+		Assert.assertEquals(1002, sequence.size());
+		Assert.assertSame(ARRAY[0], sequence.get(0));
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i + 1));
+		}
+		Assert.assertSame(ARRAY[1], sequence.get(1001));
+
+	}
+
 	@Test
 	public void prepend_begin() {
 
@@ -1674,6 +1712,100 @@ public class ListSequenceTests {
 		Assert.assertSame(ARRAY[1], removed.getFirst());
 	}
 
+	@Test
+	public void removeAllMatches_throwingPredicate() {
+
+		Sequence<Object> sequence = new ListSequence<Object>(new ArrayList<Object>());
+		for (int i = 0; i < 1000; i++) {
+			sequence.prepend(999 - i);
+		}
+
+		try {
+			sequence.removeAllMatches(new Predicate<Object>() {
+
+				@Override
+				public boolean test(Object subject) {
+					int value = (Integer) subject;
+					if (500 == value) {
+						throw new IllegalStateException();
+					}
+					return 0 != value % 3;
+				}
+
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i));
+		}
+
+	}
+
+	@Test
+	public void removeAllMatches_randomAccess() {
+
+		Sequence<Object> sequence = new ListSequence<Object>(new ArrayList<Object>());
+		for (int i = 0; i < 1000; i++) {
+			sequence.prepend(999 - i);
+		}
+
+		Source<Object> removed = sequence.removeAllMatches(new Predicate<Object>() {
+
+			@Override
+			public boolean test(Object subject) {
+				return 0 != ((Integer) subject) % 3;
+			}
+
+		});
+
+		Assert.assertEquals(334, sequence.size());
+		for (int i = 0; i < 334; i++) {
+			Assert.assertEquals(i * 3, sequence.get(i));
+		}
+		Assert.assertEquals(666, removed.size());
+		Iterator<Object> iterator = removed.iterator();
+		for (int i = 0; i < 1000; i++) {
+			if (0 != i % 3) {
+				Assert.assertEquals(i, iterator.next());
+			}
+		}
+
+	}
+
+	@Test
+	public void removeAllMatches_sequentialAccess() {
+
+		Sequence<Object> sequence = new ListSequence<Object>(new LinkedList<Object>());
+		for (int i = 0; i < 1000; i++) {
+			sequence.prepend(999 - i);
+		}
+
+		Source<Object> removed = sequence.removeAllMatches(new Predicate<Object>() {
+
+			@Override
+			public boolean test(Object subject) {
+				return 0 != ((Integer) subject) % 3;
+			}
+
+		});
+
+		Assert.assertEquals(334, sequence.size());
+		for (int i = 0; i < 334; i++) {
+			Assert.assertEquals(i * 3, sequence.get(i));
+		}
+		Assert.assertEquals(666, removed.size());
+		Iterator<Object> iterator = removed.iterator();
+		for (int i = 0; i < 1000; i++) {
+			if (0 != i % 3) {
+				Assert.assertEquals(i, iterator.next());
+			}
+		}
+
+	}
+
 	@Test
 	public void retainAll_unmatchedReference() {
 
@@ -2187,4 +2319,80 @@ public class ListSequenceTests {
 		Assert.assertSame(ARRAY[1], replaced.getFirst());
 	}
 
+	@Test
+	public void replaceAllMatches_randomAccess() {
+
+		Sequence<Object> sequence = new ListSequence<Object>(new ArrayList<Object>());
+		for (int i = 0; i < 1000; i++) {
+			sequence.prepend(999 - i);
+		}
+
+		Source<Object> replaced = sequence.replaceAllMatches(new Predicate<Object>() {
+
+			@Override
+			public boolean test(Object subject) {
+				return 0 == ((Integer) subject) % 2;
+			}
+
+		}, new Provider<Object>() {
+
+			private int replacement = -1;
+
+			@Override
+			public Object provide() throws ProvisioningException {
+				return replacement--;
+			}
+
+		});
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(0 == i % 2 ? -1 - i / 2 : i, sequence.get(i));
+		}
+		Assert.assertEquals(500, replaced.size());
+		Iterator<Object> iterator = replaced.iterator();
+		for (int i = 0; i < 1000; i += 2) {
+			Assert.assertEquals(i, iterator.next());
+		}
+
+	}
+
+	@Test
+	public void replaceAllMatches_sequentialAccess() {
+
+		Sequence<Object> sequence = new ListSequence<Object>(new LinkedList<Object>());
+		for (int i = 0; i < 1000; i++) {
+			sequence.prepend(999 - i);
+		}
+
+		Source<Object> replaced = sequence.replaceAllMatches(new Predicate<Object>() {
+
+			@Override
+			public boolean test(Object subject) {
+				return 0 == ((Integer) subject) % 2;
+			}
+
+		}, new Provider<Object>() {
+
+			private int replacement = -1;
+
+			@Override
+			public Object provide() throws ProvisioningException {
+				return replacement--;
+			}
+
+		});
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(0 == i % 2 ? -1 - i / 2 : i, sequence.get(i));
+		}
+		Assert.assertEquals(500, replaced.size());
+		Iterator<Object> iterator = replaced.iterator();
+		for (int i = 0; i < 1000; i += 2) {
+			Assert.assertEquals(i, iterator.next());
+		}
+
+	}
+
 }
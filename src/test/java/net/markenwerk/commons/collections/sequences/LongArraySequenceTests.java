@@ -0,0 +1,649 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sources.LongArraySource;
+import net.markenwerk.commons.collections.sources.LongIterator;
+import net.markenwerk.commons.collections.sources.LongPredicate;
+import net.markenwerk.commons.collections.sources.LongSource;
+
+@SuppressWarnings("javadoc")
+public class LongArraySequenceTests {
+
+	private static final LongPredicate ODD = new LongPredicate() {
+
+		@Override
+		public boolean test(long value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	private static final LongPredicate NEGATIVE = new LongPredicate() {
+
+		@Override
+		public boolean test(long value) {
+			return value < 0;
+		}
+
+	};
+
+	private static final LongOperator NEGATE = new LongOperator() {
+
+		@Override
+		public long apply(long value) {
+			return -value;
+		}
+
+	};
+
+	/* LONG ARRAY SEQUENCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new LongArraySequence(-1);
+
+	}
+
+	@Test
+	public void getCapacity() {
+
+		LongArraySequence sequence = new LongArraySequence(42);
+
+		Assert.assertEquals(42, sequence.getCapacity());
+
+	}
+
+	@Test
+	public void getCapacity_default() {
+
+		LongArraySequence sequence = new LongArraySequence();
+
+		Assert.assertEquals(LongArraySequence.DEFAULT_CAPACITY, sequence.getCapacity());
+
+	}
+
+	@Test
+	public void ensureCapacity() {
+
+		LongArraySequence sequence = new LongArraySequence(1);
+		sequence.append(1);
+
+		sequence.ensureCapacity(42);
+
+		Assert.assertEquals(42, sequence.getCapacity());
+		Assert.assertArrayEquals(new long[] { 1 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void ensureCapacity_negativeCapacity() {
+
+		new LongArraySequence().ensureCapacity(-1);
+
+	}
+
+	@Test
+	public void trimToSize() {
+
+		LongArraySequence sequence = new LongArraySequence(42);
+		sequence.appendAll(1, 2);
+
+		sequence.trimToSize();
+
+		Assert.assertEquals(2, sequence.getCapacity());
+		Assert.assertArrayEquals(new long[] { 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void append_grow() {
+
+		LongArraySequence sequence = new LongArraySequence(0);
+
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i));
+		}
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void iterator_concurrentModification() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		LongIterator iterator = sequence.iterator();
+		iterator.next();
+		sequence.append(3);
+		iterator.next();
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 3);
+
+		LongIterator iterator = sequence.iterator(true);
+
+		Assert.assertEquals(3, iterator.next());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	/* LONG SEQUENCE */
+
+	@Test
+	public void insert() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 3);
+
+		sequence.insert(1, 2);
+
+		Assert.assertArrayEquals(new long[] { 1, 2, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insert_negativeIndex() {
+
+		new LongArraySequence().insert(-1, 1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insert_largeIndex() {
+
+		new LongArraySequence().insert(1, 1);
+
+	}
+
+	@Test
+	public void insertAll_array() {
+
+		LongSequence sequence = new LongArraySequence(2).appendAll(1, 4);
+
+		sequence.insertAll(1, 2, 3);
+
+		Assert.assertArrayEquals(new long[] { 1, 2, 3, 4 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAll_nullArray() {
+
+		new LongArraySequence().insertAll(0, (long[]) null);
+
+	}
+
+	@Test
+	public void insertAll_source() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 4);
+
+		sequence.insertAll(1, new LongArraySource(2, 3));
+
+		Assert.assertArrayEquals(new long[] { 1, 2, 3, 4 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void insertAll_self() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		sequence.insertAll(1, sequence);
+
+		Assert.assertArrayEquals(new long[] { 1, 1, 2, 2 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAll_nullSource() {
+
+		new LongArraySequence().insertAll(0, (LongSource) null);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void insertAll_largeIndex() {
+
+		new LongArraySequence().insertAll(1, 1, 2);
+
+	}
+
+	@Test
+	public void prepend() {
+
+		LongSequence sequence = new LongArraySequence().append(2);
+
+		sequence.prepend(1);
+		sequence.prependAll(new long[] { -1, 0 });
+
+		Assert.assertArrayEquals(new long[] { -1, 0, 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void append() {
+
+		LongSequence sequence = new LongArraySequence().append(1);
+
+		sequence.appendAll(2, 3);
+		sequence.appendAll(new LongArraySource(4));
+
+		Assert.assertArrayEquals(new long[] { 1, 2, 3, 4 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void remove() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 3);
+
+		Assert.assertEquals(2, sequence.remove(1));
+		Assert.assertArrayEquals(new long[] { 1, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void remove_largeIndex() {
+
+		new LongArraySequence().append(1).remove(1);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeFirst_empty() {
+
+		new LongArraySequence().removeFirst();
+
+	}
+
+	@Test
+	public void removeFirst() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(1, sequence.removeFirst());
+		Assert.assertArrayEquals(new long[] { 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeFirst_reference() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(0, sequence.removeFirst(1));
+		Assert.assertEquals(LongSequence.NO_INDEX, sequence.removeFirst(3));
+		Assert.assertArrayEquals(new long[] { 2, 1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeFirstMatch() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(2, 1, 3);
+
+		Assert.assertEquals(1, sequence.removeFirstMatch(ODD));
+		Assert.assertEquals(LongSequence.NO_INDEX, sequence.removeFirstMatch(NEGATIVE));
+		Assert.assertArrayEquals(new long[] { 2, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void removeLast_empty() {
+
+		new LongArraySequence().removeLast();
+
+	}
+
+	@Test
+	public void removeLast() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(2, sequence.removeLast());
+		Assert.assertArrayEquals(new long[] { 1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeLast_reference() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(2, sequence.removeLast(1));
+		Assert.assertEquals(LongSequence.NO_INDEX, sequence.removeLast(3));
+		Assert.assertArrayEquals(new long[] { 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeLastMatch() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 3, 2);
+
+		Assert.assertEquals(1, sequence.removeLastMatch(ODD));
+		Assert.assertArrayEquals(new long[] { 1, 2 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeAll() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 1, 3);
+
+		LongSource removed = sequence.removeAll(1);
+
+		Assert.assertArrayEquals(new long[] { 1, 1 }, removed.toArray());
+		Assert.assertArrayEquals(new long[] { 2, 3 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeAllMatches() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 3, 4, 5);
+
+		LongSource removed = sequence.removeAllMatches(ODD);
+
+		Assert.assertArrayEquals(new long[] { 1, 3, 5 }, removed.toArray());
+		Assert.assertArrayEquals(new long[] { 2, 4 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void removeAllMatches_noMatches() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		LongSource removed = sequence.removeAllMatches(NEGATIVE);
+
+		Assert.assertTrue(removed.isEmpty());
+		Assert.assertEquals(2, sequence.size());
+		Assert.assertSame(removed, new LongArraySequence().appendAll(3).removeAllMatches(NEGATIVE));
+
+	}
+
+	@Test
+	public void removeAllMatches_many() {
+
+		LongSequence sequence = new LongArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		LongSource removed = sequence.removeAllMatches(ODD);
+
+		long[] removedValues = removed.toArray();
+		Assert.assertEquals(500, removedValues.length);
+		Assert.assertEquals(500, sequence.size());
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, removedValues[i]);
+			Assert.assertEquals(2 * i, sequence.get(i));
+		}
+
+	}
+
+	@Test
+	public void removeAllMatches_throwingPredicate() {
+
+		LongSequence sequence = new LongArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		try {
+			sequence.removeAllMatches(new LongPredicate() {
+
+				@Override
+				public boolean test(long value) {
+					if (500 == value) {
+						throw new IllegalStateException();
+					}
+					return 1 == value % 2;
+				}
+
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+
+		Assert.assertEquals(1000, sequence.size());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertEquals(i, sequence.get(i));
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void removeAllMatches_nullPredicate() {
+
+		new LongArraySequence().removeAllMatches(null);
+
+	}
+
+	@Test
+	public void retainAll() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 1, 3);
+
+		LongSource removed = sequence.retainAll(1);
+
+		Assert.assertArrayEquals(new long[] { 2, 3 }, removed.toArray());
+		Assert.assertArrayEquals(new long[] { 1, 1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void retainAllMatches() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 3, 4, 5);
+
+		LongSource removed = sequence.retainAllMatches(ODD);
+
+		Assert.assertArrayEquals(new long[] { 2, 4 }, removed.toArray());
+		Assert.assertArrayEquals(new long[] { 1, 3, 5 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void retainAllMatches_nullPredicate() {
+
+		new LongArraySequence().retainAllMatches(null);
+
+	}
+
+	@Test
+	public void clear() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		LongSource removed = sequence.clear();
+		sequence.append(3);
+
+		Assert.assertArrayEquals(new long[] { 1, 2 }, removed.toArray());
+		Assert.assertArrayEquals(new long[] { 3 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replace() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(2, sequence.replace(1, 3));
+		Assert.assertArrayEquals(new long[] { 1, 3 }, sequence.toArray());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void replace_negativeIndex() {
+
+		new LongArraySequence().append(1).replace(-1, 2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replaceFirst_empty() {
+
+		new LongArraySequence().replaceFirst(1);
+
+	}
+
+	@Test
+	public void replaceFirst() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(1, sequence.replaceFirst(0));
+		Assert.assertEquals(2, sequence.replaceFirst(1, 3));
+		Assert.assertEquals(LongSequence.NO_INDEX, sequence.replaceFirst(4, 3));
+		Assert.assertEquals(2, sequence.replaceFirstMatch(ODD, 5));
+		Assert.assertArrayEquals(new long[] { 0, 2, 5 }, sequence.toArray());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replaceLast_empty() {
+
+		new LongArraySequence().replaceLast(1);
+
+	}
+
+	@Test
+	public void replaceLast() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 1);
+
+		Assert.assertEquals(1, sequence.replaceLast(0));
+		Assert.assertEquals(0, sequence.replaceLast(1, 3));
+		Assert.assertEquals(LongSequence.NO_INDEX, sequence.replaceLastMatch(NEGATIVE, 3));
+		Assert.assertArrayEquals(new long[] { 3, 2, 0 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replaceAll() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 1);
+
+		LongSource replaced = sequence.replaceAll(1, NEGATE);
+
+		Assert.assertArrayEquals(new long[] { 1, 1 }, replaced.toArray());
+		Assert.assertArrayEquals(new long[] { -1, 2, -1 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replaceAllMatches() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2, 3);
+
+		LongSource replaced = sequence.replaceAllMatches(ODD, NEGATE);
+
+		Assert.assertArrayEquals(new long[] { 1, 3 }, replaced.toArray());
+		Assert.assertArrayEquals(new long[] { -1, 2, -3 }, sequence.toArray());
+
+	}
+
+	@Test
+	public void replaceAllMatches_many() {
+
+		LongSequence sequence = new LongArraySequence();
+		for (int i = 0; i < 1000; i++) {
+			sequence.append(i);
+		}
+
+		LongSource replaced = sequence.replaceAllMatches(ODD, NEGATE);
+
+		long[] replacedValues = replaced.toArray();
+		Assert.assertEquals(500, replacedValues.length);
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, replacedValues[i]);
+			Assert.assertEquals(-(2 * i + 1), sequence.get(2 * i + 1));
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replaceAllMatches_nullPredicate() {
+
+		new LongArraySequence().replaceAllMatches(null, NEGATE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replaceAllMatches_nullOperator() {
+
+		new LongArraySequence().replaceAllMatches(ODD, null);
+
+	}
+
+	@Test
+	public void equals() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(sequence, new LongArraySequence(0).appendAll(1, 2));
+		Assert.assertNotEquals(sequence, new LongArraySequence().appendAll(1));
+		Assert.assertNotEquals(sequence, new LongArraySequence().appendAll(2, 1));
+		Assert.assertNotEquals(sequence, new LongArraySource(1, 2));
+
+	}
+
+	@Test
+	public void hash() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals(Arrays.hashCode(new long[] { 1, 2 }), sequence.hashCode());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		LongSequence sequence = new LongArraySequence().appendAll(1, 2);
+
+		Assert.assertEquals("[1, 2]", sequence.toString());
+
+	}
+
+}
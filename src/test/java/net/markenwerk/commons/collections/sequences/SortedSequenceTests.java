@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.IndexedSource;
+import net.markenwerk.commons.interfaces.Predicate;
+
+@SuppressWarnings("javadoc")
+public class SortedSequenceTests {
+
+	private static final Comparator<String> COMPARATOR = String.CASE_INSENSITIVE_ORDER;
+
+	private static final Comparator<String> NULL_FIRST_COMPARATOR = new Comparator<String>() {
+
+		@Override
+		public int compare(String left, String right) {
+			return null == left ? (null == right ? 0 : -1) : null == right ? 1 : COMPARATOR.compare(left, right);
+		}
+
+	};
+
+	private static List<String> toList(SortedSequence<String> sequence) {
+		List<String> payloads = new ArrayList<String>();
+		for (String payload : sequence) {
+			payloads.add(payload);
+		}
+		return payloads;
+	}
+
+	/* SORTED SEQUENCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullComparator() {
+
+		new SortedSequence<String>(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullNullity() {
+
+		new SortedSequence<String>(null, COMPARATOR);
+
+	}
+
+	@Test
+	public void getComparator() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		Assert.assertSame(COMPARATOR, sequence.getComparator());
+
+	}
+
+	@Test
+	public void add() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.add("c").add("a").add("d").add("b");
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), toList(sequence));
+
+	}
+
+	@Test
+	public void add_stable() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.add("b").add("a").add("B").add("b");
+
+		Assert.assertEquals(Arrays.asList("a", "b", "B", "b"), toList(sequence));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_rejectNull() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(Nullity.REJECT, COMPARATOR);
+
+		sequence.add(null);
+
+	}
+
+	@Test
+	public void add_ignoreNull() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(Nullity.IGNORE, COMPARATOR);
+
+		sequence.add(null);
+
+		Assert.assertTrue(sequence.isEmpty());
+
+	}
+
+	@Test
+	public void add_allowNull() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(Nullity.ALLOW, NULL_FIRST_COMPARATOR);
+
+		sequence.add("a").add(null);
+
+		Assert.assertEquals(Arrays.asList(null, "a"), toList(sequence));
+		Assert.assertTrue(sequence.contains(null));
+		Assert.assertEquals(Integer.valueOf(0), sequence.firstIndexOf(null).getValue());
+
+	}
+
+	@Test
+	public void addAll_empty() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.addAll("c", "a", "b");
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), toList(sequence));
+
+	}
+
+	@Test
+	public void addAll_append() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.add("a").add("b");
+		sequence.addAll(Arrays.asList("d", "B", "c"));
+
+		Assert.assertEquals(Arrays.asList("a", "b", "B", "c", "d"), toList(sequence));
+
+	}
+
+	@Test
+	public void addAll_merge() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.addAll("b", "d", "f");
+		sequence.addAll("g", "a", "D", "c");
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "D", "f", "g"), toList(sequence));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addAll_nullArray() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.addAll((String[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addAll_nullIterable() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.addAll((Iterable<String>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addAll_rejectNull() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(Nullity.REJECT, COMPARATOR);
+
+		sequence.addAll("a", null);
+
+	}
+
+	@Test
+	public void addAll_ignoreNull() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(Nullity.IGNORE, COMPARATOR);
+
+		sequence.addAll("b", null, "a");
+
+		Assert.assertEquals(Arrays.asList("a", "b"), toList(sequence));
+
+	}
+
+	/* SEQUENCE */
+
+	@Test
+	public void insert_ordered() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "c");
+
+		sequence.insert(1, "b");
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), toList(sequence));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insert_unordered() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "c");
+
+		sequence.insert(0, "b");
+
+	}
+
+	@Test
+	public void insertAll_ordered() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "d");
+
+		sequence.insertAll(1, "b", "c");
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), toList(sequence));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insertAll_unordered() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "d");
+
+		sequence.insertAll(1, "c", "b");
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void append_unordered() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "c");
+
+		sequence.append("b");
+
+	}
+
+	@Test
+	public void replace_ordered() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "d");
+
+		Assert.assertEquals("b", sequence.replace(1, "c"));
+		Assert.assertEquals(Arrays.asList("a", "c", "d"), toList(sequence));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void replace_unordered() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "d");
+
+		sequence.replace(1, "e");
+
+	}
+
+	@Test
+	public void remove() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "c");
+
+		Assert.assertEquals("b", sequence.removeFirst("b").getValue());
+		Assert.assertEquals(Arrays.asList("a", "c"), toList(sequence));
+
+	}
+
+	@Test
+	public void removeAllMatches() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "c", "d");
+
+		sequence.removeAllMatches(new Predicate<String>() {
+
+			@Override
+			public boolean test(String subject) {
+				return "b".equals(subject) || "d".equals(subject);
+			}
+
+		});
+
+		Assert.assertEquals(Arrays.asList("a", "c"), toList(sequence));
+
+	}
+
+	@Test
+	public void clear() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "c");
+
+		Assert.assertEquals(3, sequence.clear().size());
+		Assert.assertTrue(sequence.isEmpty());
+
+	}
+
+	/* LOOKUP */
+
+	@Test
+	public void contains() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "B", "b", "c");
+
+		Assert.assertTrue(sequence.contains("B"));
+		Assert.assertTrue(sequence.contains("b"));
+		Assert.assertFalse(sequence.contains("A"));
+		Assert.assertFalse(sequence.contains("d"));
+		Assert.assertFalse(sequence.contains(null));
+		Assert.assertFalse(sequence.contains(Integer.valueOf(1)));
+
+	}
+
+	@Test
+	public void containsAll() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "c");
+
+		Assert.assertTrue(sequence.containsAll("a", "c"));
+		Assert.assertFalse(sequence.containsAll("a", "d"));
+
+	}
+
+	@Test
+	public void getFirst() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		String payload = new String("b");
+		sequence.addAll("a", payload, "c");
+
+		Assert.assertSame(payload, sequence.getFirst("b").getValue());
+		Assert.assertFalse(sequence.getFirst("d").hasValue());
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "B", "b", "c");
+
+		Assert.assertEquals(Integer.valueOf(1), sequence.firstIndexOf("b").getValue());
+		Assert.assertEquals(Integer.valueOf(2), sequence.firstIndexOf("B").getValue());
+		Assert.assertFalse(sequence.firstIndexOf("d").hasValue());
+		Assert.assertFalse(sequence.firstIndexOf(null).hasValue());
+
+	}
+
+	@Test
+	public void lastIndexOf() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "B", "b", "c");
+
+		Assert.assertEquals(Integer.valueOf(3), sequence.lastIndexOf("b").getValue());
+		Assert.assertEquals(Integer.valueOf(2), sequence.lastIndexOf("B").getValue());
+		Assert.assertFalse(sequence.lastIndexOf("d").hasValue());
+
+	}
+
+	/* SORTED SOURCE */
+
+	@Test
+	public void getAllBetween() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+		sequence.addAll("a", "b", "B", "c", "d");
+
+		IndexedSource<String> between = sequence.getAllBetween("b", "d");
+
+		Assert.assertEquals(3, between.size());
+		Assert.assertEquals("b", between.get(0));
+		Assert.assertEquals("c", between.get(2));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getAllBetween_invertedBounds() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(COMPARATOR);
+
+		sequence.getAllBetween("d", "b");
+
+	}
+
+}
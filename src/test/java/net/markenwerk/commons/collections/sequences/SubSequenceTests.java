@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sequences;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.interfaces.Provider;
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+
+@SuppressWarnings("javadoc")
+public class SubSequenceTests {
+
+	private static Sequence<String> create() {
+		return new ArraySequence<String>(Nullity.REJECT).appendAll("a", "b", "c", "d", "e");
+	}
+
+	private static List<String> toList(Source<String> source) {
+		List<String> payloads = new ArrayList<String>();
+		for (String payload : source) {
+			payloads.add(payload);
+		}
+		return payloads;
+	}
+
+	/* SUB SEQUENCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSequence() {
+
+		new SubSequence<Object>(null, 0, 0);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_negativeFrom() {
+
+		create().subSequence(-1, 2);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_tooLargeTo() {
+
+		create().subSequence(1, 6);
+
+	}
+
+	@Test
+	public void hasRandomAccess() {
+
+		Assert.assertTrue(new SubSequence<String>(create(), 1, 4).hasRandomAccess());
+		Assert.assertFalse(new SubSequence<String>(new ListSequence<String>(new LinkedList<String>()), 0, 0)
+				.hasRandomAccess());
+		Assert.assertFalse(new SubSequence<String>(new ConcurrentSequence<String>(create()), 1, 4).hasRandomAccess());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_invertedRange() {
+
+		create().subSequence(3, 2);
+
+	}
+
+	@Test
+	public void getSequence() {
+
+		Sequence<String> sequence = create();
+		SubSequence<String> subSequence = new SubSequence<String>(sequence, 1, 4);
+
+		Assert.assertSame(sequence, subSequence.getSequence());
+
+	}
+
+	@Test
+	public void getNullity() {
+
+		SubSequence<String> subSequence = new SubSequence<String>(create(), 1, 4);
+
+		Assert.assertSame(Nullity.REJECT, subSequence.getNullity());
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void modifiedSequence() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		sequence.append("f");
+
+		subSequence.get(0);
+
+	}
+
+	/* SOURCE */
+
+	@Test
+	public void size() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+
+		Assert.assertEquals(3, subSequence.size());
+
+	}
+
+	@Test
+	public void contains() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+
+		Assert.assertTrue(subSequence.contains("b"));
+		Assert.assertFalse(subSequence.contains("e"));
+
+	}
+
+	/* INDEXED SOURCE */
+
+	@Test
+	public void get() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+
+		Assert.assertEquals("b", subSequence.get(0));
+		Assert.assertEquals("d", subSequence.get(2));
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_tooLargeIndex() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+
+		subSequence.get(3);
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+
+		Assert.assertEquals(Integer.valueOf(2), subSequence.firstIndexOf("d").getValue());
+		Assert.assertFalse(subSequence.firstIndexOf("a").hasValue());
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+		BidirectionalIterator<String> iterator = subSequence.iterator(true);
+
+		List<String> payloads = new ArrayList<String>();
+		while (iterator.hasNext()) {
+			payloads.add(iterator.next());
+		}
+
+		Assert.assertEquals(Arrays.asList("d", "c", "b"), payloads);
+
+	}
+
+	@Test
+	public void subSource() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+
+		Assert.assertEquals(Arrays.asList("c"), toList(subSequence.subSequence(1, 2)));
+		Assert.assertEquals("c", subSequence.subSource(1, 2).get(0));
+
+	}
+
+	/* SEQUENCE */
+
+	@Test
+	public void insert() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		subSequence.append("x").prepend("y");
+
+		Assert.assertEquals(Arrays.asList("y", "b", "c", "d", "x"), toList(subSequence));
+		Assert.assertEquals(Arrays.asList("a", "y", "b", "c", "d", "x", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void insertAll() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		subSequence.insertAll(1, "x", "y");
+
+		Assert.assertEquals(5, subSequence.size());
+		Assert.assertEquals(Arrays.asList("a", "b", "x", "y", "c", "d", "e"), toList(sequence));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void insert_rejectNull() {
+
+		Sequence<String> subSequence = create().subSequence(1, 4);
+
+		subSequence.append(null);
+
+	}
+
+	@Test
+	public void insert_ignoreNull() {
+
+		Sequence<String> sequence = new ConcurrentSequence<String>(new ArraySequence<String>(Nullity.IGNORE))
+				.appendAll("a", "b");
+		Sequence<String> subSequence = sequence.subSequence(0, 1);
+
+		subSequence.append(null);
+
+		Assert.assertEquals(1, subSequence.size());
+		Assert.assertEquals("a", subSequence.get(0));
+
+	}
+
+	@Test
+	public void remove() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		Assert.assertEquals("c", subSequence.remove(1));
+		Assert.assertEquals(Arrays.asList("b", "d"), toList(subSequence));
+		Assert.assertEquals(Arrays.asList("a", "b", "d", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void removeAllMatches() {
+
+		Sequence<String> sequence = new ListSequence<String>(new LinkedList<String>(Arrays.asList("a", "b", "a",
+				"b", "a")));
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		Source<String> removed = subSequence.removeAllMatches(new Predicate<String>() {
+
+			@Override
+			public boolean test(String subject) {
+				return "a".equals(subject);
+			}
+
+		});
+
+		Assert.assertEquals(1, removed.size());
+		Assert.assertEquals(Arrays.asList("b", "b"), toList(subSequence));
+		Assert.assertEquals(Arrays.asList("a", "b", "b", "a"), toList(sequence));
+
+	}
+
+	@Test
+	public void retainAllMatches() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		subSequence.retainAll("c");
+
+		Assert.assertEquals(Arrays.asList("c"), toList(subSequence));
+		Assert.assertEquals(Arrays.asList("a", "c", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void clear() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		Source<String> removed = subSequence.clear();
+
+		Assert.assertEquals(3, removed.size());
+		Assert.assertEquals("b", removed.getFirst());
+		Assert.assertTrue(subSequence.isEmpty());
+		Assert.assertEquals(Arrays.asList("a", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void replace() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		Assert.assertEquals("c", subSequence.replace(1, "x"));
+		Assert.assertEquals("x", sequence.get(2));
+
+	}
+
+	@Test
+	public void replaceAll() {
+
+		Sequence<String> sequence = new ArraySequence<String>().appendAll("a", "a", "a");
+		Sequence<String> subSequence = sequence.subSequence(1, 2);
+
+		subSequence.replaceAll("a", new Provider<String>() {
+
+			@Override
+			public String provide() {
+				return "x";
+			}
+
+		});
+
+		Assert.assertEquals(Arrays.asList("a", "x", "a"), toList(sequence));
+
+	}
+
+	@Test
+	public void clear_ringBuffer() {
+
+		Sequence<String> sequence = new RingBufferSequence<String>().appendAll("c", "d", "e").prependAll("a", "b");
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		Source<String> removed = subSequence.clear();
+
+		Assert.assertEquals(Arrays.asList("b", "c", "d"), toList(removed));
+		Assert.assertEquals(Arrays.asList("a", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void removeAllMatches_ringBuffer() {
+
+		Sequence<String> sequence = new RingBufferSequence<String>().appendAll("c", "x", "d", "e").prependAll("a",
+				"x", "b");
+		Sequence<String> subSequence = sequence.subSequence(1, 6);
+
+		Source<String> removed = subSequence.removeAll("x");
+
+		Assert.assertEquals(Arrays.asList("x", "x"), toList(removed));
+		Assert.assertEquals(Arrays.asList("b", "c", "d"), toList(subSequence));
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void removeAllMatches_throwingPredicate() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		try {
+			subSequence.removeAllMatches(new Predicate<String>() {
+
+				@Override
+				public boolean test(String subject) {
+					if ("d".equals(subject)) {
+						throw new IllegalStateException();
+					}
+					return true;
+				}
+
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+
+		Assert.assertEquals(Arrays.asList("b", "c", "d"), toList(subSequence));
+		Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void removeAllMatches_sorted() {
+
+		SortedSequence<String> sequence = new SortedSequence<String>(String.CASE_INSENSITIVE_ORDER);
+		sequence.addAll("a", "b", "c", "d", "e");
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		subSequence.retainAll("d");
+
+		Assert.assertEquals(Arrays.asList("a", "d", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void clear_concurrent() {
+
+		Sequence<String> sequence = new ConcurrentSequence<String>(create());
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		Source<String> removed = subSequence.clear();
+
+		Assert.assertEquals(Arrays.asList("b", "c", "d"), toList(removed));
+		Assert.assertTrue(subSequence.isEmpty());
+		Assert.assertEquals(Arrays.asList("a", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void clear_hashIndexed() {
+
+		Sequence<String> sequence = new HashIndexedSequence<String>(create());
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		Assert.assertTrue(sequence.contains("c"));
+
+		subSequence.clear();
+
+		Assert.assertFalse(sequence.contains("c"));
+		Assert.assertEquals(Arrays.asList("a", "e"), toList(sequence));
+
+	}
+
+	@Test
+	public void clear_nested() {
+
+		Sequence<String> sequence = create();
+		Sequence<String> subSequence = sequence.subSequence(1, 4);
+
+		subSequence.subSequence(1, 3).clear();
+
+		Assert.assertEquals(Arrays.asList("b"), toList(subSequence));
+		Assert.assertEquals(Arrays.asList("a", "b", "e"), toList(sequence));
+
+	}
+
+}
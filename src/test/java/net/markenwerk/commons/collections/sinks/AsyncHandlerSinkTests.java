@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.exceptions.HandlingException;
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class AsyncHandlerSinkTests {
+
+	private static final class HandlerError extends Error {
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
+	private static final class CollectingHandler implements Handler<Object> {
+
+		private final List<Object> payloads = Collections.synchronizedList(new ArrayList<Object>());
+
+		@Override
+		public void handle(Object payload) throws HandlingException {
+			payloads.add(payload);
+		}
+
+	}
+
+	private static final class BlockingHandler implements Handler<Object> {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public void handle(Object payload) throws HandlingException {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullHandler() {
+
+		new AsyncHandlerSink<Object>(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveCapacity() {
+
+		new AsyncHandlerSink<Object>(Nullity.ALLOW, new CollectingHandler(), 0, 1, WaitStrategy.PARK,
+				FullPolicy.BLOCK);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveConsumers() {
+
+		new AsyncHandlerSink<Object>(Nullity.ALLOW, new CollectingHandler(), 1, 0, WaitStrategy.PARK,
+				FullPolicy.BLOCK);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullWaitStrategy() {
+
+		new AsyncHandlerSink<Object>(Nullity.ALLOW, new CollectingHandler(), 1, 1, null, FullPolicy.BLOCK);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFullPolicy() {
+
+		new AsyncHandlerSink<Object>(Nullity.ALLOW, new CollectingHandler(), 1, 1, WaitStrategy.PARK, null);
+
+	}
+
+	@Test
+	public void getters() {
+
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.IGNORE, new CollectingHandler(), 5, 1,
+				WaitStrategy.YIELD, FullPolicy.DROP);
+		sink.close();
+
+		Assert.assertSame(Nullity.IGNORE, sink.getNullity());
+		Assert.assertEquals(8, sink.getCapacity());
+		Assert.assertSame(WaitStrategy.YIELD, sink.getWaitStrategy());
+		Assert.assertSame(FullPolicy.DROP, sink.getFullPolicy());
+
+	}
+
+	@Test
+	public void add() {
+
+		CollectingHandler handler = new CollectingHandler();
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(handler);
+		Object object = new Object();
+
+		sink.add(object);
+		sink.flush();
+
+		Assert.assertEquals(1, handler.payloads.size());
+		Assert.assertSame(object, handler.payloads.get(0));
+		sink.close();
+
+	}
+
+	@Test
+	public void add_nullAllow() {
+
+		CollectingHandler handler = new CollectingHandler();
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.ALLOW, handler);
+
+		sink.add(null);
+		sink.close();
+
+		Assert.assertEquals(1, handler.payloads.size());
+		Assert.assertNull(handler.payloads.get(0));
+
+	}
+
+	@Test
+	public void add_nullIgnore() {
+
+		CollectingHandler handler = new CollectingHandler();
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.IGNORE, handler);
+
+		sink.add(null);
+		sink.close();
+
+		Assert.assertTrue(handler.payloads.isEmpty());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_rejectNull() {
+
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.REJECT, new CollectingHandler());
+
+		try {
+			sink.add(null);
+		} finally {
+			sink.close();
+		}
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void add_closed() {
+
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(new CollectingHandler());
+		sink.close();
+
+		sink.add(new Object());
+
+	}
+
+	@Test
+	public void addAll_order() {
+
+		CollectingHandler handler = new CollectingHandler();
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.ALLOW, handler, 4, 1,
+				WaitStrategy.YIELD, FullPolicy.BLOCK);
+		List<Object> payloads = new ArrayList<Object>();
+		for (int i = 0; i < 1000; i++) {
+			payloads.add(i);
+		}
+
+		sink.addAll(payloads);
+		sink.close();
+
+		Assert.assertEquals(payloads, handler.payloads);
+
+	}
+
+	@Test
+	public void add_fullDrop() throws InterruptedException {
+
+		BlockingHandler handler = new BlockingHandler();
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.ALLOW, handler, 2, 1,
+				WaitStrategy.PARK, FullPolicy.DROP);
+		sink.add(0);
+		Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+
+		sink.addAll(1, 2, 3, 4);
+
+		Assert.assertEquals(2, sink.getDroppedCount());
+		handler.release.countDown();
+		sink.close();
+
+	}
+
+	@Test
+	public void add_fullFail() throws InterruptedException {
+
+		BlockingHandler handler = new BlockingHandler();
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.ALLOW, handler, 2, 1,
+				WaitStrategy.PARK, FullPolicy.FAIL);
+		sink.add(0);
+		Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+		sink.addAll(1, 2);
+
+		try {
+			sink.add(3);
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		} finally {
+			handler.release.countDown();
+			sink.close();
+		}
+
+	}
+
+	@Test
+	public void add_fullBlock() throws InterruptedException {
+
+		final BlockingHandler handler = new BlockingHandler();
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.ALLOW, handler, 2, 1,
+				WaitStrategy.PARK, FullPolicy.BLOCK);
+		sink.add(0);
+		Assert.assertTrue(handler.started.await(10, TimeUnit.SECONDS));
+		sink.addAll(1, 2);
+
+		new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+				}
+				handler.release.countDown();
+			}
+
+		}).start();
+		sink.add(3);
+
+		Assert.assertEquals(0, handler.release.getCount());
+		sink.close();
+
+	}
+
+	@Test
+	public void flush_failure() {
+
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(new Handler<Object>() {
+
+			@Override
+			public void handle(Object payload) throws HandlingException {
+				throw new RuntimeException();
+			}
+
+		});
+		sink.add(new Object());
+
+		try {
+			sink.flush();
+			Assert.fail();
+		} catch (IllegalStateException e) {
+		}
+		sink.flush();
+		sink.close();
+
+	}
+
+	@Test
+	public void flush_error() {
+
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(new Handler<Object>() {
+
+			@Override
+			public void handle(Object payload) throws HandlingException {
+				throw new HandlerError();
+			}
+
+		});
+		sink.add(new Object());
+
+		try {
+			sink.flush();
+			Assert.fail();
+		} catch (HandlerError e) {
+		}
+		sink.add(new Object());
+		try {
+			sink.close();
+			Assert.fail();
+		} catch (HandlerError e) {
+		}
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void flush_closed() {
+
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(new CollectingHandler());
+		sink.close();
+
+		sink.flush();
+
+	}
+
+	@Test
+	public void close_twice() {
+
+		AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(new CollectingHandler());
+
+		sink.close();
+		sink.close();
+
+	}
+
+	@Test
+	public void concurrentProducers() throws InterruptedException {
+
+		final CollectingHandler handler = new CollectingHandler();
+		final AsyncHandlerSink<Object> sink = new AsyncHandlerSink<Object>(Nullity.ALLOW, handler, 64, 2,
+				WaitStrategy.YIELD, FullPolicy.BLOCK);
+		int threads = 4;
+		final int payloads = 10000;
+		final CountDownLatch done = new CountDownLatch(threads);
+		for (int i = 0; i < threads; i++) {
+			new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < payloads; j++) {
+						sink.add(j);
+					}
+					done.countDown();
+				}
+
+			}).start();
+		}
+
+		Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+		sink.close();
+
+		Assert.assertEquals(threads * payloads, handler.payloads.size());
+
+	}
+
+}
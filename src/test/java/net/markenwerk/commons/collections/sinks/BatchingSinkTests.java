@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.exceptions.HandlingException;
+import net.markenwerk.commons.interfaces.Handler;
+
+@SuppressWarnings("javadoc")
+public class BatchingSinkTests {
+
+	private static final class CollectingHandler implements Handler<Source<Object>> {
+
+		private final List<List<Object>> batches = new ArrayList<List<Object>>();
+
+		private final CountDownLatch handled = new CountDownLatch(1);
+
+		@Override
+		public void handle(Source<Object> batch) throws HandlingException {
+			List<Object> payloads = new ArrayList<Object>();
+			for (Object payload : batch) {
+				payloads.add(payload);
+			}
+			synchronized (batches) {
+				batches.add(payloads);
+			}
+			handled.countDown();
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullHandler() {
+
+		new BatchingSink<Object>(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveBatchSize() {
+
+		new BatchingSink<Object>(new CollectingHandler(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeDelay() {
+
+		new BatchingSink<Object>(Nullity.ALLOW, new CollectingHandler(), 1, -1, TimeUnit.SECONDS);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullUnit() {
+
+		new BatchingSink<Object>(Nullity.ALLOW, new CollectingHandler(), 1, 1, null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullScheduler() {
+
+		new BatchingSink<Object>(Nullity.ALLOW, new CollectingHandler(), 1, 1, TimeUnit.SECONDS, null);
+
+	}
+
+	@Test
+	public void getters() {
+
+		BatchingSink<Object> sink = new BatchingSink<Object>(Nullity.IGNORE, new CollectingHandler(), 42);
+
+		Assert.assertSame(Nullity.IGNORE, sink.getNullity());
+		Assert.assertEquals(42, sink.getBatchSize());
+
+	}
+
+	@Test
+	public void add_batchSize() {
+
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(handler, 2);
+
+		sink.add(1);
+		Assert.assertTrue(handler.batches.isEmpty());
+		sink.add(2);
+		sink.add(3);
+
+		Assert.assertEquals(Arrays.asList(Arrays.<Object> asList(1, 2)), handler.batches);
+
+	}
+
+	@Test
+	public void add_nullIgnore() {
+
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(Nullity.IGNORE, handler, 2);
+
+		sink.addAll(1, null, 2);
+
+		Assert.assertEquals(Arrays.asList(Arrays.<Object> asList(1, 2)), handler.batches);
+
+	}
+
+	@Test
+	public void add_nullAllow() {
+
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(Nullity.ALLOW, handler, 2);
+
+		sink.addAll(1, null);
+
+		Assert.assertEquals(Arrays.asList(Arrays.<Object> asList(1, null)), handler.batches);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_rejectNull() {
+
+		BatchingSink<Object> sink = new BatchingSink<Object>(Nullity.REJECT, new CollectingHandler(), 2);
+
+		sink.add(null);
+
+	}
+
+	@Test
+	public void addAll_multipleBatches() {
+
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(handler, 2);
+
+		sink.addAll(1, 2, 3, 4, 5);
+		sink.flush();
+
+		Assert.assertEquals(
+				Arrays.asList(Arrays.<Object> asList(1, 2), Arrays.<Object> asList(3, 4), Arrays.<Object> asList(5)),
+				handler.batches);
+
+	}
+
+	@Test
+	public void add_maximumDelay() throws InterruptedException {
+
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(Nullity.ALLOW, handler, 10, 1, TimeUnit.MILLISECONDS);
+
+		sink.add(1);
+		Thread.sleep(10);
+		sink.add(2);
+
+		Assert.assertEquals(Arrays.asList(Arrays.<Object> asList(1)), handler.batches);
+
+	}
+
+	@Test
+	public void add_scheduledMaximumDelay() throws InterruptedException {
+
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(Nullity.ALLOW, handler, 10, 1, TimeUnit.MILLISECONDS,
+				scheduler);
+
+		try {
+			sink.add(1);
+			Assert.assertTrue(handler.handled.await(10, TimeUnit.SECONDS));
+			synchronized (handler.batches) {
+				Assert.assertEquals(Arrays.asList(Arrays.<Object> asList(1)), handler.batches);
+			}
+		} finally {
+			scheduler.shutdown();
+		}
+
+	}
+
+	@Test
+	public void flush() {
+
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(handler, 10);
+		sink.add(1);
+
+		sink.flush();
+		sink.flush();
+
+		Assert.assertEquals(Arrays.asList(Arrays.<Object> asList(1)), handler.batches);
+
+	}
+
+	@Test
+	public void flush_failure() {
+
+		final List<Object> handled = new ArrayList<Object>();
+		BatchingSink<Object> sink = new BatchingSink<Object>(new Handler<Source<Object>>() {
+
+			@Override
+			public void handle(Source<Object> batch) throws HandlingException {
+				handled.add(batch.getFirst());
+				if (1 == handled.size()) {
+					throw new RuntimeException();
+				}
+			}
+
+		}, 10);
+		sink.add(1);
+
+		try {
+			sink.flush();
+			Assert.fail();
+		} catch (RuntimeException e) {
+		}
+		sink.add(2);
+		sink.flush();
+
+		Assert.assertEquals(Arrays.<Object> asList(1, 2), handled);
+
+	}
+
+	@Test
+	public void flush_scheduledFailure() throws InterruptedException {
+
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		final List<Object> handled = new ArrayList<Object>();
+		final CountDownLatch failed = new CountDownLatch(1);
+		BatchingSink<Object> sink = new BatchingSink<Object>(Nullity.ALLOW, new Handler<Source<Object>>() {
+
+			@Override
+			public void handle(Source<Object> batch) throws HandlingException {
+				synchronized (handled) {
+					handled.add(batch.getFirst());
+				}
+				if (Integer.valueOf(1).equals(batch.getFirst())) {
+					failed.countDown();
+					throw new RuntimeException();
+				}
+			}
+
+		}, 10, 1, TimeUnit.MILLISECONDS, scheduler);
+
+		final CountDownLatch blocked = new CountDownLatch(1);
+		try {
+			sink.add(1);
+			Assert.assertTrue(failed.await(10, TimeUnit.SECONDS));
+			scheduler.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						blocked.await();
+					} catch (InterruptedException e) {
+					}
+				}
+
+			});
+			sink.add(2);
+			try {
+				sink.flush();
+				Assert.fail();
+			} catch (IllegalStateException e) {
+			}
+			synchronized (handled) {
+				Assert.assertEquals(Arrays.<Object> asList(1, 2), handled);
+			}
+		} finally {
+			blocked.countDown();
+			scheduler.shutdown();
+		}
+
+	}
+
+	@Test
+	public void close() {
+
+		CollectingHandler handler = new CollectingHandler();
+		BatchingSink<Object> sink = new BatchingSink<Object>(handler, 10);
+		sink.add(1);
+
+		sink.close();
+		sink.close();
+
+		Assert.assertEquals(Arrays.asList(Arrays.<Object> asList(1)), handler.batches);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void add_closed() {
+
+		BatchingSink<Object> sink = new BatchingSink<Object>(new CollectingHandler(), 10);
+		sink.close();
+
+		sink.add(1);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void flush_closed() {
+
+		BatchingSink<Object> sink = new BatchingSink<Object>(new CollectingHandler(), 10);
+		sink.close();
+
+		sink.flush();
+
+	}
+
+}
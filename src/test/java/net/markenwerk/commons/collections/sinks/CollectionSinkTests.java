@@ -22,6 +22,7 @@
 package net.markenwerk.commons.collections.sinks;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 
 import org.junit.Assert;
@@ -110,6 +111,45 @@ public class CollectionSinkTests {
 		Assert.assertTrue(sink.getCollection().contains(second));
 	}
 
+	@Test
+	public void addAll_streaming() {
+
+		final Collection<Integer> collection = new LinkedList<Integer>();
+		CollectionSink<Integer> sink = new CollectionSink<Integer>(collection);
+
+		sink.addAll(new Iterable<Integer>() {
+
+			@Override
+			public Iterator<Integer> iterator() {
+				return new Iterator<Integer>() {
+
+					private int next;
+
+					@Override
+					public boolean hasNext() {
+						return next < 3;
+					}
+
+					@Override
+					public Integer next() {
+						Assert.assertEquals(next, collection.size());
+						return next++;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+
+				};
+			}
+
+		});
+
+		Assert.assertEquals(3, collection.size());
+
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void addAll_nullArray() {
 
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.Nullity;
+import net.markenwerk.commons.collections.codecs.ByteArrayCodec;
+import net.markenwerk.commons.collections.codecs.IntegerCodec;
+
+@SuppressWarnings("javadoc")
+public class MappedFileSinkTests {
+
+	private static final int SEGMENT_SIZE = 64;
+
+	private File directory;
+
+	@Before
+	public void createDirectory() throws IOException {
+		directory = File.createTempFile("mapped-file-sink", "");
+		directory.delete();
+		directory.mkdir();
+	}
+
+	@After
+	public void deleteDirectory() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	private MappedFileSink<Integer> create(Nullity nullity, ForcePolicy forcePolicy) throws IOException {
+		return new MappedFileSink<Integer>(nullity, directory, new IntegerCodec(), SEGMENT_SIZE, forcePolicy);
+	}
+
+	private List<File> segments() {
+		File[] files = directory.listFiles();
+		Arrays.sort(files);
+		return Arrays.asList(files);
+	}
+
+	private static List<byte[]> read(File segment) throws IOException {
+		List<byte[]> records = new ArrayList<byte[]>();
+		RandomAccessFile randomAccessFile = new RandomAccessFile(segment, "r");
+		try {
+			MappedByteBuffer buffer = randomAccessFile.getChannel().map(MapMode.READ_ONLY, 0,
+					randomAccessFile.length());
+			int offset = 0;
+			while (offset + MappedFileSink.HEADER_LENGTH <= buffer.capacity()) {
+				int header = buffer.getInt(offset);
+				offset += MappedFileSink.HEADER_LENGTH;
+				if (MappedFileSink.END_HEADER == header) {
+					break;
+				} else if (MappedFileSink.NULL_HEADER == header) {
+					records.add(null);
+				} else {
+					records.add(new ByteArrayCodec().decode(buffer, offset, header - 1));
+					offset += header - 1;
+				}
+			}
+		} finally {
+			randomAccessFile.close();
+		}
+		return records;
+	}
+
+	private static List<Integer> readIntegers(File segment) throws IOException {
+		List<Integer> integers = new ArrayList<Integer>();
+		for (byte[] record : read(segment)) {
+			integers.add(null == record ? null : ByteBuffer.wrap(record).getInt());
+		}
+		return integers;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullDirectory() throws IOException {
+
+		new MappedFileSink<Integer>(null, new IntegerCodec());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullEncoder() throws IOException {
+
+		new MappedFileSink<Integer>(directory, null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_tooSmallSegmentSize() throws IOException {
+
+		new MappedFileSink<Integer>(Nullity.ALLOW, directory, new IntegerCodec(), MappedFileSink.HEADER_LENGTH - 1,
+				ForcePolicy.ON_ROLL);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullForcePolicy() throws IOException {
+
+		new MappedFileSink<Integer>(Nullity.ALLOW, directory, new IntegerCodec(), SEGMENT_SIZE, null);
+
+	}
+
+	@Test
+	public void create_missingDirectory() throws IOException {
+
+		directory.delete();
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ON_ROLL);
+		sink.close();
+
+		Assert.assertTrue(directory.isDirectory());
+
+	}
+
+	@Test
+	public void getters() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.IGNORE, ForcePolicy.ALWAYS);
+		sink.close();
+
+		Assert.assertSame(Nullity.IGNORE, sink.getNullity());
+		Assert.assertEquals(directory, sink.getDirectory());
+		Assert.assertEquals(SEGMENT_SIZE, sink.getSegmentSize());
+		Assert.assertSame(ForcePolicy.ALWAYS, sink.getForcePolicy());
+		Assert.assertEquals(new File(directory, "segment-0000000000.dat"), sink.getSegmentFile());
+
+	}
+
+	@Test
+	public void add() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ALWAYS);
+
+		sink.add(1);
+		sink.add(2);
+		sink.close();
+
+		Assert.assertEquals(1, segments().size());
+		Assert.assertEquals(Arrays.asList(1, 2), readIntegers(segments().get(0)));
+
+	}
+
+	@Test
+	public void add_nullAllow() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ON_FLUSH);
+
+		sink.add(null);
+		sink.close();
+
+		Assert.assertEquals(Arrays.asList((Integer) null), readIntegers(segments().get(0)));
+
+	}
+
+	@Test
+	public void add_nullIgnore() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.IGNORE, ForcePolicy.ON_FLUSH);
+
+		sink.add(null);
+		sink.close();
+
+		Assert.assertTrue(readIntegers(segments().get(0)).isEmpty());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_rejectNull() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.REJECT, ForcePolicy.ON_FLUSH);
+
+		try {
+			sink.add(null);
+		} finally {
+			sink.close();
+		}
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void add_closed() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ON_FLUSH);
+		sink.close();
+
+		sink.add(1);
+
+	}
+
+	@Test
+	public void add_roll() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ON_ROLL);
+
+		for (int i = 0; i < 20; i++) {
+			sink.add(i);
+		}
+		sink.close();
+
+		List<File> segments = segments();
+		Assert.assertEquals(3, segments.size());
+		Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7), readIntegers(segments.get(0)));
+		Assert.assertEquals(Arrays.asList(8, 9, 10, 11, 12, 13, 14, 15), readIntegers(segments.get(1)));
+		Assert.assertEquals(Arrays.asList(16, 17, 18, 19), readIntegers(segments.get(2)));
+		Assert.assertEquals(segments.get(2), sink.getSegmentFile());
+
+	}
+
+	@Test
+	public void add_largeRecord() throws IOException {
+
+		MappedFileSink<byte[]> sink = new MappedFileSink<byte[]>(Nullity.ALLOW, directory, new ByteArrayCodec(),
+				SEGMENT_SIZE, ForcePolicy.ON_ROLL);
+		byte[] large = new byte[SEGMENT_SIZE * 2];
+		Arrays.fill(large, (byte) 42);
+
+		sink.add(new byte[] { 1 });
+		sink.add(large);
+		sink.add(new byte[] { 2 });
+		sink.close();
+
+		List<File> segments = segments();
+		Assert.assertEquals(3, segments.size());
+		Assert.assertArrayEquals(large, read(segments.get(1)).get(0));
+		Assert.assertArrayEquals(new byte[] { 2 }, read(segments.get(2)).get(0));
+
+	}
+
+	@Test
+	public void addAll() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ALWAYS);
+
+		sink.addAll(1, 2, 3);
+		sink.close();
+
+		Assert.assertEquals(Arrays.asList(1, 2, 3), readIntegers(segments().get(0)));
+
+	}
+
+	@Test
+	public void addAll_nullIgnore() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.IGNORE, ForcePolicy.ALWAYS);
+
+		sink.addAll(1, null, 3);
+		sink.close();
+
+		Assert.assertEquals(Arrays.asList(1, 3), readIntegers(segments().get(0)));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addAll_nullArray() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ALWAYS);
+
+		try {
+			sink.addAll((Integer[]) null);
+		} finally {
+			sink.close();
+		}
+
+	}
+
+	@Test
+	public void create_existingSegments() throws IOException {
+
+		MappedFileSink<Integer> first = create(Nullity.ALLOW, ForcePolicy.ON_FLUSH);
+		first.add(1);
+		first.close();
+
+		MappedFileSink<Integer> second = create(Nullity.ALLOW, ForcePolicy.ON_FLUSH);
+		second.add(2);
+		second.close();
+
+		List<File> segments = segments();
+		Assert.assertEquals(2, segments.size());
+		Assert.assertEquals(Arrays.asList(1), readIntegers(segments.get(0)));
+		Assert.assertEquals(Arrays.asList(2), readIntegers(segments.get(1)));
+
+	}
+
+	@Test
+	public void flush() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ON_FLUSH);
+		sink.add(1);
+
+		sink.flush();
+
+		Assert.assertEquals(Arrays.asList(1), readIntegers(segments().get(0)));
+		sink.close();
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void flush_closed() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ON_FLUSH);
+		sink.close();
+
+		sink.flush();
+
+	}
+
+	@Test
+	public void close_twice() throws IOException {
+
+		MappedFileSink<Integer> sink = create(Nullity.ALLOW, ForcePolicy.ON_FLUSH);
+
+		sink.close();
+		sink.close();
+
+	}
+
+}
@@ -108,6 +108,19 @@ public class StackSinkTests {
 		Assert.assertTrue(sink.getStack().containsAll(first, second));
 	}
 
+	@Test
+	public void addAll_nullIgnore() {
+
+		Object first = new Object();
+		Object second = new Object();
+		StackSink<Object> sink = new StackSink<Object>(Nullity.IGNORE, new LinkedStack<Object>());
+
+		sink.addAll(first, null, second);
+
+		Assert.assertEquals(2, sink.getStack().size());
+		Assert.assertSame(second, sink.getStack().getFirst());
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void addAll_nullArray() {
 
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sinks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.Nullity;
+
+@SuppressWarnings("javadoc")
+public class StripedSinkTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSink() {
+
+		new StripedSink<Object>((Sink<Object>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullCollection() {
+
+		new StripedSink<Object>((Collection<Object>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullOrdering() {
+
+		new StripedSink<Object>(Nullity.ALLOW, new ArrayList<Object>(), null);
+
+	}
+
+	@Test
+	public void getters() {
+
+		StripedSink<Object> sink = new StripedSink<Object>(Nullity.IGNORE, new ArrayList<Object>(),
+				StripeOrdering.NONE);
+
+		Assert.assertSame(Nullity.IGNORE, sink.getNullity());
+		Assert.assertSame(StripeOrdering.NONE, sink.getOrdering());
+
+	}
+
+	@Test
+	public void add_drain() {
+
+		List<Object> collection = new ArrayList<Object>();
+		StripedSink<Object> sink = new StripedSink<Object>(collection);
+
+		sink.add(1);
+		sink.addAll(2, 3);
+		Assert.assertTrue(collection.isEmpty());
+		sink.drain();
+
+		Assert.assertEquals(Arrays.<Object> asList(1, 2, 3), collection);
+
+	}
+
+	@Test
+	public void add_sink() {
+
+		List<Object> collection = new ArrayList<Object>();
+		StripedSink<Object> sink = new StripedSink<Object>(new CollectionSink<Object>(collection));
+
+		sink.addAll(1, 2);
+		sink.drain();
+
+		Assert.assertEquals(Arrays.<Object> asList(1, 2), collection);
+
+	}
+
+	@Test
+	public void add_nullIgnore() {
+
+		List<Object> collection = new ArrayList<Object>();
+		StripedSink<Object> sink = new StripedSink<Object>(Nullity.IGNORE, collection,
+				StripeOrdering.PER_THREAD_FIFO);
+
+		sink.addAll(1, null, 2);
+		sink.drain();
+
+		Assert.assertEquals(Arrays.<Object> asList(1, 2), collection);
+
+	}
+
+	@Test
+	public void add_nullAllow() {
+
+		List<Object> collection = new ArrayList<Object>();
+		StripedSink<Object> sink = new StripedSink<Object>(Nullity.ALLOW, collection, StripeOrdering.NONE);
+
+		sink.add(null);
+		sink.drain();
+
+		Assert.assertEquals(Arrays.<Object> asList((Object) null), collection);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_rejectNull() {
+
+		StripedSink<Object> sink = new StripedSink<Object>(Nullity.REJECT, new ArrayList<Object>(),
+				StripeOrdering.NONE);
+
+		sink.add(null);
+
+	}
+
+	@Test
+	public void drain_twice() {
+
+		List<Object> collection = new ArrayList<Object>();
+		StripedSink<Object> sink = new StripedSink<Object>(collection);
+		sink.add(1);
+
+		sink.drain();
+		sink.drain();
+
+		Assert.assertEquals(Arrays.<Object> asList(1), collection);
+
+	}
+
+	@Test
+	public void close() {
+
+		List<Object> collection = new ArrayList<Object>();
+		StripedSink<Object> sink = new StripedSink<Object>(collection);
+		sink.add(1);
+
+		sink.close();
+		sink.close();
+
+		Assert.assertEquals(Arrays.<Object> asList(1), collection);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void add_closed() {
+
+		StripedSink<Object> sink = new StripedSink<Object>(new ArrayList<Object>());
+		sink.close();
+
+		sink.add(1);
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void drain_closed() {
+
+		StripedSink<Object> sink = new StripedSink<Object>(new ArrayList<Object>());
+		sink.close();
+
+		sink.drain();
+
+	}
+
+	@Test
+	public void concurrentAdd_perThreadFifo() throws InterruptedException {
+
+		List<int[]> collection = new ArrayList<int[]>();
+		StripedSink<int[]> sink = new StripedSink<int[]>(Nullity.ALLOW, collection, StripeOrdering.PER_THREAD_FIFO);
+		int threads = 4;
+		int payloads = 10000;
+
+		addConcurrently(sink, threads, payloads);
+		sink.close();
+
+		Assert.assertEquals(threads * payloads, collection.size());
+		Map<Integer, Integer> lastPayloads = new HashMap<Integer, Integer>();
+		for (int[] payload : collection) {
+			Integer lastPayload = lastPayloads.put(payload[0], payload[1]);
+			Assert.assertEquals(null == lastPayload ? 0 : lastPayload + 1, payload[1]);
+		}
+
+	}
+
+	@Test
+	public void concurrentAdd_none() throws InterruptedException {
+
+		List<int[]> collection = new ArrayList<int[]>();
+		StripedSink<int[]> sink = new StripedSink<int[]>(Nullity.ALLOW, collection, StripeOrdering.NONE);
+		int threads = 4;
+		int payloads = 10000;
+
+		addConcurrently(sink, threads, payloads);
+		sink.close();
+
+		Assert.assertEquals(threads * payloads, collection.size());
+
+	}
+
+	@Test
+	public void drain_prunesTerminatedThreads() throws InterruptedException {
+
+		List<Integer> collection = new ArrayList<Integer>();
+		final StripedSink<Integer> sink = new StripedSink<Integer>(Nullity.ALLOW, collection,
+				StripeOrdering.PER_THREAD_FIFO);
+
+		Thread thread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				sink.add(1);
+				sink.add(2);
+			}
+
+		});
+		thread.start();
+		thread.join();
+		sink.add(3);
+
+		Assert.assertEquals(2, sink.getStripeCount());
+
+		sink.drain();
+
+		Assert.assertEquals(1, sink.getStripeCount());
+		Assert.assertEquals(Arrays.asList(1, 2, 3), collection);
+
+		sink.drain();
+
+		Assert.assertEquals(1, sink.getStripeCount());
+
+	}
+
+	private static void addConcurrently(final Sink<int[]> sink, int threads, final int payloads)
+			throws InterruptedException {
+		final CountDownLatch done = new CountDownLatch(threads);
+		for (int i = 0; i < threads; i++) {
+			final int thread = i;
+			new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < payloads; j++) {
+						sink.add(new int[] { thread, j });
+					}
+					done.countDown();
+				}
+
+			}).start();
+		}
+		Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+	}
+
+}
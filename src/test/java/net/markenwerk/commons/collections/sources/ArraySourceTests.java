@@ -335,6 +335,62 @@ public class ArraySourceTests {
 
 	}
 
+	@Test
+	public void containsAll_manyContainedArray() {
+
+		Source<Integer> source = new ArraySource<Integer>(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, null);
+
+		Assert.assertTrue(source.containsAll(9, 8, 7, 6, 5, 4, 3, 2, 1, 0, null));
+
+	}
+
+	@Test
+	public void containsAll_manyNotAllContainedArray() {
+
+		Source<Integer> source = new ArraySource<Integer>(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+		Assert.assertFalse(source.containsAll(9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 10));
+
+	}
+
+	@Test
+	public void containsAll_manyContainedIterable() {
+
+		Source<Integer> source = new ArraySource<Integer>(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+		Assert.assertTrue(source.containsAll(new ArrayIterable<Integer>(9, 8, 7, 6, 5, 4, 3, 2, 1, 0)));
+
+	}
+
+	@Test
+	public void containsAll_manyNotAllContainedIterable() {
+
+		Source<Integer> source = new ArraySource<Integer>(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+		Assert.assertFalse(source.containsAll(new ArrayIterable<Integer>(9, 8, 7, 6, 5, 4, 3, 2, 1, 0, null)));
+
+	}
+
+	@Test
+	public void containsAll_duplicateReferences() {
+
+		Source<Object> source = new ArraySource<Object>(ARRAY);
+
+		Assert.assertTrue(source.containsAll(ARRAY[1], ARRAY[1], ARRAY[0]));
+		Assert.assertTrue(source.containsAll(new ArrayIterable<Object>(ARRAY[1], ARRAY[1], ARRAY[0])));
+
+	}
+
+	@Test
+	public void containsAll_containedNull() {
+
+		Source<Object> source = new ArraySource<Object>(ARRAY[0], null);
+
+		Assert.assertTrue(source.containsAll(null, ARRAY[0]));
+		Assert.assertFalse(source.containsAll(null, ARRAY[1]));
+
+	}
+
 	@Test
 	public void iterator_iterate() {
 
@@ -686,4 +742,300 @@ public class ArraySourceTests {
 
 	}
 
+	@Test
+	public void subSource() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+		IndexedSource<Object> subSource = source.subSource(1, 2);
+
+		Assert.assertEquals(1, subSource.size());
+		Assert.assertSame(ARRAY[1], subSource.get(0));
+		Assert.assertEquals(Integer.valueOf(0), subSource.firstIndexOf(ARRAY[1]).getValue());
+		Assert.assertFalse(subSource.firstIndexOf(ARRAY[0]).hasValue());
+
+	}
+
+	@Test
+	public void subSource_sharedArray() {
+
+		Object[] array = ARRAY.clone();
+		IndexedSource<Object> subSource = new ArraySource<Object>(array).subSource(0, 1);
+
+		Object object = new Object();
+		array[0] = object;
+
+		Assert.assertSame(object, subSource.get(0));
+
+	}
+
+	@Test
+	public void subSource_nested() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		Assert.assertSame(ARRAY[1], source.subSource(0, 2).subSource(1, 2).get(0));
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subSource_negativeFrom() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		source.subSource(-1, 1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subSource_tooLargeTo() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		source.subSource(0, 3);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void subSource_invertedRange() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		source.subSource(2, 1);
+
+	}
+
+	/* PARALLEL */
+
+	private static Integer[] createLargeArray() {
+		Integer[] array = new Integer[AbstractIndexedSource.PARALLEL_THRESHOLD * 8 + 3];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = i;
+		}
+		return array;
+	}
+
+	private static Predicate<Integer> createModuloPredicate(final int modulo) {
+		return new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer subject) {
+				return 0 == subject % modulo;
+			}
+
+		};
+	}
+
+	private static Predicate<Integer> createNegativePredicate() {
+		return new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer subject) {
+				return subject < 0;
+			}
+
+		};
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelGetFirstMatch_nullPredicate() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		source.parallelGetFirstMatch(null);
+
+	}
+
+	@Test
+	public void parallelGetFirstMatch_small() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		Assert.assertSame(ARRAY[1], source.parallelGetFirstMatch(new Predicate<Object>() {
+
+			@Override
+			public boolean test(Object subject) {
+				return subject == ARRAY[1];
+			}
+
+		}).getValue());
+
+	}
+
+	@Test
+	public void parallelGetFirstMatch_unmatchedPredicate() {
+
+		IndexedSource<Integer> source = new ArraySource<Integer>(createLargeArray());
+
+		Assert.assertFalse(source.parallelGetFirstMatch(createNegativePredicate()).hasValue());
+
+	}
+
+	@Test
+	public void parallelGetFirstMatch_matchedPredicate() {
+
+		final Integer[] array = createLargeArray();
+		IndexedSource<Integer> source = new ArraySource<Integer>(array);
+
+		Assert.assertEquals(Integer.valueOf(0), source.parallelGetFirstMatch(createModuloPredicate(1)).getValue());
+		Assert.assertEquals(Integer.valueOf(array.length - 1), source.parallelGetFirstMatch(new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer subject) {
+				return subject >= array.length - 1;
+			}
+
+		}).getValue());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelGetAllMatches_nullPredicate() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		source.parallelGetAllMatches(null);
+
+	}
+
+	@Test
+	public void parallelGetAllMatches_unmatchedPredicate() {
+
+		IndexedSource<Integer> source = new ArraySource<Integer>(createLargeArray());
+
+		Assert.assertTrue(source.parallelGetAllMatches(createNegativePredicate()).isEmpty());
+
+	}
+
+	@Test
+	public void parallelGetAllMatches_matchedPredicate() {
+
+		Integer[] array = createLargeArray();
+		IndexedSource<Integer> source = new ArraySource<Integer>(array);
+
+		Source<Integer> matches = source.parallelGetAllMatches(createModuloPredicate(3));
+
+		Assert.assertEquals((array.length + 2) / 3, matches.size());
+		int expected = 0;
+		for (Integer match : matches) {
+			Assert.assertEquals(Integer.valueOf(expected), match);
+			expected += 3;
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelContainsMatch_nullPredicate() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		source.parallelContainsMatch(null);
+
+	}
+
+	@Test
+	public void parallelContainsMatch_unmatchedPredicate() {
+
+		IndexedSource<Integer> source = new ArraySource<Integer>(createLargeArray());
+
+		Assert.assertFalse(source.parallelContainsMatch(createNegativePredicate()));
+
+	}
+
+	@Test
+	public void parallelContainsMatch_matchedPredicate() {
+
+		final Integer[] array = createLargeArray();
+		IndexedSource<Integer> source = new ArraySource<Integer>(array);
+
+		Assert.assertTrue(source.parallelContainsMatch(new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer subject) {
+				return subject == array.length / 2;
+			}
+
+		}));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelFirstIndexOfMatch_nullPredicate() {
+
+		IndexedSource<Object> source = new ArraySource<Object>(ARRAY);
+
+		source.parallelFirstIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void parallelFirstIndexOfMatch_unmatchedPredicate() {
+
+		IndexedSource<Integer> source = new ArraySource<Integer>(createLargeArray());
+
+		Assert.assertFalse(source.parallelFirstIndexOfMatch(createNegativePredicate()).hasValue());
+
+	}
+
+	@Test
+	public void parallelFirstIndexOfMatch_matchedPredicate() {
+
+		final Integer[] array = createLargeArray();
+		IndexedSource<Integer> source = new ArraySource<Integer>(array);
+
+		Assert.assertEquals(Integer.valueOf(array.length - 2), source.parallelFirstIndexOfMatch(new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer subject) {
+				return subject >= array.length - 2;
+			}
+
+		}).getValue());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void parallelGetAllMatches_failingPredicate() {
+
+		IndexedSource<Integer> source = new ArraySource<Integer>(createLargeArray());
+
+		source.parallelGetAllMatches(new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer subject) {
+				if (subject == AbstractIndexedSource.PARALLEL_THRESHOLD * 5) {
+					throw new IllegalStateException();
+				}
+				return false;
+			}
+
+		});
+
+	}
+
+	@Test
+	public void parallelGetAllMatches_nested() {
+
+		final IndexedSource<Integer> source = new ArraySource<Integer>(createLargeArray());
+
+		Source<Integer> matches = source.parallelGetAllMatches(new Predicate<Integer>() {
+
+			@Override
+			public boolean test(final Integer subject) {
+				return 0 == subject % AbstractIndexedSource.PARALLEL_THRESHOLD
+						&& source.parallelContainsMatch(new Predicate<Integer>() {
+
+							@Override
+							public boolean test(Integer nestedSubject) {
+								return nestedSubject.equals(subject);
+							}
+
+						});
+			}
+
+		});
+
+		Assert.assertEquals(9, matches.size());
+
+	}
+
 }
@@ -24,6 +24,7 @@ package net.markenwerk.commons.collections.sources;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.NoSuchElementException;
@@ -276,6 +277,27 @@ public class CollectionSourceTests {
 
 	}
 
+	@Test
+	public void contains_hashSet() {
+
+		Source<Object> source = new CollectionSource<Object>(new HashSet<Object>(Arrays.asList(ARRAY[0], null)));
+
+		Assert.assertTrue(source.contains(ARRAY[0]));
+		Assert.assertTrue(source.contains(null));
+		Assert.assertFalse(source.contains(ARRAY[1]));
+
+	}
+
+	@Test
+	public void containsAll_hashSet() {
+
+		Source<Object> source = new CollectionSource<Object>(new HashSet<Object>(COLLECTION));
+
+		Assert.assertTrue(source.containsAll(ARRAY));
+		Assert.assertFalse(source.containsAll(new ArrayIterable<Object>(ARRAY[0], new Object())));
+
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void containsAll_nullArray() {
 
@@ -0,0 +1,497 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleArraySourceTests {
+
+	private static final double[] ARRAY = new double[] { 1, 2, 1 };
+
+	private static final DoublePredicate ODD = new DoublePredicate() {
+
+		@Override
+		public boolean test(double value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	private static final DoublePredicate NEGATIVE = new DoublePredicate() {
+
+		@Override
+		public boolean test(double value) {
+			return value < 0;
+		}
+
+	};
+
+	/* DOUBLE ARRAY SOURCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new DoubleArraySource((double[]) null);
+
+	}
+
+	@Test
+	public void getArray() {
+
+		DoubleArraySource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertSame(ARRAY, source.getArray());
+
+	}
+
+	@Test
+	public void toArray() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		double[] array = source.toArray();
+
+		Assert.assertNotSame(ARRAY, array);
+		Assert.assertArrayEquals(ARRAY, array, 0);
+
+	}
+
+	/* DOUBLE SOURCE */
+
+	@Test
+	public void isEmpty_empty() {
+
+		DoubleSource source = new DoubleArraySource();
+
+		Assert.assertTrue(source.isEmpty());
+
+	}
+
+	@Test
+	public void isEmpty_nonEmpty() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertFalse(source.isEmpty());
+
+	}
+
+	@Test
+	public void size_empty() {
+
+		DoubleSource source = new DoubleArraySource();
+
+		Assert.assertEquals(0, source.size());
+
+	}
+
+	@Test
+	public void size_nonEmpty() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals(3, source.size());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getFirst_empty() {
+
+		DoubleSource source = new DoubleArraySource();
+
+		source.getFirst();
+
+	}
+
+	@Test
+	public void getFirst_nonEmpty() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals(1, source.getFirst(), 0);
+
+	}
+
+	@Test
+	public void getAll() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		DoubleSource matches = source.getAll(1);
+
+		Assert.assertArrayEquals(new double[] { 1, 1 }, matches.toArray(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getAllMatches_nullPredicate() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		source.getAllMatches(null);
+
+	}
+
+	@Test
+	public void getAllMatches_matches() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		DoubleSource matches = source.getAllMatches(ODD);
+
+		Assert.assertArrayEquals(new double[] { 1, 1 }, matches.toArray(), 0);
+
+	}
+
+	@Test
+	public void getAllMatches_many() {
+
+		double[] values = new double[1000];
+		for (int i = 0; i < 1000; i++) {
+			values[i] = i;
+		}
+		DoubleSource source = new DoubleArraySource(values);
+
+		double[] matches = source.getAllMatches(ODD).toArray();
+
+		Assert.assertEquals(500, matches.length);
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, matches[i], 0);
+		}
+
+	}
+
+	@Test
+	public void getAllMatches_noMatches() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		DoubleSource matches = source.getAllMatches(NEGATIVE);
+
+		Assert.assertTrue(matches.isEmpty());
+
+	}
+
+	@Test
+	public void contains_contained() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertTrue(source.contains(2));
+
+	}
+
+	@Test
+	public void contains_notContained() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertFalse(source.contains(3));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void containsMatch_nullPredicate() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		source.containsMatch(null);
+
+	}
+
+	@Test
+	public void containsMatch_contained() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertTrue(source.containsMatch(ODD));
+
+	}
+
+	@Test
+	public void containsMatch_notContained() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertFalse(source.containsMatch(NEGATIVE));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void containsAll_null() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		source.containsAll((double[]) null);
+
+	}
+
+	@Test
+	public void containsAll_contained() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertTrue(source.containsAll(2, 1));
+
+	}
+
+	@Test
+	public void containsAll_partiallyContained() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertFalse(source.containsAll(2, 3));
+
+	}
+
+	@Test
+	public void containsAll_empty() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertTrue(source.containsAll());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		DoubleIterator iterator = source.iterator();
+
+		Assert.assertEquals(1, iterator.next(), 0);
+		Assert.assertEquals(2, iterator.next(), 0);
+		Assert.assertEquals(1, iterator.next(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_exhausted() {
+
+		DoubleSource source = new DoubleArraySource();
+
+		source.iterator().next();
+
+	}
+
+	@Test
+	public void toString_empty() {
+
+		DoubleSource source = new DoubleArraySource();
+
+		Assert.assertEquals("[]", source.toString());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		DoubleSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals("[1.0, 2.0, 1.0]", source.toString());
+
+	}
+
+	/* DOUBLE INDEXED SOURCE */
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_negativeIndex() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		source.get(-1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_largeIndex() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		source.get(3);
+
+	}
+
+	@Test
+	public void get() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals(2, source.get(1), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void isFirst_empty() {
+
+		DoubleIndexedSource source = new DoubleArraySource();
+
+		source.isFirst(1);
+
+	}
+
+	@Test
+	public void isFirst() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertTrue(source.isFirst(1));
+		Assert.assertFalse(source.isFirst(2));
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getLast_empty() {
+
+		DoubleIndexedSource source = new DoubleArraySource();
+
+		source.getLast();
+
+	}
+
+	@Test
+	public void getLast_nonEmpty() {
+
+		DoubleIndexedSource source = new DoubleArraySource(1, 2);
+
+		Assert.assertEquals(2, source.getLast(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void isLast_empty() {
+
+		DoubleIndexedSource source = new DoubleArraySource();
+
+		source.isLast(1);
+
+	}
+
+	@Test
+	public void isLast() {
+
+		DoubleIndexedSource source = new DoubleArraySource(1, 2);
+
+		Assert.assertTrue(source.isLast(2));
+		Assert.assertFalse(source.isLast(1));
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals(0, source.firstIndexOf(1));
+		Assert.assertEquals(DoubleIndexedSource.NO_INDEX, source.firstIndexOf(3));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void firstIndexOfMatch_nullPredicate() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		source.firstIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void firstIndexOfMatch() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals(0, source.firstIndexOfMatch(ODD));
+		Assert.assertEquals(DoubleIndexedSource.NO_INDEX, source.firstIndexOfMatch(NEGATIVE));
+
+	}
+
+	@Test
+	public void lastIndexOf() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals(2, source.lastIndexOf(1));
+		Assert.assertEquals(DoubleIndexedSource.NO_INDEX, source.lastIndexOf(3));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void lastIndexOfMatch_nullPredicate() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		source.lastIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void lastIndexOfMatch() {
+
+		DoubleIndexedSource source = new DoubleArraySource(ARRAY);
+
+		Assert.assertEquals(2, source.lastIndexOfMatch(ODD));
+		Assert.assertEquals(DoubleIndexedSource.NO_INDEX, source.lastIndexOfMatch(NEGATIVE));
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		DoubleIndexedSource source = new DoubleArraySource(1, 2, 3);
+
+		DoubleIterator iterator = source.iterator(true);
+
+		Assert.assertEquals(3, iterator.next(), 0);
+		Assert.assertEquals(2, iterator.next(), 0);
+		Assert.assertEquals(1, iterator.next(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	/* DOUBLE EQUALITY */
+
+	@Test
+	public void firstIndexOf_nan() {
+
+		DoubleIndexedSource source = new DoubleArraySource(1, Double.NaN);
+
+		Assert.assertEquals(1, source.firstIndexOf(Double.NaN));
+
+	}
+
+	@Test
+	public void firstIndexOf_negativeZero() {
+
+		DoubleIndexedSource source = new DoubleArraySource(0.0);
+
+		Assert.assertEquals(DoubleIndexedSource.NO_INDEX, source.firstIndexOf(-0.0));
+
+	}
+
+}
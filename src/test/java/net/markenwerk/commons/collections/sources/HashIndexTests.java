@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class HashIndexTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new HashIndex<Object>(null);
+
+	}
+
+	@Test
+	public void create_empty() {
+
+		HashIndex<Object> index = new HashIndex<Object>();
+
+		Assert.assertEquals(0, index.size());
+		Assert.assertFalse(index.contains(null));
+		Assert.assertEquals(HashIndex.NO_INDEX, index.firstIndexOf(null));
+		Assert.assertEquals(HashIndex.NO_INDEX, index.lastIndexOf(null));
+
+	}
+
+	@Test
+	public void create_iterable() {
+
+		HashIndex<String> index = new HashIndex<String>(Arrays.asList("a", "b", "a"));
+
+		Assert.assertEquals(3, index.size());
+		Assert.assertEquals(0, index.firstIndexOf("a"));
+		Assert.assertEquals(2, index.lastIndexOf("a"));
+
+	}
+
+	@Test
+	public void append() {
+
+		HashIndex<String> index = new HashIndex<String>();
+
+		index.append("a");
+		index.append("b");
+
+		Assert.assertEquals(2, index.size());
+		Assert.assertEquals(1, index.firstIndexOf("b"));
+		Assert.assertEquals(1, index.lastIndexOf("b"));
+
+	}
+
+	@Test
+	public void contains_uncontained() {
+
+		HashIndex<String> index = new HashIndex<String>(Arrays.asList("a", "b"));
+
+		Assert.assertFalse(index.contains("c"));
+
+	}
+
+	@Test
+	public void contains_contained() {
+
+		HashIndex<String> index = new HashIndex<String>(Arrays.asList("a", "b"));
+
+		Assert.assertTrue(index.contains(new String("b")));
+
+	}
+
+	@Test
+	public void contains_containedNull() {
+
+		HashIndex<String> index = new HashIndex<String>(Arrays.asList("a", null, "b", null));
+
+		Assert.assertTrue(index.contains(null));
+		Assert.assertEquals(1, index.firstIndexOf(null));
+		Assert.assertEquals(3, index.lastIndexOf(null));
+
+	}
+
+	@Test
+	public void firstIndexOf_uncontained() {
+
+		HashIndex<String> index = new HashIndex<String>(Arrays.asList("a", "b"));
+
+		Assert.assertEquals(HashIndex.NO_INDEX, index.firstIndexOf("c"));
+
+	}
+
+	@Test
+	public void lastIndexOf_uncontained() {
+
+		HashIndex<String> index = new HashIndex<String>(Arrays.asList("a", "b"));
+
+		Assert.assertEquals(HashIndex.NO_INDEX, index.lastIndexOf("c"));
+
+	}
+
+}
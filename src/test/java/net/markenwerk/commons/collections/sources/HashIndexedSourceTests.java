@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+
+@SuppressWarnings("javadoc")
+public class HashIndexedSourceTests {
+
+	private static final String[] ARRAY = new String[] { "a", "b", null, "a", "c" };
+
+	/* HASH INDEXED SOURCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSource() {
+
+		new HashIndexedSource<Object>(null);
+
+	}
+
+	@Test
+	public void getSource() {
+
+		IndexedSource<String> wrapped = new ArraySource<String>(ARRAY);
+		HashIndexedSource<String> source = new HashIndexedSource<String>(wrapped);
+
+		Assert.assertSame(wrapped, source.getSource());
+
+	}
+
+	@Test
+	public void invalidate() {
+
+		String[] array = ARRAY.clone();
+		HashIndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(array));
+
+		Assert.assertTrue(source.contains("c"));
+
+		array[4] = "d";
+		source.invalidate();
+
+		Assert.assertFalse(source.contains("c"));
+		Assert.assertTrue(source.contains("d"));
+
+	}
+
+	/* SOURCE */
+
+	@Test
+	public void size() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertEquals(ARRAY.length, source.size());
+
+	}
+
+	@Test
+	public void contains_uncontained() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertFalse(source.contains("d"));
+
+	}
+
+	@Test
+	public void contains_contained() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertTrue(source.contains(new String("c")));
+		Assert.assertTrue(source.contains(null));
+
+	}
+
+	@Test
+	public void getFirst_unmatchedReference() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertFalse(source.getFirst("d").hasValue());
+
+	}
+
+	@Test
+	public void getFirst_matchedReference() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertSame(ARRAY[1], source.getFirst(new String("b")).getValue());
+
+	}
+
+	@Test
+	public void getAllMatches() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertEquals(2, source.getAll("a").size());
+
+	}
+
+	/* INDEXED SOURCE */
+
+	@Test
+	public void get() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertSame(ARRAY[3], source.get(3));
+
+	}
+
+	@Test
+	public void firstIndexOf_unmatchedReference() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertFalse(source.firstIndexOf("d").hasValue());
+
+	}
+
+	@Test
+	public void firstIndexOf_matchedReference() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertEquals(Integer.valueOf(0), source.firstIndexOf("a").getValue());
+		Assert.assertEquals(Integer.valueOf(2), source.firstIndexOf(null).getValue());
+
+	}
+
+	@Test
+	public void lastIndexOf_unmatchedReference() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertFalse(source.lastIndexOf("d").hasValue());
+
+	}
+
+	@Test
+	public void lastIndexOf_matchedReference() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertEquals(Integer.valueOf(3), source.lastIndexOf("a").getValue());
+
+	}
+
+	@Test
+	public void firstIndexOfMatch() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+
+		Assert.assertEquals(Integer.valueOf(4), source.firstIndexOfMatch(new Predicate<String>() {
+
+			@Override
+			public boolean test(String subject) {
+				return "c".equals(subject);
+			}
+
+		}).getValue());
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ArraySource<String>(ARRAY));
+		BidirectionalIterator<String> iterator = source.iterator(true);
+
+		List<String> payloads = new ArrayList<String>();
+		while (iterator.hasNext()) {
+			payloads.add(iterator.next());
+		}
+
+		Assert.assertEquals(Arrays.asList("c", "a", null, "b", "a"), payloads);
+
+	}
+
+	@Test
+	public void lastIndexOf_sequentialAccess() {
+
+		IndexedSource<String> source = new HashIndexedSource<String>(new ListSource<String>(
+				new LinkedList<String>(Arrays.asList(ARRAY))));
+
+		Assert.assertEquals(Integer.valueOf(3), source.lastIndexOf("a").getValue());
+
+	}
+
+}
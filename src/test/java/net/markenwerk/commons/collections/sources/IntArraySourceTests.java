@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntArraySourceTests {
+
+	private static final int[] ARRAY = new int[] { 1, 2, 1 };
+
+	private static final IntPredicate ODD = new IntPredicate() {
+
+		@Override
+		public boolean test(int value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	private static final IntPredicate NEGATIVE = new IntPredicate() {
+
+		@Override
+		public boolean test(int value) {
+			return value < 0;
+		}
+
+	};
+
+	/* INT ARRAY SOURCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new IntArraySource((int[]) null);
+
+	}
+
+	@Test
+	public void getArray() {
+
+		IntArraySource source = new IntArraySource(ARRAY);
+
+		Assert.assertSame(ARRAY, source.getArray());
+
+	}
+
+	@Test
+	public void toArray() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		int[] array = source.toArray();
+
+		Assert.assertNotSame(ARRAY, array);
+		Assert.assertArrayEquals(ARRAY, array);
+
+	}
+
+	/* INT SOURCE */
+
+	@Test
+	public void isEmpty_empty() {
+
+		IntSource source = new IntArraySource();
+
+		Assert.assertTrue(source.isEmpty());
+
+	}
+
+	@Test
+	public void isEmpty_nonEmpty() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertFalse(source.isEmpty());
+
+	}
+
+	@Test
+	public void size_empty() {
+
+		IntSource source = new IntArraySource();
+
+		Assert.assertEquals(0, source.size());
+
+	}
+
+	@Test
+	public void size_nonEmpty() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals(3, source.size());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getFirst_empty() {
+
+		IntSource source = new IntArraySource();
+
+		source.getFirst();
+
+	}
+
+	@Test
+	public void getFirst_nonEmpty() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals(1, source.getFirst());
+
+	}
+
+	@Test
+	public void getAll() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		IntSource matches = source.getAll(1);
+
+		Assert.assertArrayEquals(new int[] { 1, 1 }, matches.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getAllMatches_nullPredicate() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		source.getAllMatches(null);
+
+	}
+
+	@Test
+	public void getAllMatches_matches() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		IntSource matches = source.getAllMatches(ODD);
+
+		Assert.assertArrayEquals(new int[] { 1, 1 }, matches.toArray());
+
+	}
+
+	@Test
+	public void getAllMatches_many() {
+
+		int[] values = new int[1000];
+		for (int i = 0; i < 1000; i++) {
+			values[i] = i;
+		}
+		IntSource source = new IntArraySource(values);
+
+		int[] matches = source.getAllMatches(ODD).toArray();
+
+		Assert.assertEquals(500, matches.length);
+		for (int i = 0; i < 500; i++) {
+			Assert.assertEquals(2 * i + 1, matches[i]);
+		}
+
+	}
+
+	@Test
+	public void getAllMatches_noMatches() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		IntSource matches = source.getAllMatches(NEGATIVE);
+
+		Assert.assertTrue(matches.isEmpty());
+
+	}
+
+	@Test
+	public void contains_contained() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertTrue(source.contains(2));
+
+	}
+
+	@Test
+	public void contains_notContained() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertFalse(source.contains(3));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void containsMatch_nullPredicate() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		source.containsMatch(null);
+
+	}
+
+	@Test
+	public void containsMatch_contained() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertTrue(source.containsMatch(ODD));
+
+	}
+
+	@Test
+	public void containsMatch_notContained() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertFalse(source.containsMatch(NEGATIVE));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void containsAll_null() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		source.containsAll((int[]) null);
+
+	}
+
+	@Test
+	public void containsAll_contained() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertTrue(source.containsAll(2, 1));
+
+	}
+
+	@Test
+	public void containsAll_partiallyContained() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertFalse(source.containsAll(2, 3));
+
+	}
+
+	@Test
+	public void containsAll_empty() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertTrue(source.containsAll());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		IntIterator iterator = source.iterator();
+
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_exhausted() {
+
+		IntSource source = new IntArraySource();
+
+		source.iterator().next();
+
+	}
+
+	@Test
+	public void toString_empty() {
+
+		IntSource source = new IntArraySource();
+
+		Assert.assertEquals("[]", source.toString());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		IntSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals("[1, 2, 1]", source.toString());
+
+	}
+
+	/* INT INDEXED SOURCE */
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_negativeIndex() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		source.get(-1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_largeIndex() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		source.get(3);
+
+	}
+
+	@Test
+	public void get() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals(2, source.get(1));
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void isFirst_empty() {
+
+		IntIndexedSource source = new IntArraySource();
+
+		source.isFirst(1);
+
+	}
+
+	@Test
+	public void isFirst() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		Assert.assertTrue(source.isFirst(1));
+		Assert.assertFalse(source.isFirst(2));
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getLast_empty() {
+
+		IntIndexedSource source = new IntArraySource();
+
+		source.getLast();
+
+	}
+
+	@Test
+	public void getLast_nonEmpty() {
+
+		IntIndexedSource source = new IntArraySource(1, 2);
+
+		Assert.assertEquals(2, source.getLast());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void isLast_empty() {
+
+		IntIndexedSource source = new IntArraySource();
+
+		source.isLast(1);
+
+	}
+
+	@Test
+	public void isLast() {
+
+		IntIndexedSource source = new IntArraySource(1, 2);
+
+		Assert.assertTrue(source.isLast(2));
+		Assert.assertFalse(source.isLast(1));
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals(0, source.firstIndexOf(1));
+		Assert.assertEquals(IntIndexedSource.NO_INDEX, source.firstIndexOf(3));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void firstIndexOfMatch_nullPredicate() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		source.firstIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void firstIndexOfMatch() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals(0, source.firstIndexOfMatch(ODD));
+		Assert.assertEquals(IntIndexedSource.NO_INDEX, source.firstIndexOfMatch(NEGATIVE));
+
+	}
+
+	@Test
+	public void lastIndexOf() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals(2, source.lastIndexOf(1));
+		Assert.assertEquals(IntIndexedSource.NO_INDEX, source.lastIndexOf(3));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void lastIndexOfMatch_nullPredicate() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		source.lastIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void lastIndexOfMatch() {
+
+		IntIndexedSource source = new IntArraySource(ARRAY);
+
+		Assert.assertEquals(2, source.lastIndexOfMatch(ODD));
+		Assert.assertEquals(IntIndexedSource.NO_INDEX, source.lastIndexOfMatch(NEGATIVE));
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		IntIndexedSource source = new IntArraySource(1, 2, 3);
+
+		IntIterator iterator = source.iterator(true);
+
+		Assert.assertEquals(3, iterator.next());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+}
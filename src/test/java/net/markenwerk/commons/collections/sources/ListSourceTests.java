@@ -21,8 +21,10 @@
  */
 package net.markenwerk.commons.collections.sources;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -694,4 +696,108 @@ public class ListSourceTests {
 
 	}
 
+	@Test
+	public void subSource() {
+
+		List<Object> list = new ArrayList<Object>(LIST);
+		IndexedSource<Object> subSource = new ListSource<Object>(list).subSource(1, 2);
+
+		Assert.assertEquals(1, subSource.size());
+		Assert.assertSame(ARRAY[1], subSource.get(0));
+
+		Object object = new Object();
+		list.set(1, object);
+
+		Assert.assertSame(object, subSource.get(0));
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void subSource_modifiedList() {
+
+		List<Object> list = new ArrayList<Object>(LIST);
+		IndexedSource<Object> subSource = new ListSource<Object>(list).subSource(1, 2);
+
+		list.add(new Object());
+
+		subSource.get(0);
+
+	}
+
+	/* PARALLEL */
+
+	private static List<Integer> createLargeList(List<Integer> list) {
+		for (int i = 0, n = AbstractIndexedSource.PARALLEL_THRESHOLD * 8 + 3; i < n; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	private static Predicate<Integer> createModuloPredicate(final int modulo) {
+		return new Predicate<Integer>() {
+
+			@Override
+			public boolean test(Integer subject) {
+				return 0 == subject % modulo;
+			}
+
+		};
+	}
+
+	@Test
+	public void parallelGetAllMatches_randomAccess() {
+
+		List<Integer> list = createLargeList(new ArrayList<Integer>());
+		IndexedSource<Integer> source = new ListSource<Integer>(list);
+
+		Source<Integer> matches = source.parallelGetAllMatches(createModuloPredicate(7));
+
+		Assert.assertEquals((list.size() + 6) / 7, matches.size());
+		int expected = 0;
+		for (Integer match : matches) {
+			Assert.assertEquals(Integer.valueOf(expected), match);
+			expected += 7;
+		}
+
+	}
+
+	@Test
+	public void parallelGetAllMatches_sequentialAccess() {
+
+		List<Integer> list = createLargeList(new LinkedList<Integer>());
+		IndexedSource<Integer> source = new ListSource<Integer>(list);
+
+		Source<Integer> matches = source.parallelGetAllMatches(createModuloPredicate(7));
+
+		Assert.assertEquals((list.size() + 6) / 7, matches.size());
+		int expected = 0;
+		for (Integer match : matches) {
+			Assert.assertEquals(Integer.valueOf(expected), match);
+			expected += 7;
+		}
+
+	}
+
+	@Test
+	public void parallelFirstIndexOfMatch_randomAccess() {
+
+		List<Integer> list = createLargeList(new ArrayList<Integer>());
+		IndexedSource<Integer> source = new ListSource<Integer>(list);
+
+		Assert.assertEquals(Integer.valueOf(0), source.parallelFirstIndexOfMatch(createModuloPredicate(5)).getValue());
+		Assert.assertTrue(source.parallelContainsMatch(createModuloPredicate(5)));
+
+	}
+
+	@Test
+	public void parallelFirstIndexOfMatch_sequentialAccess() {
+
+		List<Integer> list = createLargeList(new LinkedList<Integer>());
+		IndexedSource<Integer> source = new ListSource<Integer>(list);
+
+		Assert.assertEquals(Integer.valueOf(0), source.parallelFirstIndexOfMatch(createModuloPredicate(5)).getValue());
+		Assert.assertTrue(source.parallelContainsMatch(createModuloPredicate(5)));
+
+	}
+
 }
@@ -290,6 +290,16 @@ public class MapKeySourceTests {
 
 	}
 
+	@Test
+	public void containsAll_hashMap() {
+
+		Source<Object> source = new MapKeySource<Object>(new HashMap<Object, Object>(MAP));
+
+		Assert.assertTrue(source.containsAll(ARRAY[1], ARRAY[0]));
+		Assert.assertFalse(source.containsAll(new ArrayIterable<Object>(ARRAY[0], new Object())));
+
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void containsAll_nullArray() {
 
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.codecs.IntegerCodec;
+import net.markenwerk.commons.interfaces.Predicate;
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+
+@SuppressWarnings("javadoc")
+public class MappedFileSourceTests {
+
+	private static final int RECORDS = 100;
+
+	private static final Predicate<Integer> ODD = new Predicate<Integer>() {
+
+		@Override
+		public boolean test(Integer payload) {
+			return 1 == payload % 2;
+		}
+
+	};
+
+	private File file;
+
+	@Before
+	public void createFile() throws IOException {
+		file = File.createTempFile("mapped-file-source", ".bin");
+		write(file, RECORDS, 0);
+	}
+
+	@After
+	public void deleteFile() {
+		file.delete();
+	}
+
+	private static void write(File file, int records, int trailingBytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(records * IntegerCodec.LENGTH + trailingBytes);
+		for (int i = 0; i < records; i++) {
+			buffer.putInt(i);
+		}
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(buffer.array());
+		} finally {
+			out.close();
+		}
+	}
+
+	private MappedFileSource<Integer> create() throws IOException {
+		return new MappedFileSource<Integer>(file, IntegerCodec.LENGTH, new IntegerCodec(), 42);
+	}
+
+	/* MAPPED FILE SOURCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFile() throws IOException {
+
+		new MappedFileSource<Integer>(null, IntegerCodec.LENGTH, new IntegerCodec());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveRecordLength() throws IOException {
+
+		new MappedFileSource<Integer>(file, 0, new IntegerCodec());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullDecoder() throws IOException {
+
+		new MappedFileSource<Integer>(file, IntegerCodec.LENGTH, null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_tooSmallMappingSize() throws IOException {
+
+		new MappedFileSource<Integer>(file, IntegerCodec.LENGTH, new IntegerCodec(), IntegerCodec.LENGTH - 1);
+
+	}
+
+	@Test(expected = IOException.class)
+	public void create_missingFile() throws IOException {
+
+		new MappedFileSource<Integer>(new File(file.getPath() + ".missing"), IntegerCodec.LENGTH, new IntegerCodec());
+
+	}
+
+	@Test
+	public void getters() throws IOException {
+
+		MappedFileSource<Integer> source = create();
+
+		Assert.assertEquals(file, source.getFile());
+		Assert.assertEquals(IntegerCodec.LENGTH, source.getRecordLength());
+
+	}
+
+	@Test
+	public void getMappingCount_defaultMappingSize() throws IOException {
+
+		MappedFileSource<Integer> source = new MappedFileSource<Integer>(file, IntegerCodec.LENGTH, new IntegerCodec());
+
+		Assert.assertEquals(1, source.getMappingCount());
+
+	}
+
+	@Test
+	public void getMappingCount_multipleMappings() throws IOException {
+
+		MappedFileSource<Integer> source = create();
+
+		Assert.assertEquals(10, source.getMappingCount());
+
+	}
+
+	@Test
+	public void mappingCount() {
+
+		Assert.assertEquals(0, MappedFileSource.mappingCount(0, 10));
+		Assert.assertEquals(1, MappedFileSource.mappingCount(10, 10));
+		Assert.assertEquals(2, MappedFileSource.mappingCount(11, 10));
+
+	}
+
+	@Test
+	public void mappingCount_largeFile() {
+
+		Assert.assertEquals(8, MappedFileSource.mappingCount(2000000000, Integer.MAX_VALUE / 8));
+		Assert.assertEquals(2, MappedFileSource.mappingCount(Integer.MAX_VALUE, Integer.MAX_VALUE - 1));
+		Assert.assertEquals(Integer.MAX_VALUE, MappedFileSource.mappingCount(Integer.MAX_VALUE, 1));
+
+	}
+
+	@Test
+	public void create_emptyFile() throws IOException {
+
+		write(file, 0, 0);
+		MappedFileSource<Integer> source = create();
+
+		Assert.assertTrue(source.isEmpty());
+		Assert.assertEquals(0, source.getMappingCount());
+
+	}
+
+	@Test
+	public void create_trailingBytes() throws IOException {
+
+		write(file, 3, 2);
+		MappedFileSource<Integer> source = create();
+
+		Assert.assertEquals(3, source.size());
+		Assert.assertEquals(Integer.valueOf(2), source.getLast());
+
+	}
+
+	/* SOURCE */
+
+	@Test
+	public void size() throws IOException {
+
+		Source<Integer> source = create();
+
+		Assert.assertEquals(RECORDS, source.size());
+
+	}
+
+	@Test
+	public void contains() throws IOException {
+
+		Source<Integer> source = create();
+
+		Assert.assertTrue(source.contains(99));
+		Assert.assertFalse(source.contains(100));
+
+	}
+
+	@Test
+	public void getAllMatches() throws IOException {
+
+		Source<Integer> source = create();
+
+		Assert.assertEquals(RECORDS / 2, source.getAllMatches(ODD).size());
+
+	}
+
+	/* INDEXED SOURCE */
+
+	@Test
+	public void get() throws IOException {
+
+		IndexedSource<Integer> source = create();
+
+		for (int i = 0; i < RECORDS; i++) {
+			Assert.assertEquals(Integer.valueOf(i), source.get(i));
+		}
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_negativeIndex() throws IOException {
+
+		create().get(-1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_tooLargeIndex() throws IOException {
+
+		create().get(RECORDS);
+
+	}
+
+	@Test
+	public void getFirst() throws IOException {
+
+		IndexedSource<Integer> source = create();
+
+		Assert.assertEquals(Integer.valueOf(0), source.getFirst());
+
+	}
+
+	@Test
+	public void getLast() throws IOException {
+
+		IndexedSource<Integer> source = create();
+
+		Assert.assertEquals(Integer.valueOf(RECORDS - 1), source.getLast());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getLast_empty() throws IOException {
+
+		write(file, 0, 0);
+
+		create().getLast();
+
+	}
+
+	@Test
+	public void firstIndexOfMatch() throws IOException {
+
+		IndexedSource<Integer> source = create();
+
+		Assert.assertEquals(Integer.valueOf(1), source.firstIndexOfMatch(ODD).getValue());
+
+	}
+
+	@Test
+	public void lastIndexOfMatch() throws IOException {
+
+		IndexedSource<Integer> source = create();
+
+		Assert.assertEquals(Integer.valueOf(RECORDS - 1), source.lastIndexOfMatch(ODD).getValue());
+
+	}
+
+	@Test
+	public void iterator() throws IOException {
+
+		IndexedSource<Integer> source = create();
+
+		BidirectionalIterator<Integer> iterator = source.iterator();
+
+		for (int i = 0; i < RECORDS; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_reverse() throws IOException {
+
+		IndexedSource<Integer> source = create();
+
+		BidirectionalIterator<Integer> iterator = source.iterator(true);
+
+		for (int i = RECORDS - 1; i >= 0; i--) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+}
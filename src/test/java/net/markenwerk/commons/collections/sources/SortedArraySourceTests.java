@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+
+@SuppressWarnings("javadoc")
+public class SortedArraySourceTests {
+
+	private static final Comparator<String> COMPARATOR = String.CASE_INSENSITIVE_ORDER;
+
+	private static final String[] ARRAY = new String[] { "a", "B", "b", "b", "c", "e" };
+
+	/* SORTED ARRAY SOURCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullComparator() {
+
+		new SortedArraySource<String>(null, ARRAY);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new SortedArraySource<String>(COMPARATOR, (String[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_unsortedArray() {
+
+		new SortedArraySource<String>(COMPARATOR, "a", "c", "b");
+
+	}
+
+	@Test
+	public void getArray() {
+
+		SortedArraySource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertSame(ARRAY, source.getArray());
+
+	}
+
+	@Test
+	public void getComparator() {
+
+		SortedArraySource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertSame(COMPARATOR, source.getComparator());
+
+	}
+
+	/* SOURCE */
+
+	@Test
+	public void size() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertEquals(ARRAY.length, source.size());
+
+	}
+
+	@Test
+	public void contains_uncontained() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertFalse(source.contains("A"));
+		Assert.assertFalse(source.contains("d"));
+		Assert.assertFalse(source.contains("f"));
+		Assert.assertFalse(source.contains(null));
+
+	}
+
+	@Test
+	public void contains_contained() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertTrue(source.contains(new String("a")));
+		Assert.assertTrue(source.contains(new String("B")));
+		Assert.assertTrue(source.contains(new String("e")));
+
+	}
+
+	@Test
+	public void contains_otherType() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertFalse(source.contains(Integer.valueOf(1)));
+
+	}
+
+	@Test
+	public void containsAll() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertTrue(source.containsAll("a", "b", "e"));
+		Assert.assertFalse(source.containsAll("a", "d"));
+
+	}
+
+	@Test
+	public void contains_containedNull() {
+
+		SortedSource<String> source = new SortedArraySource<String>(new Comparator<String>() {
+
+			@Override
+			public int compare(String left, String right) {
+				return null == left ? (null == right ? 0 : -1) : null == right ? 1 : COMPARATOR.compare(left, right);
+			}
+
+		}, null, "a", "b");
+
+		Assert.assertTrue(source.contains(null));
+
+	}
+
+	@Test
+	public void getFirst_unmatchedReference() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertFalse(source.getFirst("d").hasValue());
+
+	}
+
+	@Test
+	public void getFirst_matchedReference() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertSame(ARRAY[2], source.getFirst(new String("b")).getValue());
+
+	}
+
+	/* INDEXED SOURCE */
+
+	@Test
+	public void get() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertSame(ARRAY[3], source.get(3));
+
+	}
+
+	@Test
+	public void firstIndexOf_unmatchedReference() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertFalse(source.firstIndexOf("d").hasValue());
+
+	}
+
+	@Test
+	public void firstIndexOf_matchedReference() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertEquals(Integer.valueOf(1), source.firstIndexOf("B").getValue());
+		Assert.assertEquals(Integer.valueOf(2), source.firstIndexOf("b").getValue());
+
+	}
+
+	@Test
+	public void lastIndexOf_unmatchedReference() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertFalse(source.lastIndexOf("d").hasValue());
+
+	}
+
+	@Test
+	public void lastIndexOf_matchedReference() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertEquals(Integer.valueOf(1), source.lastIndexOf("B").getValue());
+		Assert.assertEquals(Integer.valueOf(3), source.lastIndexOf("b").getValue());
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+		BidirectionalIterator<String> iterator = source.iterator(true);
+
+		List<String> payloads = new ArrayList<String>();
+		while (iterator.hasNext()) {
+			payloads.add(iterator.next());
+		}
+
+		Assert.assertEquals(Arrays.asList("e", "c", "b", "b", "B", "a"), payloads);
+
+	}
+
+	/* SORTED SOURCE */
+
+	@Test
+	public void getAllBetween() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+		IndexedSource<String> between = source.getAllBetween("b", "d");
+
+		Assert.assertEquals(4, between.size());
+		Assert.assertSame(ARRAY[1], between.get(0));
+		Assert.assertSame(ARRAY[4], between.get(3));
+
+	}
+
+	@Test
+	public void getAllBetween_empty() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertTrue(source.getAllBetween("b", "b").isEmpty());
+		Assert.assertTrue(source.getAllBetween("f", "g").isEmpty());
+
+	}
+
+	@Test
+	public void getAllBetween_all() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		Assert.assertEquals(ARRAY.length, source.getAllBetween("a", "f").size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getAllBetween_invertedBounds() {
+
+		SortedSource<String> source = new SortedArraySource<String>(COMPARATOR, ARRAY);
+
+		source.getAllBetween("d", "b");
+
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.sources;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.iterators.BidirectionalIterator;
+
+@SuppressWarnings("javadoc")
+public class SubSourceTests {
+
+	private static final String[] ARRAY = new String[] { "a", "b", "c", "d", "e" };
+
+	/* SUB SOURCE */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSource() {
+
+		new SubSource<Object>(null, 0, 0);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_negativeFrom() {
+
+		new SubSource<String>(new ArraySource<String>(ARRAY), -1, 2);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_largeTo() {
+
+		new SubSource<String>(new ArraySource<String>(ARRAY), 1, ARRAY.length + 1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_invertedRange() {
+
+		new SubSource<String>(new ArraySource<String>(ARRAY), 3, 2);
+
+	}
+
+	@Test
+	public void getters() {
+
+		IndexedSource<String> wrapped = new ArraySource<String>(ARRAY);
+		SubSource<String> source = new SubSource<String>(wrapped, 1, 4);
+
+		Assert.assertSame(wrapped, source.getSource());
+		Assert.assertEquals(1, source.getFrom());
+		Assert.assertEquals(4, source.getTo());
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void modifiedSource() {
+
+		List<String> list = new ArrayList<String>(Arrays.asList(ARRAY));
+		IndexedSource<String> source = new SubSource<String>(new ListSource<String>(list), 1, 4);
+
+		list.add("f");
+
+		source.get(0);
+
+	}
+
+	@Test
+	public void hasRandomAccess() {
+
+		Assert.assertTrue(new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4).hasRandomAccess());
+		Assert.assertFalse(new SubSource<String>(new ListSource<String>(new LinkedList<String>(Arrays
+				.asList(ARRAY))), 1, 4).hasRandomAccess());
+
+	}
+
+	@Test
+	public void contains_sequentialAccess() {
+
+		IndexedSource<String> source = new SubSource<String>(new ListSource<String>(new LinkedList<String>(
+				Arrays.asList(ARRAY))), 1, 4);
+
+		Assert.assertTrue(source.contains("d"));
+		Assert.assertEquals(Integer.valueOf(2), source.lastIndexOf("d").getValue());
+		Assert.assertFalse(source.contains("e"));
+
+	}
+
+	/* SOURCE */
+
+	@Test
+	public void size() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4);
+
+		Assert.assertEquals(3, source.size());
+
+	}
+
+	@Test
+	public void size_empty() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 2, 2);
+
+		Assert.assertTrue(source.isEmpty());
+
+	}
+
+	@Test
+	public void contains() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4);
+
+		Assert.assertTrue(source.contains("b"));
+		Assert.assertTrue(source.contains("d"));
+		Assert.assertFalse(source.contains("a"));
+		Assert.assertFalse(source.contains("e"));
+
+	}
+
+	/* INDEXED SOURCE */
+
+	@Test
+	public void get() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4);
+
+		Assert.assertSame(ARRAY[1], source.get(0));
+		Assert.assertSame(ARRAY[3], source.get(2));
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_largeIndex() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4);
+
+		source.get(3);
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4);
+
+		Assert.assertEquals(Integer.valueOf(1), source.firstIndexOf("c").getValue());
+		Assert.assertFalse(source.firstIndexOf("e").hasValue());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4);
+		BidirectionalIterator<String> iterator = source.iterator();
+
+		List<String> payloads = new ArrayList<String>();
+		while (iterator.hasNext()) {
+			payloads.add(iterator.next());
+		}
+
+		Assert.assertEquals(Arrays.asList("b", "c", "d"), payloads);
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		IndexedSource<String> source = new SubSource<String>(new ArraySource<String>(ARRAY), 1, 4);
+		BidirectionalIterator<String> iterator = source.iterator(true);
+
+		List<String> payloads = new ArrayList<String>();
+		while (iterator.hasNext()) {
+			payloads.add(iterator.next());
+		}
+
+		Assert.assertEquals(Arrays.asList("d", "c", "b"), payloads);
+
+	}
+
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sources.DoubleArraySource;
+import net.markenwerk.commons.collections.sources.DoubleIterator;
+import net.markenwerk.commons.collections.sources.DoublePredicate;
+import net.markenwerk.commons.collections.sources.DoubleSource;
+
+@SuppressWarnings("javadoc")
+public class DoubleArrayStackTests {
+
+	private static final DoublePredicate ODD = new DoublePredicate() {
+
+		@Override
+		public boolean test(double value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	/* DOUBLE ARRAY STACK */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new DoubleArrayStack(-1);
+
+	}
+
+	@Test
+	public void create_capacity() {
+
+		DoubleArrayStack stack = new DoubleArrayStack(42);
+
+		Assert.assertEquals(42, stack.getCapacity());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test
+	public void getCapacity_default() {
+
+		DoubleArrayStack stack = new DoubleArrayStack();
+
+		Assert.assertEquals(DoubleArrayStack.DEFAULT_CAPACITY, stack.getCapacity());
+
+	}
+
+	@Test
+	public void create_zeroCapacity_push() {
+
+		DoubleArrayStack stack = new DoubleArrayStack(0);
+
+		stack.push(1);
+
+		Assert.assertEquals(1, stack.size());
+		Assert.assertEquals(1, stack.getFirst(), 0);
+
+	}
+
+	@Test
+	public void push_grow() {
+
+		DoubleArrayStack stack = new DoubleArrayStack(1);
+
+		for (int i = 0; i < 100; i++) {
+			stack.push(i);
+		}
+
+		Assert.assertEquals(100, stack.size());
+		Assert.assertEquals(99, stack.get(0), 0);
+		Assert.assertEquals(0, stack.get(99), 0);
+
+	}
+
+	@Test
+	public void ensureCapacity() {
+
+		DoubleArrayStack stack = new DoubleArrayStack(1);
+		stack.push(1);
+
+		stack.ensureCapacity(42);
+
+		Assert.assertEquals(42, stack.getCapacity());
+		Assert.assertEquals(1, stack.getFirst(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void ensureCapacity_negative() {
+
+		new DoubleArrayStack().ensureCapacity(-1);
+
+	}
+
+	@Test
+	public void trimToSize() {
+
+		DoubleArrayStack stack = new DoubleArrayStack(42);
+		stack.pushAll(1, 2);
+
+		stack.trimToSize();
+
+		Assert.assertEquals(2, stack.getCapacity());
+		Assert.assertEquals(2, stack.pop(), 0);
+		Assert.assertEquals(1, stack.pop(), 0);
+
+	}
+
+	/* DOUBLE STACK */
+
+	@Test
+	public void push() {
+
+		DoubleStack stack = new DoubleArrayStack();
+
+		stack.push(1);
+		stack.push(2);
+
+		Assert.assertEquals(2, stack.size());
+		Assert.assertEquals(2, stack.getFirst(), 0);
+
+	}
+
+	@Test
+	public void pushAll_array() {
+
+		DoubleStack stack = new DoubleArrayStack().push(1);
+
+		stack.pushAll(2, 3);
+
+		Assert.assertArrayEquals(new double[] { 3, 2, 1 }, stack.toArray(), 0);
+
+	}
+
+	@Test
+	public void pushAll_emptyArray() {
+
+		DoubleStack stack = new DoubleArrayStack().push(1);
+
+		stack.pushAll();
+
+		Assert.assertArrayEquals(new double[] { 1 }, stack.toArray(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void pushAll_nullArray() {
+
+		new DoubleArrayStack().pushAll((double[]) null);
+
+	}
+
+	@Test
+	public void pushAll_source() {
+
+		DoubleStack stack = new DoubleArrayStack().push(1);
+
+		stack.pushAll(new DoubleArraySource(2, 3));
+
+		Assert.assertArrayEquals(new double[] { 3, 2, 1 }, stack.toArray(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void pushAll_nullSource() {
+
+		new DoubleArrayStack().pushAll((DoubleSource) null);
+
+	}
+
+	@Test
+	public void pop() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.pop(), 0);
+		Assert.assertEquals(1, stack.pop(), 0);
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void pop_empty() {
+
+		new DoubleArrayStack().pop();
+
+	}
+
+	@Test
+	public void popAll() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2, 3);
+
+		DoubleSource removed = stack.popAll(2);
+
+		Assert.assertArrayEquals(new double[] { 3, 2 }, removed.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { 1 }, stack.toArray(), 0);
+
+	}
+
+	@Test
+	public void popAll_zero() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		DoubleSource removed = stack.popAll(0);
+
+		Assert.assertTrue(removed.isEmpty());
+		Assert.assertEquals(2, stack.size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAll_negative() {
+
+		new DoubleArrayStack().pushAll(1, 2).popAll(-1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAll_tooLarge() {
+
+		new DoubleArrayStack().pushAll(1, 2).popAll(3);
+
+	}
+
+	@Test
+	public void popAllMatches() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2, 3, 5);
+
+		DoubleSource removed = stack.popAllMatches(ODD);
+
+		Assert.assertArrayEquals(new double[] { 5, 3 }, removed.toArray(), 0);
+		Assert.assertArrayEquals(new double[] { 2, 1 }, stack.toArray(), 0);
+
+	}
+
+	@Test
+	public void popAllMatches_all() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 3);
+
+		DoubleSource removed = stack.popAllMatches(ODD);
+
+		Assert.assertArrayEquals(new double[] { 3, 1 }, removed.toArray(), 0);
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAllMatches_nullPredicate() {
+
+		new DoubleArrayStack().popAllMatches(null);
+
+	}
+
+	@Test
+	public void replace() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.replace(3), 0);
+		Assert.assertArrayEquals(new double[] { 3, 1 }, stack.toArray(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replace_empty() {
+
+		new DoubleArrayStack().replace(1);
+
+	}
+
+	@Test
+	public void get() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.get(0), 0);
+		Assert.assertEquals(1, stack.get(1), 0);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_negativeIndex() {
+
+		new DoubleArrayStack().pushAll(1, 2).get(-1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_tooLargeIndex() {
+
+		new DoubleArrayStack().pushAll(1, 2).get(2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getFirst_empty() {
+
+		new DoubleArrayStack().getFirst();
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2, 1);
+
+		Assert.assertEquals(0, stack.firstIndexOf(1));
+		Assert.assertEquals(1, stack.firstIndexOf(2));
+		Assert.assertEquals(DoubleStack.NO_INDEX, stack.firstIndexOf(3));
+
+	}
+
+	@Test
+	public void firstIndexOfMatch() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2, 4);
+
+		Assert.assertEquals(2, stack.firstIndexOfMatch(ODD));
+		Assert.assertEquals(DoubleStack.NO_INDEX, new DoubleArrayStack().push(2).firstIndexOfMatch(ODD));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void firstIndexOfMatch_nullPredicate() {
+
+		new DoubleArrayStack().firstIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void contains() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		Assert.assertTrue(stack.contains(1));
+		Assert.assertFalse(stack.contains(3));
+		Assert.assertTrue(stack.containsMatch(ODD));
+		Assert.assertTrue(stack.containsAll(2, 1));
+		Assert.assertFalse(stack.containsAll(2, 3));
+
+	}
+
+	@Test
+	public void getAllMatches() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2, 3);
+
+		Assert.assertArrayEquals(new double[] { 3, 1 }, stack.getAllMatches(ODD).toArray(), 0);
+
+	}
+
+	@Test
+	public void clear() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		DoubleSource removed = stack.clear();
+
+		Assert.assertArrayEquals(new double[] { 2, 1 }, removed.toArray(), 0);
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		DoubleIterator iterator = stack.iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.next(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.next(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		DoubleArrayStack stack = new DoubleArrayStack();
+		stack.pushAll(1, 2);
+
+		DoubleIterator iterator = stack.iterator(true);
+
+		Assert.assertEquals(1, iterator.next(), 0);
+		Assert.assertEquals(2, iterator.next(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_exhausted() {
+
+		new DoubleArrayStack().iterator().next();
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void iterator_modified() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+		DoubleIterator iterator = stack.iterator();
+
+		stack.push(3);
+		iterator.next();
+
+	}
+
+	@Test
+	public void equals() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(stack, new DoubleArrayStack(0).pushAll(1, 2));
+		Assert.assertNotEquals(stack, new DoubleArrayStack().push(1));
+		Assert.assertNotEquals(stack, new DoubleArrayStack().pushAll(2, 1));
+		Assert.assertNotEquals(stack, new DoubleArraySource(2, 1));
+
+	}
+
+	@Test
+	public void hash() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(Arrays.hashCode(new double[] { 2, 1 }), stack.hashCode());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		DoubleStack stack = new DoubleArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals("[2.0, 1.0]", stack.toString());
+
+	}
+
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sources.IntArraySource;
+import net.markenwerk.commons.collections.sources.IntIterator;
+import net.markenwerk.commons.collections.sources.IntPredicate;
+import net.markenwerk.commons.collections.sources.IntSource;
+
+@SuppressWarnings("javadoc")
+public class IntArrayStackTests {
+
+	private static final IntPredicate ODD = new IntPredicate() {
+
+		@Override
+		public boolean test(int value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	/* INT ARRAY STACK */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new IntArrayStack(-1);
+
+	}
+
+	@Test
+	public void create_capacity() {
+
+		IntArrayStack stack = new IntArrayStack(42);
+
+		Assert.assertEquals(42, stack.getCapacity());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test
+	public void getCapacity_default() {
+
+		IntArrayStack stack = new IntArrayStack();
+
+		Assert.assertEquals(IntArrayStack.DEFAULT_CAPACITY, stack.getCapacity());
+
+	}
+
+	@Test
+	public void create_zeroCapacity_push() {
+
+		IntArrayStack stack = new IntArrayStack(0);
+
+		stack.push(1);
+
+		Assert.assertEquals(1, stack.size());
+		Assert.assertEquals(1, stack.getFirst());
+
+	}
+
+	@Test
+	public void push_grow() {
+
+		IntArrayStack stack = new IntArrayStack(1);
+
+		for (int i = 0; i < 100; i++) {
+			stack.push(i);
+		}
+
+		Assert.assertEquals(100, stack.size());
+		Assert.assertEquals(99, stack.get(0));
+		Assert.assertEquals(0, stack.get(99));
+
+	}
+
+	@Test
+	public void ensureCapacity() {
+
+		IntArrayStack stack = new IntArrayStack(1);
+		stack.push(1);
+
+		stack.ensureCapacity(42);
+
+		Assert.assertEquals(42, stack.getCapacity());
+		Assert.assertEquals(1, stack.getFirst());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void ensureCapacity_negative() {
+
+		new IntArrayStack().ensureCapacity(-1);
+
+	}
+
+	@Test
+	public void trimToSize() {
+
+		IntArrayStack stack = new IntArrayStack(42);
+		stack.pushAll(1, 2);
+
+		stack.trimToSize();
+
+		Assert.assertEquals(2, stack.getCapacity());
+		Assert.assertEquals(2, stack.pop());
+		Assert.assertEquals(1, stack.pop());
+
+	}
+
+	/* INT STACK */
+
+	@Test
+	public void push() {
+
+		IntStack stack = new IntArrayStack();
+
+		stack.push(1);
+		stack.push(2);
+
+		Assert.assertEquals(2, stack.size());
+		Assert.assertEquals(2, stack.getFirst());
+
+	}
+
+	@Test
+	public void pushAll_array() {
+
+		IntStack stack = new IntArrayStack().push(1);
+
+		stack.pushAll(2, 3);
+
+		Assert.assertArrayEquals(new int[] { 3, 2, 1 }, stack.toArray());
+
+	}
+
+	@Test
+	public void pushAll_emptyArray() {
+
+		IntStack stack = new IntArrayStack().push(1);
+
+		stack.pushAll();
+
+		Assert.assertArrayEquals(new int[] { 1 }, stack.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void pushAll_nullArray() {
+
+		new IntArrayStack().pushAll((int[]) null);
+
+	}
+
+	@Test
+	public void pushAll_source() {
+
+		IntStack stack = new IntArrayStack().push(1);
+
+		stack.pushAll(new IntArraySource(2, 3));
+
+		Assert.assertArrayEquals(new int[] { 3, 2, 1 }, stack.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void pushAll_nullSource() {
+
+		new IntArrayStack().pushAll((IntSource) null);
+
+	}
+
+	@Test
+	public void pop() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.pop());
+		Assert.assertEquals(1, stack.pop());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void pop_empty() {
+
+		new IntArrayStack().pop();
+
+	}
+
+	@Test
+	public void popAll() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2, 3);
+
+		IntSource removed = stack.popAll(2);
+
+		Assert.assertArrayEquals(new int[] { 3, 2 }, removed.toArray());
+		Assert.assertArrayEquals(new int[] { 1 }, stack.toArray());
+
+	}
+
+	@Test
+	public void popAll_zero() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		IntSource removed = stack.popAll(0);
+
+		Assert.assertTrue(removed.isEmpty());
+		Assert.assertEquals(2, stack.size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAll_negative() {
+
+		new IntArrayStack().pushAll(1, 2).popAll(-1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAll_tooLarge() {
+
+		new IntArrayStack().pushAll(1, 2).popAll(3);
+
+	}
+
+	@Test
+	public void popAllMatches() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2, 3, 5);
+
+		IntSource removed = stack.popAllMatches(ODD);
+
+		Assert.assertArrayEquals(new int[] { 5, 3 }, removed.toArray());
+		Assert.assertArrayEquals(new int[] { 2, 1 }, stack.toArray());
+
+	}
+
+	@Test
+	public void popAllMatches_all() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 3);
+
+		IntSource removed = stack.popAllMatches(ODD);
+
+		Assert.assertArrayEquals(new int[] { 3, 1 }, removed.toArray());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAllMatches_nullPredicate() {
+
+		new IntArrayStack().popAllMatches(null);
+
+	}
+
+	@Test
+	public void replace() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.replace(3));
+		Assert.assertArrayEquals(new int[] { 3, 1 }, stack.toArray());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replace_empty() {
+
+		new IntArrayStack().replace(1);
+
+	}
+
+	@Test
+	public void get() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.get(0));
+		Assert.assertEquals(1, stack.get(1));
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_negativeIndex() {
+
+		new IntArrayStack().pushAll(1, 2).get(-1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_tooLargeIndex() {
+
+		new IntArrayStack().pushAll(1, 2).get(2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getFirst_empty() {
+
+		new IntArrayStack().getFirst();
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2, 1);
+
+		Assert.assertEquals(0, stack.firstIndexOf(1));
+		Assert.assertEquals(1, stack.firstIndexOf(2));
+		Assert.assertEquals(IntStack.NO_INDEX, stack.firstIndexOf(3));
+
+	}
+
+	@Test
+	public void firstIndexOfMatch() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2, 4);
+
+		Assert.assertEquals(2, stack.firstIndexOfMatch(ODD));
+		Assert.assertEquals(IntStack.NO_INDEX, new IntArrayStack().push(2).firstIndexOfMatch(ODD));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void firstIndexOfMatch_nullPredicate() {
+
+		new IntArrayStack().firstIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void contains() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		Assert.assertTrue(stack.contains(1));
+		Assert.assertFalse(stack.contains(3));
+		Assert.assertTrue(stack.containsMatch(ODD));
+		Assert.assertTrue(stack.containsAll(2, 1));
+		Assert.assertFalse(stack.containsAll(2, 3));
+
+	}
+
+	@Test
+	public void getAllMatches() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2, 3);
+
+		Assert.assertArrayEquals(new int[] { 3, 1 }, stack.getAllMatches(ODD).toArray());
+
+	}
+
+	@Test
+	public void clear() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		IntSource removed = stack.clear();
+
+		Assert.assertArrayEquals(new int[] { 2, 1 }, removed.toArray());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		IntIterator iterator = stack.iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		IntArrayStack stack = new IntArrayStack();
+		stack.pushAll(1, 2);
+
+		IntIterator iterator = stack.iterator(true);
+
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_exhausted() {
+
+		new IntArrayStack().iterator().next();
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void iterator_modified() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+		IntIterator iterator = stack.iterator();
+
+		stack.push(3);
+		iterator.next();
+
+	}
+
+	@Test
+	public void equals() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(stack, new IntArrayStack(0).pushAll(1, 2));
+		Assert.assertNotEquals(stack, new IntArrayStack().push(1));
+		Assert.assertNotEquals(stack, new IntArrayStack().pushAll(2, 1));
+		Assert.assertNotEquals(stack, new IntArraySource(2, 1));
+
+	}
+
+	@Test
+	public void hash() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(Arrays.hashCode(new int[] { 2, 1 }), stack.hashCode());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		IntStack stack = new IntArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals("[2, 1]", stack.toString());
+
+	}
+
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.stacks;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sources.LongArraySource;
+import net.markenwerk.commons.collections.sources.LongIterator;
+import net.markenwerk.commons.collections.sources.LongPredicate;
+import net.markenwerk.commons.collections.sources.LongSource;
+
+@SuppressWarnings("javadoc")
+public class LongArrayStackTests {
+
+	private static final LongPredicate ODD = new LongPredicate() {
+
+		@Override
+		public boolean test(long value) {
+			return 1 == value % 2;
+		}
+
+	};
+
+	/* LONG ARRAY STACK */
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeCapacity() {
+
+		new LongArrayStack(-1);
+
+	}
+
+	@Test
+	public void create_capacity() {
+
+		LongArrayStack stack = new LongArrayStack(42);
+
+		Assert.assertEquals(42, stack.getCapacity());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test
+	public void getCapacity_default() {
+
+		LongArrayStack stack = new LongArrayStack();
+
+		Assert.assertEquals(LongArrayStack.DEFAULT_CAPACITY, stack.getCapacity());
+
+	}
+
+	@Test
+	public void create_zeroCapacity_push() {
+
+		LongArrayStack stack = new LongArrayStack(0);
+
+		stack.push(1);
+
+		Assert.assertEquals(1, stack.size());
+		Assert.assertEquals(1, stack.getFirst());
+
+	}
+
+	@Test
+	public void push_grow() {
+
+		LongArrayStack stack = new LongArrayStack(1);
+
+		for (int i = 0; i < 100; i++) {
+			stack.push(i);
+		}
+
+		Assert.assertEquals(100, stack.size());
+		Assert.assertEquals(99, stack.get(0));
+		Assert.assertEquals(0, stack.get(99));
+
+	}
+
+	@Test
+	public void ensureCapacity() {
+
+		LongArrayStack stack = new LongArrayStack(1);
+		stack.push(1);
+
+		stack.ensureCapacity(42);
+
+		Assert.assertEquals(42, stack.getCapacity());
+		Assert.assertEquals(1, stack.getFirst());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void ensureCapacity_negative() {
+
+		new LongArrayStack().ensureCapacity(-1);
+
+	}
+
+	@Test
+	public void trimToSize() {
+
+		LongArrayStack stack = new LongArrayStack(42);
+		stack.pushAll(1, 2);
+
+		stack.trimToSize();
+
+		Assert.assertEquals(2, stack.getCapacity());
+		Assert.assertEquals(2, stack.pop());
+		Assert.assertEquals(1, stack.pop());
+
+	}
+
+	/* LONG STACK */
+
+	@Test
+	public void push() {
+
+		LongStack stack = new LongArrayStack();
+
+		stack.push(1);
+		stack.push(2);
+
+		Assert.assertEquals(2, stack.size());
+		Assert.assertEquals(2, stack.getFirst());
+
+	}
+
+	@Test
+	public void pushAll_array() {
+
+		LongStack stack = new LongArrayStack().push(1);
+
+		stack.pushAll(2, 3);
+
+		Assert.assertArrayEquals(new long[] { 3, 2, 1 }, stack.toArray());
+
+	}
+
+	@Test
+	public void pushAll_emptyArray() {
+
+		LongStack stack = new LongArrayStack().push(1);
+
+		stack.pushAll();
+
+		Assert.assertArrayEquals(new long[] { 1 }, stack.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void pushAll_nullArray() {
+
+		new LongArrayStack().pushAll((long[]) null);
+
+	}
+
+	@Test
+	public void pushAll_source() {
+
+		LongStack stack = new LongArrayStack().push(1);
+
+		stack.pushAll(new LongArraySource(2, 3));
+
+		Assert.assertArrayEquals(new long[] { 3, 2, 1 }, stack.toArray());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void pushAll_nullSource() {
+
+		new LongArrayStack().pushAll((LongSource) null);
+
+	}
+
+	@Test
+	public void pop() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.pop());
+		Assert.assertEquals(1, stack.pop());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void pop_empty() {
+
+		new LongArrayStack().pop();
+
+	}
+
+	@Test
+	public void popAll() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2, 3);
+
+		LongSource removed = stack.popAll(2);
+
+		Assert.assertArrayEquals(new long[] { 3, 2 }, removed.toArray());
+		Assert.assertArrayEquals(new long[] { 1 }, stack.toArray());
+
+	}
+
+	@Test
+	public void popAll_zero() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		LongSource removed = stack.popAll(0);
+
+		Assert.assertTrue(removed.isEmpty());
+		Assert.assertEquals(2, stack.size());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAll_negative() {
+
+		new LongArrayStack().pushAll(1, 2).popAll(-1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAll_tooLarge() {
+
+		new LongArrayStack().pushAll(1, 2).popAll(3);
+
+	}
+
+	@Test
+	public void popAllMatches() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2, 3, 5);
+
+		LongSource removed = stack.popAllMatches(ODD);
+
+		Assert.assertArrayEquals(new long[] { 5, 3 }, removed.toArray());
+		Assert.assertArrayEquals(new long[] { 2, 1 }, stack.toArray());
+
+	}
+
+	@Test
+	public void popAllMatches_all() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 3);
+
+		LongSource removed = stack.popAllMatches(ODD);
+
+		Assert.assertArrayEquals(new long[] { 3, 1 }, removed.toArray());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popAllMatches_nullPredicate() {
+
+		new LongArrayStack().popAllMatches(null);
+
+	}
+
+	@Test
+	public void replace() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.replace(3));
+		Assert.assertArrayEquals(new long[] { 3, 1 }, stack.toArray());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void replace_empty() {
+
+		new LongArrayStack().replace(1);
+
+	}
+
+	@Test
+	public void get() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(2, stack.get(0));
+		Assert.assertEquals(1, stack.get(1));
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_negativeIndex() {
+
+		new LongArrayStack().pushAll(1, 2).get(-1);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void get_tooLargeIndex() {
+
+		new LongArrayStack().pushAll(1, 2).get(2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getFirst_empty() {
+
+		new LongArrayStack().getFirst();
+
+	}
+
+	@Test
+	public void firstIndexOf() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2, 1);
+
+		Assert.assertEquals(0, stack.firstIndexOf(1));
+		Assert.assertEquals(1, stack.firstIndexOf(2));
+		Assert.assertEquals(LongStack.NO_INDEX, stack.firstIndexOf(3));
+
+	}
+
+	@Test
+	public void firstIndexOfMatch() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2, 4);
+
+		Assert.assertEquals(2, stack.firstIndexOfMatch(ODD));
+		Assert.assertEquals(LongStack.NO_INDEX, new LongArrayStack().push(2).firstIndexOfMatch(ODD));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void firstIndexOfMatch_nullPredicate() {
+
+		new LongArrayStack().firstIndexOfMatch(null);
+
+	}
+
+	@Test
+	public void contains() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		Assert.assertTrue(stack.contains(1));
+		Assert.assertFalse(stack.contains(3));
+		Assert.assertTrue(stack.containsMatch(ODD));
+		Assert.assertTrue(stack.containsAll(2, 1));
+		Assert.assertFalse(stack.containsAll(2, 3));
+
+	}
+
+	@Test
+	public void getAllMatches() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2, 3);
+
+		Assert.assertArrayEquals(new long[] { 3, 1 }, stack.getAllMatches(ODD).toArray());
+
+	}
+
+	@Test
+	public void clear() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		LongSource removed = stack.clear();
+
+		Assert.assertArrayEquals(new long[] { 2, 1 }, removed.toArray());
+		Assert.assertTrue(stack.isEmpty());
+
+	}
+
+	@Test
+	public void iterator() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		LongIterator iterator = stack.iterator();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterator_reverse() {
+
+		LongArrayStack stack = new LongArrayStack();
+		stack.pushAll(1, 2);
+
+		LongIterator iterator = stack.iterator(true);
+
+		Assert.assertEquals(1, iterator.next());
+		Assert.assertEquals(2, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterator_exhausted() {
+
+		new LongArrayStack().iterator().next();
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void iterator_modified() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+		LongIterator iterator = stack.iterator();
+
+		stack.push(3);
+		iterator.next();
+
+	}
+
+	@Test
+	public void equals() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(stack, new LongArrayStack(0).pushAll(1, 2));
+		Assert.assertNotEquals(stack, new LongArrayStack().push(1));
+		Assert.assertNotEquals(stack, new LongArrayStack().pushAll(2, 1));
+		Assert.assertNotEquals(stack, new LongArraySource(2, 1));
+
+	}
+
+	@Test
+	public void hash() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals(Arrays.hashCode(new long[] { 2, 1 }), stack.hashCode());
+
+	}
+
+	@Test
+	public void toString_nonEmpty() {
+
+		LongStack stack = new LongArrayStack().pushAll(1, 2);
+
+		Assert.assertEquals("[2, 1]", stack.toString());
+
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.streams;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sequences.ArraySequence;
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.IndexedSource;
+
+@SuppressWarnings("javadoc")
+public class IndexedSpliteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSource() {
+
+		new IndexedSpliterator<Object>(null);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_negativeFrom() {
+
+		new IndexedSpliterator<Integer>(new ArraySource<Integer>(1, 2, 3), -1, 2);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_tooLargeTo() {
+
+		new IndexedSpliterator<Integer>(new ArraySource<Integer>(1, 2, 3), 0, 4);
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void create_fromAfterTo() {
+
+		new IndexedSpliterator<Integer>(new ArraySource<Integer>(1, 2, 3), 2, 1);
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		Spliterator<Integer> spliterator = new IndexedSpliterator<Integer>(new ArraySource<Integer>(1, 2, 3));
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+
+	}
+
+	@Test
+	public void tryAdvance() {
+
+		Spliterator<Integer> spliterator = new IndexedSpliterator<Integer>(new ArraySource<Integer>(1, 2, 3));
+		List<Integer> payloads = new ArrayList<Integer>();
+
+		while (spliterator.tryAdvance(payloads::add)) {
+		}
+
+		Assert.assertEquals(Arrays.asList(1, 2, 3), payloads);
+		Assert.assertEquals(0, spliterator.estimateSize());
+
+	}
+
+	@Test
+	public void forEachRemaining_range() {
+
+		Spliterator<Integer> spliterator = new IndexedSpliterator<Integer>(new ArraySource<Integer>(1, 2, 3, 4), 1, 3);
+		List<Integer> payloads = new ArrayList<Integer>();
+
+		Assert.assertEquals(2, spliterator.estimateSize());
+		spliterator.forEachRemaining(payloads::add);
+
+		Assert.assertEquals(Arrays.asList(2, 3), payloads);
+
+	}
+
+	@Test
+	public void trySplit() {
+
+		Spliterator<Integer> spliterator = new IndexedSpliterator<Integer>(new ArraySource<Integer>(1, 2, 3, 4, 5));
+		List<Integer> prefixPayloads = new ArrayList<Integer>();
+		List<Integer> suffixPayloads = new ArrayList<Integer>();
+
+		Spliterator<Integer> prefix = spliterator.trySplit();
+		prefix.forEachRemaining(prefixPayloads::add);
+		spliterator.forEachRemaining(suffixPayloads::add);
+
+		Assert.assertEquals(Arrays.asList(1, 2), prefixPayloads);
+		Assert.assertEquals(Arrays.asList(3, 4, 5), suffixPayloads);
+
+	}
+
+	@Test
+	public void trySplit_single() {
+
+		Spliterator<Integer> spliterator = new IndexedSpliterator<Integer>(new ArraySource<Integer>(1));
+
+		Assert.assertNull(spliterator.trySplit());
+
+	}
+
+	@Test
+	public void lateBinding() {
+
+		ArraySequence<Integer> sequence = new ArraySequence<Integer>();
+		Spliterator<Integer> spliterator = new IndexedSpliterator<Integer>(sequence);
+		sequence.appendAll(1, 2, 3);
+
+		Assert.assertEquals(3, spliterator.estimateSize());
+
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void forEachRemaining_shrunk() {
+
+		ArraySequence<Integer> sequence = new ArraySequence<Integer>();
+		sequence.appendAll(1, 2, 3);
+		IndexedSource<Integer> source = sequence;
+		Spliterator<Integer> spliterator = new IndexedSpliterator<Integer>(source);
+		spliterator.estimateSize();
+		sequence.clear();
+
+		spliterator.forEachRemaining(payload -> {
+		});
+
+	}
+
+}
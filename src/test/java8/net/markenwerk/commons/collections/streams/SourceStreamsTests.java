@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2017 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.collections.streams;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.collections.sequences.ArraySequence;
+import net.markenwerk.commons.collections.sequences.ConcurrentSequence;
+import net.markenwerk.commons.collections.sequences.HashIndexedSequence;
+import net.markenwerk.commons.collections.sequences.ListSequence;
+import net.markenwerk.commons.collections.sources.ArraySource;
+import net.markenwerk.commons.collections.sources.CollectionSource;
+import net.markenwerk.commons.collections.sources.EmptySource;
+import net.markenwerk.commons.collections.sources.ListSource;
+import net.markenwerk.commons.collections.sources.MapKeySource;
+import net.markenwerk.commons.collections.sources.MapValueSource;
+import net.markenwerk.commons.collections.sources.ObjectSource;
+import net.markenwerk.commons.collections.sources.Source;
+import net.markenwerk.commons.collections.sources.SubSource;
+
+@SuppressWarnings("javadoc")
+public class SourceStreamsTests {
+
+	private static final List<Integer> VALUES = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+
+	@Test(expected = IllegalArgumentException.class)
+	public void spliterator_nullSource() {
+
+		SourceStreams.spliterator(null);
+
+	}
+
+	@Test
+	public void spliterator_arraySource() {
+
+		Spliterator<Integer> spliterator = SourceStreams.spliterator(new ArraySource<Integer>(1, 2, 3));
+
+		Assert.assertTrue(spliterator instanceof IndexedSpliterator);
+		Assert.assertEquals(3, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void spliterator_randomAccessListSource() {
+
+		Spliterator<Integer> spliterator = SourceStreams.spliterator(new ListSource<Integer>(VALUES));
+
+		Assert.assertTrue(spliterator instanceof IndexedSpliterator);
+
+	}
+
+	@Test
+	public void spliterator_sequentialAccessListSource() {
+
+		Spliterator<Integer> spliterator = SourceStreams
+				.spliterator(new ListSource<Integer>(new LinkedList<Integer>(VALUES)));
+
+		Assert.assertFalse(spliterator instanceof IndexedSpliterator);
+		Assert.assertEquals(VALUES.size(), spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void spliterator_sequentialAccessSubSource() {
+
+		Spliterator<Integer> spliterator = SourceStreams.spliterator(new SubSource<Integer>(new ListSource<Integer>(
+				new LinkedList<Integer>(VALUES)), 1, 3));
+
+		Assert.assertFalse(spliterator instanceof IndexedSpliterator);
+		Assert.assertEquals(2, spliterator.getExactSizeIfKnown());
+		Assert.assertEquals(VALUES.subList(1, 3),
+				StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void spliterator_sequentialAccessHashIndexedSequence() {
+
+		Spliterator<Integer> spliterator = SourceStreams.spliterator(new HashIndexedSequence<Integer>(
+				new ListSequence<Integer>(new LinkedList<Integer>())).appendAll(VALUES));
+
+		Assert.assertFalse(spliterator instanceof IndexedSpliterator);
+		Assert.assertEquals(VALUES.size(), spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void spliterator_randomAccessHashIndexedSequence() {
+
+		Spliterator<Integer> spliterator = SourceStreams
+				.spliterator(new HashIndexedSequence<Integer>().appendAll(VALUES));
+
+		Assert.assertTrue(spliterator instanceof IndexedSpliterator);
+
+	}
+
+	@Test
+	public void spliterator_listSequence() {
+
+		Spliterator<Integer> spliterator = SourceStreams
+				.spliterator(new ListSequence<Integer>(new ArrayList<Integer>()).appendAll(VALUES));
+
+		Assert.assertTrue(spliterator instanceof IndexedSpliterator);
+
+	}
+
+	@Test
+	public void spliterator_arraySequence() {
+
+		Spliterator<Integer> spliterator = SourceStreams.spliterator(new ArraySequence<Integer>().appendAll(VALUES));
+
+		Assert.assertTrue(spliterator instanceof IndexedSpliterator);
+
+	}
+
+	@Test
+	public void spliterator_collectionSource() {
+
+		Spliterator<Integer> spliterator = SourceStreams
+				.spliterator(new CollectionSource<Integer>(new HashSet<Integer>(VALUES)));
+
+		Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+		Assert.assertEquals(VALUES.size(), spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void spliterator_emptySource() {
+
+		Spliterator<Integer> spliterator = SourceStreams.spliterator(new EmptySource<Integer>());
+
+		Assert.assertEquals(0, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void spliterator_objectSource() {
+
+		Spliterator<Integer> spliterator = SourceStreams.spliterator(new ObjectSource<Integer>(1));
+
+		Assert.assertEquals(1, spliterator.getExactSizeIfKnown());
+
+	}
+
+	@Test
+	public void stream_arraySource() {
+
+		Source<Integer> source = new ArraySource<Integer>(VALUES.toArray(new Integer[0]));
+
+		Assert.assertEquals(VALUES, SourceStreams.stream(source).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void parallelStream_arraySource() {
+
+		Source<Integer> source = new ArraySource<Integer>(VALUES.toArray(new Integer[0]));
+
+		Assert.assertEquals(VALUES, SourceStreams.parallelStream(source).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void parallelStream_listSequence() {
+
+		Source<Integer> source = new ListSequence<Integer>(new ArrayList<Integer>()).appendAll(VALUES);
+
+		Assert.assertEquals(VALUES, SourceStreams.parallelStream(source).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void parallelStream_sequentialAccessListSource() {
+
+		Source<Integer> source = new ListSource<Integer>(new LinkedList<Integer>(VALUES));
+
+		Assert.assertEquals(VALUES, SourceStreams.parallelStream(source).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void parallelStream_collectionSource() {
+
+		Source<Integer> source = new CollectionSource<Integer>(new ArrayList<Integer>(VALUES));
+
+		Assert.assertEquals(VALUES, SourceStreams.parallelStream(source).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void stream_mapKeySource() {
+
+		Map<Integer, String> map = new LinkedHashMap<Integer, String>();
+		map.put(1, "a");
+		map.put(2, "b");
+
+		Assert.assertEquals(Arrays.asList(1, 2),
+				SourceStreams.stream(new MapKeySource<Integer>(map)).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void stream_mapValueSource() {
+
+		Map<Integer, String> map = new LinkedHashMap<Integer, String>();
+		map.put(1, "a");
+		map.put(2, "b");
+
+		Assert.assertEquals(Arrays.asList("a", "b"),
+				SourceStreams.stream(new MapValueSource<String>(map)).collect(Collectors.toList()));
+
+	}
+
+	@Test
+	public void stream_concurrentSequence() {
+
+		ConcurrentSequence<Integer> sequence = new ConcurrentSequence<Integer>();
+		sequence.appendAll(VALUES);
+
+		Assert.assertEquals(VALUES, SourceStreams.parallelStream(sequence).collect(Collectors.toList()));
+
+	}
+
+}